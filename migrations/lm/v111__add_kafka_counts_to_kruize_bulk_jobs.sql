@@ -0,0 +1 @@
+alter table if exists kruize_bulkjobs add column if not exists kafka_messages_delivered integer, add column if not exists kafka_messages_failed integer;
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.metrics;
+
+import com.autotune.utils.KruizeConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of applying an aggregation function value to a sample, through the setter resolved once by
+ * {@link MetricAggregationFunction} against the reflective lookup done per sample before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricAggregationFunctionBenchmark {
+
+    @Param({"avg", "max", "sum"})
+    public String functionName;
+
+    private MetricAggregationFunction function;
+    private MetricAggregationInfoResults results;
+    private double value;
+
+    @Setup
+    public void setup() {
+        function = MetricAggregationFunction.fromName(functionName);
+        results = new MetricAggregationInfoResults();
+    }
+
+    @Benchmark
+    public MetricAggregationInfoResults resolvedSetter() {
+        value += 0.5;
+        function.setValue(results, value);
+        return results;
+    }
+
+    @Benchmark
+    public MetricAggregationInfoResults reflectiveSetter() throws Exception {
+        value += 0.5;
+        // the lookup previously done for every sample of a query_range response
+        Method method = MetricAggregationInfoResults.class.getDeclaredMethod(KruizeConstants.APIMessages.SET
+                + functionName.substring(0, 1).toUpperCase() + functionName.substring(1), Double.class);
+        method.invoke(results, value);
+        return results;
+    }
+}
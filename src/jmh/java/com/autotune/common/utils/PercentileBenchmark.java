@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the percentile of a term, quickselect over the primitive usage values against the sort of the
+ * boxed list done before and against the sketch percentile mode. The sizes are one day, one week and two
+ * weeks of 15 minute intervals.
+ * <p>
+ * The sketch is either built from the values of the term, as the models do, or merged from one sketch per
+ * day built ahead of time. The sketch benchmarks report the rank error of their estimate against the exact
+ * percentile, in percent, as the rankErrorPercent counter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PercentileBenchmark {
+    private static final int INTERVALS_PER_DAY = 96;
+
+    @Param({"96", "672", "1344"})
+    public int size;
+
+    @Param({"50", "98"})
+    public double percentile;
+
+    private double[] values;
+    private double[] sorted;
+    private double[] work;
+    private List<Double> items;
+    private KllQuantileSketch[] dailySketches;
+
+    /**
+     * Rank error of the last sketch estimate, reported along with the time of the sketch benchmarks
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Accuracy {
+        public double rankErrorPercent;
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        values = new double[size];
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // idle samples alongside spikes, like the cpu usage of a container
+            values[i] = random.nextInt(4) == 0 ? 0.0 : Math.exp(random.nextGaussian());
+            items.add(values[i]);
+        }
+        work = new double[size];
+        sorted = values.clone();
+        Arrays.sort(sorted);
+
+        dailySketches = new KllQuantileSketch[(size + INTERVALS_PER_DAY - 1) / INTERVALS_PER_DAY];
+        for (int day = 0; day < dailySketches.length; day++) {
+            dailySketches[day] = KllQuantileSketch.of(Arrays.copyOfRange(values, day * INTERVALS_PER_DAY,
+                    Math.min(size, (day + 1) * INTERVALS_PER_DAY)));
+        }
+    }
+
+    @Benchmark
+    public double quickselect() {
+        // the models select on a copy of the term values
+        System.arraycopy(values, 0, work, 0, size);
+        return CommonUtils.percentile(percentile, work);
+    }
+
+    @Benchmark
+    public Double sortedList() {
+        // the sort of the boxed values done per percentile before
+        List<Double> sorted = new ArrayList<>(items);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.round(percentile / 100.0 * (sorted.size() - 1)));
+    }
+
+    @Benchmark
+    public double sketch(Accuracy accuracy) {
+        // the sketch percentile mode of the models, built from the values of the term
+        double estimate = KllQuantileSketch.of(values).getPercentile(percentile);
+        accuracy.rankErrorPercent = rankErrorPercent(estimate);
+        return estimate;
+    }
+
+    @Benchmark
+    public double mergedDailySketches(Accuracy accuracy) {
+        // a term merged from sketches built per day, the values of the term are not needed
+        KllQuantileSketch sketch = new KllQuantileSketch();
+        for (KllQuantileSketch dailySketch : dailySketches) {
+            sketch.merge(dailySketch);
+        }
+        double estimate = sketch.getPercentile(percentile);
+        accuracy.rankErrorPercent = rankErrorPercent(estimate);
+        return estimate;
+    }
+
+    /**
+     * Distance between the rank of the estimate and the rank of the percentile, 0 when the value at the exact
+     * rank is one of the copies of the estimate
+     */
+    private double rankErrorPercent(double estimate) {
+        double rank = percentile / 100.0 * (size - 1);
+        int first = lowerBound(estimate);
+        int last = lowerBound(Math.nextUp(estimate)) - 1;
+        if (rank >= first && rank <= last) {
+            return 0.0;
+        }
+        double distance = rank < first ? first - rank : rank - last;
+        return 100.0 * distance / Math.max(1, size - 1);
+    }
+
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -22,51 +22,52 @@ import com.autotune.analyzer.autoscaler.accelerator.AcceleratorAutoscalerImpl;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.database.service.ExperimentDBService;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.MetricsConfig;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
+/**
+ * Generates and applies the recommendations of the experiments in auto or recreate mode.
+ * <p>
+ * Every DEFAULT_SLEEP_INTERVAL a tick loads the auto mode experiments and hands the ones which are due to a
+ * pool of autoscalerWorkerPoolSize workers. An experiment is due once its measurement duration has elapsed
+ * since it was last handed to a worker, and is skipped while a worker is still processing it, so that a slow
+ * experiment does not hold back the others and is never processed twice at the same time.
+ */
 public class AutoscalerService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AutoscalerService.class);
+    private static final List<String> AUTO_MODES = List.of(AnalyzerConstants.AUTO, AnalyzerConstants.RECREATE);
+    // time each experiment is next due at, in epoch millis
+    private static final Map<String, Long> nextRunAtMillis = new ConcurrentHashMap<>();
+    private static final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    private static ExecutorService workers;
 
     public static void initiateAutoscalerService() {
         try {
             ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+            int poolSize = Math.max(1, null == KruizeDeploymentInfo.autoscaler_worker_pool_size ?
+                    8 : KruizeDeploymentInfo.autoscaler_worker_pool_size);
+            workers = Executors.newFixedThreadPool(poolSize, runnable -> {
+                Thread thread = new Thread(runnable, "autoscaler-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
 
             LOGGER.info(AnalyzerConstants.AutoscalerConstants.InfoMsgs.STARTING_SERVICE);
-            executorService.scheduleAtFixedRate(() -> {
-                try {
-                    AutoscalerImpl autoscaler = new AutoscalerImpl();
-                    Map<String, KruizeObject> experiments = getAutoModeExperiments();
-                    for (Map.Entry<String, KruizeObject> experiment : experiments.entrySet()) {
-                        KruizeObject kruizeObject = autoscaler.generateResourceRecommendationsForExperiment(experiment.getValue().getExperimentName());
-                        // TODO:// add default updater in kruizeObject and check if GPU recommendations are present
-                        if (kruizeObject.getDefaultUpdater() == null) {
-                             kruizeObject.setDefaultUpdater(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA);
-                        }
-
-                        if (kruizeObject.getDefaultUpdater().equalsIgnoreCase(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA)) {
-                            VpaAutoscalerImpl vpaUpdater = VpaAutoscalerImpl.getInstance();
-                            vpaUpdater.applyResourceRecommendationsForExperiment(kruizeObject);
-                        }
-
-                        if (kruizeObject.getDefaultUpdater().equalsIgnoreCase(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.ACCELERATOR)) {
-                            AcceleratorAutoscalerImpl acceleratorUpdater = AcceleratorAutoscalerImpl.getInstance();
-                            acceleratorUpdater.applyResourceRecommendationsForExperiment(kruizeObject);
-                        }
-                    }
-                } catch (Exception e) {
-                    LOGGER.error(e.getMessage());
-                }
-            }, AnalyzerConstants.AutoscalerConstants.DEFAULT_INITIAL_DELAY,
+            executorService.scheduleWithFixedDelay(AutoscalerService::tick,
+                    AnalyzerConstants.AutoscalerConstants.DEFAULT_INITIAL_DELAY,
                     AnalyzerConstants.AutoscalerConstants.DEFAULT_SLEEP_INTERVAL,
                     TimeUnit.SECONDS);
         } catch (Exception e) {
@@ -74,22 +75,126 @@ public class AutoscalerService {
         }
     }
 
+    /**
+     * Hands the experiments which are due to the workers, without waiting for them
+     */
+    private static void tick() {
+        String statusValue = "failure";
+        Timer.Sample timerAutoscalerTick = Timer.start(MetricsConfig.meterRegistry());
+        try {
+            Map<String, KruizeObject> experiments = getAutoModeExperiments();
+            if (null == experiments) {
+                return;
+            }
+            // forget the experiments which were deleted or moved out of auto mode
+            nextRunAtMillis.keySet().retainAll(experiments.keySet());
+
+            long now = System.currentTimeMillis();
+            long maxLagMillis = 0;
+            for (KruizeObject kruizeObject : experiments.values()) {
+                String experimentName = kruizeObject.getExperimentName();
+                long dueAtMillis = nextRunAtMillis.getOrDefault(experimentName, now);
+                if (dueAtMillis > now) {
+                    continue;
+                }
+                maxLagMillis = Math.max(maxLagMillis, now - dueAtMillis);
+                if (!inProgress.add(experimentName)) {
+                    continue;
+                }
+                nextRunAtMillis.put(experimentName, now + getIntervalMillis(kruizeObject));
+                submit(experimentName);
+            }
+            MetricsConfig.autoscalerLagMillis.set(maxLagMillis);
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage());
+        } finally {
+            if (null != timerAutoscalerTick) {
+                MetricsConfig.timerAutoscalerTick = MetricsConfig.timerBAutoscalerTick.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerAutoscalerTick.stop(MetricsConfig.timerAutoscalerTick);
+            }
+        }
+    }
+
+    private static void submit(String experimentName) {
+        MetricsConfig.autoscalerPending.incrementAndGet();
+        try {
+            workers.submit(() -> {
+                MetricsConfig.autoscalerPending.decrementAndGet();
+                try {
+                    applyRecommendations(experimentName);
+                } finally {
+                    inProgress.remove(experimentName);
+                }
+            });
+        } catch (Exception e) {
+            MetricsConfig.autoscalerPending.decrementAndGet();
+            inProgress.remove(experimentName);
+            LOGGER.error(e.getMessage());
+        }
+    }
+
+    private static void applyRecommendations(String experimentName) {
+        String statusValue = "failure";
+        Timer.Sample timerAutoscalerExp = Timer.start(MetricsConfig.meterRegistry());
+        try {
+            AutoscalerImpl autoscaler = new AutoscalerImpl();
+            KruizeObject kruizeObject = autoscaler.generateResourceRecommendationsForExperiment(experimentName);
+            if (null == kruizeObject) {
+                return;
+            }
+            // TODO:// add default updater in kruizeObject and check if GPU recommendations are present
+            if (kruizeObject.getDefaultUpdater() == null) {
+                 kruizeObject.setDefaultUpdater(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA);
+            }
+
+            if (kruizeObject.getDefaultUpdater().equalsIgnoreCase(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA)) {
+                VpaAutoscalerImpl vpaUpdater = VpaAutoscalerImpl.getInstance();
+                vpaUpdater.applyResourceRecommendationsForExperiment(kruizeObject);
+            }
+
+            if (kruizeObject.getDefaultUpdater().equalsIgnoreCase(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.ACCELERATOR)) {
+                AcceleratorAutoscalerImpl acceleratorUpdater = AcceleratorAutoscalerImpl.getInstance();
+                acceleratorUpdater.applyResourceRecommendationsForExperiment(kruizeObject);
+            }
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage());
+        } finally {
+            if (null != timerAutoscalerExp) {
+                MetricsConfig.timerAutoscalerExp = MetricsConfig.timerBAutoscalerExp.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerAutoscalerExp.stop(MetricsConfig.timerAutoscalerExp);
+            }
+        }
+    }
+
+    /**
+     * Measurement duration of the experiment, an experiment has no new data to act on before that.
+     * The interval is never shorter than the tick interval.
+     */
+    private static long getIntervalMillis(KruizeObject kruizeObject) {
+        long minIntervalMillis = TimeUnit.SECONDS.toMillis(AnalyzerConstants.AutoscalerConstants.DEFAULT_SLEEP_INTERVAL);
+        if (null == kruizeObject.getTrial_settings() || null == kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble()) {
+            return minIntervalMillis;
+        }
+        long measurementDurationMillis = (long) (kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble()
+                * TimeUnit.MINUTES.toMillis(1));
+        return Math.max(minIntervalMillis, measurementDurationMillis);
+    }
+
+    /**
+     * Returns the experiments in auto or recreate mode, null if they could not be loaded
+     */
     private static Map<String, KruizeObject> getAutoModeExperiments() {
         try {
             LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.CHECKING_AUTO_EXP);
             Map<String, KruizeObject> mainKruizeExperimentMap = new ConcurrentHashMap<>();
-            new ExperimentDBService().loadAllLMExperiments(mainKruizeExperimentMap);
-            // filter map to only include entries where mode is auto or recreate
-            Map<String, KruizeObject> filteredMap = mainKruizeExperimentMap.entrySet().stream()
-                    .filter(entry -> {
-                        String mode = entry.getValue().getMode();
-                        return AnalyzerConstants.AUTO.equalsIgnoreCase(mode) || AnalyzerConstants.RECREATE.equalsIgnoreCase(mode);
-                    })
-                    .collect(Collectors.toConcurrentMap(Map.Entry::getKey, Map.Entry::getValue));
-            return filteredMap;
+            // only the experiments in auto or recreate mode are loaded from the database
+            new ExperimentDBService().loadLMExperimentsByModes(mainKruizeExperimentMap, AUTO_MODES);
+            return mainKruizeExperimentMap;
         } catch (Exception e) {
             LOGGER.error(e.getMessage());
-            return new HashMap<>();
+            return null;
         }
     }
 
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.autoscaler;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.MetricsConfig;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache of the objects of a kind kept up to date by a shared fabric8 informer.
+ * <p>
+ * The informer lists the objects once and then watches them, the lookups of the autoscalers are served from
+ * its indexes instead of listing the objects from the API server on every call. It is started in the
+ * background on the first lookup and resynced every autoscaler_informer_resync_seconds. Until it has synced,
+ * or when it can not be started, for instance because the CRD is not installed, the lookups return null so
+ * that the callers fall back to the API server. A failed start is retried after a resync period.
+ *
+ * @param <T> kind of the cached objects
+ */
+public abstract class InformerCache<T extends HasMetadata> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InformerCache.class);
+    private static final long SYNC_TIMEOUT_SECONDS = 30;
+
+    private final String name;
+    private volatile SharedIndexInformer<T> informer;
+    private volatile long retryAtMillis;
+    private Counter startFailures;
+
+    protected InformerCache(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates the informer of the cached objects, it is started by the cache
+     */
+    protected abstract SharedIndexInformer<T> createInformer(long resyncMillis);
+
+    /**
+     * Indexes of the cached objects by index name, looked up with {@link #byIndex(String, String)}
+     */
+    protected abstract Map<String, Function<T, List<String>>> indexers();
+
+    /**
+     * Objects of the index with the given key, null if the informer is not available or has not synced yet
+     */
+    protected List<T> byIndex(String indexName, String key) {
+        SharedIndexInformer<T> current = getInformer();
+        if (null == current) {
+            return null;
+        }
+        return current.getIndexer().byIndex(indexName, key);
+    }
+
+    /**
+     * Objects of the informer, null if it is not available or has not synced yet
+     */
+    protected List<T> list() {
+        SharedIndexInformer<T> current = getInformer();
+        if (null == current) {
+            return null;
+        }
+        return current.getStore().list();
+    }
+
+    /**
+     * Whether the informer is started and has synced, without trying to start it
+     */
+    public boolean isSynced() {
+        SharedIndexInformer<T> current = informer;
+        return null != current && current.hasSynced();
+    }
+
+    // never blocks on the sync of the informer, the lookups fall back to the API server until it has synced
+    private SharedIndexInformer<T> getInformer() {
+        SharedIndexInformer<T> current = informer;
+        if (null == current) {
+            synchronized (this) {
+                if (null == informer && System.currentTimeMillis() >= retryAtMillis) {
+                    informer = start();
+                }
+                current = informer;
+            }
+        }
+        return null != current && current.hasSynced() ? current : null;
+    }
+
+    private SharedIndexInformer<T> start() {
+        long resyncMillis = resyncMillis();
+        SharedIndexInformer<T> created = null;
+        try {
+            created = createInformer(resyncMillis);
+            created.addIndexers(indexers());
+            created.addEventHandler(new MetricsEventHandler());
+            SharedIndexInformer<T> started = created;
+            // copied so that the timeout does not complete the future of the informer itself
+            CompletableFuture<Void> synced = created.start().toCompletableFuture().copy()
+                    .orTimeout(SYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            synced.whenComplete((ignored, e) -> {
+                if (null == e) {
+                    LOGGER.debug("Started the {} informer", name);
+                } else {
+                    startFailed(started, resyncMillis, e);
+                }
+            });
+            // the start may already have failed, in which case the informer has been stopped
+            return synced.isCompletedExceptionally() ? null : created;
+        } catch (Exception e) {
+            startFailed(created, resyncMillis, e);
+            return null;
+        }
+    }
+
+    private void startFailed(SharedIndexInformer<T> failed, long resyncMillis, Throwable e) {
+        if (null != failed) {
+            failed.stop();
+        }
+        synchronized (this) {
+            if (informer == failed) {
+                informer = null;
+            }
+            retryAtMillis = System.currentTimeMillis() + resyncMillis;
+            startFailures().increment();
+        }
+        Throwable cause = e instanceof CompletionException && null != e.getCause() ? e.getCause() : e;
+        LOGGER.warn("Failed to start the {} informer, retrying in {} seconds: {}", name,
+                TimeUnit.MILLISECONDS.toSeconds(resyncMillis), cause.toString());
+    }
+
+    private static long resyncMillis() {
+        return TimeUnit.SECONDS.toMillis(Math.max(30, null == KruizeDeploymentInfo.autoscaler_informer_resync_seconds ?
+                300 : KruizeDeploymentInfo.autoscaler_informer_resync_seconds));
+    }
+
+    // the counters are registered on first use as the metrics registry is not set up when the class is loaded
+    private Counter startFailures() {
+        if (null == startFailures) {
+            startFailures = MetricsConfig.registerInformerCounter(name, "startFailure");
+        }
+        return startFailures;
+    }
+
+    private final class MetricsEventHandler implements ResourceEventHandler<T> {
+        private final Counter adds = MetricsConfig.registerInformerCounter(name, "add");
+        private final Counter updates = MetricsConfig.registerInformerCounter(name, "update");
+        private final Counter deletes = MetricsConfig.registerInformerCounter(name, "delete");
+        private final Counter resyncs = MetricsConfig.registerInformerCounter(name, "resync");
+
+        @Override
+        public void onAdd(T obj) {
+            adds.increment();
+        }
+
+        @Override
+        public void onUpdate(T oldObj, T newObj) {
+            // a resync hands out the objects of the cache again with the same resource version
+            if (Objects.equals(oldObj.getMetadata().getResourceVersion(), newObj.getMetadata().getResourceVersion())) {
+                resyncs.increment();
+            } else {
+                updates.increment();
+            }
+        }
+
+        @Override
+        public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+            deletes.increment();
+        }
+    }
+}
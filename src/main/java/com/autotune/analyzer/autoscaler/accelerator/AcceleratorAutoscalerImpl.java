@@ -50,7 +50,7 @@ public class AcceleratorAutoscalerImpl extends AutoscalerImpl {
 
     @Override
     public boolean isUpdaterInstalled() {
-        AutoscalingSettings.getInstance().checkIfInstasliceIsAvailable();
+        AutoscalingSettings.getInstance().refreshInstasliceAvailability();
         return AutoscalingSettings.getInstance().isAllowGPUResourceUpdates();
     }
 
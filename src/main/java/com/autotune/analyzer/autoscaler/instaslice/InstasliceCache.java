@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.autoscaler.instaslice;
+
+import com.autotune.analyzer.autoscaler.InformerCache;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Informer backed cache of the Instaslice objects, indexed by the namespaces of their allocations.
+ * <p>
+ * An allocation only records the pod it was made for, the allocation of a workload is found by looking up
+ * the Instaslice objects with allocations in the namespace of the workload and matching the pod names
+ * against the workload name as a prefix.
+ */
+public final class InstasliceCache extends InformerCache<GenericKubernetesResource> {
+    private static final String BY_ALLOCATION_NAMESPACE = "byAllocationNamespace";
+    private static final InstasliceCache INSTANCE = new InstasliceCache();
+
+    // kept open for the lifetime of the informer
+    private KubernetesClient client;
+
+    private InstasliceCache() {
+        super("instaslice");
+    }
+
+    public static InstasliceCache getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    protected SharedIndexInformer<GenericKubernetesResource> createInformer(long resyncMillis) {
+        if (null == client) {
+            client = new KubernetesClientBuilder().build();
+        }
+        return client.genericKubernetesResources(crdContext()).inNamespace(InstasliceHelper.NAMESPACE)
+                .runnableInformer(resyncMillis);
+    }
+
+    @Override
+    protected Map<String, Function<GenericKubernetesResource, List<String>>> indexers() {
+        return Map.of(BY_ALLOCATION_NAMESPACE, instaslice -> {
+            List<String> namespaces = new ArrayList<>();
+            for (Map<String, Object> allocation : allocations(instaslice)) {
+                Object namespace = allocation.get("namespace");
+                if (null != namespace) {
+                    namespaces.add(namespace.toString().toLowerCase());
+                }
+            }
+            return namespaces;
+        });
+    }
+
+    /**
+     * Returns the Instaslice objects with allocations in the namespace, null if the informer is not available
+     */
+    public List<GenericKubernetesResource> getByAllocationNamespace(String namespace) {
+        return byIndex(BY_ALLOCATION_NAMESPACE, namespace.toLowerCase());
+    }
+
+    static CustomResourceDefinitionContext crdContext() {
+        return new CustomResourceDefinitionContext.Builder()
+                .withGroup(InstasliceHelper.GROUP)
+                .withVersion(InstasliceHelper.VERSION)
+                .withScope(InstasliceHelper.SCOPE)
+                .withPlural(InstasliceHelper.PLURAL)
+                .build();
+    }
+
+    /**
+     * Allocations of the spec of the Instaslice object, empty if it has none
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> allocations(GenericKubernetesResource instaslice) {
+        Object spec = instaslice.getAdditionalProperties().get("spec");
+        if (!(spec instanceof Map)) {
+            return Collections.emptyList();
+        }
+        Object allocations = ((Map<String, Object>) spec).get("allocations");
+        if (!(allocations instanceof Map)) {
+            return Collections.emptyList();
+        }
+        List<Map<String, Object>> allocationList = new ArrayList<>();
+        for (Object allocation : ((Map<String, Object>) allocations).values()) {
+            if (allocation instanceof Map) {
+                allocationList.add((Map<String, Object>) allocation);
+            }
+        }
+        return allocationList;
+    }
+}
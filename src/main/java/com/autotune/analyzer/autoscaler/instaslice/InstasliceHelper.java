@@ -1,29 +1,25 @@
 package com.autotune.analyzer.autoscaler.instaslice;
 
 import com.autotune.analyzer.utils.AnalyzerConstants;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
 
 public class InstasliceHelper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InstasliceHelper.class);
 
     private static InstasliceHelper instance;
-    private static final String instasliceNamespace = "instaslice-system";
-    private static final String group = "inference.redhat.com";
-    private static final String version = "v1alpha1";
-    private static final String namespace = "instaslice-system";
-    private static final String plural = "instaslices";
-    private static final String scope = "Namespaced";
+    static final String GROUP = "inference.redhat.com";
+    static final String VERSION = "v1alpha1";
+    static final String NAMESPACE = "instaslice-system";
+    static final String PLURAL = "instaslices";
+    static final String SCOPE = "Namespaced";
 
 
     private InstasliceHelper() {
@@ -31,7 +27,7 @@ public class InstasliceHelper {
 
     private boolean checkIfInstasliceExist() {
         try (KubernetesClient client = new DefaultKubernetesClient()){
-            return client.namespaces().withName(namespace).get() != null;
+            return client.namespaces().withName(NAMESPACE).get() != null;
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -40,14 +36,7 @@ public class InstasliceHelper {
 
     private List<GenericKubernetesResource> getInstasliceObjects() {
         try (KubernetesClient client = new DefaultKubernetesClient()) {
-            CustomResourceDefinitionContext crdContext = new CustomResourceDefinitionContext.Builder()
-                    .withGroup(group)
-                    .withVersion(version)
-                    .withScope(scope)
-                    .withPlural(plural)
-                    .build();
-
-            return client.genericKubernetesResources(crdContext).inNamespace(namespace).list().getItems();
+            return client.genericKubernetesResources(InstasliceCache.crdContext()).inNamespace(NAMESPACE).list().getItems();
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -66,71 +55,48 @@ public class InstasliceHelper {
     }
 
     public String getUUID(String workloadNamespace, String workloadName) {
-        if (!checkIfInstasliceExist())
-            return null;
-
-        AtomicReference<String> uuid = new AtomicReference<>(null);
-
-        List<GenericKubernetesResource> instasliceObjects = getInstasliceObjects();
-        ObjectMapper mapper = new ObjectMapper();
-
-        if (null != instasliceObjects && !instasliceObjects.isEmpty()) {
-            try {
-                instasliceObjects.forEach(item -> {
-                    String name = item.getMetadata().getName();
-                    LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.FOUND_INSTASLICE, name);
-
-                    Map<String, Object> allocations = (Map<String, Object>) ((Map<String, Object>) item.getAdditionalProperties().get("spec")).get("allocations");
-                    for (Map.Entry<String, Object> entry : allocations.entrySet()) {
-                        String key = entry.getKey();
-                        Map<String, Object> allocationMap = (Map<String, Object>) entry.getValue();
-                        if (allocationMap.get("namespace").toString().equalsIgnoreCase(workloadNamespace)
-                                && allocationMap.get("podName").toString().startsWith(workloadName)) {
-                            uuid.set(allocationMap.get("gpuUUID").toString());
-                        }
-                    }
-                });
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        } else {
-            LOGGER.info(AnalyzerConstants.AutoscalerConstants.InfoMsgs.NO_INSTASLICE_OBJECTS, namespace);
-        }
-        return uuid.get();
+        Map<String, Object> allocation = getAllocation(workloadNamespace, workloadName);
+        return null == allocation || null == allocation.get("gpuUUID") ? null : allocation.get("gpuUUID").toString();
     }
 
     public String getMIGProfile(String workloadNamespace, String workloadName) {
-        if (!checkIfInstasliceExist())
-            return null;
+        Map<String, Object> allocation = getAllocation(workloadNamespace, workloadName);
+        return null == allocation || null == allocation.get("profile") ? null : allocation.get("profile").toString();
+    }
 
-        AtomicReference<String> profile = new AtomicReference<>(null);
+    /**
+     * Returns the allocation of the pods of the workload, looked up from the Instaslice cache and from the API
+     * server when the cache is not available
+     */
+    private Map<String, Object> getAllocation(String workloadNamespace, String workloadName) {
+        if (null == workloadNamespace || null == workloadName)
+            return null;
 
-        List<GenericKubernetesResource> instasliceObjects = getInstasliceObjects();
-        ObjectMapper mapper = new ObjectMapper();
+        List<GenericKubernetesResource> instasliceObjects = InstasliceCache.getInstance().getByAllocationNamespace(workloadNamespace);
+        if (null == instasliceObjects) {
+            if (!checkIfInstasliceExist())
+                return null;
+            instasliceObjects = getInstasliceObjects();
+        }
 
+        Map<String, Object> matchingAllocation = null;
         if (null != instasliceObjects && !instasliceObjects.isEmpty()) {
             try {
-                instasliceObjects.forEach(item -> {
-                    String name = item.getMetadata().getName();
-                    LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.FOUND_INSTASLICE, name);
-
-                    Map<String, Object> allocations = (Map<String, Object>) ((Map<String, Object>) item.getAdditionalProperties().get("spec")).get("allocations");
-                    for (Map.Entry<String, Object> entry : allocations.entrySet()) {
-                        String key = entry.getKey();
-                        Map<String, Object> allocationMap = (Map<String, Object>) entry.getValue();
+                for (GenericKubernetesResource item : instasliceObjects) {
+                    LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.FOUND_INSTASLICE, item.getMetadata().getName());
+                    for (Map<String, Object> allocationMap : InstasliceCache.allocations(item)) {
                         if (allocationMap.get("namespace").toString().equalsIgnoreCase(workloadNamespace)
                                 && allocationMap.get("podName").toString().startsWith(workloadName)) {
-                            profile.set(allocationMap.get("profile").toString());
+                            matchingAllocation = allocationMap;
                         }
                     }
-
-                });
+                }
             } catch (Exception e) {
                 e.printStackTrace();
             }
         } else {
-            LOGGER.info(AnalyzerConstants.AutoscalerConstants.InfoMsgs.NO_INSTASLICE_OBJECTS, namespace);
+            LOGGER.info(AnalyzerConstants.AutoscalerConstants.InfoMsgs.NO_INSTASLICE_OBJECTS, NAMESPACE);
         }
-        return profile.get();
+        return matchingAllocation;
     }
-}
\ No newline at end of file
+}
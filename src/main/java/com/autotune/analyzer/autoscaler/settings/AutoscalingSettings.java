@@ -1,15 +1,18 @@
 package com.autotune.analyzer.autoscaler.settings;
 
+import com.autotune.operator.KruizeDeploymentInfo;
 import io.fabric8.kubernetes.api.model.apps.DaemonSet;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class AutoscalingSettings {
     private static volatile AutoscalingSettings autoscalingSettings;
     private boolean allowGPUResourceUpdates;
     private boolean koEditPermissionsAvailable;
+    private volatile long lastInstasliceCheckMillis;
 
     private AutoscalingSettings() {
         this.allowGPUResourceUpdates = false;
@@ -43,7 +46,20 @@ public class AutoscalingSettings {
         this.koEditPermissionsAvailable = koEditPermissionsAvailable;
     }
 
+    /**
+     * Checks again whether instaslice is available if the last check is older than the informer resync period,
+     * the autoscaler calls this on every run instead of listing the daemonsets of all the namespaces each time
+     */
+    public void refreshInstasliceAvailability() {
+        long resyncMillis = TimeUnit.SECONDS.toMillis(null == KruizeDeploymentInfo.autoscaler_informer_resync_seconds ?
+                300 : KruizeDeploymentInfo.autoscaler_informer_resync_seconds);
+        if (System.currentTimeMillis() - lastInstasliceCheckMillis >= resyncMillis) {
+            checkIfInstasliceIsAvailable();
+        }
+    }
+
     public void checkIfInstasliceIsAvailable() {
+        lastInstasliceCheckMillis = System.currentTimeMillis();
         try (KubernetesClient client = new DefaultKubernetesClient()) {
             List<DaemonSet> daemonSets = client.apps().daemonSets().inAnyNamespace().list().getItems();
             List<DaemonSet> matchingDaemonSets = daemonSets.stream()
@@ -120,15 +120,24 @@ public class VpaAutoscalerImpl extends AutoscalerImpl {
                 throw new Exception(AnalyzerErrorConstants.AutoscalerErrors.INVALID_VPA_NAME);
             } else {
                 LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.CHECKING_IF_VPA_PRESENT, vpaName));
-                NamespacedVerticalPodAutoscalerClient client = new DefaultVerticalPodAutoscalerClient();
-                VerticalPodAutoscalerList vpas = client.v1().verticalpodautoscalers().inAnyNamespace().list();
-
-                if (null != vpas && null != vpas.getItems() && !vpas.getItems().isEmpty()) {
-                    // TODO:// later we can also check here is the recommender is Kruize to confirm
-                    for (VerticalPodAutoscaler vpa : vpas.getItems()) {
-                        if (vpaName.equals(vpa.getMetadata().getName())) {
-                            LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_FOUND, vpaName));
-                            return true;
+                // TODO:// later we can also check here is the recommender is Kruize to confirm
+                List<VerticalPodAutoscaler> cachedVpas = VpaCache.getInstance().getByName(vpaName);
+                if (null != cachedVpas) {
+                    if (!cachedVpas.isEmpty()) {
+                        LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_FOUND, vpaName));
+                        return true;
+                    }
+                } else {
+                    // the informer is not available, looking the VPA up from the API server
+                    NamespacedVerticalPodAutoscalerClient client = new DefaultVerticalPodAutoscalerClient();
+                    VerticalPodAutoscalerList vpas = client.v1().verticalpodautoscalers().inAnyNamespace().list();
+
+                    if (null != vpas && null != vpas.getItems() && !vpas.getItems().isEmpty()) {
+                        for (VerticalPodAutoscaler vpa : vpas.getItems()) {
+                            if (vpaName.equals(vpa.getMetadata().getName())) {
+                                LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_FOUND, vpaName));
+                                return true;
+                            }
                         }
                     }
                 }
@@ -143,27 +152,27 @@ public class VpaAutoscalerImpl extends AutoscalerImpl {
 
 
     /**
-     * Returns the VPA Object if present with the name
+     * Returns the VPA Object if present with the name in the namespace
      *
      * @param vpaName String containing the name of the VPA object to search for
+     * @param namespace String containing the namespace of the VPA object
      * @return VerticalPodAutoscaler if the VPA object with the specified name is present, null otherwise
      */
-    private VerticalPodAutoscaler getVpaIsPresent(String vpaName) {
+    private VerticalPodAutoscaler getVpaIsPresent(String vpaName, String namespace) {
         try {
             if (null == vpaName || vpaName.isEmpty()) {
                 throw new Exception(AnalyzerErrorConstants.AutoscalerErrors.INVALID_VPA_NAME);
             } else {
                 LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.CHECKING_IF_VPA_PRESENT, vpaName));
-                NamespacedVerticalPodAutoscalerClient client = new DefaultVerticalPodAutoscalerClient();
-                VerticalPodAutoscalerList vpas = client.v1().verticalpodautoscalers().inAnyNamespace().list();
-
-                if (null != vpas && null != vpas.getItems() && !vpas.getItems().isEmpty()) {
-                    for (VerticalPodAutoscaler vpa : vpas.getItems()) {
-                        if (vpaName.equals(vpa.getMetadata().getName())) {
-                            LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_FOUND, vpaName));
-                            return vpa;
-                        }
-                    }
+                VerticalPodAutoscaler vpa = VpaCache.getInstance().get(namespace, vpaName);
+                if (null == vpa) {
+                    // a VPA object which was just created may not have reached the informer yet
+                    NamespacedVerticalPodAutoscalerClient client = new DefaultVerticalPodAutoscalerClient();
+                    vpa = client.v1().verticalpodautoscalers().inNamespace(namespace).withName(vpaName).get();
+                }
+                if (null != vpa) {
+                    LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_FOUND, vpaName));
+                    return vpa;
                 }
                 LOGGER.error(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_NOT_FOUND, vpaName));
                 return null;
@@ -212,7 +221,9 @@ public class VpaAutoscalerImpl extends AutoscalerImpl {
 
                         // patching existing VPA Object
                         if (vpaObjectStatus != null) {
-                            VerticalPodAutoscaler vpaObject = getVpaIsPresent(expName);
+                            VerticalPodAutoscaler vpaObject = getVpaIsPresent(expName, namespace);
+                            // the cached object is shared with the informer, the status is set on a copy
+                            vpaObject = new VerticalPodAutoscalerBuilder(vpaObject).build();
                             vpaObject.setStatus(vpaObjectStatus);
 
                             NamespacedVerticalPodAutoscalerClient client = new DefaultVerticalPodAutoscalerClient();
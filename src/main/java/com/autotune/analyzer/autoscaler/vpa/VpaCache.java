@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.autoscaler.vpa;
+
+import com.autotune.analyzer.autoscaler.InformerCache;
+import io.fabric8.autoscaling.api.model.v1.VerticalPodAutoscaler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.verticalpodautoscaler.client.DefaultVerticalPodAutoscalerClient;
+import io.fabric8.verticalpodautoscaler.client.NamespacedVerticalPodAutoscalerClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Informer backed cache of the VPA objects of all the namespaces, indexed by namespace/name and by name.
+ * <p>
+ * The VPA objects created by Kruize are named after the experiment, which is all the autoscaler knows when
+ * it checks whether the VPA of an experiment is present.
+ */
+public final class VpaCache extends InformerCache<VerticalPodAutoscaler> {
+    private static final String BY_NAMESPACED_NAME = "byNamespacedName";
+    private static final String BY_NAME = "byName";
+    private static final VpaCache INSTANCE = new VpaCache();
+
+    // kept open for the lifetime of the informer
+    private NamespacedVerticalPodAutoscalerClient client;
+
+    private VpaCache() {
+        super("vpa");
+    }
+
+    public static VpaCache getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    protected SharedIndexInformer<VerticalPodAutoscaler> createInformer(long resyncMillis) {
+        if (null == client) {
+            client = new DefaultVerticalPodAutoscalerClient();
+        }
+        return client.v1().verticalpodautoscalers().inAnyNamespace().runnableInformer(resyncMillis);
+    }
+
+    @Override
+    protected Map<String, Function<VerticalPodAutoscaler, List<String>>> indexers() {
+        return Map.of(
+                BY_NAMESPACED_NAME, vpa -> List.of(namespacedName(vpa.getMetadata().getNamespace(), vpa.getMetadata().getName())),
+                BY_NAME, vpa -> List.of(vpa.getMetadata().getName()));
+    }
+
+    /**
+     * Returns the VPA object of the namespace with the name, null if it is not cached or the informer is not available
+     */
+    public VerticalPodAutoscaler get(String namespace, String name) {
+        List<VerticalPodAutoscaler> vpas = byIndex(BY_NAMESPACED_NAME, namespacedName(namespace, name));
+        return null == vpas || vpas.isEmpty() ? null : vpas.get(0);
+    }
+
+    /**
+     * Returns the VPA objects of any namespace with the name, null if the informer is not available
+     */
+    public List<VerticalPodAutoscaler> getByName(String name) {
+        return byIndex(BY_NAME, name);
+    }
+
+    private static String namespacedName(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+}
@@ -145,7 +145,7 @@ public class ExperimentInitiator {
             }
             if (!mainKruizeExperimentMAP.containsKey(experimentName)) {
                 try {
-                    new ExperimentDBService().loadExperimentFromDBByName(mainKruizeExperimentMAP, experimentName); // TODO try to avoid DB
+                    new ExperimentDBService().loadExperimentFromCacheOrDBByName(mainKruizeExperimentMAP, experimentName);
                 } catch (Exception e) {
                     LOGGER.error(e.getMessage());
                 }
@@ -24,11 +24,17 @@ import com.autotune.common.datasource.DataSourceCollection;
 import com.autotune.common.datasource.DataSourceInfo;
 import com.autotune.common.datasource.DataSourceOperatorImpl;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Implementation for query-based layer presence detection
@@ -127,6 +133,89 @@ public class QueryBasedPresence implements LayerPresenceDetector {
         return false;
     }
 
+    /**
+     * Detects the containers the layer is present in by running each configured query once for the whole
+     * namespace, or the whole cluster, grouped by namespace and container, instead of once per container
+     *
+     * @param namespace The Kubernetes namespace, null or blank for all the namespaces
+     * @param datasourceName The datasource name to use for detection
+     * @return namespace -> names of the containers the layer is detected in, null if the containers could not be
+     *         detected in a batch and have to be checked one by one with {@link #detectPresence}
+     */
+    public Map<String, Set<String>> detectContainers(String namespace, String datasourceName) {
+        if (queries == null || queries.isEmpty()) {
+            LOGGER.warn(LogMessages.NO_QUERIES_DEFINED);
+            return new HashMap<>();
+        }
+
+        DataSourceInfo dataSourceInfo = DataSourceCollection.getInstance()
+                .getDataSourcesCollection()
+                .get(datasourceName);
+        if (dataSourceInfo == null) {
+            LOGGER.warn(LogMessages.DATASOURCE_NOT_FOUND, datasourceName);
+            return null;
+        }
+        DataSourceOperatorImpl operator = DataSourceOperatorImpl.getInstance()
+                .getOperator(dataSourceInfo.getProvider());
+        if (operator == null) {
+            LOGGER.warn(LogMessages.NO_OPERATOR_AVAILABLE, dataSourceInfo.getProvider());
+            return null;
+        }
+
+        return detectContainers(namespace, query -> operator.getResultArrayForQuery(dataSourceInfo, query));
+    }
+
+    /**
+     * Detects the containers the layer is present in with the batched queries run by the given runner
+     *
+     * @see #detectContainers(String, String)
+     */
+    Map<String, Set<String>> detectContainers(String namespace, QueryRunner runner) {
+        Map<String, Set<String>> containersByNamespace = new HashMap<>();
+        for (LayerPresenceQuery query : queries) {
+            if (query == null) {
+                LOGGER.warn(LogMessages.NULL_QUERY_ENCOUNTERED);
+                continue;
+            }
+            try {
+                String modifiedQuery = query.getLayerPresenceQuery();
+                if (namespace != null && !namespace.isBlank()) {
+                    modifiedQuery = appendFilter(modifiedQuery, LayerConstants.LABEL_NAMESPACE, namespace);
+                }
+                // one series per container the query matches
+                modifiedQuery = "count by (" + LayerConstants.LABEL_NAMESPACE + "," + LayerConstants.LABEL_CONTAINER + ") ("
+                        + modifiedQuery + ")";
+
+                LOGGER.debug(LogMessages.EXECUTING_QUERY, modifiedQuery);
+                JsonArray resultArray = runner.run(modifiedQuery);
+                if (resultArray == null) {
+                    continue;
+                }
+                for (JsonElement result : resultArray) {
+                    JsonObject metric = result.getAsJsonObject().getAsJsonObject("metric");
+                    if (metric == null || !metric.has(LayerConstants.LABEL_NAMESPACE) || !metric.has(LayerConstants.LABEL_CONTAINER)) {
+                        continue;
+                    }
+                    containersByNamespace.computeIfAbsent(metric.get(LayerConstants.LABEL_NAMESPACE).getAsString(), ns -> new HashSet<>())
+                            .add(metric.get(LayerConstants.LABEL_CONTAINER).getAsString());
+                }
+            } catch (Exception e) {
+                LOGGER.error(LogMessages.ERROR_EXECUTING_QUERY, query.getDataSource(), e);
+                // a container missed by the failed query could be wrongly reported as not having the layer
+                return null;
+            }
+        }
+        return containersByNamespace;
+    }
+
+    /**
+     * Runs a PromQL query against the datasource of the detection
+     */
+    @FunctionalInterface
+    interface QueryRunner {
+        JsonArray run(String query) throws Exception;
+    }
+
     /**
      * Appends a label filter to a PromQL query
      *
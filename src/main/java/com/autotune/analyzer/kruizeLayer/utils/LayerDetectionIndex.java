@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.kruizeLayer.utils;
+
+import com.autotune.analyzer.kruizeLayer.KruizeLayer;
+import com.autotune.analyzer.kruizeLayer.presence.QueryBasedPresence;
+import com.autotune.analyzer.utils.AnalyzerConstants.LayerConstants.LogMessages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Index of the layers detected in the containers of a datasource, shared by experiments created together
+ * like the experiments of a bulk job.
+ * <p>
+ * The first time a container of a namespace is looked up, the presence queries of the layers are run once
+ * for the namespace, or once for the whole cluster, grouped by namespace and container. The containers of
+ * the namespace are then looked up in the result instead of running every presence query for each of them.
+ * The layers whose batched queries failed are detected per container as by {@link LayerUtils#detectLayers}.
+ */
+public final class LayerDetectionIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LayerDetectionIndex.class);
+    private static final String CLUSTER_SCOPE = "";
+
+    private final String datasourceName;
+    private final boolean clusterWide;
+    private final Callable<Map<String, KruizeLayer>> layerSource;
+    private final BiFunction<QueryBasedPresence, String, Map<String, Set<String>>> batchDetector;
+    private final ConcurrentHashMap<String, ScopeDetection> scopes = new ConcurrentHashMap<>();
+
+    /**
+     * @param datasourceName The datasource name to use for detection
+     * @param clusterWide    true to run the presence queries once for all the namespaces, false to run them
+     *                       once per namespace
+     */
+    public LayerDetectionIndex(String datasourceName, boolean clusterWide) {
+        this(datasourceName, clusterWide, LayerRegistry.getInstance()::getLayers,
+                (detector, namespace) -> detector.detectContainers(namespace, datasourceName));
+    }
+
+    /**
+     * @param layerSource   supplies all the layers
+     * @param batchDetector detects the containers of a namespace, or of the cluster for an empty namespace, a
+     *                      query based layer is present in, null when they have to be detected one by one
+     */
+    LayerDetectionIndex(String datasourceName, boolean clusterWide, Callable<Map<String, KruizeLayer>> layerSource,
+                        BiFunction<QueryBasedPresence, String, Map<String, Set<String>>> batchDetector) {
+        this.datasourceName = datasourceName;
+        this.clusterWide = clusterWide;
+        this.layerSource = layerSource;
+        this.batchDetector = batchDetector;
+    }
+
+    /**
+     * Detects which layers are present for a given container in a namespace
+     *
+     * @return Map of detected layers (layer name -> KruizeLayer), empty when no layers are detected
+     * @throws IllegalArgumentException if containerName or namespace is null or empty
+     * @throws Exception if the layers can not be loaded from the database
+     */
+    public Map<String, KruizeLayer> detectLayers(String containerName, String namespace) throws Exception {
+        LayerUtils.validateContainer(containerName, namespace);
+        ScopeDetection scope = scopes.computeIfAbsent(clusterWide ? CLUSTER_SCOPE : namespace, ScopeDetection::new);
+        scope.detect();
+        return LayerUtils.detectLayers(containerName, namespace, datasourceName, scope.layers, scope.detectedContainers);
+    }
+
+    /**
+     * Layers detected by the batched queries of a namespace, or of the cluster, run by the first lookup
+     */
+    private final class ScopeDetection {
+        private final String namespace;
+        private Map<String, KruizeLayer> layers;
+        // layer name -> namespace -> containers the layer is detected in
+        private Map<String, Map<String, Set<String>>> detectedContainers;
+
+        private ScopeDetection(String namespace) {
+            this.namespace = namespace;
+        }
+
+        private synchronized void detect() throws Exception {
+            if (null != layers) {
+                return;
+            }
+            LOGGER.debug(LogMessages.DETECTING_LAYERS_IN_BATCH, CLUSTER_SCOPE.equals(namespace) ? datasourceName : namespace);
+            Map<String, KruizeLayer> allLayers = layerSource.call();
+            Map<String, Map<String, Set<String>>> detected = new HashMap<>();
+            for (KruizeLayer layer : allLayers.values()) {
+                if (null == layer.getLayerPresence()
+                        || !(layer.getLayerPresence().getDetector() instanceof QueryBasedPresence queryDetector)) {
+                    continue;
+                }
+                Map<String, Set<String>> containers = batchDetector.apply(queryDetector, namespace);
+                if (null == containers) {
+                    LOGGER.warn(LogMessages.BATCH_DETECTION_FAILED, layer.getLayerName());
+                } else {
+                    detected.put(layer.getLayerName(), containers);
+                }
+            }
+            detectedContainers = detected;
+            layers = allLayers;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.kruizeLayer.utils;
+
+import com.autotune.analyzer.kruizeLayer.KruizeLayer;
+import com.autotune.analyzer.utils.AnalyzerConstants.LayerConstants.LogMessages;
+import com.autotune.database.service.ExperimentDBService;
+import com.autotune.utils.MetricsConfig;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * In memory registry of the layers of the kruize_lm_layer table, keyed by layer name.
+ * <p>
+ * The layers are loaded from the database on first use and reloaded after the LayerService adds a layer.
+ * They are also reloaded RELOAD_INTERVAL_MILLIS after they were loaded, which bounds how stale the layers
+ * added through an other Kruize replica can be. The returned map and the layers are shared, they must not
+ * be modified.
+ */
+public final class LayerRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LayerRegistry.class);
+    private static final String CACHE_NAME = "layer";
+    private static final long RELOAD_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final LayerRegistry INSTANCE = new LayerRegistry(
+            layers -> new ExperimentDBService().loadAllLayers(layers), System::currentTimeMillis);
+
+    private final LayerLoader loader;
+    private final LongSupplier clock;
+    private volatile Map<String, KruizeLayer> layers;
+    private volatile long loadedAtMillis;
+    private Counter reloads;
+    private Counter invalidations;
+
+    LayerRegistry(LayerLoader loader, LongSupplier clock) {
+        this.loader = loader;
+        this.clock = clock;
+    }
+
+    public static LayerRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns all the layers, loading them from the database if they are not loaded or are stale
+     *
+     * @throws Exception if the layers can not be loaded from the database
+     */
+    public Map<String, KruizeLayer> getLayers() throws Exception {
+        Map<String, KruizeLayer> current = layers;
+        if (null != current && clock.getAsLong() - loadedAtMillis < RELOAD_INTERVAL_MILLIS) {
+            return current;
+        }
+        synchronized (this) {
+            if (null == layers || clock.getAsLong() - loadedAtMillis >= RELOAD_INTERVAL_MILLIS) {
+                Map<String, KruizeLayer> loaded = new HashMap<>();
+                try {
+                    loader.load(loaded);
+                } catch (Exception e) {
+                    throw new Exception(LogMessages.FAILED_TO_LOAD_LAYERS + ": " + e.getMessage(), e);
+                }
+                reloads().increment();
+                LOGGER.debug(LogMessages.LOADED_LAYERS_FROM_DB, loaded.size());
+                layers = Collections.unmodifiableMap(loaded);
+                loadedAtMillis = clock.getAsLong();
+            }
+            return layers;
+        }
+    }
+
+    /**
+     * Drops the loaded layers, called after a layer is written so that the next lookup sees it
+     */
+    public synchronized void invalidate() {
+        layers = null;
+        invalidations().increment();
+    }
+
+    // the counters are registered on first use as the metrics registry is not set up when the class is loaded
+    private Counter reloads() {
+        if (null == reloads) {
+            reloads = MetricsConfig.registerCacheCounter(CACHE_NAME, "reload");
+        }
+        return reloads;
+    }
+
+    private Counter invalidations() {
+        if (null == invalidations) {
+            invalidations = MetricsConfig.registerCacheCounter(CACHE_NAME, "invalidation");
+        }
+        return invalidations;
+    }
+
+    /**
+     * Loads all the layers into the given map, keyed by layer name
+     */
+    @FunctionalInterface
+    interface LayerLoader {
+        void load(Map<String, KruizeLayer> layers) throws Exception;
+    }
+}
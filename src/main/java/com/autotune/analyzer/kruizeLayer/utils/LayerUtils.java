@@ -20,14 +20,13 @@ import com.autotune.analyzer.kruizeLayer.KruizeLayer;
 import com.autotune.analyzer.kruizeLayer.presence.LabelBasedPresence;
 import com.autotune.analyzer.kruizeLayer.presence.QueryBasedPresence;
 import com.autotune.analyzer.utils.AnalyzerConstants.LayerConstants.LogMessages;
-import com.autotune.database.service.ExperimentDBService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Utility class for layer detection operations
@@ -47,6 +46,12 @@ public class LayerUtils {
      */
     public static Map<String, KruizeLayer> detectLayers(String containerName,
                                                          String namespace, String datasourceName) throws Exception {
+        validateContainer(containerName, namespace);
+        // Layers are loaded from the database by the registry only when they changed
+        return detectLayers(containerName, namespace, datasourceName, LayerRegistry.getInstance().getLayers(), null);
+    }
+
+    static void validateContainer(String containerName, String namespace) {
         // Validate inputs - fail fast with clear error messages
         if (containerName == null || containerName.isBlank()) {
             throw new IllegalArgumentException(LogMessages.CONTAINER_NAME_NULL_OR_EMPTY);
@@ -54,26 +59,27 @@ public class LayerUtils {
         if (namespace == null || namespace.isBlank()) {
             throw new IllegalArgumentException(LogMessages.NAMESPACE_NULL_OR_EMPTY);
         }
+    }
 
+    /**
+     * Detects which of the layers are present for a given container in a namespace
+     *
+     * @param allLayersMap All the layers (layer name -> KruizeLayer)
+     * @param batchDetections Containers the query based layers were detected in by batched queries
+     *                        (layer name -> namespace -> container names), null or missing layers are
+     *                        detected by querying the container alone
+     * @return Map of detected layers (layer name -> KruizeLayer)
+     */
+    static Map<String, KruizeLayer> detectLayers(String containerName, String namespace, String datasourceName,
+                                                 Map<String, KruizeLayer> allLayersMap,
+                                                 Map<String, Map<String, Set<String>>> batchDetections) {
         LOGGER.info(LogMessages.DETECTING_LAYERS, containerName, namespace);
 
-        // Load all available layers from database
-        ExperimentDBService experimentDBService = new ExperimentDBService();
-        Map<String, KruizeLayer> allLayersMap = new HashMap<>();
-
-        try {
-            experimentDBService.loadAllLayers(allLayersMap);
-        } catch (Exception e) {
-            throw new Exception(LogMessages.FAILED_TO_LOAD_LAYERS + ": " + e.getMessage(), e);
-        }
-
         if (allLayersMap.isEmpty()) {
             LOGGER.warn(LogMessages.NO_LAYERS_IN_DB);
             return Collections.emptyMap();
         }
 
-        LOGGER.debug(LogMessages.LOADED_LAYERS_FROM_DB, allLayersMap.size());
-
         // Detect which layers are present
         Map<String, KruizeLayer> detectedLayers = new HashMap<>();
 
@@ -93,7 +99,12 @@ public class LayerUtils {
                     // For query-based detection, pass container name as well
                     if (layer.getLayerPresence().getDetector() instanceof QueryBasedPresence) {
                         QueryBasedPresence queryDetector = (QueryBasedPresence) layer.getLayerPresence().getDetector();
-                        isDetected = queryDetector.detectPresence(namespace, containerName, datasourceName);
+                        Map<String, Set<String>> detectedContainers = null == batchDetections ? null : batchDetections.get(layer.getLayerName());
+                        if (null != detectedContainers) {
+                            isDetected = detectedContainers.getOrDefault(namespace, Collections.emptySet()).contains(containerName);
+                        } else {
+                            isDetected = queryDetector.detectPresence(namespace, containerName, datasourceName);
+                        }
                     } else {
                         // For other detector types (Always)
                         isDetected = layer.getLayerPresence().getDetector()
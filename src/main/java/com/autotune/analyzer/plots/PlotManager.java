@@ -1,15 +1,11 @@
 package com.autotune.analyzer.plots;
 
-import com.autotune.analyzer.recommendations.model.CostBasedRecommendationModel;
 import com.autotune.analyzer.recommendations.model.GenericRecommendationModel;
+import com.autotune.analyzer.recommendations.model.IntervalUsageValues;
 import com.autotune.analyzer.recommendations.term.Terms;
 import com.autotune.analyzer.utils.AnalyzerConstants;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 import com.autotune.common.utils.CommonUtils;
-import com.autotune.utils.KruizeConstants;
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,13 +18,16 @@ import static com.autotune.analyzer.utils.AnalyzerConstants.MetricName.*;
 
 public class PlotManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlotManager.class);
-    private final HashMap<Timestamp, IntervalResults> resultsMap;
+    private final IntervalResultsSeries resultsSeries;
     private final Terms recommendationTerm;
     private final Timestamp monitoringStartTime;
     private final Timestamp monitoringEndTime;
 
-    public PlotManager(HashMap<Timestamp, IntervalResults> resultsMap, Terms recommendationTerm, Timestamp monitoringStartTime, Timestamp monitoringEndTime) {
-        this.resultsMap = resultsMap;
+    /**
+     * @param resultsSeries results of the container or namespace, shared with the recommendation processing
+     */
+    public PlotManager(IntervalResultsSeries resultsSeries, Terms recommendationTerm, Timestamp monitoringStartTime, Timestamp monitoringEndTime) {
+        this.resultsSeries = resultsSeries;
         this.recommendationTerm = recommendationTerm;
         this.monitoringStartTime = monitoringStartTime;
         this.monitoringEndTime = monitoringEndTime;
@@ -39,12 +38,6 @@ public class PlotManager {
         AnalyzerConstants.MetricName cpuMetric = experimentType == NAMESPACE ? namespaceCpuUsage : cpuUsage;
         AnalyzerConstants.MetricName memMetric = experimentType == NAMESPACE ? namespaceMemoryUsage : memoryUsage;
 
-        // Convert the HashMap to a TreeMap to maintain sorted order based on IntervalEndTime
-        TreeMap<Timestamp, IntervalResults> sortedResultsHashMap = new TreeMap<>(Collections.reverseOrder());
-        sortedResultsHashMap.putAll(resultsMap);
-        // Retrieve entries within the specified range
-        Map<Timestamp, IntervalResults> resultInRange = sortedResultsHashMap.subMap(monitoringEndTime, true, monitoringStartTime, false);
-
         Map<Timestamp, PlotData.PlotPoint> plotsDataMap = new HashMap<>();
         Timestamp incrementStartTime = monitoringStartTime;
 
@@ -59,10 +52,10 @@ public class PlotManager {
             calendar.add(Calendar.MILLISECOND, (int) millisecondsToAdd);
             // Convert the modified Calendar back to a Timestamp
             Timestamp newTimestamp = new Timestamp(calendar.getTimeInMillis());
-            PlotData.UsageData cpuUsage = getUsageData(sortedResultsHashMap.subMap(newTimestamp, true,
-                    incrementStartTime,false), cpuMetric);
-            PlotData.UsageData memoryUsage = getUsageData(sortedResultsHashMap.subMap(newTimestamp, true,
-                    incrementStartTime, false), memMetric);
+            // intervals ending after the previous data point, up to and including this one
+            IntervalResultsSeries resultInRange = resultsSeries.subSeries(incrementStartTime.getTime() + 1, newTimestamp.getTime());
+            PlotData.UsageData cpuUsage = getUsageData(resultInRange, cpuMetric);
+            PlotData.UsageData memoryUsage = getUsageData(resultInRange, memMetric);
             plotsDataMap.put(newTimestamp, new PlotData.PlotPoint(cpuUsage, memoryUsage));
             incrementStartTime = newTimestamp;
         }
@@ -70,82 +63,46 @@ public class PlotManager {
         return new PlotData.PlotsData(recommendationTerm.getPlots_datapoints(), plotsDataMap);
     }
 
-    PlotData.UsageData getUsageData(Map<Timestamp, IntervalResults> resultInRange, AnalyzerConstants.MetricName metricName) {
-        // stream through the results value and extract the CPU values
-        try {
-            if (metricName == AnalyzerConstants.MetricName.cpuUsage || metricName == AnalyzerConstants.MetricName.namespaceCpuUsage) {
-                JSONArray cpuValues;
-                if (metricName == (AnalyzerConstants.MetricName.namespaceCpuUsage)) {
-                    cpuValues = CostBasedRecommendationModel.getNamespaceCPUUsageList(resultInRange);
-                } else {
-                    cpuValues = CostBasedRecommendationModel.getCPUUsageList(resultInRange);
-                }
-                LOGGER.debug("cpuValues : {}", cpuValues);
-                if (!cpuValues.isEmpty()) {
-                    // Extract "max" values from cpuUsageList
-                    List<Double> cpuMaxValues = new ArrayList<>();
-                    List<Double> cpuMinValues = new ArrayList<>();
-                    for (int i = 0; i < cpuValues.length(); i++) {
-                        JSONObject jsonObject = cpuValues.getJSONObject(i);
-                        double maxValue = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-                        double minValue = jsonObject.getDouble(KruizeConstants.JSONKeys.MIN);
-                        cpuMaxValues.add(maxValue);
-                        cpuMinValues.add(minValue);
-                    }
-                    LOGGER.debug("cpuMaxValues : {}", cpuMaxValues);
-                    LOGGER.debug("cpuMinValues : {}", cpuMinValues);
-                    return getPercentileData(cpuMaxValues, cpuMinValues, resultInRange, metricName);
-                }
-
-            } else {
-                // loop through the results value and extract the memory values
-                List<Double> memUsageMinList = new ArrayList<>();
-                List<Double> memUsageMaxList = new ArrayList<>();
-                boolean memDataAvailable = false;
-                JSONObject jsonObject;
-                for (IntervalResults intervalResults: resultInRange.values()) {
-                    if (metricName == (namespaceMemoryUsage)) {
-                        jsonObject = GenericRecommendationModel.calculateNamespaceMemoryUsage(intervalResults);
-                    } else {
-                        jsonObject = GenericRecommendationModel.calculateMemoryUsage(intervalResults);
-                    }
-                    if (!jsonObject.isEmpty()) {
-                        memDataAvailable = true;
-                        Double memUsageMax = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-                        Double memUsageMin = jsonObject.getDouble(KruizeConstants.JSONKeys.MIN);
-                        memUsageMaxList.add(memUsageMax);
-                        memUsageMinList.add(memUsageMin);
-                    }
-                }
-                LOGGER.debug("memValues Max : {}, Min : {}", memUsageMaxList, memUsageMinList);
-                if (memDataAvailable)
-                    return getPercentileData(memUsageMaxList, memUsageMinList, resultInRange, metricName);
-            }
-        } catch (JSONException e) {
-            LOGGER.error("Exception occurred while extracting metric values: {}", e.getMessage());
+    PlotData.UsageData getUsageData(IntervalResultsSeries resultInRange, AnalyzerConstants.MetricName metricName) {
+        if (resultInRange.isEmpty()) {
+            return null;
         }
-        return null;
+        // extract the CPU and memory values of all the intervals in a single pass
+        IntervalUsageValues usageValues;
+        if (metricName == namespaceCpuUsage || metricName == namespaceMemoryUsage) {
+            usageValues = IntervalUsageValues.fromNamespaceResults(resultInRange);
+        } else {
+            usageValues = IntervalUsageValues.fromContainerResults(resultInRange);
+        }
+        if (metricName == AnalyzerConstants.MetricName.cpuUsage || metricName == AnalyzerConstants.MetricName.namespaceCpuUsage) {
+            return getPercentileData(usageValues.getCpuMax(), usageValues.getCpuMin(), resultInRange, metricName);
+        }
+        return getPercentileData(usageValues.getMemoryMax(), usageValues.getMemoryMin(), resultInRange, metricName);
     }
 
-    private PlotData.UsageData getPercentileData(List<Double> metricValuesMax, List<Double> metricValuesMin, Map<Timestamp, IntervalResults> resultInRange, AnalyzerConstants.MetricName metricName) {
+    private PlotData.UsageData getPercentileData(double[] metricValuesMax, double[] metricValuesMin, IntervalResultsSeries resultInRange, AnalyzerConstants.MetricName metricName) {
         try {
-            if (!metricValuesMax.isEmpty()) {
+            if (0 != metricValuesMax.length) {
                 double q1 = CommonUtils.percentile(TWENTYFIVE_PERCENTILE, metricValuesMax);
                 double q3 = CommonUtils.percentile(SEVENTYFIVE_PERCENTILE, metricValuesMax);
                 double median = CommonUtils.percentile(FIFTY_PERCENTILE, metricValuesMax);
                 // Find max and min
-                double max = Collections.max(metricValuesMax);
-                double min;
-                // check for non zero values
-                boolean nonZeroCheck = metricValuesMin.stream().noneMatch(value -> value.equals(0.0));
-                if (nonZeroCheck) {
-                    min = Collections.min(metricValuesMin);
-                } else {
-                    min = 0.0;
+                double max = metricValuesMax[0];
+                for (double value : metricValuesMax) {
+                    max = Math.max(max, value);
+                }
+                // min is reported only when none of the values is zero
+                double min = metricValuesMin[0];
+                for (double value : metricValuesMin) {
+                    if (0.0 == value) {
+                        min = 0.0;
+                        break;
+                    }
+                    min = Math.min(min, value);
                 }
 
                 LOGGER.debug("q1 : {}, q3 : {}, median : {}, max : {}, min : {}", q1, q3, median, max, min);
-                String format = CostBasedRecommendationModel.getFormatValue(resultInRange, metricName);
+                String format = GenericRecommendationModel.getFormatValue(resultInRange, metricName);
                 return new PlotData.UsageData(min, q1, median, q3, max, format);
             } else {
                 return null;
@@ -17,9 +17,8 @@
 package com.autotune.analyzer.recommendations;
 
 import com.autotune.analyzer.kruizeLayer.impl.TunableSpec;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 
-import java.sql.Timestamp;
 import java.util.Map;
 
 /**
@@ -38,10 +37,10 @@ public interface LayerRecommendationHandler {
      *
      * @param tunableName        name of the tunable (e.g., GCPolicy, MaxRAMPercentage, quarkus.thread-pool.core-threads)
      * @param tunableSpecObjectMap              shared input: read other layers' values via getTunableValue, mem/cpu limits, JVM metadata
-     * @param filteredResultsMap
+     * @param filteredResults
      * @return recommended value, or null if no recommendation can be produced
      */
-    Object generateRecommendations(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, Map<Timestamp, IntervalResults> filteredResultsMap);
+    Object generateRecommendations(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, IntervalResultsSeries filteredResults);
 
     /**
      * Formats the tunable value for the given env var builder.
@@ -20,6 +20,7 @@ import com.autotune.analyzer.kruizeObject.KruizeObject;
 import com.autotune.analyzer.kruizeObject.RecommendationSettings;
 import com.autotune.analyzer.plots.PlotManager;
 import com.autotune.analyzer.recommendations.*;
+import com.autotune.analyzer.recommendations.model.IntervalUsageValues;
 import com.autotune.analyzer.recommendations.model.RecommendationModel;
 import com.autotune.analyzer.recommendations.objects.MappedRecommendationForModel;
 import com.autotune.analyzer.recommendations.objects.MappedRecommendationForTimestamp;
@@ -28,9 +29,8 @@ import com.autotune.analyzer.recommendations.term.Terms;
 import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
-import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.ContainerData;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
@@ -40,7 +40,6 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_CPU_THRESHOLD;
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_MEMORY_THRESHOLD;
@@ -65,8 +64,8 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
             containerRecommendations = new ContainerRecommendations();
         }
 
-        Map<Timestamp, IntervalResults> results = containerData.getResults();
-        Timestamp monitoringEndTime = results.keySet().stream().max(Timestamp::compareTo).get();
+        IntervalResultsSeries resultsSeries = containerData.getResultsSeries();
+        Timestamp monitoringEndTime = resultsSeries.getIntervalEndTime(resultsSeries.size() - 1);
 
         HashMap<Integer, RecommendationNotification> recommendationLevelNM = containerRecommendations.getNotificationMap();
         if (null == recommendationLevelNM) {
@@ -88,10 +87,10 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
         timestampRecommendation.setMonitoringEndTime(monitoringEndTime);
 
         HashMap<AnalyzerConstants.ResourceSetting, HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> currentConfig =
-                getCurrentConfigData(containerData, monitoringEndTime, timestampRecommendation);
+                getCurrentConfigData(resultsSeries, monitoringEndTime, timestampRecommendation);
         timestampRecommendation.setCurrentConfig(currentConfig);
 
-        boolean recommendationAvailable = generateRecommendationsBasedOnTerms(containerData, kruizeObject, monitoringEndTime, currentConfig, timestampRecommendation);
+        boolean recommendationAvailable = generateRecommendationsBasedOnTerms(containerData, resultsSeries, kruizeObject, monitoringEndTime, currentConfig, timestampRecommendation);
 
         RecommendationNotification recommendationsLevelNotifications;
         if (recommendationAvailable) {
@@ -110,7 +109,7 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
     }
 
     private HashMap<AnalyzerConstants.ResourceSetting, HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> getCurrentConfigData(
-            ContainerData containerData, Timestamp monitoringEndTime, MappedRecommendationForTimestamp timestampRecommendation) {
+            IntervalResultsSeries resultsSeries, Timestamp monitoringEndTime, MappedRecommendationForTimestamp timestampRecommendation) {
 
         HashMap<AnalyzerConstants.ResourceSetting, HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> currentConfig = new HashMap<>();
         ArrayList<RecommendationConstants.RecommendationNotification> notifications = new ArrayList<>();
@@ -122,7 +121,7 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
 
         for (AnalyzerConstants.ResourceSetting resourceSetting : AnalyzerConstants.ResourceSetting.values()) {
             for (AnalyzerConstants.RecommendationItem recommendationItem : AnalyzerConstants.RecommendationItem.values()) {
-                RecommendationConfigItem configItem = RecommendationUtils.getCurrentValue(containerData.getResults(),
+                RecommendationConfigItem configItem = RecommendationUtils.getCurrentValue(resultsSeries,
                         monitoringEndTime, resourceSetting, recommendationItem, notifications);
 
                 // Use base class validation method
@@ -151,13 +150,20 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
         return currentConfig;
     }
 
-    private boolean generateRecommendationsBasedOnTerms(ContainerData containerData, KruizeObject kruizeObject,
+    private boolean generateRecommendationsBasedOnTerms(ContainerData containerData, IntervalResultsSeries resultsSeries,
+                                                       KruizeObject kruizeObject,
                                                        Timestamp monitoringEndTime,
                                                        HashMap<AnalyzerConstants.ResourceSetting,
                                                                HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> currentConfig,
                                                        MappedRecommendationForTimestamp timestampRecommendation) {
         boolean recommendationAvailable = false;
         double measurementDuration = kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble();
+        // All the terms end at the last interval, the usage values are extracted in a single pass over the longest
+        // term and every term copies its suffix, the copy is shared by all the models of the term
+        Timestamp longestTermStartTime = Terms.getMonitoringStartTime(monitoringEndTime, Terms.getMaxDays(kruizeObject.getTerms()));
+        IntervalResultsSeries longestTermSeries = (null == longestTermStartTime) ? resultsSeries :
+                resultsSeries.subSeries(longestTermStartTime.getTime(), monitoringEndTime.getTime());
+        IntervalUsageValues longestTermUsageValues = null;
 
         for (Map.Entry<String, Terms> termsEntry : kruizeObject.getTerms().entrySet()) {
             String recommendationTerm = termsEntry.getKey();
@@ -168,15 +174,26 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
             LOGGER.debug(String.format(KruizeConstants.APIMessages.MONITORING_START_TIME, monitoringStartTime));
 
             TermRecommendations mappedRecommendationForTerm = new TermRecommendations();
-            if (!Terms.checkIfMinDataAvailableForTerm(containerData, terms, monitoringEndTime, measurementDuration)) {
+            if (!Terms.checkIfMinDataAvailableForTerm(resultsSeries, terms, monitoringEndTime, measurementDuration)) {
                 RecommendationNotification recommendationNotification = new RecommendationNotification(
                         RecommendationConstants.RecommendationNotification.INFO_NOT_ENOUGH_DATA);
                 mappedRecommendationForTerm.addNotification(recommendationNotification);
             } else {
                 ArrayList<RecommendationNotification> termLevelNotifications = new ArrayList<>();
+                // The intervals of the term are located once with a binary search and shared by all the models
+                IntervalResultsSeries termSeries = null;
+                IntervalUsageValues termUsageValues = null;
+                if (null != monitoringStartTime) {
+                    termSeries = resultsSeries.subSeries(monitoringStartTime.getTime(), monitoringEndTime.getTime());
+                    if (null == longestTermUsageValues) {
+                        longestTermUsageValues = IntervalUsageValues.fromContainerResults(longestTermSeries);
+                    }
+                    int termStartIndex = Math.max(0, longestTermUsageValues.size() - termSeries.size());
+                    termUsageValues = longestTermUsageValues.copyOfRange(termStartIndex, longestTermUsageValues.size());
+                }
                 for (RecommendationModel model : engineService.getModels()) {
                     MappedRecommendationForModel mappedRecommendationForModel = generateRecommendationBasedOnModel(
-                            monitoringStartTime, model, containerData, monitoringEndTime, kruizeObject, currentConfig, termsEntry);
+                            monitoringStartTime, model, containerData, termSeries, termUsageValues, kruizeObject, currentConfig, termsEntry);
 
                     if (null == mappedRecommendationForModel) continue;
 
@@ -218,7 +235,7 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
                     String status = KruizeConstants.APIMessages.SUCCESS;
                     try {
                         timerBoxPlots = Timer.start(MetricsConfig.meterRegistry());
-                        mappedRecommendationForTerm.setPlots(new PlotManager(containerData.getResults(), terms, monitoringStartTime, monitoringEndTime).generatePlots(AnalyzerConstants.ExperimentType.CONTAINER));
+                        mappedRecommendationForTerm.setPlots(new PlotManager(resultsSeries, terms, monitoringStartTime, monitoringEndTime).generatePlots(AnalyzerConstants.ExperimentType.CONTAINER));
                     } catch (Exception e) {
                         status = String.format(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.BOX_PLOTS_FAILURE, e.getMessage());
                         LOGGER.debug(status);
@@ -230,14 +247,15 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
                     }
                 }
             }
-            Terms.setDurationBasedOnTerm(containerData, mappedRecommendationForTerm, recommendationTerm);
+            Terms.setDurationBasedOnTerm(resultsSeries, mappedRecommendationForTerm, recommendationTerm);
             timestampRecommendation.setRecommendationForTermHashMap(recommendationTerm, mappedRecommendationForTerm);
         }
         return recommendationAvailable;
     }
 
     private MappedRecommendationForModel generateRecommendationBasedOnModel(Timestamp monitoringStartTime, RecommendationModel model, ContainerData containerData,
-                                                                            Timestamp monitoringEndTime, KruizeObject kruizeObject,
+                                                                            IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                            KruizeObject kruizeObject,
                                                                             HashMap<AnalyzerConstants.ResourceSetting,
                                                                                     HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> currentConfigMap,
                                                                             Map.Entry<String, Terms> termEntry) {
@@ -257,18 +275,13 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
         RecommendationConfigItem currentMemLimit = currentConfig.memoryLimit;
 
         if (null != monitoringStartTime) {
-            Timestamp finalMonitoringStartTime = monitoringStartTime;
-            Map<Timestamp, IntervalResults> filteredResultsMap = containerData.getResults().entrySet().stream()
-                    .filter((x -> ((x.getKey().compareTo(finalMonitoringStartTime) >= 0) && (x.getKey().compareTo(monitoringEndTime) <= 0))))
-                    .collect((Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-
-            int numPods = getNumPods(filteredResultsMap);
+            int numPods = usageValues.getMaxPodCount();
             mappedRecommendationForModel.setPodsCount(numPods);
 
             ArrayList<RecommendationNotification> notifications = new ArrayList<>();
-            RecommendationConfigItem recommendationCpuRequest = model.getCPURequestRecommendation(filteredResultsMap, notifications);
-            RecommendationConfigItem recommendationMemRequest = model.getMemoryRequestRecommendation(filteredResultsMap, notifications);
-            Map<AnalyzerConstants.RecommendationItem, RecommendationConfigItem> recommendationAcceleratorRequestMap = model.getAcceleratorRequestRecommendation(filteredResultsMap, notifications);
+            RecommendationConfigItem recommendationCpuRequest = model.getCPURequestRecommendation(filteredResults, usageValues, notifications);
+            RecommendationConfigItem recommendationMemRequest = model.getMemoryRequestRecommendation(filteredResults, usageValues, notifications);
+            Map<AnalyzerConstants.RecommendationItem, RecommendationConfigItem> recommendationAcceleratorRequestMap = model.getAcceleratorRequestRecommendation(filteredResults, notifications);
 
             RecommendationConfigItem recommendationCpuLimits = recommendationCpuRequest;
             RecommendationConfigItem recommendationMemLimits = recommendationMemRequest;
@@ -286,7 +299,7 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
 
             try {
                 if (RuntimeRecommendationProcessor.isRuntimeLayerPresent(containerData.getLayerMap())) {
-                    runtimeRecommList = RuntimeRecommendationProcessor.handleRuntimeRecommendations(kruizeObject, containerData, model, filteredResultsMap, notifications, recommendationCpuRequest, recommendationMemRequest, recommendationCpuLimits, recommendationMemLimits);
+                    runtimeRecommList = RuntimeRecommendationProcessor.handleRuntimeRecommendations(kruizeObject, containerData, model, filteredResults, notifications, recommendationCpuRequest, recommendationMemRequest, recommendationCpuLimits, recommendationMemLimits);
                 }
             } catch (Exception e) {
                 LOGGER.error("Exception occurred while preparing runtime recommendations: {}", e.getMessage());
@@ -300,20 +313,4 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
         }
         return mappedRecommendationForModel;
     }
-
-    private static int getNumPods(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        Double max_pods_cpu = filteredResultsMap.values().stream()
-                .map(e -> {
-                    Optional<MetricResults> cpuUsageResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-                    double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-                    double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-                    double numPods = 0;
-                    if (0 != cpuUsageAvg) {
-                        numPods = (int) Math.ceil(cpuUsageSum / cpuUsageAvg);
-                    }
-                    return numPods;
-                })
-                .max(Double::compareTo).get();
-        return (int) Math.ceil(max_pods_cpu);
-    }
 }
@@ -23,6 +23,7 @@ import com.autotune.analyzer.recommendations.NamespaceRecommendations;
 import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.RecommendationNotification;
+import com.autotune.analyzer.recommendations.model.IntervalUsageValues;
 import com.autotune.analyzer.recommendations.model.RecommendationModel;
 import com.autotune.analyzer.recommendations.objects.MappedRecommendationForModel;
 import com.autotune.analyzer.recommendations.objects.MappedRecommendationForTimestamp;
@@ -31,8 +32,7 @@ import com.autotune.analyzer.recommendations.term.Terms;
 import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
-import com.autotune.common.data.metrics.MetricResults;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 import com.autotune.common.data.result.NamespaceData;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
@@ -45,8 +45,6 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_CPU_THRESHOLD;
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_MEMORY_THRESHOLD;
@@ -72,8 +70,8 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
                 namespaceRecommendations = new NamespaceRecommendations();
             }
 
-            Map<Timestamp, IntervalResults> results = namespaceData.getResults();
-            Timestamp monitoringEndTime = results.keySet().stream().max(Timestamp::compareTo).get();
+            IntervalResultsSeries resultsSeries = namespaceData.getResultsSeries();
+            Timestamp monitoringEndTime = resultsSeries.getIntervalEndTime(resultsSeries.size() - 1);
 
             HashMap<Integer, RecommendationNotification> recommendationLevelNM = namespaceRecommendations.getNotificationMap();
             if (null == recommendationLevelNM) {
@@ -95,10 +93,10 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
             timestampRecommendation.setMonitoringEndTime(monitoringEndTime);
 
             HashMap<AnalyzerConstants.ResourceSetting, HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> currentConfig =
-                    getCurrentNamespaceConfigData(namespaceData, monitoringEndTime, timestampRecommendation);
+                    getCurrentNamespaceConfigData(resultsSeries, monitoringEndTime, timestampRecommendation);
             timestampRecommendation.setCurrentConfig(currentConfig);
 
-            boolean recommendationAvailable = generateNamespaceRecommendationsBasedOnTerms(namespaceData, kruizeObject, monitoringEndTime, currentConfig, timestampRecommendation);
+            boolean recommendationAvailable = generateNamespaceRecommendationsBasedOnTerms(namespaceData, resultsSeries, kruizeObject, monitoringEndTime, currentConfig, timestampRecommendation);
 
             RecommendationNotification recommendationsLevelNotifications;
             if (recommendationAvailable) {
@@ -120,7 +118,7 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
     }
 
     private HashMap<AnalyzerConstants.ResourceSetting, HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> getCurrentNamespaceConfigData(
-            NamespaceData namespaceData, Timestamp monitoringEndTime, MappedRecommendationForTimestamp timestampRecommendation) {
+            IntervalResultsSeries resultsSeries, Timestamp monitoringEndTime, MappedRecommendationForTimestamp timestampRecommendation) {
 
         HashMap<AnalyzerConstants.ResourceSetting, HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> currentNamespaceConfig = new HashMap<>();
         ArrayList<RecommendationConstants.RecommendationNotification> notifications = new ArrayList<>();
@@ -132,7 +130,7 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
 
         for (AnalyzerConstants.ResourceSetting resourceSetting : AnalyzerConstants.ResourceSetting.values()) {
             for (AnalyzerConstants.RecommendationItem recommendationItem : AnalyzerConstants.RecommendationItem.values()) {
-                RecommendationConfigItem configItem = RecommendationUtils.getCurrentValueForNamespace(namespaceData.getResults(), monitoringEndTime, resourceSetting, recommendationItem, notifications);
+                RecommendationConfigItem configItem = RecommendationUtils.getCurrentValueForNamespace(resultsSeries, monitoringEndTime, resourceSetting, recommendationItem, notifications);
 
                 // Use base class validation method
                 if (!validateConfigItem(configItem, recommendationItem, notifications, LOGGER, experimentName, intervalEndTime)) {
@@ -160,13 +158,20 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
         return currentNamespaceConfig;
     }
 
-    private boolean generateNamespaceRecommendationsBasedOnTerms(NamespaceData namespaceData, KruizeObject kruizeObject,
+    private boolean generateNamespaceRecommendationsBasedOnTerms(NamespaceData namespaceData, IntervalResultsSeries resultsSeries,
+                                                                KruizeObject kruizeObject,
                                                                 Timestamp monitoringEndTime,
                                                                 HashMap<AnalyzerConstants.ResourceSetting,
                                                                         HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> currentConfig,
                                                                 MappedRecommendationForTimestamp timestampRecommendation) {
         boolean namespaceRecommendationAvailable = false;
         double measurementDuration = kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble();
+        // All the terms end at the last interval, the usage values are extracted in a single pass over the longest
+        // term and every term copies its suffix, the copy is shared by all the models of the term
+        Timestamp longestTermStartTime = Terms.getMonitoringStartTime(monitoringEndTime, Terms.getMaxDays(kruizeObject.getTerms()));
+        IntervalResultsSeries longestTermSeries = (null == longestTermStartTime) ? resultsSeries :
+                resultsSeries.subSeries(longestTermStartTime.getTime(), monitoringEndTime.getTime());
+        IntervalUsageValues longestTermUsageValues = null;
 
         for (Map.Entry<String, Terms> termsEntry : kruizeObject.getTerms().entrySet()) {
             String recommendationTerm = termsEntry.getKey();
@@ -176,14 +181,25 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
             Timestamp monitoringStartTime = Terms.getMonitoringStartTime(monitoringEndTime, duration);
 
             TermRecommendations mappedRecommendationForTerm = new TermRecommendations();
-            if (!Terms.checkIfMinDataAvailableForTermForNamespace(namespaceData, terms, monitoringEndTime, measurementDuration)) {
+            if (!Terms.checkIfMinDataAvailableForTerm(resultsSeries, terms, monitoringEndTime, measurementDuration)) {
                 RecommendationNotification recommendationNotification = new RecommendationNotification(RecommendationConstants.RecommendationNotification.INFO_NOT_ENOUGH_DATA);
                 mappedRecommendationForTerm.addNotification(recommendationNotification);
             } else {
                 ArrayList<RecommendationNotification> termLevelNotifications = new ArrayList<>();
+                // The intervals of the term are located once with a binary search and shared by all the models
+                IntervalResultsSeries termSeries = null;
+                IntervalUsageValues termUsageValues = null;
+                if (null != monitoringStartTime) {
+                    termSeries = resultsSeries.subSeries(monitoringStartTime.getTime(), monitoringEndTime.getTime());
+                    if (null == longestTermUsageValues) {
+                        longestTermUsageValues = IntervalUsageValues.fromNamespaceResults(longestTermSeries);
+                    }
+                    int termStartIndex = Math.max(0, longestTermUsageValues.size() - termSeries.size());
+                    termUsageValues = longestTermUsageValues.copyOfRange(termStartIndex, longestTermUsageValues.size());
+                }
                 for (RecommendationModel model : engineService.getModels()) {
                     MappedRecommendationForModel mappedRecommendationForModel = generateNamespaceRecommendationBasedOnModel(
-                            monitoringStartTime, model, namespaceData, monitoringEndTime, kruizeObject.getRecommendation_settings(), currentConfig, termsEntry);
+                            monitoringStartTime, model, termSeries, termUsageValues, kruizeObject.getRecommendation_settings(), currentConfig, termsEntry);
 
                     if (null == mappedRecommendationForModel)
                         continue;
@@ -227,7 +243,7 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
                     try {
                         timerBoxPlots = Timer.start(MetricsConfig.meterRegistry());
                         LOGGER.debug("terms: {}", terms);
-                        mappedRecommendationForTerm.setPlots(new PlotManager(namespaceData.getResults(), terms, monitoringStartTime, monitoringEndTime).generatePlots(AnalyzerConstants.ExperimentType.NAMESPACE));
+                        mappedRecommendationForTerm.setPlots(new PlotManager(resultsSeries, terms, monitoringStartTime, monitoringEndTime).generatePlots(AnalyzerConstants.ExperimentType.NAMESPACE));
                     } catch (Exception e) {
                         status = String.format(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.BOX_PLOTS_FAILURE, e.getMessage());
                         LOGGER.debug(status);
@@ -239,7 +255,7 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
                     }
                 }
             }
-            Terms.setDurationBasedOnTermNamespace(namespaceData, mappedRecommendationForTerm, recommendationTerm);
+            Terms.setDurationBasedOnTermNamespace(resultsSeries, mappedRecommendationForTerm, recommendationTerm);
             timestampRecommendation.setRecommendationForTermHashMap(recommendationTerm, mappedRecommendationForTerm);
         }
         return namespaceRecommendationAvailable;
@@ -247,8 +263,8 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
 
     private MappedRecommendationForModel generateNamespaceRecommendationBasedOnModel(Timestamp monitoringStartTime,
                                                                                     RecommendationModel model,
-                                                                                    NamespaceData namespaceData,
-                                                                                    Timestamp monitoringEndTime,
+                                                                                    IntervalResultsSeries filteredResults,
+                                                                                    IntervalUsageValues usageValues,
                                                                                     RecommendationSettings recommendationSettings,
                                                                                     HashMap<AnalyzerConstants.ResourceSetting,
                                                                                             HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem>> currentNamespaceConfigMap,
@@ -268,17 +284,13 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
         RecommendationConfigItem currentNamespaceMemLimit = currentConfig.memoryLimit;
 
         if (null != monitoringStartTime) {
-            Timestamp finalMonitoringStartTime = monitoringStartTime;
-            Map<Timestamp, IntervalResults> filteredResultsMap = namespaceData.getResults().entrySet().stream()
-                    .filter((x -> ((x.getKey().compareTo(finalMonitoringStartTime) >= 0) && (x.getKey().compareTo(monitoringEndTime) <= 0))))
-                    .collect((Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-
-            int numPodsInNamespace = getNumPodsForNamespace(filteredResultsMap);
+            LOGGER.debug("Size of Filtered Results: {}", filteredResults.size());
+            int numPodsInNamespace = usageValues.getMaxPodCount();
             mappedRecommendationForModel.setPodsCount(numPodsInNamespace);
 
             ArrayList<RecommendationNotification> notifications = new ArrayList<>();
-            RecommendationConfigItem namespaceRecommendationCpuRequest = model.getCPURequestRecommendationForNamespace(filteredResultsMap, notifications);
-            RecommendationConfigItem namespaceRecommendationMemRequest = model.getMemoryRequestRecommendationForNamespace(filteredResultsMap, notifications);
+            RecommendationConfigItem namespaceRecommendationCpuRequest = model.getCPURequestRecommendationForNamespace(filteredResults, usageValues, notifications);
+            RecommendationConfigItem namespaceRecommendationMemRequest = model.getMemoryRequestRecommendationForNamespace(filteredResults, usageValues, notifications);
             RecommendationConfigItem namespaceRecommendationCpuLimits = namespaceRecommendationCpuRequest;
             RecommendationConfigItem namespaceRecommendationMemLimits = namespaceRecommendationMemRequest;
 
@@ -300,16 +312,4 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
         }
         return mappedRecommendationForModel;
     }
-
-    private static int getNumPodsForNamespace(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        LOGGER.debug("Size of Filter Map: {}", filteredResultsMap.size());
-        Double max_pods_cpu = filteredResultsMap.values().stream()
-                .map(e -> {
-                    Optional<MetricResults> numPodsResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceTotalPods));
-                    double numPods = numPodsResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-                    return numPods;
-                })
-                .max(Double::compareTo).get();
-        return (int) Math.ceil(max_pods_cpu);
-    }
 }
@@ -18,16 +18,24 @@ import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.data.metrics.*;
+import com.autotune.common.data.result.ColumnarIntervalResultsSeries;
 import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsCollector;
+import com.autotune.common.data.result.IntervalTimeIndex;
 import com.autotune.common.data.result.NamespaceData;
 import com.autotune.common.data.system.info.device.DeviceDetails;
 import com.autotune.common.data.system.info.device.accelerator.NvidiaAcceleratorDeviceData;
 import com.autotune.common.datasource.DataSourceInfo;
+import com.autotune.common.datasource.DataSourceQueryExecutor;
+import com.autotune.common.datasource.prometheus.PrometheusResultSink;
+import com.autotune.common.datasource.prometheus.PrometheusSeriesBuffer;
 import com.autotune.common.exceptions.DataSourceNotExist;
 import com.autotune.common.k8sObjects.K8sObject;
 import com.autotune.common.utils.CommonUtils;
+import com.autotune.database.dao.ExperimentDAOImpl;
 import com.autotune.database.service.ExperimentDBService;
+import com.autotune.database.table.lm.KruizeLMRecommendationEntry;
 import com.autotune.metrics.KruizeNotificationCollectionRegistry;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.*;
@@ -40,12 +48,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpServletResponse;
-import java.lang.reflect.Method;
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.*;
 import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.CHARACTER_ENCODING;
@@ -65,6 +74,10 @@ public class RecommendationEngine implements RecommendationEngineService {
     private Timestamp interval_end_time;
     private List<String> modelNames;
     private Map<String, RecommendationTunables> modelTunable;
+    // when set, the recommendations are generated even if no new data is available since the last ones
+    private boolean force;
+    // set when the latest recommendations are returned as they are instead of being generated
+    private boolean recommendationsReused;
     private static final Set<String> JVM_INFO_METRICS = Set.of(
             AnalyzerConstants.MetricName.jvmInfo.toString(),
             AnalyzerConstants.MetricName.jvmInfoTotal.toString());
@@ -186,6 +199,22 @@ public class RecommendationEngine implements RecommendationEngineService {
         this.interval_end_time = interval_end_time;
     }
 
+    public boolean isForce() {
+        return force;
+    }
+
+    public void setForce(boolean force) {
+        this.force = force;
+    }
+
+    /**
+     * Whether the latest recommendations of the experiment were returned as they are, in which case the interval
+     * end time is the one of these recommendations
+     */
+    public boolean isRecommendationsReused() {
+        return recommendationsReused;
+    }
+
     public Map<String, Terms> getTerms() {
         return terms;
     }
@@ -373,6 +402,13 @@ public class RecommendationEngine implements RecommendationEngineService {
 
             LOGGER.debug(String.format(KruizeConstants.APIMessages.EXPERIMENT_DATASOURCE, kruizeObject.getExperimentName(), dataSource));
 
+            // the latest recommendations are returned as they are when no new data is available since they were generated
+            if (!force && null == intervalEndTimeStr && Boolean.TRUE.equals(KruizeDeploymentInfo.skip_unchanged_recommendations)
+                    && kruizeObject.getExperiment_usecase_type().isLocal_monitoring()
+                    && loadUnchangedRecommendations(mainKruizeExperimentMAP, kruizeObject, dataSource)) {
+                return kruizeObject;
+            }
+
             int maxDay = Terms.getMaxDays(terms);
             if (intervalEndTimeStr != null) {  //TODO remove this check and avoid same if across this flow
                 interval_start_time = Timestamp.valueOf(Objects.requireNonNull(getInterval_end_time()).toLocalDateTime().minusDays(maxDay));
@@ -419,6 +455,135 @@ public class RecommendationEngine implements RecommendationEngineService {
         return kruizeObject;
     }
 
+    /**
+     * Loads the latest recommendations of the experiment into the KruizeObject if the datasource has less than a
+     * measurement duration of samples newer than them, in which case generating them again would not change them.
+     * <p>
+     * The stored recommendations are not changed, a bulk job records their interval end time in the status of the
+     * experiment so that they are listed with the other recommendations of the job.
+     *
+     * @return true if the latest recommendations were loaded, false if the recommendations have to be generated
+     */
+    private boolean loadUnchangedRecommendations(Map<String, KruizeObject> mainKruizeExperimentMAP, KruizeObject kruizeObject,
+                                                 String dataSource) {
+        try {
+            ExperimentDAOImpl experimentDAO = new ExperimentDAOImpl();
+            KruizeLMRecommendationEntry latestRecommendation = experimentDAO.loadLatestLMRecommendationByExperimentName(experimentName);
+            if (null == latestRecommendation || null == latestRecommendation.getInterval_end_time()) {
+                return false;
+            }
+            Timestamp lastSampleTime = fetchLastSampleTime(kruizeObject, CommonUtils.getDataSourceInfo(dataSource));
+            long measurementDurationMillis = (long) (kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble()
+                    * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
+            if (!isUpToDate(latestRecommendation.getInterval_end_time(), lastSampleTime, measurementDurationMillis)) {
+                return false;
+            }
+            new ExperimentDBService().addLMRecommendationsToLocalStorage(mainKruizeExperimentMAP, List.of(latestRecommendation));
+            setInterval_end_time(latestRecommendation.getInterval_end_time());
+            recommendationsReused = true;
+            LOGGER.debug("No new data for experiment {} since {}, returning its latest recommendations", experimentName,
+                    latestRecommendation.getInterval_end_time());
+            return true;
+        } catch (Exception e) {
+            LOGGER.warn("Could not check whether the recommendations of {} are up to date: {}", experimentName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * The recommendations are up to date when the datasource has less than a measurement duration of samples newer
+     * than their interval end time
+     *
+     * @param recommendationEndTime     interval end time of the latest recommendations
+     * @param lastSampleTime            time of the latest sample in the datasource, null if it is not known
+     * @param measurementDurationMillis measurement duration of the experiment
+     */
+    static boolean isUpToDate(Timestamp recommendationEndTime, Timestamp lastSampleTime, long measurementDurationMillis) {
+        if (null == recommendationEndTime || null == lastSampleTime) {
+            return false;
+        }
+        return lastSampleTime.getTime() - recommendationEndTime.getTime() < measurementDurationMillis;
+    }
+
+    /**
+     * Time of the latest sample of the experiment in the datasource, the latest of all its containers or of its
+     * namespace, based on the maxDate queries of the metric profile. The queries of all the containers are sent as
+     * a single query so that the check costs one datasource request per experiment.
+     *
+     * @return the time of the latest sample, null if it is not known
+     */
+    private Timestamp fetchLastSampleTime(KruizeObject kruizeObject, DataSourceInfo dataSourceInfo) throws Exception {
+        PerformanceProfile metricProfile = MetricProfileCollection.getInstance().getMetricProfileCollection().get(kruizeObject.getPerformanceProfile());
+        if (null == metricProfile) {
+            return null;
+        }
+        boolean namespaceExperiment = kruizeObject.isNamespaceExperiment();
+        String maxDateQuery = getMaxQueryByName(metricProfile, namespaceExperiment ?
+                AnalyzerConstants.MetricName.namespaceMaxDate.name() : AnalyzerConstants.MetricName.maxDate.name());
+        if (null == maxDateQuery || maxDateQuery.isEmpty()) {
+            return null;
+        }
+        List<String> queries = new ArrayList<>();
+        for (K8sObject k8sObject : kruizeObject.getKubernetes_objects()) {
+            if (namespaceExperiment) {
+                queries.add(maxDateQuery.replace(AnalyzerConstants.NAMESPACE_VARIABLE, k8sObject.getNamespace()));
+                continue;
+            }
+            for (ContainerData containerData : k8sObject.getContainerDataMap().values()) {
+                queries.add(maxDateQuery
+                        .replace(AnalyzerConstants.NAMESPACE_VARIABLE, k8sObject.getNamespace())
+                        .replace(AnalyzerConstants.CONTAINER_VARIABLE, containerData.getContainer_name())
+                        .replace(AnalyzerConstants.WORKLOAD_VARIABLE, k8sObject.getName())
+                        .replace(AnalyzerConstants.WORKLOAD_TYPE_VARIABLE, k8sObject.getType()));
+            }
+        }
+        if (queries.isEmpty()) {
+            return null;
+        }
+
+        GenericRestApiClient client = new GenericRestApiClient(dataSourceInfo);
+        client.setBaseURL(String.format(KruizeConstants.DataSourceConstants.DATE_ENDPOINT_WITH_QUERY,
+                dataSourceInfo.getUrl(), URLEncoder.encode(latestSampleQuery(queries), CHARACTER_ENCODING)));
+        JSONObject genericJsonObject = client.fetchMetricsJson(KruizeConstants.APIMessages.GET, "");
+        return parseLastSampleTime(new Gson().fromJson(genericJsonObject.toString(), JsonObject.class));
+    }
+
+    /**
+     * Combines the maxDate queries of the containers into one query returning the latest of their values. Each query
+     * is given a distinct label first so that none of their series is dropped by the union.
+     */
+    static String latestSampleQuery(List<String> maxDateQueries) {
+        if (1 == maxDateQueries.size()) {
+            return maxDateQueries.get(0);
+        }
+        StringJoiner union = new StringJoiner(" or ", "max(", ")");
+        for (int i = 0; i < maxDateQueries.size(); i++) {
+            union.add(String.format("label_replace(%s, \"kruize_query\", \"%d\", \"\", \"\")", maxDateQueries.get(i), i));
+        }
+        return union.toString();
+    }
+
+    /**
+     * Time of the latest sample from the response of a maxDate query, null if the query returned no data
+     */
+    static Timestamp parseLastSampleTime(JsonObject response) {
+        JsonObject data = response.getAsJsonObject(KruizeConstants.JSONKeys.DATA);
+        JsonArray resultArray = null == data ? null : data.getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
+        if (null == resultArray || resultArray.isEmpty()) {
+            return null;
+        }
+        Timestamp lastSampleTime = null;
+        for (JsonElement result : resultArray) {
+            // the value of the maxDate queries is the timestamp of the latest sample, the first element is the evaluation time
+            JsonArray value = result.getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUE);
+            Timestamp sampleTime = Utils.DateUtils.getTimeStampFromEpochSeconds((long) Double.parseDouble(value.get(1).getAsString()));
+            if (null == lastSampleTime || sampleTime.after(lastSampleTime)) {
+                lastSampleTime = sampleTime;
+            }
+        }
+        return lastSampleTime;
+    }
+
     /**
      * Generates recommendations for the specified KruizeObject
      *
@@ -437,7 +602,7 @@ public class RecommendationEngine implements RecommendationEngineService {
                 for (String containerName : k8sObject.getContainerDataMap().keySet()) {
                     ContainerData containerData = k8sObject.getContainerDataMap().get(containerName);
 
-                    if (containerData.getResults() == null || containerData.getResults().isEmpty()) {
+                    if (!containerData.hasResults()) {
                         continue;
                     }
 
@@ -1227,7 +1392,6 @@ public class RecommendationEngine implements RecommendationEngineService {
         try {
             long interval_end_time_epoc = 0;
             long interval_start_time_epoc = 0;
-            SimpleDateFormat sdf = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, Locale.ROOT);
             // Create the client
             GenericRestApiClient client = new GenericRestApiClient(dataSourceInfo);
 
@@ -1257,9 +1421,7 @@ public class RecommendationEngine implements RecommendationEngineService {
                         resultArray = resultArray.get(0)
                                 .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUE);
                         long epochTime = resultArray.get(0).getAsLong();
-                        String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                        Date date = sdf.parse(timestamp);
-                        Timestamp dateTS = new Timestamp(date.getTime());
+                        Timestamp dateTS = Utils.DateUtils.getTimeStampFromEpochSeconds(epochTime);
                         interval_end_time_epoc = dateTS.getTime() / KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC
                                 - ((long) dateTS.getTimezoneOffset() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
                         int maxDay = Terms.getMaxDays(kruizeObject.getTerms());
@@ -1276,12 +1438,9 @@ public class RecommendationEngine implements RecommendationEngineService {
                             - ((long) interval_start_time.getTimezoneOffset() * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
                 }
 
-                HashMap<Timestamp, IntervalResults> namespaceDataResults = new HashMap<>();
-                IntervalResults namespaceIntervalResults = null;
-                HashMap<AnalyzerConstants.MetricName, MetricResults> namespaceResMap = null;
+                IntervalResultsCollector namespaceDataResults = new IntervalResultsCollector();
                 HashMap<String, MetricResults> namespaceResultMap = null;
-                MetricResults namespaceMetricResults = null;
-                MetricAggregationInfoResults namespaceMetricAggregationInfoResults = null;
+                List<MetricQuery> metricQueries = new ArrayList<>();
 
                 if (null == namespaceData) {
                     namespaceData = new NamespaceData();
@@ -1324,42 +1483,31 @@ public class RecommendationEngine implements RecommendationEngineService {
                                         interval_start_time_epoc,
                                         interval_end_time_epoc,
                                         measurementDurationMinutesInDouble.intValue() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
-                                client.setBaseURL(namespaceMetricsUrl);
-                                JSONObject genericJsonObject = client.fetchMetricsJson(KruizeConstants.APIMessages.GET, "");
-                                JsonObject jsonObject = new Gson().fromJson(genericJsonObject.toString(), JsonObject.class);
-                                JsonArray resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
-                                // Process fetched metrics
-                                if (null != resultArray && !resultArray.isEmpty()) {
-                                    resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(
-                                                    KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT).get(0)
-                                            .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants
-                                                    .DataSourceQueryJSONKeys.VALUES);
-                                    sdf.setTimeZone(TimeZone.getTimeZone(KruizeConstants.TimeUnitsExt.TimeZones.UTC));
-
-                                    // Iterate over fetched metrics
-                                    Timestamp sTime = new Timestamp(interval_start_time_epoc);
-                                    for (JsonElement element : resultArray) {
-                                        JsonArray valueArray = element.getAsJsonArray();
-                                        long epochTime = valueArray.get(0).getAsLong();
-                                        double value = valueArray.get(1).getAsDouble();
-                                        String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                                        Date date = sdf.parse(timestamp);
-                                        Timestamp eTime = new Timestamp(date.getTime());
-
-                                        // Prepare interval results
-                                        prepareIntervalResults(namespaceDataResults, namespaceIntervalResults, namespaceResMap, namespaceMetricResults,
-                                                namespaceMetricAggregationInfoResults, sTime, eTime, metricEntry, aggregationFunctionsEntry, value, format, null, false); // for namespace, runtimeLayerDetection is being passed as false for now
-                                    }
-                                }
+                                metricQueries.add(new MetricQuery(metricEntry, aggregationFunctionsEntry, format, false, false,
+                                        fetchMetricSeries(dataSourceInfo, namespaceMetricsUrl)));
                             } catch (Exception e) {
                                 throw new RuntimeException(e);
                             }
                         }
                     }
-                    namespaceData.setResults(namespaceDataResults);
-                    if (!namespaceDataResults.isEmpty()) {
-                        setInterval_end_time(Collections.max(namespaceDataResults.keySet()));
+                }
+
+                // All the queries of the namespace are in flight, merge the responses in the order they were issued
+                List<Future<PrometheusSeriesBuffer>> pendingQueries = metricQueries.stream().map(MetricQuery::response).toList();
+                for (MetricQuery metricQuery : metricQueries) {
+                    PrometheusSeriesBuffer seriesBuffer;
+                    try {
+                        seriesBuffer = DataSourceQueryExecutor.await(metricQuery.response(), pendingQueries);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
                     }
+                    // for namespace, runtimeLayerDetection is being passed as false for now
+                    seriesBuffer.replay(new IntervalResultsSink(namespaceDataResults, metricQuery.metricEntry(), metricQuery.aggregationFunctionsEntry(),
+                            metricQuery.format(), new Timestamp(interval_start_time_epoc), false));
+                }
+                namespaceData.setResultsSeries(ColumnarIntervalResultsSeries.from(namespaceDataResults));
+                if (!namespaceDataResults.isEmpty()) {
+                    setInterval_end_time(namespaceDataResults.getLastIntervalEndTime());
                 }
             }
         } catch (Exception e) {
@@ -1393,7 +1541,6 @@ public class RecommendationEngine implements RecommendationEngineService {
         try {
             long interval_end_time_epoc = 0;
             long interval_start_time_epoc = 0;
-            SimpleDateFormat sdf = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, Locale.ROOT);
             // Create the client
             GenericRestApiClient client = new GenericRestApiClient(dataSourceInfo);
 
@@ -1498,9 +1645,7 @@ public class RecommendationEngine implements RecommendationEngineService {
                             resultArray = resultArray.get(0)
                                     .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUE);
                             long epochTime = resultArray.get(0).getAsLong();
-                            String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                            Date date = sdf.parse(timestamp);
-                            Timestamp dateTS = new Timestamp(date.getTime());
+                            Timestamp dateTS = Utils.DateUtils.getTimeStampFromEpochSeconds(epochTime);
                             interval_end_time_epoc = dateTS.getTime() / KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC
                                     - ((long) dateTS.getTimezoneOffset() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
                             int maxDay = Terms.getMaxDays(kruizeObject.getTerms());
@@ -1516,12 +1661,8 @@ public class RecommendationEngine implements RecommendationEngineService {
                         interval_start_time_epoc = interval_start_time.getTime() / KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC
                                 - ((long) interval_start_time.getTimezoneOffset() * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
                     }
-                    HashMap<Timestamp, IntervalResults> containerDataResults = new HashMap<>();
-                    IntervalResults intervalResults = null;
-                    HashMap<AnalyzerConstants.MetricName, MetricResults> resMap = null;
-                    HashMap<AnalyzerConstants.MetricName, AcceleratorMetricResult> acceleratorMetricResultHashMap;
-                    MetricResults metricResults = null;
-                    MetricAggregationInfoResults metricAggregationInfoResults = null;
+                    IntervalResultsCollector containerDataResults = new IntervalResultsCollector();
+                    List<MetricQuery> metricQueries = new ArrayList<>();
 
                     List<Metric> metricList = filterMetricsBasedOnExpTypeAndK8sObject(metricProfile,
                             AnalyzerConstants.MetricName.maxDate.name(), kruizeObject.getExperimentType());
@@ -1621,181 +1762,54 @@ public class RecommendationEngine implements RecommendationEngineService {
                                         interval_end_time_epoc,
                                         measurementDurationMinutesInDouble.intValue() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
                                 LOGGER.debug(podMetricsUrl);
-                                client.setBaseURL(podMetricsUrl);
-                                JSONObject genericJsonObject = client.fetchMetricsJson(KruizeConstants.APIMessages.GET, "");
-                                JsonObject jsonObject = new Gson().fromJson(genericJsonObject.toString(), JsonObject.class);
-                                JsonArray resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
-                                JsonObject metric = null;
-                                if (!resultArray.isEmpty()) {
-                                    metric = resultArray.get(0).getAsJsonObject().getAsJsonObject(KruizeConstants.JSONKeys.METRIC);
-                                }
-                                // Log Prometheus response for JVM info metrics to debug metadata extraction
-                                if (JVM_INFO_METRICS.contains(metricEntry.getName())) {
-                                    if (metric != null) {
-                                        LOGGER.debug("JVM info metric labels: runtime={}, vendor={}, version={}",
-                                                metric.has(AnalyzerConstants.RUNTIME) ? metric.get(AnalyzerConstants.RUNTIME) : "absent",
-                                                metric.has(AnalyzerConstants.VENDOR) ? metric.get(AnalyzerConstants.VENDOR) : "absent",
-                                                metric.has(AnalyzerConstants.VERSION) ? metric.get(AnalyzerConstants.VERSION) : "absent");
-                                    }
-                                }
-
-                                // Skipping if Result array is null or empty
-                                if (null == resultArray || resultArray.isEmpty()) {
-                                    if (JVM_INFO_METRICS.contains(metricEntry.getName())) {
-                                        LOGGER.warn("JVM info metric: Prometheus returned empty result - JVM metrics may not be exposed or query may not match (namespace={}, container={})", namespace, containerName);
-                                    }
-                                    continue;
-                                }
-
-                                // Process fetched metrics
-                                if (isAcceleratorMetric || isAcceleratorPartitionMetric){
-                                    for (JsonElement result : resultArray) {
-                                        JsonObject resultObject = result.getAsJsonObject();
-                                        JsonObject metricObject = resultObject.getAsJsonObject(KruizeConstants.JSONKeys.METRIC);
-
-                                        // Set the data only for the container Accelerator device
-                                        if (null == metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME).getAsString())
-                                            continue;
-                                        if (metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME).getAsString().isEmpty())
-                                            continue;
-
-                                        ArrayList<DeviceDetails> deviceDetails = null;
-
-                                        if (isAcceleratorMetric) {
-                                            deviceDetails = containerData.getContainerDeviceList().getDevices(AnalyzerConstants.DeviceType.ACCELERATOR);
-                                        }
-
-                                        if (isAcceleratorPartitionMetric) {
-                                            deviceDetails = containerData.getContainerDeviceList().getDevices(AnalyzerConstants.DeviceType.ACCELERATOR_PARTITION);
-                                        }
-                                        // Continuing to next element
-                                        // All other elements will also fail as there is no Accelerator attached
-                                        // Theoretically, it doesn't fail, but the future implementations may change
-                                        // So adding a check after a function call to check it's return value is advisable
-                                        // TODO: Needs a check to figure out why devicelist is empty if is Accelerator detected is true
-                                        if (null == deviceDetails)
-                                            continue;
-                                        if (deviceDetails.isEmpty())
-                                            continue;
-
-                                        // Assuming only one MIG supported Accelerator is attached
-                                        // Needs to be changed when you support multiple Accelerator's
-                                        // Same changes need to be applied at the time of adding the device in
-                                        // DeviceHandler
-                                        DeviceDetails deviceDetail = deviceDetails.get(0);
-                                        NvidiaAcceleratorDeviceData containerAcceleratorDeviceData = (NvidiaAcceleratorDeviceData) deviceDetail;
-
-                                        // Skip non-matching Accelerator entries
-                                        if (!metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME).getAsString().equalsIgnoreCase(containerAcceleratorDeviceData.getModelName()))
-                                            continue;
-
-                                        NvidiaAcceleratorDeviceData acceleratorDeviceData = new NvidiaAcceleratorDeviceData(metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME).getAsString(),
-                                                metricObject.get(KruizeConstants.JSONKeys.HOSTNAME).getAsString(),
-                                                metricObject.get(KruizeConstants.JSONKeys.UUID).getAsString(),
-                                                metricObject.get(KruizeConstants.JSONKeys.DEVICE).getAsString(),
-                                                containerAcceleratorDeviceData.getProfile(),
-                                                true, containerAcceleratorDeviceData.isPartition());
-
-                                        JsonArray valuesArray = resultObject.getAsJsonArray(KruizeConstants.DataSourceConstants
-                                                .DataSourceQueryJSONKeys.VALUES);
-                                        sdf.setTimeZone(TimeZone.getTimeZone(KruizeConstants.TimeUnitsExt.TimeZones.UTC));
-                                        // Iterate over fetched metrics
-                                        Timestamp sTime = new Timestamp(interval_start_time_epoc);
-                                        for (JsonElement element : valuesArray) {
-                                            JsonArray valueArray = element.getAsJsonArray();
-                                            long epochTime = valueArray.get(0).getAsLong();
-                                            double value = valueArray.get(1).getAsDouble();
-
-                                            // Currently only supports 40GB GPU's needs to be made dynamic based on card memory
-                                            if (isAcceleratorPartitionMetric) {
-                                                double cardFrameBuffer = RecommendationUtils.getFrameBufferBasedOnModel(containerAcceleratorDeviceData.getModelName());
-                                                if (cardFrameBuffer > 0)
-                                                    value = (value / cardFrameBuffer) * 100;
-                                            }
-                                            String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                                            Date date = sdf.parse(timestamp);
-                                            Timestamp tempTime = new Timestamp(date.getTime());
-                                            Timestamp eTime = RecommendationUtils.getNearestTimestamp(containerDataResults,
-                                                    tempTime,
-                                                    AnalyzerConstants.AcceleratorConstants.AcceleratorMetricConstants.TIMESTAMP_RANGE_CHECK_IN_MINUTES);
-
-                                            // containerDataResults are empty so will use the prometheus timestamp
-                                            if (null == eTime) {
-                                                // eTime = tempTime;
-                                                // Skipping entry, as inconsistency with CPU & memory records may provide null pointer while accessing metric results
-                                                // TODO: Need to seperate the data records of CPU and memory based on exporter
-                                                // TODO: Perform recommendation generation by stitching the outcome
-                                                continue;
-                                            }
-
-                                            // Prepare interval results
-                                            if (containerDataResults.containsKey(eTime)) {
-                                                intervalResults = containerDataResults.get(eTime);
-                                                acceleratorMetricResultHashMap = intervalResults.getAcceleratorMetricResultHashMap();
-                                                if (null == acceleratorMetricResultHashMap)
-                                                    acceleratorMetricResultHashMap = new HashMap<>();
-                                            } else {
-                                                intervalResults = new IntervalResults();
-                                                acceleratorMetricResultHashMap = new HashMap<>();
-                                            }
-                                            AnalyzerConstants.MetricName metricName = AnalyzerConstants.MetricName.valueOf(metricEntry.getName());
-                                            if (acceleratorMetricResultHashMap.containsKey(metricName)) {
-                                                metricResults = acceleratorMetricResultHashMap.get(metricName).getMetricResults();
-                                                metricAggregationInfoResults = metricResults.getAggregationInfoResult();
-                                            } else {
-                                                metricResults = new MetricResults();
-                                                metricAggregationInfoResults = new MetricAggregationInfoResults();
-                                            }
-                                            Method method = MetricAggregationInfoResults.class.getDeclaredMethod(KruizeConstants.APIMessages.SET + aggregationFunctionsEntry.getKey().substring(0, 1).toUpperCase() + aggregationFunctionsEntry.getKey().substring(1), Double.class);
-                                            method.invoke(metricAggregationInfoResults, value);
-                                            metricAggregationInfoResults.setFormat(format);
-                                            metricResults.setAggregationInfoResult(metricAggregationInfoResults);
-                                            metricResults.setName(String.valueOf(metricName));
-                                            metricResults.setFormat(format);
-                                            AcceleratorMetricResult acceleratorMetricResult = new AcceleratorMetricResult(acceleratorDeviceData, metricResults);
-                                            acceleratorMetricResultHashMap.put(metricName, acceleratorMetricResult);
-                                            intervalResults.setAcceleratorMetricResultHashMap(acceleratorMetricResultHashMap);
-                                            intervalResults.setIntervalStartTime(sTime);  //Todo this will change
-                                            intervalResults.setIntervalEndTime(eTime);
-                                            intervalResults.setDurationInMinutes((double) ((eTime.getTime() - sTime.getTime())
-                                                    / ((long) KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE
-                                                    * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC)));
-                                            containerDataResults.put(eTime, intervalResults);
-                                            sTime = eTime;
-                                        }
-                                    }
-                                } else {
-                                    resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(
-                                                    KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT).get(0)
-                                            .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants
-                                                    .DataSourceQueryJSONKeys.VALUES);
-                                    sdf.setTimeZone(TimeZone.getTimeZone(KruizeConstants.TimeUnitsExt.TimeZones.UTC));
-
-                                    // Iterate over fetched metrics
-                                    Timestamp sTime = new Timestamp(interval_start_time_epoc);
-                                    for (JsonElement element : resultArray) {
-                                        JsonArray valueArray = element.getAsJsonArray();
-                                        long epochTime = valueArray.get(0).getAsLong();
-                                        double value = valueArray.get(1).getAsDouble();
-                                        String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                                        Date date = sdf.parse(timestamp);
-                                        Timestamp eTime = new Timestamp(date.getTime());
-
-                                        // Prepare interval results
-                                        prepareIntervalResults(containerDataResults, intervalResults, resMap, metricResults,
-                                                metricAggregationInfoResults, sTime, eTime, metricEntry, aggregationFunctionsEntry, value, format, metric,
-                                                runtimeLayerDetected);
-                                    }
-                                }
+                                metricQueries.add(new MetricQuery(metricEntry, aggregationFunctionsEntry, format, isAcceleratorMetric,
+                                        isAcceleratorPartitionMetric, fetchMetricSeries(dataSourceInfo, podMetricsUrl)));
                             } catch (Exception e) {
                                 throw new RuntimeException(e);
                             }
                         }
                     }
 
-                    containerData.setResults(containerDataResults);
+                    // All the queries of the container are in flight, merge the responses in the order they were issued
+                    // so that the accelerator metrics are aligned on the timestamps of the cpu and memory metrics
+                    List<Future<PrometheusSeriesBuffer>> pendingQueries = metricQueries.stream().map(MetricQuery::response).toList();
+                    for (MetricQuery metricQuery : metricQueries) {
+                        Metric metricEntry = metricQuery.metricEntry();
+                        PrometheusSeriesBuffer seriesBuffer;
+                        try {
+                            seriesBuffer = DataSourceQueryExecutor.await(metricQuery.response(), pendingQueries);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                        Map<String, String> metric = null;
+                        if (metricQuery.isAcceleratorMetric() || metricQuery.isAcceleratorPartitionMetric()) {
+                            seriesBuffer.replay(new AcceleratorIntervalResultsSink(containerDataResults, containerData, metricEntry,
+                                    metricQuery.aggregationFunctionsEntry(), metricQuery.format(), new Timestamp(interval_start_time_epoc),
+                                    metricQuery.isAcceleratorMetric(), metricQuery.isAcceleratorPartitionMetric()));
+                        } else {
+                            IntervalResultsSink intervalResultsSink = new IntervalResultsSink(containerDataResults, metricEntry,
+                                    metricQuery.aggregationFunctionsEntry(), metricQuery.format(), new Timestamp(interval_start_time_epoc),
+                                    runtimeLayerDetected);
+                            seriesBuffer.replay(intervalResultsSink);
+                            metric = intervalResultsSink.getLabels();
+                        }
+                        // Log Prometheus response for JVM info metrics to debug metadata extraction
+                        if (JVM_INFO_METRICS.contains(metricEntry.getName())) {
+                            if (metric != null) {
+                                LOGGER.debug("JVM info metric labels: runtime={}, vendor={}, version={}",
+                                        metric.getOrDefault(AnalyzerConstants.RUNTIME, "absent"),
+                                        metric.getOrDefault(AnalyzerConstants.VENDOR, "absent"),
+                                        metric.getOrDefault(AnalyzerConstants.VERSION, "absent"));
+                            }
+                            if (seriesBuffer.getSeriesCount() == 0) {
+                                LOGGER.warn("JVM info metric: Prometheus returned empty result - JVM metrics may not be exposed or query may not match (namespace={}, container={})", namespace, containerName);
+                            }
+                        }
+                    }
+
+                    containerData.setResultsSeries(ColumnarIntervalResultsSeries.from(containerDataResults));
                     if (!containerDataResults.isEmpty())
-                        setInterval_end_time(Collections.max(containerDataResults.keySet()));    //TODO Temp fix invalid date is set if experiment having two container with different last seen date
+                        setInterval_end_time(containerDataResults.getLastIntervalEndTime());    //TODO Temp fix invalid date is set if experiment having two container with different last seen date
 
                 }
             }
@@ -1805,6 +1819,31 @@ public class RecommendationEngine implements RecommendationEngineService {
         }
     }
 
+    /**
+     * Submits a query_range request to the datasource, the response is buffered so that it can be merged
+     * into the interval results once all the queries of the experiment are issued
+     *
+     * @param dataSourceInfo DataSource object
+     * @param metricsUrl     query_range url of the metric
+     * @return Future holding the buffered series of the response
+     */
+    private Future<PrometheusSeriesBuffer> fetchMetricSeries(DataSourceInfo dataSourceInfo, String metricsUrl) {
+        return DataSourceQueryExecutor.getInstance().submit(dataSourceInfo, () -> {
+            GenericRestApiClient queryClient = new GenericRestApiClient(dataSourceInfo);
+            queryClient.setBaseURL(metricsUrl);
+            PrometheusSeriesBuffer seriesBuffer = new PrometheusSeriesBuffer();
+            queryClient.streamMetrics(KruizeConstants.APIMessages.GET, "", seriesBuffer);
+            return seriesBuffer;
+        });
+    }
+
+    /**
+     * A metric query issued for an experiment along with the pending response
+     */
+    private record MetricQuery(Metric metricEntry, Map.Entry<String, AggregationFunctions> aggregationFunctionsEntry, String format,
+                               boolean isAcceleratorMetric, boolean isAcceleratorPartitionMetric, Future<PrometheusSeriesBuffer> response) {
+    }
+
     /**
      * Fetches max date query for namespace and containers from performance profile
      *
@@ -1824,18 +1863,15 @@ public class RecommendationEngine implements RecommendationEngineService {
     /**
      * prepares interval results for namespace and container experiments
      */
-    private void prepareIntervalResults(Map<Timestamp, IntervalResults> dataResultsMap, IntervalResults intervalResults,
-                                        HashMap<AnalyzerConstants.MetricName, MetricResults> resMap, MetricResults metricResults,
-                                        MetricAggregationInfoResults metricAggregationInfoResults, Timestamp sTime, Timestamp eTime, Metric metricEntry,
-                                        Map.Entry<String, AggregationFunctions> aggregationFunctionsEntry, double value, String format, JsonObject metricObject, boolean runtimeLayerDetected) throws Exception {
+    private void prepareIntervalResults(IntervalResultsCollector dataResults, Timestamp sTime, long intervalEndTimeMillis, Metric metricEntry,
+                                        MetricAggregationFunction aggregationFunction, double value, String format, Map<String, String> metricObject, boolean runtimeLayerDetected) throws Exception {
         try {
-            if (dataResultsMap.containsKey(eTime)) {
-                intervalResults = dataResultsMap.get(eTime);
-                resMap = intervalResults.getMetricResultsMap();
-            } else {
-                intervalResults = new IntervalResults();
-                resMap = new HashMap<>();
-            }
+            // the interval and its end time Timestamp are created with the first sample of the interval
+            IntervalResults intervalResults = dataResults.getOrCreate(intervalEndTimeMillis);
+            HashMap<AnalyzerConstants.MetricName, MetricResults> resMap = intervalResults.getMetricResultsMap();
+            Timestamp eTime = intervalResults.getIntervalEndTime();
+            MetricResults metricResults;
+            MetricAggregationInfoResults metricAggregationInfoResults;
             AnalyzerConstants.MetricName metricName = AnalyzerConstants.MetricName.valueOf(metricEntry.getName());
             if (resMap.containsKey(metricName)) {
                 metricResults = resMap.get(metricName);
@@ -1859,8 +1895,10 @@ public class RecommendationEngine implements RecommendationEngineService {
                 LOGGER.warn("Skipped JVM info metric metadata extraction - runtimeLayerDetected={}, metricObject={}", runtimeLayerDetected, metricObject != null);
                 // Do not add to resMap when metadata extraction skipped
             } else {
-                Method method = MetricAggregationInfoResults.class.getDeclaredMethod(KruizeConstants.APIMessages.SET + aggregationFunctionsEntry.getKey().substring(0, 1).toUpperCase() + aggregationFunctionsEntry.getKey().substring(1), Double.class);
-                method.invoke(metricAggregationInfoResults, value);
+                if (null == aggregationFunction) {
+                    throw new Exception(String.format(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.UNSUPPORTED_AGGREGATION_FUNCTION, metricEntry.getName()));
+                }
+                aggregationFunction.setValue(metricAggregationInfoResults, value);
                 metricAggregationInfoResults.setFormat(format);
                 metricResults.setAggregationInfoResult(metricAggregationInfoResults);
                 metricResults.setName(metricEntry.getName());
@@ -1869,28 +1907,219 @@ public class RecommendationEngine implements RecommendationEngineService {
             if (!JVM_INFO_METRICS.contains(metricEntry.getName()) || (runtimeLayerDetected && metricObject != null)) {
                 resMap.put(metricName, metricResults);
             }
-            intervalResults.setMetricResultsMap(resMap);
             intervalResults.setIntervalStartTime(sTime);  //Todo this will change
-            intervalResults.setIntervalEndTime(eTime);
             intervalResults.setDurationInMinutes((double) ((eTime.getTime() - sTime.getTime())
                     / ((long) KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE
                     * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC)));
-            dataResultsMap.put(eTime, intervalResults);
-            sTime = eTime;
         } catch (Exception e) {
             e.printStackTrace();
             throw new Exception(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.METRIC_EXCEPTION + e.getMessage());
         }
     }
 
-    private String getAsStringOrDefault(JsonObject metricObject, String key, String defaultVal) {
-        if (metricObject == null || !metricObject.has(key) || metricObject.get(key).isJsonNull()) {
+    private String getAsStringOrDefault(Map<String, String> metricObject, String key, String defaultVal) {
+        if (metricObject == null || null == metricObject.get(key)) {
             return defaultVal;
         }
-        try {
-            return metricObject.get(key).getAsString();
-        } catch (Exception e) {
-            return defaultVal;
+        return metricObject.get(key);
+    }
+
+    /**
+     * Streams the samples of the first series of a query_range response into the interval results
+     */
+    private class IntervalResultsSink implements PrometheusResultSink {
+        private final IntervalResultsCollector dataResults;
+        private final Metric metricEntry;
+        private final MetricAggregationFunction aggregationFunction;
+        private final String format;
+        private final Timestamp sTime;
+        private final boolean runtimeLayerDetected;
+        private Map<String, String> labels;
+        private boolean firstSeries;
+
+        private IntervalResultsSink(IntervalResultsCollector dataResults, Metric metricEntry,
+                                    Map.Entry<String, AggregationFunctions> aggregationFunctionsEntry, String format,
+                                    Timestamp sTime, boolean runtimeLayerDetected) {
+            this.dataResults = dataResults;
+            this.metricEntry = metricEntry;
+            // resolved once per query, the setter is then applied to every sample
+            this.aggregationFunction = MetricAggregationFunction.fromName(aggregationFunctionsEntry.getKey());
+            this.format = format;
+            this.sTime = sTime;
+            this.runtimeLayerDetected = runtimeLayerDetected;
+        }
+
+        @Override
+        public void startSeries(int seriesIndex, Map<String, String> labels) {
+            // only the first series of the result is considered
+            firstSeries = (seriesIndex == 0);
+            if (firstSeries) {
+                this.labels = labels;
+            }
+        }
+
+        @Override
+        public void sample(long epochTime, double value) throws IOException {
+            if (!firstSeries) {
+                return;
+            }
+            long intervalEndTimeMillis = epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC;
+
+            // Prepare interval results
+            try {
+                prepareIntervalResults(dataResults, sTime, intervalEndTimeMillis, metricEntry, aggregationFunction, value, format, labels,
+                        runtimeLayerDetected);
+            } catch (Exception e) {
+                // keeps the message of the failure, the sink can only surface IO failures to the parser
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+    }
+
+    /**
+     * Streams the samples of every accelerator series matching the container accelerator device into the interval results
+     */
+    private class AcceleratorIntervalResultsSink implements PrometheusResultSink {
+        private final IntervalResultsCollector containerDataResults;
+        private final ContainerData containerData;
+        private final Metric metricEntry;
+        private final MetricAggregationFunction aggregationFunction;
+        private final String format;
+        private final Timestamp startTime;
+        private final boolean isAcceleratorMetric;
+        private final boolean isAcceleratorPartitionMetric;
+        // state of the current series, acceleratorDeviceData is null for series which are skipped
+        private NvidiaAcceleratorDeviceData acceleratorDeviceData;
+        private NvidiaAcceleratorDeviceData containerAcceleratorDeviceData;
+        private Timestamp sTime;
+        // the samples are only aligned on existing intervals, the index is built on the first sample
+        private IntervalTimeIndex timeIndex;
+
+        private AcceleratorIntervalResultsSink(IntervalResultsCollector containerDataResults, ContainerData containerData, Metric metricEntry,
+                                               Map.Entry<String, AggregationFunctions> aggregationFunctionsEntry, String format, Timestamp startTime,
+                                               boolean isAcceleratorMetric, boolean isAcceleratorPartitionMetric) {
+            this.containerDataResults = containerDataResults;
+            this.containerData = containerData;
+            this.metricEntry = metricEntry;
+            // resolved once per query, the setter is then applied to every sample
+            this.aggregationFunction = MetricAggregationFunction.fromName(aggregationFunctionsEntry.getKey());
+            this.format = format;
+            this.startTime = startTime;
+            this.isAcceleratorMetric = isAcceleratorMetric;
+            this.isAcceleratorPartitionMetric = isAcceleratorPartitionMetric;
+        }
+
+        @Override
+        public void startSeries(int seriesIndex, Map<String, String> metricObject) {
+            acceleratorDeviceData = null;
+            sTime = startTime;
+
+            // Set the data only for the container Accelerator device
+            String modelName = metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME);
+            if (null == modelName || modelName.isEmpty())
+                return;
+
+            ArrayList<DeviceDetails> deviceDetails = null;
+
+            if (isAcceleratorMetric) {
+                deviceDetails = containerData.getContainerDeviceList().getDevices(AnalyzerConstants.DeviceType.ACCELERATOR);
+            }
+
+            if (isAcceleratorPartitionMetric) {
+                deviceDetails = containerData.getContainerDeviceList().getDevices(AnalyzerConstants.DeviceType.ACCELERATOR_PARTITION);
+            }
+            // Continuing to next element
+            // All other elements will also fail as there is no Accelerator attached
+            // Theoretically, it doesn't fail, but the future implementations may change
+            // So adding a check after a function call to check it's return value is advisable
+            // TODO: Needs a check to figure out why devicelist is empty if is Accelerator detected is true
+            if (null == deviceDetails)
+                return;
+            if (deviceDetails.isEmpty())
+                return;
+
+            // Assuming only one MIG supported Accelerator is attached
+            // Needs to be changed when you support multiple Accelerator's
+            // Same changes need to be applied at the time of adding the device in
+            // DeviceHandler
+            DeviceDetails deviceDetail = deviceDetails.get(0);
+            containerAcceleratorDeviceData = (NvidiaAcceleratorDeviceData) deviceDetail;
+
+            // Skip non-matching Accelerator entries
+            if (!modelName.equalsIgnoreCase(containerAcceleratorDeviceData.getModelName()))
+                return;
+
+            acceleratorDeviceData = new NvidiaAcceleratorDeviceData(modelName,
+                    metricObject.get(KruizeConstants.JSONKeys.HOSTNAME),
+                    metricObject.get(KruizeConstants.JSONKeys.UUID),
+                    metricObject.get(KruizeConstants.JSONKeys.DEVICE),
+                    containerAcceleratorDeviceData.getProfile(),
+                    true, containerAcceleratorDeviceData.isPartition());
+        }
+
+        @Override
+        public void sample(long epochTime, double value) throws IOException {
+            if (null == acceleratorDeviceData)
+                return;
+
+            // Currently only supports 40GB GPU's needs to be made dynamic based on card memory
+            if (isAcceleratorPartitionMetric) {
+                double cardFrameBuffer = RecommendationUtils.getFrameBufferBasedOnModel(containerAcceleratorDeviceData.getModelName());
+                if (cardFrameBuffer > 0)
+                    value = (value / cardFrameBuffer) * 100;
+            }
+            if (null == timeIndex) {
+                timeIndex = containerDataResults.getTimeIndex();
+            }
+            int intervalIndex = RecommendationUtils.getNearestIndex(timeIndex,
+                    epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC,
+                    AnalyzerConstants.AcceleratorConstants.AcceleratorMetricConstants.TIMESTAMP_RANGE_CHECK_IN_MINUTES);
+
+            // containerDataResults are empty so will use the prometheus timestamp
+            if (-1 == intervalIndex) {
+                // eTime = tempTime;
+                // Skipping entry, as inconsistency with CPU & memory records may provide null pointer while accessing metric results
+                // TODO: Need to seperate the data records of CPU and memory based on exporter
+                // TODO: Perform recommendation generation by stitching the outcome
+                return;
+            }
+
+            // Prepare interval results
+            IntervalResults intervalResults = containerDataResults.getOrCreate(timeIndex.getIntervalEndTimeMillis(intervalIndex));
+            Timestamp eTime = intervalResults.getIntervalEndTime();
+            HashMap<AnalyzerConstants.MetricName, AcceleratorMetricResult> acceleratorMetricResultHashMap = intervalResults.getAcceleratorMetricResultHashMap();
+            MetricResults metricResults;
+            MetricAggregationInfoResults metricAggregationInfoResults;
+            if (null == acceleratorMetricResultHashMap)
+                acceleratorMetricResultHashMap = new HashMap<>();
+            AnalyzerConstants.MetricName metricName = AnalyzerConstants.MetricName.valueOf(metricEntry.getName());
+            if (acceleratorMetricResultHashMap.containsKey(metricName)) {
+                metricResults = acceleratorMetricResultHashMap.get(metricName).getMetricResults();
+                metricAggregationInfoResults = metricResults.getAggregationInfoResult();
+            } else {
+                metricResults = new MetricResults();
+                metricAggregationInfoResults = new MetricAggregationInfoResults();
+            }
+            if (null == aggregationFunction) {
+                throw new IOException(String.format(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.UNSUPPORTED_AGGREGATION_FUNCTION, metricEntry.getName()));
+            }
+            aggregationFunction.setValue(metricAggregationInfoResults, value);
+            metricAggregationInfoResults.setFormat(format);
+            metricResults.setAggregationInfoResult(metricAggregationInfoResults);
+            metricResults.setName(String.valueOf(metricName));
+            metricResults.setFormat(format);
+            AcceleratorMetricResult acceleratorMetricResult = new AcceleratorMetricResult(acceleratorDeviceData, metricResults);
+            acceleratorMetricResultHashMap.put(metricName, acceleratorMetricResult);
+            intervalResults.setAcceleratorMetricResultHashMap(acceleratorMetricResultHashMap);
+            intervalResults.setIntervalStartTime(sTime);  //Todo this will change
+            intervalResults.setDurationInMinutes((double) ((eTime.getTime() - sTime.getTime())
+                    / ((long) KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE
+                    * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC)));
+            sTime = eTime;
         }
     }
 
@@ -28,13 +28,12 @@ import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.model.RecommendationModel;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.result.ContainerData;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 import com.autotune.utils.KruizeConstants;
 import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -74,7 +73,7 @@ public final class RuntimeRecommendationProcessor {
      * @param kruizeObject               to get the datasource
      * @param containerData              container with layer map
      * @param model                      recommendation model
-     * @param filteredResultsMap         interval results
+     * @param filteredResults         interval results
      * @param notifications             notifications list to update
      * @param recommendationCpuRequest   container CPU request recommendation
      * @param recommendationMemRequest   container memory request recommendation
@@ -86,7 +85,7 @@ public final class RuntimeRecommendationProcessor {
             KruizeObject kruizeObject,
             ContainerData containerData,
             RecommendationModel model,
-            Map<Timestamp, IntervalResults> filteredResultsMap,
+            IntervalResultsSeries filteredResults,
             ArrayList<com.autotune.analyzer.recommendations.RecommendationNotification> notifications,
             RecommendationConfigItem recommendationCpuRequest,
             RecommendationConfigItem recommendationMemRequest,
@@ -136,7 +135,7 @@ public final class RuntimeRecommendationProcessor {
                     if (tunableSpecObjectMap.containsKey(spec)) {
                         amount = (Double) tunableSpecObjectMap.get(spec);
                     } else {
-                        recMemRequest = model.getMemoryRequestRecommendation(filteredResultsMap, notifications);
+                        recMemRequest = model.getMemoryRequestRecommendation(filteredResults, notifications);
                         amount = recMemRequest != null ? recMemRequest.getAmount() : null;
                     }
                     tunableSpecObjectMap.put(spec, amount);
@@ -145,7 +144,7 @@ public final class RuntimeRecommendationProcessor {
                     if (tunableSpecObjectMap.containsKey(spec)) {
                         amount = (Double) tunableSpecObjectMap.get(spec);
                     } else {
-                        recMemLimits = model.getMemoryLimitRecommendation(filteredResultsMap, notifications);
+                        recMemLimits = model.getMemoryLimitRecommendation(filteredResults, notifications);
                         amount = recMemLimits != null ? recMemLimits.getAmount() : null;
                     }
                     tunableSpecObjectMap.put(spec, amount);
@@ -154,7 +153,7 @@ public final class RuntimeRecommendationProcessor {
                     if (tunableSpecObjectMap.containsKey(spec)) {
                         amount = (Double) tunableSpecObjectMap.get(spec);
                     } else {
-                        recCpuRequest = model.getCPURequestRecommendation(filteredResultsMap, notifications);
+                        recCpuRequest = model.getCPURequestRecommendation(filteredResults, notifications);
                         amount = recCpuRequest != null ? recCpuRequest.getAmount() : null;
                     }
                     tunableSpecObjectMap.put(spec, amount);
@@ -163,19 +162,19 @@ public final class RuntimeRecommendationProcessor {
                     if (tunableSpecObjectMap.containsKey(spec)) {
                         amount = (Double) tunableSpecObjectMap.get(spec);
                     } else {
-                        recCpuLimits = model.getCPULimitRecommendation(filteredResultsMap, notifications);
+                        recCpuLimits = model.getCPULimitRecommendation(filteredResults, notifications);
                         amount = recCpuLimits != null ? recCpuLimits.getAmount() : null;
                     }
                     tunableSpecObjectMap.put(spec, amount);
                     break;
                 case RecommendationConstants.RecommendationEngine.RuntimeConstants.GPU:
-                    recommendationAcceleratorRequestMap = model.getAcceleratorRequestRecommendation(filteredResultsMap, notifications);
+                    recommendationAcceleratorRequestMap = model.getAcceleratorRequestRecommendation(filteredResults, notifications);
                     tunableSpecObjectMap.put(spec, recommendationAcceleratorRequestMap);
                     break;
                 case RecommendationConstants.RecommendationEngine.TunablesConstants.MAX_RAM_PERC:
                 case RecommendationConstants.RecommendationEngine.TunablesConstants.GC_POLICY:
                 case RecommendationConstants.RecommendationEngine.TunablesConstants.QUARKUS_THREAD_POOL_CORE_THREADS:
-                    Object recommendationRuntimes = model.getRuntimeRecommendations(metricName, layerName, filteredResultsMap, tunableSpecObjectMap, notifications);
+                    Object recommendationRuntimes = model.getRuntimeRecommendations(metricName, layerName, filteredResults, tunableSpecObjectMap, notifications);
                     tunableSpecObjectMap.put(spec, recommendationRuntimes);
                     break;
                 default:
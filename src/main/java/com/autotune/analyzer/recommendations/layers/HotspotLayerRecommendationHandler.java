@@ -22,11 +22,10 @@ import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.metrics.MetricMetadataResults;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.Timestamp;
 import java.util.Map;
 
 /**
@@ -51,15 +50,15 @@ public class HotspotLayerRecommendationHandler implements LayerRecommendationHan
     }
 
     @Override
-    public Object generateRecommendations(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, Map<Timestamp, IntervalResults> filteredResultsMap) {
+    public Object generateRecommendations(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, IntervalResultsSeries filteredResults) {
 
         Object recommendation;
         switch (tunableName) {
             case RecommendationConstants.RecommendationEngine.TunablesConstants.MAX_RAM_PERC:
-                recommendation = generateHotspotMaxRAMPercentageRecommendation(tunableName, tunableSpecObjectMap, filteredResultsMap);
+                recommendation = generateHotspotMaxRAMPercentageRecommendation(tunableName, tunableSpecObjectMap, filteredResults);
                 break;
             case RecommendationConstants.RecommendationEngine.TunablesConstants.GC_POLICY:
-                recommendation = generateHotspotGCPolicyRecommendation(tunableName, tunableSpecObjectMap, filteredResultsMap);
+                recommendation = generateHotspotGCPolicyRecommendation(tunableName, tunableSpecObjectMap, filteredResults);
                 break;
             default:
                 LOGGER.warn("Unknown tunable for Hotspot layer: {}", tunableName);
@@ -81,13 +80,13 @@ public class HotspotLayerRecommendationHandler implements LayerRecommendationHan
      *
      * @param tunableName         the tunable name (MAX_RAM_PERC)
      * @param tunableSpecObjectMap map containing MEMORY_LIMIT and CPU_LIMIT from the container layer
-     * @param filteredResultsMap  interval results (unused for this tunable)
+     * @param filteredResults  interval results (unused for this tunable)
      * @return recommended MaxRAMPercentage (0–100), or null if memory limit is invalid
      */
     public Double generateHotspotMaxRAMPercentageRecommendation(
             String tunableName,
             Map<TunableSpec, Object> tunableSpecObjectMap,
-            Map<Timestamp, IntervalResults> filteredResultsMap) {
+            IntervalResultsSeries filteredResults) {
 
         double containerMemoryBytes = (Double) RecommendationUtils.getTunableValue(
                     tunableSpecObjectMap, AnalyzerConstants.CONTAINER,
@@ -112,9 +111,9 @@ public class HotspotLayerRecommendationHandler implements LayerRecommendationHan
 
     }
 
-    private String generateHotspotGCPolicyRecommendation(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, Map<Timestamp, IntervalResults> filteredResultsMap) {
+    private String generateHotspotGCPolicyRecommendation(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, IntervalResultsSeries filteredResults) {
 
-        MetricMetadataResults jvmMetadataMetrics = RecommendationUtils.getJvmMetricMetadataFromFilteredResults(filteredResultsMap);
+        MetricMetadataResults jvmMetadataMetrics = RecommendationUtils.getJvmMetricMetadataFromFilteredResults(filteredResults);
         int jdkMajorVersion = (jvmMetadataMetrics != null) ? RecommendationUtils.parseMajorVersion(jvmMetadataMetrics.getVersion()) : 0;
 
         double memLimit = (Double) RecommendationUtils.getTunableValue(
@@ -21,11 +21,10 @@ import com.autotune.analyzer.recommendations.LayerRecommendationHandler;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
 import com.autotune.analyzer.utils.AnalyzerConstants;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.Timestamp;
 import java.util.Map;
 
 /**
@@ -54,11 +53,11 @@ public class QuarkusLayerRecommendationHandler implements LayerRecommendationHan
     public Object generateRecommendations(
             String tunableName,
             Map<TunableSpec, Object> tunableSpecObjectMap,
-            Map<Timestamp, IntervalResults> filteredResultsMap) {
+            IntervalResultsSeries filteredResults) {
 
         switch (tunableName) {
             case RecommendationConstants.RecommendationEngine.TunablesConstants.QUARKUS_THREAD_POOL_CORE_THREADS:
-                return generateCoreThreadsRecommendation(tunableName, tunableSpecObjectMap, filteredResultsMap);
+                return generateCoreThreadsRecommendation(tunableName, tunableSpecObjectMap, filteredResults);
             default:
                 LOGGER.warn("Unknown tunable for Quarkus layer: {}", tunableName);
                 return null;
@@ -76,13 +75,13 @@ public class QuarkusLayerRecommendationHandler implements LayerRecommendationHan
      *
      * @param tunableName         the tunable name (CORE_THREADS)
      * @param tunableSpecObjectMap map containing CPU_LIMIT from the container layer
-     * @param filteredResultsMap  interval results (unused for this tunable)
+     * @param filteredResults  interval results (unused for this tunable)
      * @return recommended number of core threads, or null if CPU limit is invalid
      */
     private Object generateCoreThreadsRecommendation(
             String tunableName,
             Map<TunableSpec, Object> tunableSpecObjectMap,
-            Map<Timestamp, IntervalResults> filteredResultsMap) {
+            IntervalResultsSeries filteredResults) {
 
         double cpuCores = (Double) RecommendationUtils.getTunableValue(
                 tunableSpecObjectMap,AnalyzerConstants.CONTAINER,
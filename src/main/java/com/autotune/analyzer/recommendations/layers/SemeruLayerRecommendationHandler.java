@@ -21,11 +21,10 @@ import com.autotune.analyzer.recommendations.LayerRecommendationHandler;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.utils.RecommendationUtils;
 import com.autotune.analyzer.utils.AnalyzerConstants;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.Timestamp;
 import java.util.Map;
 
 /**
@@ -50,15 +49,15 @@ public class SemeruLayerRecommendationHandler implements LayerRecommendationHand
     }
 
     @Override
-    public Object generateRecommendations(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, Map<Timestamp, IntervalResults> filteredResultsMap) {
+    public Object generateRecommendations(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, IntervalResultsSeries filteredResults) {
 
         Object recommendation;
         switch (tunableName) {
             case RecommendationConstants.RecommendationEngine.TunablesConstants.MAX_RAM_PERC:
-                recommendation = generateSemeruMaxRAMPercentageRecommendation(tunableName, tunableSpecObjectMap, filteredResultsMap);
+                recommendation = generateSemeruMaxRAMPercentageRecommendation(tunableName, tunableSpecObjectMap, filteredResults);
                 break;
             case RecommendationConstants.RecommendationEngine.TunablesConstants.GC_POLICY:
-                recommendation = generateSemeruGCPolicyRecommendation(tunableName, tunableSpecObjectMap, filteredResultsMap);
+                recommendation = generateSemeruGCPolicyRecommendation(tunableName, tunableSpecObjectMap, filteredResults);
                 break;
             default:
                 LOGGER.warn("Unknown tunable for Hotspot layer: {}", tunableName);
@@ -71,19 +70,19 @@ public class SemeruLayerRecommendationHandler implements LayerRecommendationHand
      * Generates MaxRAMPercentage recommendation
      * @param tunableName The tunable
      * @param tunableSpecObjectMap Map containing TunableSpec keys with dependency values
-     * @param filteredResultsMap Metrics data
+     * @param filteredResults Metrics data
      * @return Recommendation or null if dependencies missing
      */
     private Object generateSemeruMaxRAMPercentageRecommendation(
             String tunableName,
             Map<TunableSpec, Object> tunableSpecObjectMap,
-            Map<Timestamp, IntervalResults> filteredResultsMap) {
+            IntervalResultsSeries filteredResults) {
 
         // Using HotSpot Layer recommendation function only
-        return HotspotLayerRecommendationHandler.getInstance().generateHotspotMaxRAMPercentageRecommendation(tunableName, tunableSpecObjectMap, filteredResultsMap);
+        return HotspotLayerRecommendationHandler.getInstance().generateHotspotMaxRAMPercentageRecommendation(tunableName, tunableSpecObjectMap, filteredResults);
     }
 
-    private Object generateSemeruGCPolicyRecommendation(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, Map<Timestamp, IntervalResults> filteredResultsMap) {
+    private Object generateSemeruGCPolicyRecommendation(String tunableName, Map<TunableSpec, Object> tunableSpecObjectMap, IntervalResultsSeries filteredResults) {
 
         double memLimit = (Double) RecommendationUtils.getTunableValue(
                 tunableSpecObjectMap,AnalyzerConstants.CONTAINER,
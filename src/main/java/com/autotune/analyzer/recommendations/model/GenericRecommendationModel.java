@@ -11,21 +11,18 @@ import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.common.data.metrics.AcceleratorMetricMetadata;
 import com.autotune.common.data.metrics.AcceleratorMetricResult;
+import com.autotune.common.data.metrics.MetricAggregationFunction;
 import com.autotune.common.data.metrics.MetricAggregationInfoResults;
 import com.autotune.common.data.metrics.MetricResults;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 
 import com.autotune.common.utils.CommonUtils;
+import com.autotune.common.utils.KllQuantileSketch;
 import com.autotune.utils.KruizeConstants;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.Timestamp;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.*;
 
@@ -40,6 +37,7 @@ public class GenericRecommendationModel implements RecommendationModel{
     protected double modelMemoryPercentile;
     protected double modelCPUPercentile;
     protected double modelAcceleratorPercentile;
+    protected AnalyzerConstants.PercentileMode modelPercentileMode;
 
     // constructor
     public GenericRecommendationModel( String name, RecommendationTunables recommendationTunables) {
@@ -55,13 +53,54 @@ public class GenericRecommendationModel implements RecommendationModel{
         this.modelMemoryPercentile = recommendationTunables.getMemoryPercentile();
         this.modelCPUPercentile = recommendationTunables.getCpuPercentile();
         this.modelAcceleratorPercentile = recommendationTunables.getAcceleratorPercentile();
+        this.modelPercentileMode = recommendationTunables.getPercentileMode();
 
     }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GenericRecommendationModel.class);
+    private static final AnalyzerConstants.MetricName[] METRIC_NAMES = AnalyzerConstants.MetricName.values();
+    // accelerator metrics read from the metric results when there are no accelerator results
+    private static final AnalyzerConstants.MetricName[] ACCELERATOR_USAGE_METRICS = {
+            AnalyzerConstants.MetricName.acceleratorCoreUsage,
+            AnalyzerConstants.MetricName.acceleratorMemoryUsage,
+            AnalyzerConstants.MetricName.acceleratorFrameBufferUsage
+    };
+
+    /**
+     * Returns the value at the given percentile based on the percentile mode of the model, the exact value
+     * with quickselect or the estimate of a quantile sketch
+     */
+    protected Double getPercentile(double percentile, List<Double> values) {
+        double[] primitiveValues = new double[values.size()];
+        for (int i = 0; i < primitiveValues.length; i++) {
+            primitiveValues[i] = values.get(i);
+        }
+        if (AnalyzerConstants.PercentileMode.sketch == modelPercentileMode) {
+            return KllQuantileSketch.of(primitiveValues).getPercentile(percentile);
+        }
+        return CommonUtils.percentile(percentile, primitiveValues);
+    }
+
+    /**
+     * The values are the term values shared by all the models and are not modified, so that the sketch
+     * always sees them in the order of the intervals whatever the models run before
+     */
+    protected Double getPercentile(double percentile, double[] values) {
+        if (AnalyzerConstants.PercentileMode.sketch == modelPercentileMode) {
+            return KllQuantileSketch.of(values).getPercentile(percentile);
+        }
+        // quickselect reorders the values it selects from
+        return CommonUtils.percentile(percentile, values.clone());
+    }
 
     @Override
-    public RecommendationConfigItem getCPURequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications) {
+    public RecommendationConfigItem getCPURequestRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications) {
+        return getCPURequestRecommendation(filteredResults, IntervalUsageValues.fromContainerResults(filteredResults), notifications);
+    }
+
+    @Override
+    public RecommendationConfigItem getCPURequestRecommendation(IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                ArrayList<RecommendationNotification> notifications) {
         boolean setNotification = true;
         if (null == notifications) {
             LOGGER.error(KruizeConstants.ErrorMsgs.RecommendationErrorMsgs.EMPTY_NOTIFICATIONS_OBJECT);
@@ -70,17 +109,14 @@ public class GenericRecommendationModel implements RecommendationModel{
 
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
-        JSONArray cpuUsageList = getCPUUsageList(filteredResultsMap);
-
-        // Extract "max" values from cpuUsageList
-        List<Double> cpuMaxValues = getCPUMaxValues(cpuUsageList);
+        double[] cpuMaxValues = usageValues.getCpuMax();
 
         Double cpuRequest = 0.0;
-        Double cpuRequestMax = Collections.max(cpuMaxValues);
+        Double cpuRequestMax = Arrays.stream(cpuMaxValues).max().getAsDouble();
         if (null != cpuRequestMax && CPU_ONE_CORE > cpuRequestMax) {
             cpuRequest = cpuRequestMax;
         } else {
-            cpuRequest = CommonUtils.percentile(modelCPUPercentile, cpuMaxValues);
+            cpuRequest = getPercentile(modelCPUPercentile, cpuMaxValues);
         }
 
 
@@ -113,95 +149,20 @@ public class GenericRecommendationModel implements RecommendationModel{
             }
         }
 
-        format = getFormatValue(filteredResultsMap, AnalyzerConstants.MetricName.cpuUsage);
+        format = getFormatValue(filteredResults, AnalyzerConstants.MetricName.cpuUsage);
 
         recommendationConfigItem = new RecommendationConfigItem(cpuRequest, format);
         return recommendationConfigItem;
     }
 
-    public static List<Double> getCPUMaxValues(JSONArray cpuUsageList){
-        List<Double> cpuMaxValues = new ArrayList<>();
-
-        for (int i = 0; i < cpuUsageList.length(); i++) {
-            JSONObject jsonObject = cpuUsageList.getJSONObject(i);
-            double maxValue = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-            cpuMaxValues.add(maxValue);
-        }
-        return cpuMaxValues;
-    }
-
-    // helper function common to both cost and performance model hence just taken from there.
-    public static JSONArray getCPUUsageList(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        JSONArray cpuRequestIntervalArray = new JSONArray();
-        for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            JSONObject cpuRequestInterval = new JSONObject();
-            Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-            Optional<MetricResults> cpuThrottleResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuThrottle));
-            double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double cpuUsageMax = cpuUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-            double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-            double cpuUsageMin = cpuUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-            double cpuThrottleAvg = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double cpuThrottleMax = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-            double cpuThrottleSum = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-            double cpuThrottleMin = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-            Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
-            double memUsageAvg = memoryUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double memUsageSum = memoryUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-
-            double cpuRequestIntervalMax;
-            double cpuRequestIntervalMin;
-            double cpuUsagePod = 0;
-            double numPods = 0;
-
-            // Use the Max value when available, if not use the Avg
-            double cpuUsage = (cpuUsageMax > 0) ? cpuUsageMax : cpuUsageAvg;
-            double cpuThrottle = (cpuThrottleMax > 0) ? cpuThrottleMax : cpuThrottleAvg;
-            double cpuUsageTotal = cpuUsage + cpuThrottle;
-
-            // Usage is less than 1 core, set it to the observed value.
-            if (CPU_ONE_CORE > cpuUsageTotal) {
-                cpuRequestIntervalMax = cpuUsageTotal;
-            } else {
-                // Sum/Avg should give us the number of pods
-                if (0 != cpuUsageAvg) {
-                    numPods = cpuUsageSum / cpuUsageAvg;
-                }
-                if (0 == numPods && 0 != memUsageAvg) {
-                    numPods = memUsageSum / memUsageAvg;
-                }
-                if (0 < numPods) {
-                    cpuUsagePod = (cpuUsageSum + cpuThrottleSum) / numPods;
-                }
-                cpuRequestIntervalMax = Math.max(cpuUsagePod, cpuUsageTotal);
-            }
-            double cpuMinTotal = cpuUsageMin + cpuThrottleMin;
-            // traverse over a stream of positive values and find the minimum value
-            cpuRequestIntervalMin = Stream.of(cpuUsagePod, cpuUsageTotal, cpuMinTotal)
-                    .filter(value -> value > 0.0)
-                    .min(Double::compare)
-                    .orElse(0.0);
-
-            cpuRequestInterval.put(KruizeConstants.JSONKeys.MIN, cpuRequestIntervalMin);
-            cpuRequestInterval.put(KruizeConstants.JSONKeys.MAX, cpuRequestIntervalMax);
-            LOGGER.debug("cpuRequestInterval : {}", cpuRequestInterval);
-            cpuRequestIntervalArray.put(cpuRequestInterval);
-        }
-        return cpuRequestIntervalArray;
-    }
-
     // helper function to get format value
-    public static String getFormatValue(Map<Timestamp, IntervalResults> filteredResultsMap, AnalyzerConstants.MetricName metricName) {
+    public static String getFormatValue(IntervalResultsSeries filteredResults, AnalyzerConstants.MetricName metricName) {
         String format = "";
-        for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            MetricResults memoryUsageResults = intervalResults.getMetricResultsMap().get(metricName);
-            if (memoryUsageResults != null) {
-                MetricAggregationInfoResults aggregationInfoResult = memoryUsageResults.getAggregationInfoResult();
-                if (aggregationInfoResult != null) {
-                    format = aggregationInfoResult.getFormat();
-                    if (format != null && !format.isEmpty()) {
-                        break;
-                    }
+        for (int i = 0; i < filteredResults.size(); i++) {
+            if (filteredResults.hasMetric(i, metricName)) {
+                format = filteredResults.getFormat(i, metricName);
+                if (format != null && !format.isEmpty()) {
+                    break;
                 }
             }
         }
@@ -209,7 +170,13 @@ public class GenericRecommendationModel implements RecommendationModel{
     }
 
     @Override
-    public RecommendationConfigItem getMemoryRequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications) {
+    public RecommendationConfigItem getMemoryRequestRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications) {
+        return getMemoryRequestRecommendation(filteredResults, IntervalUsageValues.fromContainerResults(filteredResults), notifications);
+    }
+
+    @Override
+    public RecommendationConfigItem getMemoryRequestRecommendation(IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                   ArrayList<RecommendationNotification> notifications) {
         boolean setNotification = true;
         if (null == notifications) {
             LOGGER.error(KruizeConstants.ErrorMsgs.RecommendationErrorMsgs.EMPTY_NOTIFICATIONS_OBJECT);
@@ -218,24 +185,15 @@ public class GenericRecommendationModel implements RecommendationModel{
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
 
-        List<Double> memUsageList = new ArrayList<>();
-        for (IntervalResults intervalResults: filteredResultsMap.values()) {
-            JSONObject jsonObject = calculateMemoryUsage(intervalResults);
-            Double memUsage = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-            memUsageList.add(memUsage);
-        }
-
-        List<Double> spikeList = filteredResultsMap.values()
-                .stream()
-                .map(GenericRecommendationModel::calculateIntervalSpike)
-                .collect(Collectors.toList());
+        double[] memUsageValues = usageValues.getMemoryMax();
+        double[] spikeValues = usageValues.getMemorySpike();
 
         // Add a buffer to the current usage max
-        Double memRecUsage = CommonUtils.percentile(modelMemoryPercentile, memUsageList);
+        Double memRecUsage = getPercentile(modelMemoryPercentile, memUsageValues);
         Double memRecUsageBuf = memRecUsage + (memRecUsage * MEM_USAGE_BUFFER_DECIMAL);
 
         // Add a small buffer to the current usage spike max and add it to the current usage max
-        Double memRecSpike = CommonUtils.percentile(modelMemoryPercentile, spikeList);
+        Double memRecSpike = getPercentile(modelMemoryPercentile, spikeValues);
         memRecSpike += (memRecSpike * MEM_SPIKE_BUFFER_DECIMAL);
         Double memRecSpikeBuf = memRecUsage + memRecSpike;
 
@@ -249,78 +207,32 @@ public class GenericRecommendationModel implements RecommendationModel{
             return null;
         }
 
-        format = getFormatValue(filteredResultsMap, AnalyzerConstants.MetricName.memoryUsage);
+        format = getFormatValue(filteredResults, AnalyzerConstants.MetricName.memoryUsage);
 
         recommendationConfigItem = new RecommendationConfigItem(memRec, format);
         return recommendationConfigItem;
     }
 
     @Override
-    public RecommendationConfigItem getCPULimitRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications) {
+    public RecommendationConfigItem getCPULimitRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications) {
         // Default: same as request. Override when model has distinct limit-specific logic.
-        return getCPURequestRecommendation(filteredResultsMap, notifications);
+        return getCPURequestRecommendation(filteredResults, notifications);
     }
 
     @Override
-    public RecommendationConfigItem getMemoryLimitRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications) {
+    public RecommendationConfigItem getMemoryLimitRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications) {
         // Default: same as request. Override when model has distinct limit-specific logic.
-        return getMemoryRequestRecommendation(filteredResultsMap, notifications);
-    }
-
-    // helper functions for getMemoryRequestRecommendation
-
-    public static JSONObject calculateMemoryUsage(IntervalResults intervalResults) {
-        // create a JSON object which should be returned here having two values, Math.max and Collections.Min
-        JSONObject jsonObject = new JSONObject();
-        Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-        double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-        double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-        Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
-        double memUsageAvg = memoryUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-        double memUsageMax = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memUsageMin = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-        double memUsageSum = memoryUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-        double memUsage = 0;
-        double numPods = 0;
-
-        if (0 != cpuUsageAvg) {
-            numPods = cpuUsageSum / cpuUsageAvg;
-        }
-        if (0 == numPods && 0 != memUsageAvg) {
-            numPods = memUsageSum / memUsageAvg;
-        }
-        if (0 < numPods) {
-            memUsage = (memUsageSum / numPods);
-        }
-        memUsageMax = Math.max(memUsage, memUsageMax);
-        // traverse over a stream of positive values and find the minimum value
-
-        memUsageMin = Stream.of(memUsage, memUsageMax, memUsageMin)
-                .filter(value -> value > 0.0)
-                .min(Double::compare)
-                .orElse(0.0);
-
-        jsonObject.put(KruizeConstants.JSONKeys.MIN, memUsageMin);
-        jsonObject.put(KruizeConstants.JSONKeys.MAX, memUsageMax);
-
-        LOGGER.debug("memRequestInterval : {}", jsonObject);
-        return jsonObject;
+        return getMemoryRequestRecommendation(filteredResults, notifications);
     }
 
-    private static double calculateIntervalSpike(IntervalResults intervalResults) {
-        Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
-        Optional<MetricResults> memoryRSSResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryRSS));
-        double memUsageMax = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memUsageMin = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-        double memRSSMax = memoryRSSResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memRSSMin = memoryRSSResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-
-        return Math.max(Math.ceil(memUsageMax - memUsageMin), Math.ceil(memRSSMax - memRSSMin));
+    @Override
+    public RecommendationConfigItem getCPURequestRecommendationForNamespace(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications) {
+        return getCPURequestRecommendationForNamespace(filteredResults, IntervalUsageValues.fromNamespaceResults(filteredResults), notifications);
     }
 
-
     @Override
-    public RecommendationConfigItem getCPURequestRecommendationForNamespace(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications) {
+    public RecommendationConfigItem getCPURequestRecommendationForNamespace(IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                            ArrayList<RecommendationNotification> notifications) {
         boolean setNotification = true;
         if (null == notifications) {
             LOGGER.error(KruizeConstants.ErrorMsgs.RecommendationErrorMsgs.EMPTY_NOTIFICATIONS_OBJECT);
@@ -330,17 +242,14 @@ public class GenericRecommendationModel implements RecommendationModel{
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
 
-        JSONArray namespaceCpuUsageList = getNamespaceCPUUsageList(filteredResultsMap);
-
-        // Extract 'max' values from cpuUsageList
-        List<Double> namespaceCpuMaxValues = getCPUMaxValues(namespaceCpuUsageList);
+        double[] namespaceCpuMaxValues = usageValues.getCpuMax();
 
         Double namespaceCpuRequest = 0.0;
-        Double namespaceCpuRequestMax = Collections.max(namespaceCpuMaxValues);
+        Double namespaceCpuRequestMax = Arrays.stream(namespaceCpuMaxValues).max().getAsDouble();
         if (null != namespaceCpuRequestMax && CPU_ONE_CORE > namespaceCpuRequestMax) {
             namespaceCpuRequest = namespaceCpuRequestMax;
         } else {
-            namespaceCpuRequest = CommonUtils.percentile(modelCPUPercentile, namespaceCpuMaxValues);
+            namespaceCpuRequest = getPercentile(modelCPUPercentile, namespaceCpuMaxValues);
         }
 
         if (null == namespaceCpuRequest) {
@@ -369,58 +278,21 @@ public class GenericRecommendationModel implements RecommendationModel{
             }
         }
 
-        format = getFormatValue(filteredResultsMap, AnalyzerConstants.MetricName.namespaceCpuUsage);
+        format = getFormatValue(filteredResults, AnalyzerConstants.MetricName.namespaceCpuUsage);
 
         recommendationConfigItem = new RecommendationConfigItem(namespaceCpuRequest, format);
         return recommendationConfigItem;
 
     }
 
-    // helper functions for getCPURequestRecommendationForNamespace
-
-    public static JSONArray getNamespaceCPUUsageList(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        JSONArray namespaceCpuRequestIntervalArray = new JSONArray();
-        for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            JSONObject namespaceCpuRequestInterval = new JSONObject();
-            Optional<MetricResults> namespaceCpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceCpuUsage));
-            Optional<MetricResults> namespaceCpuThrottleResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceCpuThrottle));
-
-            double namespaceCpuUsageAvg = namespaceCpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double namespaceCpuUsageMax = namespaceCpuUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-            double namespaceCpuUsageMin = namespaceCpuUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-            double namespaceCpuThrottleAvg = namespaceCpuThrottleResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double namespaceCpuThrottleMax = namespaceCpuThrottleResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-            double namespaceCpuThrottleMin = namespaceCpuThrottleResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-
-            double namespaceCpuRequestIntervalMax;
-            double namespaceCpuRequestIntervalMin;
-
-            // Use the Max value when available, if not use the Avg
-            double namespaceCpuUsage = (namespaceCpuUsageMax > 0) ? namespaceCpuUsageMax : namespaceCpuUsageAvg;
-            double namespaceCpuThrottle = (namespaceCpuThrottleMax > 0) ? namespaceCpuThrottleMax : namespaceCpuThrottleAvg;
-            double namespaceCpuUsageTotal = namespaceCpuUsage + namespaceCpuThrottle;
-
-            namespaceCpuRequestIntervalMax = namespaceCpuUsageTotal;
-
-            double namespaceCpuMinTotal = namespaceCpuUsageMin + namespaceCpuThrottleMin;
-
-            // traverse over a stream of positive values and find the minimum value
-            namespaceCpuRequestIntervalMin = Stream.of(namespaceCpuUsageTotal, namespaceCpuMinTotal)
-                    .filter(value -> value > 0.0)
-                    .min(Double::compare)
-                    .orElse(0.0);
-
-            namespaceCpuRequestInterval.put(KruizeConstants.JSONKeys.MIN, namespaceCpuRequestIntervalMin);
-            namespaceCpuRequestInterval.put(KruizeConstants.JSONKeys.MAX, namespaceCpuRequestIntervalMax);
-            LOGGER.debug("cpuRequestInterval : {}", namespaceCpuRequestInterval);
-            namespaceCpuRequestIntervalArray.put(namespaceCpuRequestInterval);
-        }
-        return namespaceCpuRequestIntervalArray;
+    @Override
+    public RecommendationConfigItem getMemoryRequestRecommendationForNamespace(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications) {
+        return getMemoryRequestRecommendationForNamespace(filteredResults, IntervalUsageValues.fromNamespaceResults(filteredResults), notifications);
     }
 
-
     @Override
-    public RecommendationConfigItem getMemoryRequestRecommendationForNamespace(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications) {
+    public RecommendationConfigItem getMemoryRequestRecommendationForNamespace(IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                               ArrayList<RecommendationNotification> notifications) {
         boolean setNotification = true;
         if (null == notifications) {
             LOGGER.error(KruizeConstants.ErrorMsgs.RecommendationErrorMsgs.EMPTY_NOTIFICATIONS_OBJECT);
@@ -430,25 +302,15 @@ public class GenericRecommendationModel implements RecommendationModel{
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
 
-        List<Double> namespaceMemUsageList = new ArrayList<>();
-        for (IntervalResults intervalResults: filteredResultsMap.values()) {
-            JSONObject jsonObject = calculateNamespaceMemoryUsage(intervalResults);
-            Double namespaceMemUsage = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-            namespaceMemUsageList.add(namespaceMemUsage);
-        }
-
-        List<Double> spikeList = filteredResultsMap.values()
-                .stream()
-                .map(GenericRecommendationModel::calculateIntervalSpikeForNamespace)
-                .collect(Collectors.toList());
-
+        double[] namespaceMemUsageValues = usageValues.getMemoryMax();
+        double[] spikeValues = usageValues.getMemorySpike();
 
         // Add a buffer to the current usage max
-        Double namespaceMemRecUsage = CommonUtils.percentile(modelMemoryPercentile, namespaceMemUsageList);
+        Double namespaceMemRecUsage = getPercentile(modelMemoryPercentile, namespaceMemUsageValues);
         Double namespaceMemRecUsageBuf = namespaceMemRecUsage + (namespaceMemRecUsage * MEM_USAGE_BUFFER_DECIMAL);
 
         // Add a small buffer to the current usage spike max and add it to the current usage max
-        Double namespaceMemRecSpike = CommonUtils.percentile(modelMemoryPercentile, spikeList);
+        Double namespaceMemRecSpike = getPercentile(modelMemoryPercentile, spikeValues);
         namespaceMemRecSpike += (namespaceMemRecSpike * MEM_SPIKE_BUFFER_DECIMAL);
         Double namespaceMemRecSpikeBuf = namespaceMemRecUsage + namespaceMemRecSpike;
 
@@ -463,52 +325,14 @@ public class GenericRecommendationModel implements RecommendationModel{
             return null;
         }
 
-        format = getFormatValue(filteredResultsMap, AnalyzerConstants.MetricName.namespaceMemoryUsage);
+        format = getFormatValue(filteredResults, AnalyzerConstants.MetricName.namespaceMemoryUsage);
 
         recommendationConfigItem = new RecommendationConfigItem(namespaceMemRec, format);
         return recommendationConfigItem;
     }
 
-    // helper function 1 nsp
-
-    private static double calculateIntervalSpikeForNamespace(IntervalResults intervalResults) {
-        Optional<MetricResults> namespaceMemoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceMemoryUsage));
-        Optional<MetricResults> namespaceMemoryRSSResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceMemoryRSS));
-        double namespaceMemUsageMax = namespaceMemoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double namespaceMemUsageMin = namespaceMemoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-        double namespaceMemRSSMax = namespaceMemoryRSSResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double namespaceMemRSSMin = namespaceMemoryRSSResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-
-        return Math.max(Math.ceil(namespaceMemUsageMax - namespaceMemUsageMin), Math.ceil(namespaceMemRSSMax - namespaceMemRSSMin));
-    }
-
-    // helper function 2 nsp
-    public static JSONObject calculateNamespaceMemoryUsage(IntervalResults intervalResults) {
-        // create a JSON object which should be returned here having two values, Math.max and Collections.Min
-        JSONObject jsonObject = new JSONObject();
-
-        Optional<MetricResults> namespaceMemoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceMemoryUsage));
-
-        double namespaceMemUsageMax = namespaceMemoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double namespaceMemUsageMin = namespaceMemoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-
-        // traverse over a stream of positive values and find the minimum value
-        namespaceMemUsageMin = Stream.of(namespaceMemUsageMax, namespaceMemUsageMin)
-                .filter(value -> value > 0.0)
-                .min(Double::compare)
-                .orElse(0.0);
-
-        jsonObject.put(KruizeConstants.JSONKeys.MIN, namespaceMemUsageMin);
-        jsonObject.put(KruizeConstants.JSONKeys.MAX, namespaceMemUsageMax);
-
-        LOGGER.debug("memRequestInterval : {}", jsonObject);
-        return jsonObject;
-    }
-
-
-
     @Override
-    public Map<AnalyzerConstants.RecommendationItem, RecommendationConfigItem> getAcceleratorRequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications) {
+    public Map<AnalyzerConstants.RecommendationItem, RecommendationConfigItem> getAcceleratorRequestRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications) {
 
         boolean setNotification = true;
         if (null == notifications) {
@@ -522,75 +346,59 @@ public class GenericRecommendationModel implements RecommendationModel{
         boolean isGpuWorkload = false;
         String acceleratorModel = null;
 
-        for (Map.Entry<Timestamp, IntervalResults> entry : filteredResultsMap.entrySet()) {
-            IntervalResults intervalResults = entry.getValue();
-
-            // Check for accelerator metric map
-            if (null == intervalResults.getAcceleratorMetricResultHashMap() || intervalResults.getAcceleratorMetricResultHashMap().isEmpty()) {
-                if (!intervalResults.getMetricResultsMap().isEmpty()) {
-                    // Iterate for accelerator metrics in the interval result
-                    for (Map.Entry<AnalyzerConstants.MetricName, MetricResults> metricResultsEntry: intervalResults.getMetricResultsMap().entrySet()) {
-                        MetricResults metricResults = metricResultsEntry.getValue();
-
-                        if (null == metricResults)
-                            continue;
-
-                        if (null == metricResults.getAggregationInfoResult())
-                            continue;
-
-                        AnalyzerConstants.MetricName metricName = metricResultsEntry.getKey();
-
-                        // Check for accelerator related metrics
-                        if (metricName == AnalyzerConstants.MetricName.acceleratorCoreUsage ||
-                            metricName == AnalyzerConstants.MetricName.acceleratorMemoryUsage ||
-                            metricName == AnalyzerConstants.MetricName.acceleratorFrameBufferUsage) {
-
-                            // Check to set the accelerator model
-                            if (null == acceleratorModel) {
-                                AcceleratorMetricMetadata acceleratorMetricMetadata = (AcceleratorMetricMetadata) metricResults.getMetadata();
-                                if (null != acceleratorMetricMetadata.getModelName() &&
-                                        !acceleratorMetricMetadata.getModelName().isEmpty() &&
-                                        !acceleratorMetricMetadata.getModelName().isBlank() &&
-                                        RecommendationUtils.checkIfModelIsKruizeSupportedMIG(acceleratorMetricMetadata.getModelName().strip())
-                                ) {
-                                    isGpuWorkload = true;
-                                    String obtainedAcceleratorName = RecommendationUtils.getSupportedModelBasedOnModelName(acceleratorMetricMetadata.getModelName().strip());
-
-                                    if (null != obtainedAcceleratorName)
-                                        acceleratorModel = obtainedAcceleratorName;
-                                }
-                            }
-                            MetricAggregationInfoResults aggregationInfo = metricResults.getAggregationInfoResult();
-
-                            // Skip if max is null or zero or negative
-                            if (null == aggregationInfo.getMax() || aggregationInfo.getMax() <= 0.0)
-                                continue;
-
-                            boolean isCoreUsage = metricName == AnalyzerConstants.MetricName.acceleratorCoreUsage;
-                            boolean isMemoryUsage = metricName == AnalyzerConstants.MetricName.acceleratorMemoryUsage;
-
-                            if (isCoreUsage) {
-                                acceleratorCoreMaxValues.add(aggregationInfo.getMax());
-                            } else if (isMemoryUsage) {
-                                acceleratorMemoryMaxValues.add(aggregationInfo.getMax());
-                            } else {
-                                // Convert absolutes to percentages to get the recommendation
-                                Double value = aggregationInfo.getMax();
-                                if (value > 100) {
-                                    double cardFrameBuffer = RecommendationUtils.getFrameBufferBasedOnModel(acceleratorModel);
-                                    if (cardFrameBuffer != -1) {
-                                        if (cardFrameBuffer > 0)
-                                            acceleratorMemoryMaxValues.add((value / cardFrameBuffer) * 100);
-                                    }
-                                }
+        for (int i = 0; i < filteredResults.size(); i++) {
+            // Check for accelerator metric results
+            if (!filteredResults.hasAcceleratorMetrics(i)) {
+                // Iterate for accelerator metrics in the interval result
+                for (AnalyzerConstants.MetricName metricName : ACCELERATOR_USAGE_METRICS) {
+                    if (!filteredResults.hasMetric(i, metricName))
+                        continue;
+
+                    // Check to set the accelerator model
+                    if (null == acceleratorModel) {
+                        AcceleratorMetricMetadata acceleratorMetricMetadata = (AcceleratorMetricMetadata) filteredResults.getMetadata(i, metricName);
+                        if (null != acceleratorMetricMetadata &&
+                                null != acceleratorMetricMetadata.getModelName() &&
+                                !acceleratorMetricMetadata.getModelName().isEmpty() &&
+                                !acceleratorMetricMetadata.getModelName().isBlank() &&
+                                RecommendationUtils.checkIfModelIsKruizeSupportedMIG(acceleratorMetricMetadata.getModelName().strip())
+                        ) {
+                            isGpuWorkload = true;
+                            String obtainedAcceleratorName = RecommendationUtils.getSupportedModelBasedOnModelName(acceleratorMetricMetadata.getModelName().strip());
+
+                            if (null != obtainedAcceleratorName)
+                                acceleratorModel = obtainedAcceleratorName;
+                        }
+                    }
+
+                    // Skip if max is not available or zero or negative
+                    if (!filteredResults.hasValue(i, metricName, MetricAggregationFunction.MAX))
+                        continue;
+                    double max = filteredResults.getValue(i, metricName, MetricAggregationFunction.MAX, 0.0);
+                    if (max <= 0.0)
+                        continue;
+
+                    if (metricName == AnalyzerConstants.MetricName.acceleratorCoreUsage) {
+                        acceleratorCoreMaxValues.add(max);
+                    } else if (metricName == AnalyzerConstants.MetricName.acceleratorMemoryUsage) {
+                        acceleratorMemoryMaxValues.add(max);
+                    } else {
+                        // Convert absolutes to percentages to get the recommendation
+                        if (max > 100) {
+                            double cardFrameBuffer = RecommendationUtils.getFrameBufferBasedOnModel(acceleratorModel);
+                            if (cardFrameBuffer != -1) {
+                                if (cardFrameBuffer > 0)
+                                    acceleratorMemoryMaxValues.add((max / cardFrameBuffer) * 100);
                             }
                         }
                     }
                 }
             } else {
                 isGpuWorkload = true;
-                for (Map.Entry<AnalyzerConstants.MetricName, AcceleratorMetricResult> gpuEntry : intervalResults.getAcceleratorMetricResultHashMap().entrySet()) {
-                    AcceleratorMetricResult gpuMetricResult = gpuEntry.getValue();
+                for (AnalyzerConstants.MetricName metricName : METRIC_NAMES) {
+                    AcceleratorMetricResult gpuMetricResult = filteredResults.getAcceleratorMetricResult(i, metricName);
+                    if (null == gpuMetricResult)
+                        continue;
 
                     // Set Accelerator name
                     if (null == acceleratorModel
@@ -616,9 +424,9 @@ public class GenericRecommendationModel implements RecommendationModel{
                     if (null == aggregationInfo.getMax() || aggregationInfo.getMax() <= 0.0)
                         continue;
 
-                    boolean isCoreUsage = gpuEntry.getKey() == AnalyzerConstants.MetricName.acceleratorCoreUsage;
-                    boolean isMemoryUsage = (gpuEntry.getKey() == AnalyzerConstants.MetricName.acceleratorMemoryUsage)
-                            || (gpuEntry.getKey() == AnalyzerConstants.MetricName.acceleratorFrameBufferUsage);
+                    boolean isCoreUsage = metricName == AnalyzerConstants.MetricName.acceleratorCoreUsage;
+                    boolean isMemoryUsage = (metricName == AnalyzerConstants.MetricName.acceleratorMemoryUsage)
+                            || (metricName == AnalyzerConstants.MetricName.acceleratorFrameBufferUsage);
 
                     // Skip if it's none of the Accelerator metrics
                     if (!isCoreUsage && !isMemoryUsage)
@@ -649,11 +457,11 @@ public class GenericRecommendationModel implements RecommendationModel{
 
         double coreAverage = 0.0;
         if (!acceleratorCoreMaxValues.isEmpty())
-            coreAverage = CommonUtils.percentile(modelAcceleratorPercentile, acceleratorCoreMaxValues);
+            coreAverage = getPercentile(modelAcceleratorPercentile, acceleratorCoreMaxValues);
 
         double memoryAverage = 0.0;
         if (!acceleratorMemoryMaxValues.isEmpty())
-            memoryAverage = CommonUtils.percentile(modelAcceleratorPercentile, acceleratorMemoryMaxValues);
+            memoryAverage = getPercentile(modelAcceleratorPercentile, acceleratorMemoryMaxValues);
 
         double coreFraction = coreAverage / 100;
         // TODO: Need to investigate why data is faulty
@@ -699,16 +507,16 @@ public class GenericRecommendationModel implements RecommendationModel{
     /**
      * @param metricName
      * @param layerName
-     * @param filteredResultsMap
+     * @param filteredResults
      * @param tunableSpecObjectMap
      * @param notifications
      * @return
      */
     @Override
-    public Object getRuntimeRecommendations(String metricName, String layerName, Map<Timestamp, IntervalResults> filteredResultsMap, Map<TunableSpec, Object> tunableSpecObjectMap,
+    public Object getRuntimeRecommendations(String metricName, String layerName, IntervalResultsSeries filteredResults, Map<TunableSpec, Object> tunableSpecObjectMap,
                                             ArrayList<RecommendationNotification> notifications) {
         LayerRecommendationHandler handler = LayerRecommendationHandlerRegistry.getInstance().getHandler(layerName);
-        return handler != null ? handler.generateRecommendations(metricName, tunableSpecObjectMap, filteredResultsMap) : null;
+        return handler != null ? handler.generateRecommendations(metricName, tunableSpecObjectMap, filteredResults) : null;
     }
 
 
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.recommendations.model;
+
+import com.autotune.common.data.result.IntervalResultsSeries;
+
+import java.util.Arrays;
+
+import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.CPU_ONE_CORE;
+import static com.autotune.analyzer.utils.AnalyzerConstants.MetricName.*;
+import static com.autotune.common.data.metrics.MetricAggregationFunction.*;
+
+/**
+ * Per interval CPU and memory usage values used by the recommendation models and the box plots.
+ * <p>
+ * All the values are extracted in a single pass over the interval results, value i of every array belongs
+ * to the same interval. The arrays are exposed as is to avoid copies. They are shared by the models of a term
+ * and must stay in the order of the intervals, a percentile is selected on a copy unless the caller owns
+ * the values, like the box plots.
+ * <p>
+ * The terms of a recommendation all end at the last interval, the values are extracted once for the longest
+ * term and the other terms take a copy of their suffix with {@link #copyOfRange(int, int)}.
+ */
+public final class IntervalUsageValues {
+    private final double[] cpuMax;
+    private final double[] cpuMin;
+    private final double[] memoryMax;
+    private final double[] memoryMin;
+    private final double[] memorySpike;
+    private final double[] podCounts;
+
+    private IntervalUsageValues(double[] cpuMax, double[] cpuMin, double[] memoryMax, double[] memoryMin,
+                                double[] memorySpike, double[] podCounts) {
+        this.cpuMax = cpuMax;
+        this.cpuMin = cpuMin;
+        this.memoryMax = memoryMax;
+        this.memoryMin = memoryMin;
+        this.memorySpike = memorySpike;
+        this.podCounts = podCounts;
+    }
+
+    private IntervalUsageValues(int size) {
+        this.cpuMax = new double[size];
+        this.cpuMin = new double[size];
+        this.memoryMax = new double[size];
+        this.memoryMin = new double[size];
+        this.memorySpike = new double[size];
+        this.podCounts = new double[size];
+    }
+
+    /**
+     * Extracts the usage values of a container, in the order of the series. The values are read from the
+     * aggregation columns of the series, the per interval results maps are not visited
+     */
+    public static IntervalUsageValues fromContainerResults(IntervalResultsSeries resultsSeries) {
+        IntervalUsageValues usageValues = new IntervalUsageValues(resultsSeries.size());
+        for (int index = 0; index < resultsSeries.size(); index++) {
+            double cpuUsageAvg = resultsSeries.getValue(index, cpuUsage, AVG, 0.0);
+            double cpuUsageMax = resultsSeries.getValue(index, cpuUsage, MAX, 0.0);
+            double cpuUsageSum = resultsSeries.getValue(index, cpuUsage, SUM, 0.0);
+            double cpuUsageMin = resultsSeries.getValue(index, cpuUsage, MIN, 0.0);
+            double cpuThrottleAvg = resultsSeries.getValue(index, cpuThrottle, AVG, 0.0);
+            double cpuThrottleMax = resultsSeries.getValue(index, cpuThrottle, MAX, 0.0);
+            double cpuThrottleSum = resultsSeries.getValue(index, cpuThrottle, SUM, 0.0);
+            double cpuThrottleMin = resultsSeries.getValue(index, cpuThrottle, MIN, 0.0);
+            double memUsageAvg = resultsSeries.getValue(index, memoryUsage, AVG, 0.0);
+            double memUsageMax = resultsSeries.getValue(index, memoryUsage, MAX, 0.0);
+            double memUsageMin = resultsSeries.getValue(index, memoryUsage, MIN, 0.0);
+            double memUsageSum = resultsSeries.getValue(index, memoryUsage, SUM, 0.0);
+            double memRSSMax = resultsSeries.getValue(index, memoryRSS, MAX, 0.0);
+            double memRSSMin = resultsSeries.getValue(index, memoryRSS, MIN, 0.0);
+
+            // Sum/Avg should give us the number of pods
+            double numPods = 0;
+            if (0 != cpuUsageAvg) {
+                numPods = cpuUsageSum / cpuUsageAvg;
+            }
+            usageValues.podCounts[index] = numPods > 0 ? Math.ceil(numPods) : 0;
+            if (0 == numPods && 0 != memUsageAvg) {
+                numPods = memUsageSum / memUsageAvg;
+            }
+
+            // Use the Max value when available, if not use the Avg
+            double cpuUsageValue = (cpuUsageMax > 0) ? cpuUsageMax : cpuUsageAvg;
+            double cpuThrottleValue = (cpuThrottleMax > 0) ? cpuThrottleMax : cpuThrottleAvg;
+            double cpuUsageTotal = cpuUsageValue + cpuThrottleValue;
+            double cpuUsagePod = 0;
+            double cpuRequestIntervalMax;
+            // Usage is less than 1 core, set it to the observed value.
+            if (CPU_ONE_CORE > cpuUsageTotal) {
+                cpuRequestIntervalMax = cpuUsageTotal;
+            } else {
+                if (0 < numPods) {
+                    cpuUsagePod = (cpuUsageSum + cpuThrottleSum) / numPods;
+                }
+                cpuRequestIntervalMax = Math.max(cpuUsagePod, cpuUsageTotal);
+            }
+            usageValues.cpuMax[index] = cpuRequestIntervalMax;
+            usageValues.cpuMin[index] = minPositive(minPositive(cpuUsagePod, cpuUsageTotal), cpuUsageMin + cpuThrottleMin);
+
+            double memUsagePod = 0;
+            if (0 < numPods) {
+                memUsagePod = memUsageSum / numPods;
+            }
+            double memRequestIntervalMax = Math.max(memUsagePod, memUsageMax);
+            usageValues.memoryMax[index] = memRequestIntervalMax;
+            usageValues.memoryMin[index] = minPositive(minPositive(memUsagePod, memRequestIntervalMax), memUsageMin);
+            usageValues.memorySpike[index] = Math.max(Math.ceil(memUsageMax - memUsageMin), Math.ceil(memRSSMax - memRSSMin));
+        }
+        return usageValues;
+    }
+
+    /**
+     * Extracts the usage values of a namespace, in the order of the series
+     */
+    public static IntervalUsageValues fromNamespaceResults(IntervalResultsSeries resultsSeries) {
+        IntervalUsageValues usageValues = new IntervalUsageValues(resultsSeries.size());
+        for (int index = 0; index < resultsSeries.size(); index++) {
+            double cpuUsageAvg = resultsSeries.getValue(index, namespaceCpuUsage, AVG, 0.0);
+            double cpuUsageMax = resultsSeries.getValue(index, namespaceCpuUsage, MAX, 0.0);
+            double cpuUsageMin = resultsSeries.getValue(index, namespaceCpuUsage, MIN, 0.0);
+            double cpuThrottleAvg = resultsSeries.getValue(index, namespaceCpuThrottle, AVG, 0.0);
+            double cpuThrottleMax = resultsSeries.getValue(index, namespaceCpuThrottle, MAX, 0.0);
+            double cpuThrottleMin = resultsSeries.getValue(index, namespaceCpuThrottle, MIN, 0.0);
+            double memUsageMax = resultsSeries.getValue(index, namespaceMemoryUsage, MAX, 0.0);
+            double memUsageMin = resultsSeries.getValue(index, namespaceMemoryUsage, MIN, 0.0);
+            double memRSSMax = resultsSeries.getValue(index, namespaceMemoryRSS, MAX, 0.0);
+            double memRSSMin = resultsSeries.getValue(index, namespaceMemoryRSS, MIN, 0.0);
+
+            // Use the Max value when available, if not use the Avg
+            double cpuUsageValue = (cpuUsageMax > 0) ? cpuUsageMax : cpuUsageAvg;
+            double cpuThrottleValue = (cpuThrottleMax > 0) ? cpuThrottleMax : cpuThrottleAvg;
+            double cpuUsageTotal = cpuUsageValue + cpuThrottleValue;
+            usageValues.cpuMax[index] = cpuUsageTotal;
+            usageValues.cpuMin[index] = minPositive(cpuUsageTotal, cpuUsageMin + cpuThrottleMin);
+
+            usageValues.memoryMax[index] = memUsageMax;
+            usageValues.memoryMin[index] = minPositive(memUsageMax, memUsageMin);
+            usageValues.memorySpike[index] = Math.max(Math.ceil(memUsageMax - memUsageMin), Math.ceil(memRSSMax - memRSSMin));
+            usageValues.podCounts[index] = resultsSeries.getValue(index, namespaceTotalPods, AVG, 0.0);
+        }
+        return usageValues;
+    }
+
+    /**
+     * Copy of the values of the intervals from (inclusive) to to (exclusive), the copy can be reordered
+     * without affecting these values
+     */
+    public IntervalUsageValues copyOfRange(int from, int to) {
+        return new IntervalUsageValues(Arrays.copyOfRange(cpuMax, from, to), Arrays.copyOfRange(cpuMin, from, to),
+                Arrays.copyOfRange(memoryMax, from, to), Arrays.copyOfRange(memoryMin, from, to),
+                Arrays.copyOfRange(memorySpike, from, to), Arrays.copyOfRange(podCounts, from, to));
+    }
+
+    public int size() {
+        return cpuMax.length;
+    }
+
+    public boolean isEmpty() {
+        return 0 == cpuMax.length;
+    }
+
+    /**
+     * CPU request of every interval, the usage plus throttle or the per pod usage when above one core
+     */
+    public double[] getCpuMax() {
+        return cpuMax;
+    }
+
+    /**
+     * Smallest positive CPU value of every interval, 0 if there is none
+     */
+    public double[] getCpuMin() {
+        return cpuMin;
+    }
+
+    /**
+     * Memory usage of every interval, the max usage or the per pod usage if higher
+     */
+    public double[] getMemoryMax() {
+        return memoryMax;
+    }
+
+    /**
+     * Smallest positive memory value of every interval, 0 if there is none
+     */
+    public double[] getMemoryMin() {
+        return memoryMin;
+    }
+
+    /**
+     * Largest of the memory usage and RSS spikes (max - min) of every interval
+     */
+    public double[] getMemorySpike() {
+        return memorySpike;
+    }
+
+    /**
+     * Number of pods of every interval, from the cpu usage sum / avg for a container and the total pods
+     * metric for a namespace, 0 if unknown
+     */
+    public double[] getPodCounts() {
+        return podCounts;
+    }
+
+    /**
+     * Largest pod count of the intervals rounded up, 0 if there are no intervals
+     */
+    public int getMaxPodCount() {
+        double maxPodCount = 0;
+        for (double podCount : podCounts) {
+            maxPodCount = Math.max(maxPodCount, podCount);
+        }
+        return (int) Math.ceil(maxPodCount);
+    }
+
+    /**
+     * Minimum of the positive values, 0 if none of them is positive
+     */
+    private static double minPositive(double first, double second) {
+        if (first > 0.0 && second > 0.0) {
+            return Math.min(first, second);
+        }
+        if (first > 0.0) {
+            return first;
+        }
+        return second > 0.0 ? second : 0.0;
+    }
+}
@@ -4,27 +4,59 @@ import com.autotune.analyzer.kruizeLayer.impl.TunableSpec;
 import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationNotification;
 import com.autotune.analyzer.utils.AnalyzerConstants;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
 
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Map;
 
 public interface RecommendationModel {
 
-    RecommendationConfigItem getCPURequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
-    RecommendationConfigItem getMemoryRequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
+    RecommendationConfigItem getCPURequestRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications);
+    RecommendationConfigItem getMemoryRequestRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications);
     /** CPU limit recommendation (used by runtime layers; override when model has distinct limit logic). */
-    RecommendationConfigItem getCPULimitRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
+    RecommendationConfigItem getCPULimitRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications);
     /** Memory limit recommendation (used by runtime layers; override when model has distinct limit logic). */
-    RecommendationConfigItem getMemoryLimitRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
+    RecommendationConfigItem getMemoryLimitRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications);
     // get namespace recommendations for CPU Request
-    RecommendationConfigItem getCPURequestRecommendationForNamespace(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
+    RecommendationConfigItem getCPURequestRecommendationForNamespace(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications);
     // get namespace recommendations for Memory Request
-    RecommendationConfigItem getMemoryRequestRecommendationForNamespace(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
+    RecommendationConfigItem getMemoryRequestRecommendationForNamespace(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications);
 
-    Map<AnalyzerConstants.RecommendationItem, RecommendationConfigItem> getAcceleratorRequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications);
-    Object getRuntimeRecommendations(String metricName, String layerName, Map<Timestamp, IntervalResults> filteredResultsMap, Map<TunableSpec, Object> context, ArrayList<RecommendationNotification> notifications);
+    /**
+     * Same as {@link #getCPURequestRecommendation(IntervalResultsSeries, ArrayList)} with the usage values of the term already
+     * extracted, they are shared by all the models of the term.
+     */
+    default RecommendationConfigItem getCPURequestRecommendation(IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                 ArrayList<RecommendationNotification> notifications) {
+        return getCPURequestRecommendation(filteredResults, notifications);
+    }
+
+    /**
+     * Same as {@link #getMemoryRequestRecommendation(IntervalResultsSeries, ArrayList)} with the usage values of the term already extracted
+     */
+    default RecommendationConfigItem getMemoryRequestRecommendation(IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                    ArrayList<RecommendationNotification> notifications) {
+        return getMemoryRequestRecommendation(filteredResults, notifications);
+    }
+
+    /**
+     * Same as {@link #getCPURequestRecommendationForNamespace(IntervalResultsSeries, ArrayList)} with the usage values of the term already extracted
+     */
+    default RecommendationConfigItem getCPURequestRecommendationForNamespace(IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                             ArrayList<RecommendationNotification> notifications) {
+        return getCPURequestRecommendationForNamespace(filteredResults, notifications);
+    }
+
+    /**
+     * Same as {@link #getMemoryRequestRecommendationForNamespace(IntervalResultsSeries, ArrayList)} with the usage values of the term already extracted
+     */
+    default RecommendationConfigItem getMemoryRequestRecommendationForNamespace(IntervalResultsSeries filteredResults, IntervalUsageValues usageValues,
+                                                                                ArrayList<RecommendationNotification> notifications) {
+        return getMemoryRequestRecommendationForNamespace(filteredResults, notifications);
+    }
+
+    Map<AnalyzerConstants.RecommendationItem, RecommendationConfigItem> getAcceleratorRequestRecommendation(IntervalResultsSeries filteredResults, ArrayList<RecommendationNotification> notifications);
+    Object getRuntimeRecommendations(String metricName, String layerName, IntervalResultsSeries filteredResults, Map<TunableSpec, Object> context, ArrayList<RecommendationNotification> notifications);
 
     public String getModelName();
     void validate();
@@ -1,5 +1,6 @@
 package com.autotune.analyzer.recommendations.model;
 
+import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.utils.KruizeConstants;
 import com.google.gson.annotations.SerializedName;
 
@@ -19,6 +20,9 @@ public class RecommendationTunables {
     @SerializedName(KruizeConstants.JSONKeys.ACCELERATOR_PERCENTILE)
     protected double acceleratorPercentile;
 
+    // null means exact, which keeps the existing model tunables unchanged
+    @SerializedName(KruizeConstants.JSONKeys.PERCENTILE_MODE)
+    protected AnalyzerConstants.PercentileMode percentileMode;
 
     public RecommendationTunables(double CPU_PERCENTILE, double MEMORY_PERCENTILE, double ACCELERATOR_PERCENTILE) {
         this.cpuPercentile = CPU_PERCENTILE;
@@ -32,6 +36,7 @@ public class RecommendationTunables {
                 "cpu=" + cpuPercentile +
                 ", memory=" + memoryPercentile +
                 ", accelerator=" + acceleratorPercentile +
+                ", percentileMode=" + getPercentileMode() +
                 '}';
     }
 
@@ -58,4 +63,12 @@ public class RecommendationTunables {
     public void setAcceleratorPercentile(double accelerator_percentile) {
         this.acceleratorPercentile = accelerator_percentile;
     }
+
+    public AnalyzerConstants.PercentileMode getPercentileMode() {
+        return null == percentileMode ? AnalyzerConstants.PercentileMode.exact : percentileMode;
+    }
+
+    public void setPercentileMode(AnalyzerConstants.PercentileMode percentileMode) {
+        this.percentileMode = percentileMode;
+    }
 }
@@ -1,9 +1,7 @@
 package com.autotune.analyzer.recommendations.term;
 
 import com.autotune.analyzer.recommendations.objects.TermRecommendations;
-import com.autotune.common.data.result.ContainerData;
-import com.autotune.common.data.result.IntervalResults;
-import com.autotune.common.data.result.NamespaceData;
+import com.autotune.common.data.result.IntervalResultsSeries;
 import com.autotune.utils.KruizeConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,10 +69,16 @@ public class Terms {
         return maxTerms.map(term -> term.days).orElse(0); // Return the max days or 0 if terms is empty
     }
 
-    public static boolean checkIfMinDataAvailableForTerm(ContainerData containerData, Terms term, Timestamp monitoringEndTime,
+    /**
+     * Checks if the results of a container or namespace cover the minimum duration of the term.
+     * <p>
+     * The term window is walked backwards from the monitoring end time one measurement duration at a time,
+     * every step looks for an interval ending within the threshold with a binary search on the series.
+     */
+    public static boolean checkIfMinDataAvailableForTerm(IntervalResultsSeries resultsSeries, Terms term, Timestamp monitoringEndTime,
                                                          double measurementDuration) {
         // Check if data is available
-        if (null == containerData || null == containerData.getResults() || containerData.getResults().isEmpty()) {
+        if (null == resultsSeries || resultsSeries.isEmpty()) {
             return false;
         }
 
@@ -84,66 +88,16 @@ public class Terms {
         long thresholdInMillis = KruizeConstants.TimeConv.MEASUREMENT_DURATION_THRESHOLD_SECONDS * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC;
         LocalDateTime monitoringStartDateTime = monitoringEndTime.toLocalDateTime().minusDays(term.days);
 
-        double durationInSeconds = measurementDuration * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE;
-            try {
-                for (LocalDateTime current = monitoringEndTime.toLocalDateTime(); current.isAfter(monitoringStartDateTime); current = current.minusSeconds((long) durationInSeconds)) {
-                    Timestamp currentTimestamp = Timestamp.valueOf(current);
-
-                    // Check if the current timestamp exists in the resultsMap or within the tolerance range
-                    Double diffInSec = getTimestampWithinTolerance(currentTimestamp, containerData.getResults().keySet(), thresholdInMillis);
-                    if (containerData.getResults().containsKey(currentTimestamp) || diffInSec != null) {
-                        // If there's a change in the timestamp within the threshold value, add the difference in the duration
-                        if (diffInSec != null) {
-                            durationInSeconds += diffInSec;
-                        }
-                        sum += measurementDuration;
-                    }
-                }
-            } catch (Exception e) {
-                LOGGER.error("Exception occurred while checking min data : {}", e.getMessage());
-                return false;
-            }
-
-        double minimumDurationInMins = term.getThreshold_in_days() * KruizeConstants.TimeConv.NO_OF_HOURS_PER_DAY *
-                KruizeConstants.TimeConv.NO_OF_MINUTES_PER_HOUR;
-        // Set bounds to check if we get minimum requirement satisfied
-        double lowerBound = minimumDurationInMins - MEASUREMENT_DURATION_BUFFER_IN_MINS;
-        // We don't consider upper bound to check if sum is in-between as we may over shoot and end-up resulting false
-        if (sum >= lowerBound)
-            return true;
-
-        return false;
-    }
-
-    public static boolean checkIfMinDataAvailableForTermForNamespace(NamespaceData namespaceData,
-                                                                     Terms term,
-                                                                     Timestamp monitoringEndTime,
-                                                                     double measurementDuration) {
-
-        // Check if data is available
-        if (null == namespaceData || null == namespaceData.getResults() || namespaceData.getResults().isEmpty()) {
-            return false;
-        }
-
-        // Initialize sum of durations
-        double sum = 0;
-
-        // Threshold in milliseconds
-        long thresholdInMillis = KruizeConstants.TimeConv.MEASUREMENT_DURATION_THRESHOLD_SECONDS * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC;
-        LocalDateTime monitoringStartDateTime = monitoringEndTime.toLocalDateTime().minusDays(term.days);
-
         double durationInSeconds = measurementDuration * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE;
         try {
             for (LocalDateTime current = monitoringEndTime.toLocalDateTime(); current.isAfter(monitoringStartDateTime); current = current.minusSeconds((long) durationInSeconds)) {
-                Timestamp currentTimestamp = Timestamp.valueOf(current);
+                long currentTimeMillis = Timestamp.valueOf(current).getTime();
 
-                // Check if the current timestamp exists in the resultsMap or within the tolerance range
-                Double diffInSec = getTimestampWithinTolerance(currentTimestamp, namespaceData.getResults().keySet(), thresholdInMillis);
-                if (namespaceData.getResults().containsKey(currentTimestamp) || diffInSec != null) {
+                // Check if an interval ends at the current time or within the tolerance range
+                int index = resultsSeries.nearestIndex(currentTimeMillis, thresholdInMillis);
+                if (-1 != index) {
                     // If there's a change in the timestamp within the threshold value, add the difference in the duration
-                    if (diffInSec != null) {
-                        durationInSeconds += diffInSec;
-                    }
+                    durationInSeconds += (double) ((currentTimeMillis - resultsSeries.getIntervalEndTimeMillis(index)) / KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
                     sum += measurementDuration;
                 }
             }
@@ -154,29 +108,28 @@ public class Terms {
 
         double minimumDurationInMins = term.getThreshold_in_days() * KruizeConstants.TimeConv.NO_OF_HOURS_PER_DAY *
                 KruizeConstants.TimeConv.NO_OF_MINUTES_PER_HOUR;
-
         // Set bounds to check if we get minimum requirement satisfied
         double lowerBound = minimumDurationInMins - MEASUREMENT_DURATION_BUFFER_IN_MINS;
         // We don't consider upper bound to check if sum is in-between as we may over shoot and end-up resulting false
-        if (sum >= lowerBound) {
+        if (sum >= lowerBound)
             return true;
-        }
+
         return false;
     }
 
-    public static double getDurationSummationNamespace(NamespaceData namespaceData) {
+    public static double getDurationSummationNamespace(IntervalResultsSeries resultsSeries) {
         double sum = 0.0;
-        for (IntervalResults intervalResults : namespaceData.getResults().values()) {
-            sum = sum + intervalResults.getDurationInMinutes();
+        for (int i = 0; i < resultsSeries.size(); i++) {
+            sum = sum + resultsSeries.getDurationInMinutes(i, 0.0);
         }
         return sum;
     }
 
-    public static void setDurationBasedOnTermNamespace(NamespaceData namespaceData,
+    public static void setDurationBasedOnTermNamespace(IntervalResultsSeries resultsSeries,
                                                        TermRecommendations mappedRecommendationForTerm,
                                                        String recommendationTerm) {
 
-        double durationSummation = getDurationSummationNamespace(namespaceData);
+        double durationSummation = getDurationSummationNamespace(resultsSeries);
         durationSummation = Double.parseDouble(String.format("%.1f", durationSummation));
         // Get the maximum duration allowed for the term
         double maxDurationInHours = getMaxDuration(recommendationTerm);
@@ -189,29 +142,19 @@ public class Terms {
         mappedRecommendationForTerm.setDurationInHrs(durationSummationInHours);
     }
 
-    private static Double getTimestampWithinTolerance(Timestamp currentTimestamp, Set<Timestamp> timestamps, long toleranceInMillis) {
-        for (Timestamp timestamp : timestamps) {
-            long timeDiff = currentTimestamp.getTime() - timestamp.getTime();
-            if (Math.abs(timeDiff) <= toleranceInMillis) {
-                return (double) ((timeDiff)/KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
-            }
-        }
-        return null;
-    }
-
-    public static double getDurationSummation(ContainerData containerData) {
+    public static double getDurationSummation(IntervalResultsSeries resultsSeries) {
         // Loop over the data to check if there is min data available
         double sum = 0.0;
-        for (IntervalResults intervalResults : containerData.getResults().values()) {
-            sum = sum + intervalResults.getDurationInMinutes();
+        for (int i = 0; i < resultsSeries.size(); i++) {
+            sum = sum + resultsSeries.getDurationInMinutes(i, 0.0);
         }
         return sum;
     }
 
-    public static void setDurationBasedOnTerm(ContainerData containerDataKruizeObject, TermRecommendations
+    public static void setDurationBasedOnTerm(IntervalResultsSeries resultsSeries, TermRecommendations
             mappedRecommendationForTerm, String recommendationTerm) {
 
-        double durationSummation = getDurationSummation(containerDataKruizeObject);
+        double durationSummation = getDurationSummation(resultsSeries);
         // Get the maximum duration allowed for the term
         double maxDurationInHours = getMaxDuration(recommendationTerm);
         double maxDurationInMinutes = maxDurationInHours * KruizeConstants.TimeConv.NO_OF_MINUTES_PER_HOUR;
@@ -6,10 +6,11 @@ import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.recommendations.term.Terms;
 import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.MetricAggregationFunction;
 import com.autotune.common.data.metrics.MetricMetadataResults;
-import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.ContainerData;
-import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsSeries;
+import com.autotune.common.data.result.IntervalTimeIndex;
 import com.autotune.common.data.system.info.device.ContainerDeviceList;
 import com.autotune.common.data.system.info.device.accelerator.NvidiaAcceleratorDeviceData;
 import com.autotune.common.data.system.info.device.accelerator.metadata.AcceleratorMetaDataService;
@@ -37,85 +38,78 @@ import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.CHA
 public class RecommendationUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger(RecommendationUtils.class);
 
-    public static RecommendationConfigItem getCurrentValue(Map<Timestamp, IntervalResults> filteredResultsMap,
+    public static RecommendationConfigItem getCurrentValue(IntervalResultsSeries resultsSeries,
                                                            Timestamp timestampToExtract,
                                                            AnalyzerConstants.ResourceSetting resourceSetting,
                                                            AnalyzerConstants.RecommendationItem recommendationItem,
                                                            ArrayList<RecommendationConstants.RecommendationNotification> notifications) {
-        Double currentValue = null;
-        String format = null;
-        RecommendationConfigItem recommendationConfigItem = null;
         AnalyzerConstants.MetricName metricName = null;
-        for (Timestamp timestamp : filteredResultsMap.keySet()) {
-            if (!timestamp.equals(timestampToExtract))
-                continue;
-            IntervalResults intervalResults = filteredResultsMap.get(timestamp);
-            if (resourceSetting == AnalyzerConstants.ResourceSetting.requests) {
-                if (recommendationItem == AnalyzerConstants.RecommendationItem.CPU)
-                    metricName = AnalyzerConstants.MetricName.cpuRequest;
-                if (recommendationItem == AnalyzerConstants.RecommendationItem.MEMORY)
-                    metricName = AnalyzerConstants.MetricName.memoryRequest;
-            }
-            if (resourceSetting == AnalyzerConstants.ResourceSetting.limits) {
-                if (recommendationItem == AnalyzerConstants.RecommendationItem.CPU)
-                    metricName = AnalyzerConstants.MetricName.cpuLimit;
-                if (recommendationItem == AnalyzerConstants.RecommendationItem.MEMORY)
-                    metricName = AnalyzerConstants.MetricName.memoryLimit;
-            }
-            if (null != metricName) {
-                if (intervalResults.getMetricResultsMap().containsKey(metricName)) {
-                    Optional<MetricResults> metricResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(metricName));
-                    currentValue = metricResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(null);
-                    format = metricResults.map(m -> m.getAggregationInfoResult().getFormat()).orElse(null);
-                }
-                if (null == currentValue) {
-                    setNotificationsFor(resourceSetting, recommendationItem, notifications);
-                }
-                return new RecommendationConfigItem(currentValue, format);
-            }
+        if (resourceSetting == AnalyzerConstants.ResourceSetting.requests) {
+            if (recommendationItem == AnalyzerConstants.RecommendationItem.CPU)
+                metricName = AnalyzerConstants.MetricName.cpuRequest;
+            if (recommendationItem == AnalyzerConstants.RecommendationItem.MEMORY)
+                metricName = AnalyzerConstants.MetricName.memoryRequest;
         }
-        setNotificationsFor(resourceSetting, recommendationItem, notifications);
-        return null;
+        if (resourceSetting == AnalyzerConstants.ResourceSetting.limits) {
+            if (recommendationItem == AnalyzerConstants.RecommendationItem.CPU)
+                metricName = AnalyzerConstants.MetricName.cpuLimit;
+            if (recommendationItem == AnalyzerConstants.RecommendationItem.MEMORY)
+                metricName = AnalyzerConstants.MetricName.memoryLimit;
+        }
+        return getCurrentValue(resultsSeries, timestampToExtract, metricName, MetricAggregationFunction.AVG,
+                resourceSetting, recommendationItem, notifications);
     }
 
-    public static RecommendationConfigItem getCurrentValueForNamespace(Map<Timestamp, IntervalResults> filteredResultsMap,
+    public static RecommendationConfigItem getCurrentValueForNamespace(IntervalResultsSeries resultsSeries,
                                                                        Timestamp timestampToExtract,
                                                                        AnalyzerConstants.ResourceSetting resourceSetting,
                                                                        AnalyzerConstants.RecommendationItem recommendationItem,
                                                                        ArrayList<RecommendationConstants.RecommendationNotification> notifications) {
-        Double currentNamespaceValue = null;
-        String format = null;
         AnalyzerConstants.MetricName metricName = null;
-        for (Timestamp timestamp : filteredResultsMap.keySet()) {
-            if (!timestamp.equals(timestampToExtract))
-                continue;
-            IntervalResults intervalResults = filteredResultsMap.get(timestamp);
-            if (resourceSetting == AnalyzerConstants.ResourceSetting.requests) {
-                if (recommendationItem == AnalyzerConstants.RecommendationItem.CPU)
-                    metricName = AnalyzerConstants.MetricName.namespaceCpuRequest;
-                if (recommendationItem == AnalyzerConstants.RecommendationItem.MEMORY)
-                    metricName = AnalyzerConstants.MetricName.namespaceMemoryRequest;
-            }
-            if (resourceSetting == AnalyzerConstants.ResourceSetting.limits) {
-                if (recommendationItem == AnalyzerConstants.RecommendationItem.CPU)
-                    metricName = AnalyzerConstants.MetricName.namespaceCpuLimit;
-                if (recommendationItem == AnalyzerConstants.RecommendationItem.MEMORY)
-                    metricName = AnalyzerConstants.MetricName.namespaceMemoryLimit;
-            }
-            if (null != metricName) {
-                if (intervalResults.getMetricResultsMap().containsKey(metricName)) {
-                    Optional<MetricResults> metricResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(metricName));
-                    currentNamespaceValue = metricResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(null);
-                    format = metricResults.map(m -> m.getAggregationInfoResult().getFormat()).orElse(null);
-                }
-                if (null == currentNamespaceValue) {
-                    setNotificationsFor(resourceSetting, recommendationItem, notifications);
-                }
-                return new RecommendationConfigItem(currentNamespaceValue, format);
+        if (resourceSetting == AnalyzerConstants.ResourceSetting.requests) {
+            if (recommendationItem == AnalyzerConstants.RecommendationItem.CPU)
+                metricName = AnalyzerConstants.MetricName.namespaceCpuRequest;
+            if (recommendationItem == AnalyzerConstants.RecommendationItem.MEMORY)
+                metricName = AnalyzerConstants.MetricName.namespaceMemoryRequest;
+        }
+        if (resourceSetting == AnalyzerConstants.ResourceSetting.limits) {
+            if (recommendationItem == AnalyzerConstants.RecommendationItem.CPU)
+                metricName = AnalyzerConstants.MetricName.namespaceCpuLimit;
+            if (recommendationItem == AnalyzerConstants.RecommendationItem.MEMORY)
+                metricName = AnalyzerConstants.MetricName.namespaceMemoryLimit;
+        }
+        return getCurrentValue(resultsSeries, timestampToExtract, metricName, MetricAggregationFunction.SUM,
+                resourceSetting, recommendationItem, notifications);
+    }
+
+    /**
+     * Looks up the interval ending at timestampToExtract with a binary search on the series and returns the
+     * value of the given aggregation function for the metric, null if the interval is not present
+     */
+    private static RecommendationConfigItem getCurrentValue(IntervalResultsSeries resultsSeries,
+                                                            Timestamp timestampToExtract,
+                                                            AnalyzerConstants.MetricName metricName,
+                                                            MetricAggregationFunction aggregationFunction,
+                                                            AnalyzerConstants.ResourceSetting resourceSetting,
+                                                            AnalyzerConstants.RecommendationItem recommendationItem,
+                                                            ArrayList<RecommendationConstants.RecommendationNotification> notifications) {
+        int index = (null == resultsSeries || null == timestampToExtract) ? -1 : resultsSeries.indexOf(timestampToExtract.getTime());
+        if (-1 == index || null == metricName) {
+            setNotificationsFor(resourceSetting, recommendationItem, notifications);
+            return null;
+        }
+        Double currentValue = null;
+        String format = null;
+        if (resultsSeries.hasMetric(index, metricName)) {
+            if (resultsSeries.hasValue(index, metricName, aggregationFunction)) {
+                currentValue = resultsSeries.getValue(index, metricName, aggregationFunction, 0);
             }
+            format = resultsSeries.getFormat(index, metricName);
         }
-        setNotificationsFor(resourceSetting, recommendationItem, notifications);
-        return null;
+        if (null == currentValue) {
+            setNotificationsFor(resourceSetting, recommendationItem, notifications);
+        }
+        return new RecommendationConfigItem(currentValue, format);
     }
 
     private static void setNotificationsFor(AnalyzerConstants.ResourceSetting resourceSetting,
@@ -415,25 +409,15 @@ public class RecommendationUtils {
                 || modelName.contains(AnalyzerConstants.AcceleratorConstants.AcceleratorNameTokens.H200);
     }
 
-    public static Timestamp getNearestTimestamp(HashMap<Timestamp, IntervalResults> containerDataResults, Timestamp targetTime, int minutesRange) {
+    /**
+     * Returns the index of the interval end time the closest to the target time, -1 if none of them is within minutesRange
+     *
+     * @param timeIndex        index of the interval end times, built once for all the lookups
+     * @param targetTimeMillis target time in epoch millis
+     */
+    public static int getNearestIndex(IntervalTimeIndex timeIndex, long targetTimeMillis, int minutesRange) {
         long rangeInMillis = (long) minutesRange * 60 * 1000;
-        long targetTimeMillis = targetTime.getTime();
-
-        Timestamp nearestTimestamp = null;
-        long nearestDistance = Long.MAX_VALUE;
-
-        for (Map.Entry<Timestamp, IntervalResults> entry : containerDataResults.entrySet()) {
-            Timestamp currentTimestamp = entry.getKey();
-            long currentTimeMillis = currentTimestamp.getTime();
-            long distance = Math.abs(targetTimeMillis - currentTimeMillis);
-
-            if (distance <= rangeInMillis && distance < nearestDistance) {
-                nearestDistance = distance;
-                nearestTimestamp = currentTimestamp;
-            }
-        }
-
-        return nearestTimestamp;
+        return timeIndex.nearestIndex(targetTimeMillis, rangeInMillis);
     }
 
     public static HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem> getMapWithOptimalProfile(
@@ -665,29 +649,25 @@ public class RecommendationUtils {
     }
 
     /**
-     * Extracts JVM metric metadata (runtime, version, vendor) from filteredResultsMap.
-     * Looks for jvmRuntimeInfo metric in IntervalResults and returns its MetricMetadataResults.
+     * Extracts JVM metric metadata (runtime, version, vendor) from the filtered results.
+     * Looks for jvmRuntimeInfo metric in the interval results and returns its MetricMetadataResults.
      *
-     * @param filteredResultsMap map of timestamp to IntervalResults
+     * @param filteredResults interval results of the term
      * @return MetricMetadataResults containing JVM info, or null if not found
      */
-    public static MetricMetadataResults getJvmMetricMetadataFromFilteredResults(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        if (filteredResultsMap == null) {
+    public static MetricMetadataResults getJvmMetricMetadataFromFilteredResults(IntervalResultsSeries filteredResults) {
+        if (filteredResults == null) {
             return null;
         }
-        for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            if (intervalResults.getMetricResultsMap() == null) {
-                continue;
-            }
+        for (int i = 0; i < filteredResults.size(); i++) {
             // Try jvmInfo first, then jvmInfoTotal (both provide runtime, vendor, version)
-            MetricResults metricResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.jvmInfo);
-            if (metricResults == null) {
-                metricResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.jvmInfoTotal);
-            }
-            if (metricResults == null || metricResults.getMetricMetadataResults() == null) {
+            AnalyzerConstants.MetricName metricName = filteredResults.hasMetric(i, AnalyzerConstants.MetricName.jvmInfo) ?
+                    AnalyzerConstants.MetricName.jvmInfo : AnalyzerConstants.MetricName.jvmInfoTotal;
+            MetricMetadataResults metricMetadataResults = filteredResults.getMetricMetadataResults(i, metricName);
+            if (metricMetadataResults == null) {
                 continue;
             }
-            return metricResults.getMetricMetadataResults();
+            return metricMetadataResults;
         }
         return null;
     }
@@ -18,6 +18,7 @@ package com.autotune.analyzer.serviceObjects;
 import com.autotune.analyzer.exceptions.KruizeResponse;
 import com.autotune.common.data.dataSourceMetadata.DataSourceMetadataInfo;
 import com.autotune.database.table.lm.KruizeBulkJobEntry;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -160,6 +161,39 @@ public class BulkJobStatus {
 
     }
 
+    /**
+     * Returns a view of the job holding only the given experiment, used for the per experiment messages.
+     * <p>
+     * The summary, webhook and metadata are shared with this job, the experiments of this job are not modified.
+     *
+     * @param experimentName name of the experiment, no experiment is included if it is null or unknown
+     */
+    public BulkJobStatus copyForExperiment(String experimentName) {
+        BulkJobStatus jobView = new BulkJobStatus(summary, experimentMap, webhook, metadata);
+        Experiment experiment = (null == experimentName || null == experimentMap) ? null : experimentMap.get(experimentName);
+        jobView.setExperiments(null == experiment ? Collections.emptyMap() : Collections.singletonMap(experimentName, experiment));
+        return jobView;
+    }
+
+    /**
+     * Returns a view of the job holding only the given experiments, the same as {@link #copyForExperiment(String)}
+     * for several of them. Unknown experiment names are skipped.
+     */
+    public BulkJobStatus copyForExperiments(Collection<String> experimentNames) {
+        BulkJobStatus jobView = new BulkJobStatus(summary, experimentMap, webhook, metadata);
+        Map<String, Experiment> experimentsView = new LinkedHashMap<>();
+        if (null != experimentMap && null != experimentNames) {
+            for (String experimentName : experimentNames) {
+                Experiment experiment = experimentMap.get(experimentName);
+                if (null != experiment) {
+                    experimentsView.put(experimentName, experiment);
+                }
+            }
+        }
+        jobView.setExperiments(experimentsView);
+        return jobView;
+    }
+
     public KruizeBulkJobEntry getBulkJobForDB(String experimentsString) throws Exception {
         KruizeBulkJobEntry kruizeBulkJobEntry = null;
         try {
@@ -167,6 +201,8 @@ public class BulkJobStatus {
                     getSummary().getStatus(),
                     getSummary().getTotal_experiments(),
                     getSummary().getProcessed_experiments().get(),
+                    getSummary().getKafka_messages_delivered(),
+                    getSummary().getKafka_messages_failed(),
                     parseUTCStringToTimestamp(getSummary().getStartTime()),
                     parseUTCStringToTimestamp(getSummary().getEndTime()),
                     new ObjectMapper().writeValueAsString(getWebhook()),
@@ -202,8 +238,12 @@ public class BulkJobStatus {
         @JsonProperty(JOB_ID)
         private String jobID;
         private String status;
-        private int total_experiments;
+        // raised as the experiments of the job are discovered, read by the workers of the job
+        private volatile int total_experiments;
         private AtomicInteger processed_experiments;
+        // only reported when Kafka is enabled
+        private final AtomicInteger kafka_messages_delivered = new AtomicInteger(0);
+        private final AtomicInteger kafka_messages_failed = new AtomicInteger(0);
         @JsonProperty("job_start_time")
         private String startTime; // Change to String to store formatted time
         @JsonProperty("job_end_time")
@@ -220,11 +260,14 @@ public class BulkJobStatus {
             this.processed_experiments = new AtomicInteger(0);
         }
 
-        public Summary(String jobID, String status, int total_experiments, int processed_experiments, Timestamp startTime, Timestamp endTime, Map<String, Notification> notifications, BulkInput input) {
+        public Summary(String jobID, String status, int total_experiments, int processed_experiments, Integer kafka_messages_delivered,
+                       Integer kafka_messages_failed, Timestamp startTime, Timestamp endTime, Map<String, Notification> notifications, BulkInput input) {
             this.jobID = jobID;
             this.status = status;
             this.total_experiments = total_experiments;
             this.processed_experiments = new AtomicInteger(processed_experiments);
+            this.kafka_messages_delivered.set(null == kafka_messages_delivered ? 0 : kafka_messages_delivered);
+            this.kafka_messages_failed.set(null == kafka_messages_failed ? 0 : kafka_messages_failed);
             this.startTime = formatInstantAsUTCString(startTime.toInstant());
             this.endTime = (endTime != null) ? formatInstantAsUTCString(endTime.toInstant()) : null;
             this.notifications = notifications;
@@ -298,6 +341,28 @@ public class BulkJobStatus {
             this.processed_experiments.set(count);
         }
 
+        public void incrementKafka_messages_delivered() {
+            kafka_messages_delivered.incrementAndGet();
+        }
+
+        /**
+         * Number of job status messages delivered to Kafka, null when Kafka is disabled
+         */
+        public Integer getKafka_messages_delivered() {
+            return KruizeDeploymentInfo.is_kafka_enabled ? kafka_messages_delivered.get() : null;
+        }
+
+        public void incrementKafka_messages_failed() {
+            kafka_messages_failed.incrementAndGet();
+        }
+
+        /**
+         * Number of job status messages which could not be delivered to Kafka, null when Kafka is disabled
+         */
+        public Integer getKafka_messages_failed() {
+            return KruizeDeploymentInfo.is_kafka_enabled ? kafka_messages_failed.get() : null;
+        }
+
         public int getTotal_experiments() {
             return total_experiments;
         }
@@ -441,6 +506,8 @@ public class BulkJobStatus {
         private API_Response apis = new API_Response();
         private List<StatusHistory> status_history = new ArrayList<>();
         private Map<String, Notification> notifications;
+        // interval end time of the stored recommendations returned as they are, they keep the job which generated them
+        private String reused_interval_end_time;
 
         public Experiment(String name) {
             this.name = name;
@@ -495,6 +562,22 @@ public class BulkJobStatus {
         public void setStatus_history(List<StatusHistory> status_history) {
             this.status_history = status_history;
         }
+
+        public String getReused_interval_end_time() {
+            return reused_interval_end_time;
+        }
+
+        public void setReused_interval_end_time(String reused_interval_end_time) {
+            this.reused_interval_end_time = reused_interval_end_time;
+        }
+
+        /**
+         * Records that the stored recommendations of the experiment at the interval end time were returned to the
+         * job instead of being generated, they are listed with the recommendations of the job
+         */
+        public void recommendationsReused(Timestamp intervalEndTime) {
+            this.reused_interval_end_time = null == intervalEndTime ? null : formatInstantAsUTCString(intervalEndTime.toInstant());
+        }
     }
 
     public static class StatusHistory {
@@ -4,6 +4,7 @@ import com.autotune.analyzer.kruizeLayer.KruizeLayer;
 import com.autotune.analyzer.recommendations.ContainerRecommendations;
 import com.autotune.common.data.metrics.Metric;
 import com.autotune.utils.KruizeConstants;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.gson.annotations.SerializedName;
 
@@ -49,6 +50,7 @@ public class ContainerAPIObject {
         return metrics;
     }
 
+    @JsonIgnore
     public Map<String, KruizeLayer> getLayerMap() {
         return layerMap;
     }
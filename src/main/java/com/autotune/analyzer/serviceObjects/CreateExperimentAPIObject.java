@@ -23,6 +23,7 @@ import com.autotune.analyzer.utils.ExperimentTypeUtil;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.k8sObjects.TrialSettings;
 import com.autotune.utils.KruizeConstants;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 
@@ -151,6 +152,7 @@ public class CreateExperimentAPIObject extends BaseSO implements ExperimentTypeA
         this.experiment_id = experiment_id;
     }
 
+    @JsonIgnore
     public ValidationOutputData getValidationData() {
         return validationData;
     }
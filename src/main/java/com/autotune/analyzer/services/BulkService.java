@@ -25,10 +25,12 @@ import com.autotune.database.dao.ExperimentDAOImpl;
 import com.autotune.database.table.lm.KruizeBulkJobEntry;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.GenericRestApiClient;
+import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import io.micrometer.core.instrument.Timer;
@@ -62,6 +64,8 @@ public class BulkService extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(BulkService.class);
     private static Map<String, BulkJobStatus> jobStatusMap = new ConcurrentHashMap<>();
+    private static final ObjectMapper FILTER_MAPPER = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private static final Map<List<Set<String>>, ObjectWriter> FILTERED_WRITERS = new ConcurrentHashMap<>();
     private ExecutorService executorService = Executors.newFixedThreadPool(10);
 
     /**
@@ -79,11 +83,63 @@ public class BulkService extends HttpServlet {
      * @throws Exception If there is an error during JSON processing.
      */
     public static String filterJson(BulkJobStatus jsonInput, Set<String> includeFields, Set<String> excludeFields, String experiment_name) throws Exception {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        ObjectWriter writer = FILTER_MAPPER.writer(buildFilterProvider(includeFields, excludeFields));
+        jsonInput.copyByPattern(experiment_name);
+        synchronized (jsonInput) {
+            return writer.writeValueAsString(jsonInput);
+        }
+    }
+
+    /**
+     * Serializes the job with only the given experiment, the job itself is not modified.
+     * <p>
+     * The writers are cached per include/exclude filters, the Kafka publisher always uses the filters of the
+     * deployment config so the same writer is reused for every message.
+     *
+     * @param jobData        the bulk job
+     * @param includeFields  fields to include
+     * @param excludeFields  fields to exclude, used when includeFields is empty
+     * @param experimentName the experiment to include
+     */
+    public static String filterExperimentJson(BulkJobStatus jobData, Set<String> includeFields, Set<String> excludeFields, String experimentName) throws Exception {
+        return filteredWriter(includeFields, excludeFields).writeValueAsString(jobData.copyForExperiment(experimentName));
+    }
+
+    /**
+     * Same as {@link #filterExperimentJson(BulkJobStatus, Set, Set, String)} for several experiments, used to
+     * write the status of the experiments completed since the last write of the job
+     */
+    public static String filterExperimentsJson(BulkJobStatus jobData, Set<String> includeFields, Set<String> excludeFields, Collection<String> experimentNames) throws Exception {
+        return filteredWriter(includeFields, excludeFields).writeValueAsString(jobData.copyForExperiments(experimentNames));
+    }
+
+    private static ObjectWriter filteredWriter(Set<String> includeFields, Set<String> excludeFields) {
+        List<Set<String>> filterKey = List.of(
+                null == includeFields ? Set.of() : Set.copyOf(includeFields),
+                null == excludeFields ? Set.of() : Set.copyOf(excludeFields));
+        return FILTERED_WRITERS.computeIfAbsent(filterKey,
+                key -> FILTER_MAPPER.writer(buildFilterProvider(key.get(0), key.get(1))));
+    }
+
+    /**
+     * Parses a non-negative offset or limit query parameter
+     *
+     * @throws NumberFormatException if the value is not a non-negative integer
+     */
+    private static int parsePaginationParam(String value, int defaultValue) {
+        if (null == value || value.isBlank()) {
+            return defaultValue;
+        }
+        int parsed = Integer.parseInt(value.trim());
+        if (parsed < 0) {
+            throw new NumberFormatException(value);
+        }
+        return parsed;
+    }
+
+    private static SimpleFilterProvider buildFilterProvider(Set<String> includeFields, Set<String> excludeFields) {
         SimpleFilterProvider filters = new SimpleFilterProvider();
         try {
-            jsonInput.copyByPattern(experiment_name);
             if (!includeFields.isEmpty()) {
                 Set<String> jobFields = new HashSet<>();
                 for (String field : includeFields) {
@@ -118,18 +174,11 @@ public class BulkService extends HttpServlet {
                 LOGGER.debug("excludeFields : {}", excludeFields);
                 filters.addFilter(JOB_FILTER, SimpleBeanPropertyFilter.serializeAllExcept(excludeFields));
             }
-
-            // Assuming the input JSON has a filter identifier like @JsonFilter("dynamicFilter")
-            mapper.setFilterProvider(filters);
         } catch (Exception e) {
             LOGGER.error("Not able to filter experiments due to {}", e.getMessage());
             e.printStackTrace();
-        } finally {
-            synchronized (jsonInput) {
-                return mapper.writeValueAsString(jsonInput);
-            }
         }
-
+        return filters;
     }
 
     @Override
@@ -174,8 +223,26 @@ public class BulkService extends HttpServlet {
                 }
                 jobDetails = jobStatusMap.get(jobID);
             } else {
+                int experimentsOffset;
+                int experimentsLimit;
+                try {
+                    experimentsOffset = parsePaginationParam(req.getParameter(OFFSET), 0);
+                    experimentsLimit = parsePaginationParam(req.getParameter(LIMIT), Integer.MAX_VALUE);
+                } catch (NumberFormatException e) {
+                    sendErrorResponse(
+                            resp,
+                            null,
+                            HttpServletResponse.SC_BAD_REQUEST,
+                            INVALID_PAGINATION
+                    );
+                    return;
+                }
+                // the experiments are only loaded when they are part of the response
+                if (!includeFields.contains(EXPERIMENTS) && includeFields.stream().noneMatch(field -> field.startsWith(EXPERIMENTS + "|"))) {
+                    experimentsLimit = 0;
+                }
                 ExperimentDAO experimentDAO = new ExperimentDAOImpl();
-                KruizeBulkJobEntry kruizeBulkJobEntry = experimentDAO.findBulkJobById(jobID);
+                KruizeBulkJobEntry kruizeBulkJobEntry = experimentDAO.findBulkJobById(jobID, experiment_name, experimentsOffset, experimentsLimit);
                 if (null == kruizeBulkJobEntry) {
                     sendErrorResponse(
                             resp,
@@ -188,9 +255,8 @@ public class BulkService extends HttpServlet {
                     jobDetails = kruizeBulkJobEntry.getBulkJobStatus();
 
                     GenericRestApiClient recommendationApiClient = new GenericRestApiClient();
-                    String listRecommendationsURL = String.format(
-                            KruizeDeploymentInfo.recommendations_url.replaceAll("generateRecommendations.*", "listRecommendations") + "?" + JOB_ID
-                                    + "=%s", jobID);
+                    String listRecommendationsBaseURL = KruizeDeploymentInfo.recommendations_url.replaceAll("generateRecommendations.*", "listRecommendations");
+                    String listRecommendationsURL = String.format(listRecommendationsBaseURL + "?" + JOB_ID + "=%s", jobID);
                     if (experiment_name != null && !experiment_name.equals("")) {
                         String encodedExperimentName = URLEncoder.encode(experiment_name, StandardCharsets.UTF_8);
                         listRecommendationsURL = listRecommendationsURL + "&experiment_name=" + encodedExperimentName;
@@ -210,6 +276,7 @@ public class BulkService extends HttpServlet {
                         }
                         if (!includeFields.isEmpty() && includeFields.contains("experiments")) {
                             if (jobDetails != null && jobDetails.getExperimentMap() != null) {
+                                addReusedRecommendations(jobDetails, listRecommendationsBaseURL, recommendationResponse, objectMapper);
                                 jobDetails.getExperimentMap().forEach(
                                         (experimentName, experiment) -> {
                                             BulkJobStatus.GenerateRecommendationsAPIResponse bresp =
@@ -262,6 +329,38 @@ public class BulkService extends HttpServlet {
         }
     }
 
+    /**
+     * Adds the recommendations of the experiments which returned their stored recommendations to the job instead of
+     * generating them. These recommendations keep the job which generated them, so they are not listed by the job
+     * id and are looked up by the interval end time recorded in the status of the experiment.
+     */
+    private static void addReusedRecommendations(BulkJobStatus jobDetails, String listRecommendationsBaseURL,
+                                                 Map<String, JsonNode> recommendationResponse, ObjectMapper objectMapper) {
+        for (BulkJobStatus.Experiment experiment : jobDetails.getExperimentMap().values()) {
+            String reusedIntervalEndTime = experiment.getReused_interval_end_time();
+            if (null == reusedIntervalEndTime || recommendationResponse.containsKey(experiment.getName())) {
+                continue;
+            }
+            try {
+                GenericRestApiClient recommendationApiClient = new GenericRestApiClient();
+                recommendationApiClient.setBaseURL(listRecommendationsBaseURL
+                        + "?experiment_name=" + URLEncoder.encode(experiment.getName(), StandardCharsets.UTF_8)
+                        + "&" + KruizeConstants.JSONKeys.MONITORING_END_TIME + "=" + URLEncoder.encode(reusedIntervalEndTime, StandardCharsets.UTF_8));
+                GenericRestApiClient.HttpResponseWrapper reusedResponse = recommendationApiClient.getKruizeAPI(null);
+                if (null == reusedResponse || HttpServletResponse.SC_OK != reusedResponse.getStatusCode()) {
+                    LOGGER.warn("Not able to fetch the reused recommendations of {} at {}", experiment.getName(), reusedIntervalEndTime);
+                    continue;
+                }
+                for (JsonNode node : objectMapper.readTree(reusedResponse.getResponseBody().toString())) {
+                    recommendationResponse.put(experiment.getName(), node);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Not able to fetch the reused recommendations of {} at {} due to {}", experiment.getName(),
+                        reusedIntervalEndTime, e.getMessage());
+            }
+        }
+    }
+
     /**
      * @param request
      * @param response
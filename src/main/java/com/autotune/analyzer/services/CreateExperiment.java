@@ -16,10 +16,7 @@
 
 package com.autotune.analyzer.services;
 
-import com.autotune.analyzer.exceptions.BulkNotSupportedException;
-import com.autotune.analyzer.exceptions.InvalidExperimentType;
 import com.autotune.analyzer.exceptions.KruizeResponse;
-import com.autotune.analyzer.experiment.ExperimentInitiator;
 import com.autotune.analyzer.kruizeLayer.KruizeLayer;
 import com.autotune.analyzer.kruizeLayer.utils.LayerUtils;
 import com.autotune.analyzer.kruizeObject.KruizeObject;
@@ -29,17 +26,14 @@ import com.autotune.analyzer.serviceObjects.CreateExperimentAPIObject;
 import com.autotune.analyzer.serviceObjects.KubernetesAPIObject;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
-import com.autotune.analyzer.utils.ServiceHelpers;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.database.dao.ExperimentDAO;
 import com.autotune.database.dao.ExperimentDAOImpl;
 import com.autotune.database.service.ExperimentDBService;
-import com.autotune.utils.MetricsConfig;
 import com.autotune.utils.Utils;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
-import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,9 +69,9 @@ public class CreateExperiment extends HttpServlet {
     }
 
     /**
-     * It reads the input data from the request, converts it into a List of "KruizeObject" objects using the GSON library.
-     * It then calls the validateAndAddNewExperiments method of the "ExperimentInitiator" class, passing in the mainKruizeExperimentMap and kruizeExpList as arguments.
-     * If the validateAndAddNewExperiments method returns an ValidationOutputData object with the success flag set to true, it sends a success response to the client with a message "Experiment registered successfully with Kruize."
+     * It reads the input data from the request, converts it into a List of "CreateExperimentAPIObject" objects using the GSON library.
+     * It then calls KruizeAPIService.createExperiments which validates the experiments and adds them to the DB.
+     * If the experiments are registered, it sends a success response to the client with a message "Experiment registered successfully with Kruize."
      * Otherwise, it sends an error response to the client with the appropriate error message.
      * If an exception is thrown, it prints the stack trace and sends an error response to the client with the appropriate error message.
      *
@@ -89,9 +83,6 @@ public class CreateExperiment extends HttpServlet {
 
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
-        String statusValue = "failure";
-        Timer.Sample timerCreateExp = Timer.start(MetricsConfig.meterRegistry());
-        Map<String, KruizeObject> mKruizeExperimentMap = new ConcurrentHashMap<String, KruizeObject>();
         String inputData = "";
         try {
             // Set the character encoding of the request to UTF-8
@@ -101,56 +92,18 @@ public class CreateExperiment extends HttpServlet {
                     new Gson().fromJson(inputData, CreateExperimentAPIObject[].class)
             );
 
-            // check for bulk entries and respond accordingly
-            ServiceHelpers.checkForBulk(createExperimentAPIObjects);
-
-            List<KruizeObject> kruizeExpList = ServiceHelpers.normalizeAndValidateExperimentTypes(
-                    createExperimentAPIObjects
-            );
-
-            new ExperimentInitiator().validateAndAddNewExperiments(mKruizeExperimentMap, kruizeExpList);
-            //TODO: UX needs to be modified - Handle response for the multiple objects
-            KruizeObject invalidKruizeObject = kruizeExpList.stream().filter((ko) -> (!ko.getValidation_data().isSuccess())).findAny().orElse(null);
-            if (null == invalidKruizeObject) {
-                ValidationOutputData addedToDB = null;  // TODO savetoDB should move to queue and bulk upload not considered here
-                for (KruizeObject ko : kruizeExpList) {
-                    CreateExperimentAPIObject validAPIObj = createExperimentAPIObjects.stream()
-                            .filter(createObj -> ko.getExperimentName().equals(createObj.getExperimentName()))
-                            .findAny()
-                            .orElse(null);
-                    if (null != validAPIObj)
-                        validAPIObj.setValidationData(ko.getValidation_data());
-
-                    // Detect layers only if it's local monitoring container experiment.
-                    if (null != validAPIObj && ko.getTarget_cluster().equalsIgnoreCase(AnalyzerConstants.LOCAL) && validAPIObj.isContainerExperiment()) {
-                        ServiceHelpers.detectLayers(validAPIObj);
-                    }
-                    addedToDB = new ExperimentDBService().addExperimentToDB(validAPIObj);
-                }
-                if (addedToDB.isSuccess()) {
-                    sendSuccessResponse(response, "Experiment registered successfully with Kruize.");
-                    statusValue = "success";
-                } else {
-                    sendErrorResponse(inputData, response, null, HttpServletResponse.SC_BAD_REQUEST, addedToDB.getMessage());
-                }
+            KruizeResponse kruizeResponse = KruizeAPIService.createExperiments(createExperimentAPIObjects);
+            if (kruizeResponse.getHttpcode() == HttpServletResponse.SC_CREATED) {
+                sendSuccessResponse(response, kruizeResponse);
             } else {
-                sendErrorResponse(inputData, response, null, invalidKruizeObject.getValidation_data().getErrorCode(), invalidKruizeObject.getValidation_data().getMessage());
+                sendErrorResponse(inputData, response, null, kruizeResponse.getHttpcode(), kruizeResponse.getMessage());
             }
-
-        } catch (BulkNotSupportedException e) {
-            LOGGER.error(AnalyzerErrorConstants.AutotuneObjectErrors.UNSUPPORTED_EXPERIMENT);
-            sendErrorResponse(inputData, response, null, HttpServletResponse.SC_BAD_REQUEST, AnalyzerErrorConstants.AutotuneObjectErrors.UNSUPPORTED_EXPERIMENT);
-        } catch (InvalidExperimentType | JsonParseException e) {
+        } catch (JsonParseException e) {
             sendErrorResponse(inputData, response, null, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             LOGGER.error("Unknown exception caught: " + e.getMessage());
             sendErrorResponse(inputData, response, e, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Internal Server Error: " + e.getMessage());
-        } finally {
-            if (null != timerCreateExp) {
-                MetricsConfig.timerCreateExp = MetricsConfig.timerBCreateExp.tag("status", statusValue).register(MetricsConfig.meterRegistry());
-                timerCreateExp.stop(MetricsConfig.timerCreateExp);
-            }
         }
     }
 
@@ -214,15 +167,17 @@ public class CreateExperiment extends HttpServlet {
     }
 
     private void sendSuccessResponse(HttpServletResponse response, String message) throws IOException {
+        sendSuccessResponse(response,
+                new KruizeResponse(message + " View registered experiments at /listExperiments", HttpServletResponse.SC_CREATED, "", "SUCCESS")
+        );
+    }
+
+    private void sendSuccessResponse(HttpServletResponse response, KruizeResponse kruizeResponse) throws IOException {
         response.setContentType(JSON_CONTENT_TYPE);
         response.setCharacterEncoding(CHARACTER_ENCODING);
         response.setStatus(HttpServletResponse.SC_CREATED);
         PrintWriter out = response.getWriter();
-        out.append(
-                new Gson().toJson(
-                        new KruizeResponse(message + " View registered experiments at /listExperiments", HttpServletResponse.SC_CREATED, "", "SUCCESS")
-                )
-        );
+        out.append(new Gson().toJson(kruizeResponse));
         out.flush();
     }
 
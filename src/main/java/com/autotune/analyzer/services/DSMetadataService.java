@@ -174,10 +174,8 @@ public class DSMetadataService extends HttpServlet {
                 }
 
                 try {
-                    // fetch and delete metadata from database
-                    dataSourceManager.deleteMetadataFromDBByDataSource(datasource);
-                    // add imported metadata to database
-                    dataSourceManager.addMetadataToDB(metadataInfo);
+                    // replace the metadata in database with the imported metadata, writing only the changed rows
+                    dataSourceManager.updateMetadataInDB(metadataInfo);
                 } catch (Exception e) {
                     sendErrorResponse(inputData, response, e, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
                     return;
@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.services;
+
+import com.autotune.analyzer.adapters.DeviceDetailsAdapter;
+import com.autotune.analyzer.adapters.RecommendationItemAdapter;
+import com.autotune.analyzer.exceptions.BulkNotSupportedException;
+import com.autotune.analyzer.exceptions.FetchMetricsError;
+import com.autotune.analyzer.exceptions.InvalidExperimentType;
+import com.autotune.analyzer.exceptions.KruizeResponse;
+import com.autotune.analyzer.experiment.ExperimentInitiator;
+import com.autotune.analyzer.kruizeLayer.utils.LayerDetectionIndex;
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.recommendations.engine.RecommendationEngine;
+import com.autotune.analyzer.serviceObjects.ContainerAPIObject;
+import com.autotune.analyzer.serviceObjects.Converters;
+import com.autotune.analyzer.serviceObjects.CreateExperimentAPIObject;
+import com.autotune.analyzer.serviceObjects.ListRecommendationsAPIObject;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.analyzer.utils.GsonUTCDateAdapter;
+import com.autotune.analyzer.utils.ServiceHelpers;
+import com.autotune.common.data.ValidationOutputData;
+import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.data.system.info.device.DeviceDetails;
+import com.autotune.database.service.ExperimentDBService;
+import com.autotune.utils.KruizeConstants;
+import com.autotune.utils.MetricsConfig;
+import com.autotune.utils.Utils;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.http.HttpServletResponse;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process entry points of the createExperiment and generateRecommendations APIs.
+ * <p>
+ * The servlets decode the request and encode the result, the bulk job calls these methods directly
+ * so that it neither goes through the servlet dispatch nor JSON encodes the objects it already has.
+ */
+public class KruizeAPIService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KruizeAPIService.class);
+    private static final AtomicInteger recommendationRequestCount = new AtomicInteger();
+    private static final String SUCCESS = "SUCCESS";
+    private static final String ERROR = "ERROR";
+
+    private KruizeAPIService() {
+    }
+
+    /**
+     * Validates and stores the experiments
+     *
+     * @param createExperimentAPIObjects experiments to be created
+     * @return KruizeResponse with httpcode 201 if the experiments are registered, otherwise the error code and message
+     */
+    public static KruizeResponse createExperiments(List<CreateExperimentAPIObject> createExperimentAPIObjects) {
+        return createExperiments(createExperimentAPIObjects, null);
+    }
+
+    /**
+     * Validates and stores the experiments
+     *
+     * @param createExperimentAPIObjects experiments to be created
+     * @param layerDetectionIndex        index the layers of the containers are looked up in, null to detect them
+     *                                   per container
+     * @return KruizeResponse with httpcode 201 if the experiments are registered, otherwise the error code and message
+     */
+    public static KruizeResponse createExperiments(List<CreateExperimentAPIObject> createExperimentAPIObjects,
+                                                   LayerDetectionIndex layerDetectionIndex) {
+        String statusValue = "failure";
+        Timer.Sample timerCreateExp = Timer.start(MetricsConfig.meterRegistry());
+        Map<String, KruizeObject> mKruizeExperimentMap = new ConcurrentHashMap<String, KruizeObject>();
+        try {
+            // check for bulk entries and respond accordingly
+            ServiceHelpers.checkForBulk(createExperimentAPIObjects);
+
+            List<KruizeObject> kruizeExpList = ServiceHelpers.normalizeAndValidateExperimentTypes(
+                    createExperimentAPIObjects
+            );
+
+            new ExperimentInitiator().validateAndAddNewExperiments(mKruizeExperimentMap, kruizeExpList);
+            //TODO: UX needs to be modified - Handle response for the multiple objects
+            KruizeObject invalidKruizeObject = kruizeExpList.stream().filter((ko) -> (!ko.getValidation_data().isSuccess())).findAny().orElse(null);
+            if (null != invalidKruizeObject) {
+                return errorResponse(invalidKruizeObject.getValidation_data().getErrorCode(), invalidKruizeObject.getValidation_data().getMessage());
+            }
+            ValidationOutputData addedToDB = null;  // TODO savetoDB should move to queue and bulk upload not considered here
+            for (KruizeObject ko : kruizeExpList) {
+                CreateExperimentAPIObject validAPIObj = createExperimentAPIObjects.stream()
+                        .filter(createObj -> ko.getExperimentName().equals(createObj.getExperimentName()))
+                        .findAny()
+                        .orElse(null);
+                if (null != validAPIObj)
+                    validAPIObj.setValidationData(ko.getValidation_data());
+
+                // Detect layers only if it's local monitoring container experiment.
+                if (null != validAPIObj && ko.getTarget_cluster().equalsIgnoreCase(AnalyzerConstants.LOCAL) && validAPIObj.isContainerExperiment()) {
+                    ServiceHelpers.detectLayers(validAPIObj, layerDetectionIndex);
+                }
+                addedToDB = new ExperimentDBService().addExperimentToDB(validAPIObj);
+            }
+            if (!addedToDB.isSuccess()) {
+                return errorResponse(HttpServletResponse.SC_BAD_REQUEST, addedToDB.getMessage());
+            }
+            statusValue = "success";
+            return new KruizeResponse("Experiment registered successfully with Kruize. View registered experiments at /listExperiments",
+                    HttpServletResponse.SC_CREATED, "", SUCCESS);
+        } catch (BulkNotSupportedException e) {
+            LOGGER.error(AnalyzerErrorConstants.AutotuneObjectErrors.UNSUPPORTED_EXPERIMENT);
+            return errorResponse(HttpServletResponse.SC_BAD_REQUEST, AnalyzerErrorConstants.AutotuneObjectErrors.UNSUPPORTED_EXPERIMENT);
+        } catch (InvalidExperimentType | JsonParseException e) {
+            return errorResponse(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            LOGGER.error("Unknown exception caught: " + e.getMessage());
+            return errorResponse(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Internal Server Error: " + e.getMessage());
+        } finally {
+            if (null != timerCreateExp) {
+                MetricsConfig.timerCreateExp = MetricsConfig.timerBCreateExp.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerCreateExp.stop(MetricsConfig.timerCreateExp);
+            }
+        }
+    }
+
+    /**
+     * Generates the recommendations of an experiment
+     *
+     * @param experimentName       name of the experiment
+     * @param intervalEndTimeStr   interval end time, null to use the latest data available
+     * @param intervalStartTimeStr interval start time, can be null
+     * @param bulkJobID            id of the bulk job generating the recommendations, null otherwise
+     * @return GenerateRecommendationsResult holding either the recommendations or the error code and message
+     */
+    public static GenerateRecommendationsResult generateRecommendations(String experimentName, String intervalEndTimeStr,
+                                                                        String intervalStartTimeStr, String bulkJobID) {
+        return generateRecommendations(experimentName, intervalEndTimeStr, intervalStartTimeStr, bulkJobID, false);
+    }
+
+    /**
+     * Generates the recommendations of an experiment
+     *
+     * @param experimentName       name of the experiment
+     * @param intervalEndTimeStr   interval end time, null to use the latest data available
+     * @param intervalStartTimeStr interval start time, can be null
+     * @param bulkJobID            id of the bulk job generating the recommendations, null otherwise
+     * @param force                generate the recommendations even if no new data is available since the latest ones
+     * @return GenerateRecommendationsResult holding either the recommendations or the error code and message
+     */
+    public static GenerateRecommendationsResult generateRecommendations(String experimentName, String intervalEndTimeStr,
+                                                                        String intervalStartTimeStr, String bulkJobID,
+                                                                        boolean force) {
+        int calCount = recommendationRequestCount.incrementAndGet();
+        LOGGER.debug("GenerateRecommendations API request count: {}", calCount);
+        String statusValue = "failure";
+        Timer.Sample timerBUpdateRecommendations = Timer.start(MetricsConfig.meterRegistry());
+        try {
+            // create recommendation engine object
+            RecommendationEngine recommendationEngine = new RecommendationEngine(experimentName, intervalEndTimeStr, intervalStartTimeStr);
+            recommendationEngine.setForce(force);
+            // validate and create KruizeObject if successful
+            String validationMessage = recommendationEngine.validate_local();
+            if (!validationMessage.isEmpty()) {
+                LOGGER.error("Validation failed: {}", validationMessage);
+                return GenerateRecommendationsResult.error(HttpServletResponse.SC_BAD_REQUEST, validationMessage);
+            }
+            KruizeObject kruizeObject = recommendationEngine.prepareRecommendations(calCount, AnalyzerConstants.LOCAL, bulkJobID);   // todo target cluster is set to LOCAL always
+            if (!kruizeObject.getValidation_data().isSuccess()) {
+                LOGGER.debug("UpdateRecommendations API request count: {} failed", calCount);
+                return GenerateRecommendationsResult.error(kruizeObject.getValidation_data().getErrorCode(), kruizeObject.getValidation_data().getMessage());
+            }
+            LOGGER.debug("UpdateRecommendations API request count: {} success", calCount);
+            Timestamp interval_end_time = Utils.DateUtils.getTimeStampFrom(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT,
+                    intervalEndTimeStr);
+            statusValue = "success";
+            return GenerateRecommendationsResult.success(convertToRecommendationList(kruizeObject, interval_end_time),
+                    recommendationEngine.isRecommendationsReused() ? recommendationEngine.getInterval_end_time() : null);
+        } catch (FetchMetricsError e) {
+            LOGGER.error(AnalyzerErrorConstants.APIErrors.generateRecommendationsAPI.ERROR_FETCHING_METRICS);
+            LOGGER.error(e.toString());
+            return GenerateRecommendationsResult.error(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            LOGGER.error("Exception occurred while processing request: " + e.getMessage());
+            e.printStackTrace();
+            return GenerateRecommendationsResult.error(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+        } finally {
+            if (timerBUpdateRecommendations != null) {
+                MetricsConfig.timerUpdateRecomendations = MetricsConfig.timerBUpdateRecommendations.tag(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.STATUS, statusValue).register(MetricsConfig.meterRegistry());
+                timerBUpdateRecommendations.stop(MetricsConfig.timerUpdateRecomendations);
+            }
+        }
+    }
+
+    /**
+     * Gson used to encode the generateRecommendations response, the metric results of the containers are skipped
+     */
+    public static Gson getRecommendationsGson() {
+        ExclusionStrategy strategy = new ExclusionStrategy() {
+            @Override
+            public boolean shouldSkipField(FieldAttributes field) {
+                return field.getDeclaringClass() == ContainerData.class && (field.getName().equals("results"))
+                        || (field.getDeclaringClass() == ContainerAPIObject.class && (field.getName().equals("metrics")));
+            }
+
+            @Override
+            public boolean shouldSkipClass(Class<?> clazz) {
+                return false;
+            }
+        };
+        return new GsonBuilder()
+                .disableHtmlEscaping()
+                .setPrettyPrinting()
+                .enableComplexMapKeySerialization()
+                .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
+                .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
+                .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
+                .setExclusionStrategies(strategy)
+                .create();
+    }
+
+    private static List<ListRecommendationsAPIObject> convertToRecommendationList(KruizeObject ko, Timestamp interval_end_time) {
+        List<ListRecommendationsAPIObject> recommendationList = new ArrayList<>();              //TODO: Executing two identical SQL SELECT queries against the database instead of just one is causing a performance issue. set 'showSQL' flag is set to true to debug.
+        try {
+            ListRecommendationsAPIObject listRecommendationsAPIObject = Converters.KruizeObjectConverters.
+                    convertKruizeObjectToListRecommendationSO(
+                            ko,
+                            false,
+                            false,
+                            interval_end_time);
+            recommendationList.add(listRecommendationsAPIObject);
+        } catch (Exception e) {
+            LOGGER.error("Not able to generate recommendation for expName : {} due to {}", ko.getExperimentName(), e.getMessage());
+        }
+        return recommendationList;
+    }
+
+    private static KruizeResponse errorResponse(int httpcode, String message) {
+        return new KruizeResponse(message, httpcode, "", ERROR);
+    }
+
+    /**
+     * Outcome of generateRecommendations, either the recommendations or the error to report
+     */
+    public static class GenerateRecommendationsResult {
+        private final int httpcode;
+        private final String message;
+        private final List<ListRecommendationsAPIObject> recommendations;
+        private final Timestamp reusedIntervalEndTime;
+
+        private GenerateRecommendationsResult(int httpcode, String message, List<ListRecommendationsAPIObject> recommendations,
+                                              Timestamp reusedIntervalEndTime) {
+            this.httpcode = httpcode;
+            this.message = message;
+            this.recommendations = recommendations;
+            this.reusedIntervalEndTime = reusedIntervalEndTime;
+        }
+
+        static GenerateRecommendationsResult success(List<ListRecommendationsAPIObject> recommendations, Timestamp reusedIntervalEndTime) {
+            return new GenerateRecommendationsResult(HttpServletResponse.SC_CREATED, null, recommendations, reusedIntervalEndTime);
+        }
+
+        static GenerateRecommendationsResult error(int httpcode, String message) {
+            return new GenerateRecommendationsResult(httpcode, message, null, null);
+        }
+
+        public boolean isSuccess() {
+            return httpcode == HttpServletResponse.SC_CREATED;
+        }
+
+        public int getHttpcode() {
+            return httpcode;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public List<ListRecommendationsAPIObject> getRecommendations() {
+            return recommendations;
+        }
+
+        /**
+         * Interval end time of the stored recommendations returned as they are, null if they were generated
+         */
+        public Timestamp getReusedIntervalEndTime() {
+            return reusedIntervalEndTime;
+        }
+
+        /**
+         * Error in the form returned by the REST API
+         */
+        public KruizeResponse toKruizeResponse() {
+            return errorResponse(httpcode, message);
+        }
+    }
+}
@@ -19,9 +19,11 @@ package com.autotune.analyzer.services;
 import com.autotune.analyzer.exceptions.MonitoringAgentNotSupportedException;
 import com.autotune.analyzer.kruizeLayer.KruizeLayer;
 import com.autotune.analyzer.kruizeLayer.LayerValidation;
+import com.autotune.analyzer.kruizeLayer.utils.LayerRegistry;
 import com.autotune.analyzer.serviceObjects.Converters;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.common.data.ValidationOutputData;
+import com.autotune.database.dao.ExperimentDAO;
 import com.autotune.database.dao.ExperimentDAOImpl;
 import com.autotune.database.helper.DBHelpers;
 import com.autotune.database.table.lm.KruizeLMLayerEntry;
@@ -57,6 +59,15 @@ public class LayerService extends HttpServlet {
     @Serial
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(LayerService.class);
+    private final transient ExperimentDAO experimentDAO;
+
+    public LayerService() {
+        this(new ExperimentDAOImpl());
+    }
+
+    LayerService(ExperimentDAO experimentDAO) {
+        this.experimentDAO = experimentDAO;
+    }
 
     /**
      * Create a new Layer
@@ -82,7 +93,6 @@ public class LayerService extends HttpServlet {
             }
 
             // Validate that layer doesn't already exist
-            ExperimentDAOImpl experimentDAO = new ExperimentDAOImpl();
             List<KruizeLMLayerEntry> existingLayers = experimentDAO.loadLayerByName(kruizeLayer.getLayerName());
 
             if (existingLayers != null && !existingLayers.isEmpty()) {
@@ -98,6 +108,7 @@ public class LayerService extends HttpServlet {
             ValidationOutputData addedToDB = experimentDAO.addLayerToDB(layerEntry);
 
             if (addedToDB.isSuccess()) {
+                LayerRegistry.getInstance().invalidate();
                 LOGGER.debug(KruizeConstants.LayerAPIMessages.ADD_LAYER_TO_DB, kruizeLayer.getLayerName());
                 sendSuccessResponse(response, String.format(KruizeConstants.LayerAPIMessages.CREATE_LAYER_SUCCESS_MSG, kruizeLayer.getLayerName()));
             } else {
@@ -148,7 +159,6 @@ public class LayerService extends HttpServlet {
         try {
             if (invalidParams.isEmpty()) {
                 List<KruizeLMLayerEntry> layerEntries = new ArrayList<>();
-                ExperimentDAOImpl experimentDAO = new ExperimentDAOImpl();
 
                 try {
                     if (null != layerName && !layerName.isEmpty()) {
@@ -23,6 +23,7 @@ import com.autotune.analyzer.serviceObjects.*;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.analyzer.utils.GsonUTCDateAdapter;
+import com.autotune.analyzer.utils.ServiceHelpers;
 import com.autotune.common.data.metrics.Metric;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.ContainerData;
@@ -33,10 +34,12 @@ import com.autotune.common.k8sObjects.K8sObject;
 import com.autotune.common.target.kubernetes.service.KubernetesServices;
 import com.autotune.common.trials.ExperimentTrial;
 import com.autotune.database.service.ExperimentDBService;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.KruizeSupportedTypes;
 import com.autotune.utils.MetricsConfig;
 import com.google.gson.*;
+import com.google.gson.stream.JsonWriter;
 import io.micrometer.core.instrument.Timer;
 import org.json.JSONArray;
 import org.slf4j.Logger;
@@ -129,6 +132,7 @@ public class ListExperiments extends HttpServlet {
         boolean isJSONValid = true;
         Map<String, KruizeObject> mKruizeExperimentMap = new ConcurrentHashMap<>();
         boolean error = false;
+        boolean pagedResponse = false;
         boolean rmTable = false;
         // validate Query params
         Set<String> invalidParams = new HashSet<>();
@@ -173,6 +177,23 @@ public class ListExperiments extends HttpServlet {
                                 } catch (Exception e) {
                                     LOGGER.error("Failed to load saved experiment data: {} ", e.getMessage());
                                 }
+                            } else if (experimentName == null || experimentName.isEmpty()) {
+                                // all the experiments, they are read and written page by page
+                                pagedResponse = true;
+                                Integer limit = ServiceHelpers.parsePageLimit(request.getParameter(PAGE_LIMIT));
+                                if (null == limit) {
+                                    error = true;
+                                    sendErrorResponse(
+                                            response,
+                                            new Exception(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_QUERY_PARAM_VALUE),
+                                            HttpServletResponse.SC_BAD_REQUEST,
+                                            String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_LIMIT_MSG, request.getParameter(PAGE_LIMIT))
+                                    );
+                                } else {
+                                    streamExperiments(response, results, recommendations, latest, rmTable, request.getParameter(PAGE_AFTER),
+                                            limit, request.getParameter(CLUSTER_NAME), request.getParameter(NAMESPACE));
+                                    statusValue = "success";
+                                }
                             } else {
                                 // Fetch experiments data from the DB and check if the requested experiment exists
                                 if (rmTable) {
@@ -191,7 +212,7 @@ public class ListExperiments extends HttpServlet {
                                         String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_EXPERIMENT_NAME_MSG, experimentName)
                                 );
                             }
-                            if (!error) {
+                            if (!error && !pagedResponse) {
                                 // create Gson Object
                                 Gson gsonObj = createGsonObject();
 
@@ -367,54 +388,102 @@ public class ListExperiments extends HttpServlet {
 
     private String buildResponseBasedOnQuery(Map<String, KruizeObject> mKruizeExperimentMap, Gson gsonObj, String results,
                                              String recommendations, String latest, String experimentName, boolean rmTable) {
+        try {
+            applyQueryParams(mKruizeExperimentMap, results, recommendations, latest, experimentName, rmTable);
+            return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
+        } catch (Exception e) {
+            LOGGER.error("Exception occurred while building response: {}", e.getMessage());
+            return "";
+        }
+    }
+
+    /**
+     * Loads the results and recommendations requested by the query params into the experiments of the map
+     */
+    private void applyQueryParams(Map<String, KruizeObject> mKruizeExperimentMap, String results, String recommendations,
+                                  String latest, String experimentName, boolean rmTable) {
         // Case : default
         // return the response without results or recommendations
         if (results.equalsIgnoreCase(AnalyzerConstants.BooleanString.FALSE) && recommendations.equalsIgnoreCase(AnalyzerConstants.BooleanString.FALSE)) {
             modifyJSONResponse(mKruizeExperimentMap, KruizeConstants.JSONKeys.RECOMMENDATIONS);
-            return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
+        } else if (results.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE) && recommendations.equalsIgnoreCase(
+                AnalyzerConstants.BooleanString.TRUE)) {
+            // Case: results=true , recommendations=true
+            // fetch results and recomm. from the DB
+            loadRecommendations(mKruizeExperimentMap, experimentName, rmTable);
+            buildRecommendationsResponse(mKruizeExperimentMap, latest);
+            loadResults(mKruizeExperimentMap, experimentName);
+
+            // filter the latest results when latest = true, else return all
+            if (latest.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
+                getLatestResults(mKruizeExperimentMap);
+            }
+            checkPercentileInfo(mKruizeExperimentMap);
+        } else if (results.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
+            // Case: results=true , recommendations=false
+            loadResults(mKruizeExperimentMap, experimentName);
+            checkPercentileInfo(mKruizeExperimentMap);
+            // filter the latest results when latest = true, else return all
+            if (latest.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
+                getLatestResults(mKruizeExperimentMap);
+            }
+            modifyJSONResponse(mKruizeExperimentMap, KruizeConstants.JSONKeys.RECOMMENDATIONS);
         } else {
+            // Case: results=false , recommendations=true
+            loadRecommendations(mKruizeExperimentMap, experimentName, rmTable);
+            buildRecommendationsResponse(mKruizeExperimentMap, latest);
+        }
+    }
+
+    /**
+     * Writes the experiments to the response as they are read, one page of experiments at a time, so that the
+     * memory used does not grow with the number of experiments. The results and recommendations are loaded per
+     * page as well.
+     *
+     * @param afterExperimentName only the experiments whose name sorts after it are listed, null for all of them
+     * @param limit               maximum number of experiments to list
+     */
+    private void streamExperiments(HttpServletResponse response, String results, String recommendations, String latest,
+                                   boolean rmTable, String afterExperimentName, int limit, String clusterName,
+                                   String namespace) throws Exception {
+        ExperimentDBService experimentDBService = new ExperimentDBService();
+        Gson gsonObj = createGsonObject();
+        JsonWriter jsonWriter = gsonObj.newJsonWriter(response.getWriter());
+        jsonWriter.beginArray();
+        String cursor = afterExperimentName;
+        int remaining = limit;
+        while (remaining > 0) {
+            int pageSize = Math.min(remaining, Math.max(1, KruizeDeploymentInfo.list_api_page_size));
+            Map<String, KruizeObject> page = new LinkedHashMap<>();
+            List<String> experimentNames = experimentDBService.loadExperimentsPage(page, cursor, pageSize, clusterName, namespace, rmTable);
+            if (experimentNames.isEmpty()) {
+                break;
+            }
             try {
-                if (results.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE) && recommendations.equalsIgnoreCase(
-                        AnalyzerConstants.BooleanString.TRUE)) {
-                    // Case: results=true , recommendations=true
-                    // fetch results and recomm. from the DB
-                    loadRecommendations(mKruizeExperimentMap, experimentName, rmTable);
-                    buildRecommendationsResponse(mKruizeExperimentMap, latest);
-                    loadResults(mKruizeExperimentMap, experimentName);
-
-                    // filter the latest results when latest = true, else return all
-                    if (latest.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
-                        getLatestResults(mKruizeExperimentMap);
-                    }
-                    checkPercentileInfo(mKruizeExperimentMap);
-                    return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
-                } else if (results.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
-                    // Case: results=true , recommendations=false
-                    loadResults(mKruizeExperimentMap, experimentName);
-                    checkPercentileInfo(mKruizeExperimentMap);
-                    // filter the latest results when latest = true, else return all
-                    if (latest.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
-                        getLatestResults(mKruizeExperimentMap);
-                    }
-                    modifyJSONResponse(mKruizeExperimentMap, KruizeConstants.JSONKeys.RECOMMENDATIONS);
-                    return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
-                } else {
-                    // Case: results=false , recommendations=true
-                    loadRecommendations(mKruizeExperimentMap, experimentName, rmTable);
-                    buildRecommendationsResponse(mKruizeExperimentMap, latest);
-                    return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
-                }
+                applyQueryParams(page, results, recommendations, latest, null, rmTable);
             } catch (Exception e) {
                 LOGGER.error("Exception occurred while building response: {}", e.getMessage());
-                return "";
+            }
+            for (KruizeObject kruizeObject : page.values()) {
+                gsonObj.toJson(kruizeObject, KruizeObject.class, jsonWriter);
+            }
+            jsonWriter.flush();
+            remaining -= experimentNames.size();
+            cursor = experimentNames.get(experimentNames.size() - 1);
+            if (experimentNames.size() < pageSize) {
+                break;
             }
         }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+        response.getWriter().println();
+        response.getWriter().close();
     }
 
     private void loadResults(Map<String, KruizeObject> mKruizeExperimentMap, String experimentName) {
         try {
             if (experimentName == null || experimentName.isEmpty())
-                new ExperimentDBService().loadAllResults(mKruizeExperimentMap);
+                new ExperimentDBService().loadResultsForExperiments(mKruizeExperimentMap);
             else
                 new ExperimentDBService().loadResultsFromDBByName(mKruizeExperimentMap, experimentName, null, null);
 
@@ -427,12 +496,12 @@ public class ListExperiments extends HttpServlet {
         try {
             if (rmTable) {
                 if (experimentName == null || experimentName.isEmpty())
-                    new ExperimentDBService().loadAllRecommendations(mKruizeExperimentMap);
+                    new ExperimentDBService().loadRecommendationsForExperiments(mKruizeExperimentMap, true, null);
                 else
                     new ExperimentDBService().loadRecommendationsFromDBByName(mKruizeExperimentMap, experimentName);
             } else {
                 if (experimentName == null || experimentName.isEmpty())
-                    new ExperimentDBService().loadAllLMRecommendations(mKruizeExperimentMap, null);
+                    new ExperimentDBService().loadRecommendationsForExperiments(mKruizeExperimentMap, false, null);
                 else
                     new ExperimentDBService().loadLMRecommendationsFromDBByName(mKruizeExperimentMap, experimentName, null);
             }
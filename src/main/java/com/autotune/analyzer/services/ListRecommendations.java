@@ -30,6 +30,7 @@ import com.autotune.analyzer.utils.ServiceHelpers;
 import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.data.system.info.device.DeviceDetails;
 import com.autotune.database.service.ExperimentDBService;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
 import com.autotune.utils.Utils;
@@ -37,6 +38,7 @@ import com.google.gson.ExclusionStrategy;
 import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +54,7 @@ import java.io.PrintWriter;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -94,6 +97,7 @@ public class ListRecommendations extends HttpServlet {
         boolean checkForTimestamp = false;
         boolean error = false;
         boolean rmTable = false;
+        boolean responseStreamed = false;
         if (null != latestRecommendation
                 && !latestRecommendation.isEmpty()
                 && latestRecommendation.equalsIgnoreCase(AnalyzerConstants.BooleanString.FALSE)
@@ -163,51 +167,53 @@ public class ListRecommendations extends HttpServlet {
                     );
                 }
             } else {
-                try {
-                    if (rmTable) {
-                        new ExperimentDBService().loadAllExperimentsAndRecommendations(mKruizeExperimentMap);
-                    } else {
-                        new ExperimentDBService().loadAllLMExperimentsAndRecommendations(mKruizeExperimentMap, bulkJobID);
-                    }
-                } catch (Exception e) {
-                    LOGGER.error("Loading saved experiment {} failed: {} ", experimentName, e.getMessage());
-                }
-                if (null != monitoringEndTime && !monitoringEndTime.isEmpty()) {
-                    monitoringEndTime = monitoringEndTime.trim();
-                    if (Utils.DateUtils.isAValidDate(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, monitoringEndTime)) {
+                // all the experiments, they are read and written page by page
+                responseStreamed = true;
+                Integer limit = ServiceHelpers.parsePageLimit(request.getParameter(AnalyzerConstants.ServiceConstants.PAGE_LIMIT));
+                if (null == limit) {
+                    sendErrorResponse(
+                            response,
+                            new Exception(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_QUERY_PARAM_VALUE),
+                            HttpServletResponse.SC_BAD_REQUEST,
+                            String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_LIMIT_MSG, request.getParameter(AnalyzerConstants.ServiceConstants.PAGE_LIMIT))
+                    );
+                } else if (null != monitoringEndTime && !monitoringEndTime.isEmpty()
+                        && !Utils.DateUtils.isAValidDate(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, monitoringEndTime.trim())) {
+                    sendErrorResponse(
+                            response,
+                            new Exception(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_TIMESTAMP_EXCPTN),
+                            HttpServletResponse.SC_BAD_REQUEST,
+                            String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_TIMESTAMP_MSG, monitoringEndTime.trim())
+                    );
+                } else {
+                    if (null != monitoringEndTime && !monitoringEndTime.isEmpty()) {
+                        monitoringEndTime = monitoringEndTime.trim();
                         Date mEndTime = Utils.DateUtils.getDateFrom(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, monitoringEndTime);
                         monitoringEndTimestamp = new Timestamp(mEndTime.getTime());
-                        for (String expName : mKruizeExperimentMap.keySet()) {
-                            boolean timestampExists = ServiceHelpers.KruizeObjectOperations.checkRecommendationTimestampExists(mKruizeExperimentMap.get(expName), monitoringEndTime);
-                            if (timestampExists) {
-                                kruizeObjectList.add(mKruizeExperimentMap.get(expName));
-                                checkForTimestamp = true;
-                            }
-                        }
-                        if (kruizeObjectList.isEmpty()) {
-                            error = true;
-                            sendErrorResponse(
-                                    response,
-                                    new Exception(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.RECOMMENDATION_DOES_NOT_EXIST_EXCPTN),
-                                    HttpServletResponse.SC_BAD_REQUEST,
-                                    String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.RECOMMENDATION_DOES_NOT_EXIST_MSG, monitoringEndTime)
-                            );
-                        }
                     } else {
-                        error = true;
+                        monitoringEndTime = null;
+                    }
+                    boolean written = streamRecommendations(response, rmTable, bulkJobID,
+                            request.getParameter(AnalyzerConstants.ServiceConstants.PAGE_AFTER), limit,
+                            request.getParameter(AnalyzerConstants.ServiceConstants.CLUSTER_NAME),
+                            request.getParameter(AnalyzerConstants.ServiceConstants.NAMESPACE),
+                            getLatest, monitoringEndTime, monitoringEndTimestamp);
+                    if (written) {
+                        statusValue = "success";
+                    } else if (null != monitoringEndTime) {
                         sendErrorResponse(
                                 response,
-                                new Exception(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_TIMESTAMP_EXCPTN),
+                                new Exception(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.RECOMMENDATION_DOES_NOT_EXIST_EXCPTN),
                                 HttpServletResponse.SC_BAD_REQUEST,
-                                String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_TIMESTAMP_MSG, monitoringEndTime)
+                                String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.RECOMMENDATION_DOES_NOT_EXIST_MSG, monitoringEndTime)
                         );
+                    } else {
+                        response.getWriter().println("[]");
+                        response.getWriter().close();
                     }
-                } else {
-                    // Add all experiments to list
-                    kruizeObjectList.addAll(mKruizeExperimentMap.values());
                 }
             }
-            if (!error) {
+            if (!error && !responseStreamed) {
                 List<ListRecommendationsAPIObject> recommendationList = new ArrayList<>();
                 for (KruizeObject ko : kruizeObjectList) {
                     try {
@@ -224,30 +230,9 @@ public class ListRecommendations extends HttpServlet {
                     }
                 }
 
-                ExclusionStrategy strategy = new ExclusionStrategy() {
-                    @Override
-                    public boolean shouldSkipField(FieldAttributes field) {
-                        return field.getDeclaringClass() == ContainerData.class && (field.getName().equals("results"))
-                                || (field.getDeclaringClass() == ContainerAPIObject.class && (field.getName().equals("metrics")));
-                    }
-
-                    @Override
-                    public boolean shouldSkipClass(Class<?> clazz) {
-                        return false;
-                    }
-                };
                 String gsonStr = "[]";
                 if (recommendationList.size() > 0) {
-                    Gson gsonObj = new GsonBuilder()
-                            .disableHtmlEscaping()
-                            .setPrettyPrinting()
-                            .enableComplexMapKeySerialization()
-                            .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                            .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                            .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                            .setExclusionStrategies(strategy)
-                            .create();
-                    gsonStr = gsonObj.toJson(recommendationList);
+                    gsonStr = createGsonObject().toJson(recommendationList);
                 }
                 response.getWriter().println(gsonStr);
                 response.getWriter().close();
@@ -264,6 +249,97 @@ public class ListRecommendations extends HttpServlet {
         }
     }
 
+    /**
+     * Writes the recommendations of the experiments to the response as they are read, one page of experiments
+     * at a time, so that the memory used does not grow with the number of experiments.
+     *
+     * @param afterExperimentName    only the experiments whose name sorts after it are listed, null for all of them
+     * @param limit                  maximum number of experiments to read
+     * @param monitoringEndTime      only the experiments with a recommendation at that time are listed, null for all of them
+     * @return true if at least one experiment was written, nothing is written to the response otherwise
+     */
+    private boolean streamRecommendations(HttpServletResponse response, boolean rmTable, String bulkJobID, String afterExperimentName,
+                                          int limit, String clusterName, String namespace, boolean getLatest,
+                                          String monitoringEndTime, Timestamp monitoringEndTimestamp) throws Exception {
+        ExperimentDBService experimentDBService = new ExperimentDBService();
+        Gson gsonObj = createGsonObject();
+        boolean checkForTimestamp = null != monitoringEndTimestamp;
+        JsonWriter jsonWriter = null;
+        String cursor = afterExperimentName;
+        int remaining = limit;
+        while (remaining > 0) {
+            int pageSize = Math.min(remaining, Math.max(1, KruizeDeploymentInfo.list_api_page_size));
+            Map<String, KruizeObject> page = new LinkedHashMap<>();
+            List<String> experimentNames = experimentDBService.loadExperimentsPage(page, cursor, pageSize, clusterName, namespace, rmTable);
+            if (experimentNames.isEmpty()) {
+                break;
+            }
+            experimentDBService.loadRecommendationsForExperiments(page, rmTable, bulkJobID);
+            for (KruizeObject ko : page.values()) {
+                if (checkForTimestamp && !ServiceHelpers.KruizeObjectOperations.checkRecommendationTimestampExists(ko, monitoringEndTime)) {
+                    continue;
+                }
+                ListRecommendationsAPIObject listRecommendationsAPIObject;
+                try {
+                    listRecommendationsAPIObject = Converters.KruizeObjectConverters.
+                            convertKruizeObjectToListRecommendationSO(
+                                    ko,
+                                    getLatest,
+                                    checkForTimestamp,
+                                    monitoringEndTimestamp);
+                } catch (Exception e) {
+                    LOGGER.error("Not able to generate recommendation for expName : {} due to {}", ko.getExperimentName(), e.getMessage());
+                    continue;
+                }
+                if (null == jsonWriter) {
+                    jsonWriter = gsonObj.newJsonWriter(response.getWriter());
+                    jsonWriter.beginArray();
+                }
+                gsonObj.toJson(listRecommendationsAPIObject, ListRecommendationsAPIObject.class, jsonWriter);
+            }
+            if (null != jsonWriter) {
+                jsonWriter.flush();
+            }
+            remaining -= experimentNames.size();
+            cursor = experimentNames.get(experimentNames.size() - 1);
+            if (experimentNames.size() < pageSize) {
+                break;
+            }
+        }
+        if (null == jsonWriter) {
+            return false;
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+        response.getWriter().println();
+        response.getWriter().close();
+        return true;
+    }
+
+    private static Gson createGsonObject() {
+        ExclusionStrategy strategy = new ExclusionStrategy() {
+            @Override
+            public boolean shouldSkipField(FieldAttributes field) {
+                return field.getDeclaringClass() == ContainerData.class && (field.getName().equals("results"))
+                        || (field.getDeclaringClass() == ContainerAPIObject.class && (field.getName().equals("metrics")));
+            }
+
+            @Override
+            public boolean shouldSkipClass(Class<?> clazz) {
+                return false;
+            }
+        };
+        return new GsonBuilder()
+                .disableHtmlEscaping()
+                .setPrettyPrinting()
+                .enableComplexMapKeySerialization()
+                .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
+                .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
+                .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
+                .setExclusionStrategies(strategy)
+                .create();
+    }
+
     private void sendSuccessResponse(HttpServletResponse response) throws IOException {
         response.setContentType(JSON_CONTENT_TYPE);
         response.setCharacterEncoding(CHARACTER_ENCODING);
@@ -215,6 +215,15 @@ public class AnalyzerConstants {
         max
     }
 
+    /**
+     * How the percentiles of a recommendation model are computed, exact selection over all the values or
+     * a quantile sketch with bounded memory
+     */
+    public enum PercentileMode {
+        exact,
+        sketch
+    }
+
     public enum ResourceSetting {
         requests,
         limits
@@ -717,6 +726,8 @@ public class AnalyzerConstants {
             public static final String NO_LAYERS_IN_DB = "No layers found in database";
             public static final String LOADED_LAYERS_FROM_DB = "Loaded {} layers from database";
             public static final String FAILED_TO_LOAD_LAYERS = "Failed to load layers from database";
+            public static final String DETECTING_LAYERS_IN_BATCH = "Detecting layers of the containers of '{}' with batched queries";
+            public static final String BATCH_DETECTION_FAILED = "Batched detection of layer '{}' failed, detecting it per container";
 
             // QueryBasedPresence log messages
             public static final String NO_QUERIES_DEFINED = "No queries defined for layer presence detection";
@@ -789,6 +800,8 @@ public class AnalyzerConstants {
         public static final String FALSE = "false";
         public static final String RM = "rm";
         public static final String PERF_PROFILE_NAME = "name";
+        public static final String PAGE_LIMIT = "limit";
+        public static final String PAGE_AFTER = "after";
 
         private ServiceConstants() {
         }
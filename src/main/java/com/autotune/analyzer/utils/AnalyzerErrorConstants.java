@@ -191,6 +191,7 @@ public class AnalyzerErrorConstants {
             public static final String INVALID_EXPERIMENT_NAME_MSG = "Given experiment name - \" %s \" is not valid";
             public static final String INVALID_QUERY_PARAM = "The query param(s) - \" %s \" is/are invalid";
             public static final String INVALID_QUERY_PARAM_VALUE = "The query param value(s) is/are invalid";
+            public static final String INVALID_LIMIT_MSG = "Given limit - \" %s \" is not a positive integer";
 
             private ListRecommendationsAPI() {
 
@@ -234,6 +235,8 @@ public class AnalyzerErrorConstants {
             public static final String RECOMMENDATION_ERROR = "Failed to create recommendation for experiment: %s and interval_start_time: %s and interval_end_time: %s";
             public static final String RECOMMENDATION_EXCEPTION = "Exception occurred while generating recommendations for experiment: {} and interval_end_time: {} : {} ";
             public static final String METRIC_EXCEPTION = "Exception occurred while fetching metrics from the datasource: ";
+            public static final String UNSUPPORTED_AGGREGATION_FUNCTION = "Unsupported aggregation function for the metric: %s";
+            public static final String INVALID_COUNT_VALUE = "Count value %s is not an integer count";
             public static final String FETCHING_RESULTS_FAILED = "Failed to fetch the results from the DB: %s";
             public static final String INTERNAL_MAP_EMPTY = "Internal map sent to populate method cannot be null or empty";
             public static final String NULL_NOTIFICATIONS = "Notifications cannot be null";
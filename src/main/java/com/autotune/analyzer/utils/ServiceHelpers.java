@@ -19,6 +19,7 @@ import com.autotune.analyzer.application.ApplicationDeployment;
 import com.autotune.analyzer.exceptions.BulkNotSupportedException;
 import com.autotune.analyzer.exceptions.InvalidExperimentType;
 import com.autotune.analyzer.kruizeLayer.KruizeLayer;
+import com.autotune.analyzer.kruizeLayer.utils.LayerDetectionIndex;
 import com.autotune.analyzer.kruizeLayer.utils.LayerUtils;
 import com.autotune.analyzer.kruizeObject.KruizeObject;
 import com.autotune.analyzer.performanceProfiles.PerformanceProfile;
@@ -137,13 +138,24 @@ public class ServiceHelpers {
     }
 
     public static void detectLayers (CreateExperimentAPIObject validAPIObj) throws Exception {
+        detectLayers(validAPIObj, null);
+    }
+
+    /**
+     * Detects the layers of the containers of the experiment, looking them up in the index when there is one
+     *
+     * @param layerDetectionIndex index shared by the experiments created together, null to query each container
+     */
+    public static void detectLayers (CreateExperimentAPIObject validAPIObj, LayerDetectionIndex layerDetectionIndex) throws Exception {
         for (KubernetesAPIObject kubernetesAPIObject : validAPIObj.getKubernetesObjects()) {
             for (ContainerAPIObject containerAPIObject : kubernetesAPIObject.getContainerAPIObjects()) {
                 // detect layers for the container
-                Map<String, KruizeLayer> layers = LayerUtils.detectLayers(containerAPIObject.getContainer_name(),
-                        kubernetesAPIObject.getNamespace(),
-                        validAPIObj.getDatasource()
-                );
+                Map<String, KruizeLayer> layers = null == layerDetectionIndex ?
+                        LayerUtils.detectLayers(containerAPIObject.getContainer_name(),
+                                kubernetesAPIObject.getNamespace(),
+                                validAPIObj.getDatasource()) :
+                        layerDetectionIndex.detectLayers(containerAPIObject.getContainer_name(),
+                                kubernetesAPIObject.getNamespace());
                 // Skipping null check as we return atleast an empty map if there are no exceptions
                 if (!layers.isEmpty()) {
                     containerAPIObject.setLayerMap(layers);
@@ -152,6 +164,24 @@ public class ServiceHelpers {
         }
     }
 
+    /**
+     * Parses the limit query param of the list APIs
+     *
+     * @param limit value of the query param
+     * @return the limit, Integer.MAX_VALUE if it is not set and null if it is not a positive integer
+     */
+    public static Integer parsePageLimit(String limit) {
+        if (null == limit || limit.isBlank()) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            int parsed = Integer.parseInt(limit.trim());
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public static class KruizeObjectOperations {
         private KruizeObjectOperations() {
 
@@ -15,20 +15,18 @@
  *******************************************************************************/
 package com.autotune.analyzer.workerimpl;
 
-import com.autotune.analyzer.adapters.DeviceDetailsAdapter;
-import com.autotune.analyzer.adapters.RecommendationItemAdapter;
 import com.autotune.analyzer.exceptions.KruizeResponse;
+import com.autotune.analyzer.kruizeLayer.utils.LayerDetectionIndex;
 import com.autotune.analyzer.kruizeObject.RecommendationSettings;
 import com.autotune.analyzer.metadataProfiles.MetadataProfile;
 import com.autotune.analyzer.metadataProfiles.MetadataProfileCollection;
 import com.autotune.analyzer.serviceObjects.*;
+import com.autotune.analyzer.services.KruizeAPIService;
 import com.autotune.analyzer.utils.AnalyzerConstants;
-import com.autotune.analyzer.utils.GsonUTCDateAdapter;
 import com.autotune.common.data.dataSourceMetadata.*;
-import com.autotune.common.data.result.ContainerData;
-import com.autotune.common.data.system.info.device.DeviceDetails;
 import com.autotune.common.datasource.DataSourceInfo;
 import com.autotune.common.datasource.DataSourceManager;
+import com.autotune.common.datasource.DataSourceMetadataOperator;
 import com.autotune.common.k8sObjects.TrialSettings;
 import com.autotune.common.utils.CommonUtils;
 import com.autotune.database.dao.ExperimentDAOImpl;
@@ -38,10 +36,7 @@ import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
 import com.autotune.utils.Utils;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.google.gson.ExclusionStrategy;
-import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import io.micrometer.core.instrument.Timer;
 import org.apache.http.conn.ConnectTimeoutException;
 import org.json.JSONObject;
@@ -51,17 +46,18 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.SocketTimeoutException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -100,14 +96,25 @@ import static com.autotune.utils.KruizeConstants.KRUIZE_BULK_API.NotificationCon
  */
 public class BulkJobManager implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(BulkJobManager.class);
-    ExecutorService createExecutor = Executors.newFixedThreadPool(bulk_thread_pool_size);
-    ExecutorService generateExecutor = Executors.newFixedThreadPool(bulk_thread_pool_size);
+    // the queues of the stages are bounded, a full queue blocks the stage feeding it
+    ExecutorService createExecutor = newStageExecutor(bulk_thread_pool_size);
+    ExecutorService generateExecutor = newStageExecutor(bulk_thread_pool_size);
     private String jobID;
     private BulkInput bulkInput;
     private BulkJobStatus jobData;
     private KruizeKafkaManager kruizeKafkaManager;
     private final Set<String> kafkaIncludeFilter;
     private final Set<String> kafkaExcludeFilter;
+    // layers of the containers of the job, detected with one query per presence query for the whole cluster
+    private volatile LayerDetectionIndex layerDetectionIndex;
+    // names of the experiments emitted so far, only used by the thread discovering the metadata
+    private final Set<String> emittedExperimentNames = new HashSet<>();
+    // set once a shard would take the job over the bulk API limit, the remaining shards are not emitted
+    private boolean limitExceeded;
+    // guarded by jobData, the job completes once all the experiments are emitted and processed
+    private boolean allExperimentsEmitted;
+    private boolean jobFinalized;
+    private BulkJobStatus.Experiment lastProcessedExperiment;
 
     public BulkJobManager(String jobID, BulkJobStatus jobData, BulkInput payload) {
         this.jobID = jobID;
@@ -118,6 +125,42 @@ public class BulkJobManager implements Runnable {
         this.kafkaExcludeFilter = KruizeDeploymentInfo.getKafkaExcludeFilter();
     }
 
+    /**
+     * Fixed size pool whose queue holds up to bulkPipelineQueueSize tasks, submitting to a full queue waits for
+     * room instead of being rejected so that the producer of the tasks is slowed down to the pace of the workers
+     */
+    private static ExecutorService newStageExecutor(int poolSize) {
+        int queueSize = Math.max(1, null == KruizeDeploymentInfo.bulk_pipeline_queue_size ? 1000 : KruizeDeploymentInfo.bulk_pipeline_queue_size);
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Bulk job stage is shut down");
+                    }
+                    try {
+                        executor.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException(e);
+                    }
+                });
+    }
+
+    /**
+     * Submits the task to the stage, the pending count of the stage is held until a worker picks the task
+     */
+    private static void submitToStage(ExecutorService stage, AtomicInteger pending, Runnable task) {
+        pending.incrementAndGet();
+        try {
+            stage.execute(() -> {
+                pending.decrementAndGet();
+                task.run();
+            });
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
     public static List<String> appendExperiments(List<String> allExperiments, String experimentName) {
         allExperiments.add(experimentName);
         return allExperiments;
@@ -176,61 +219,67 @@ public class BulkJobManager implements Runnable {
                 int measurementDuration = handleMeasurementDuration(datasource);
 
                 if (null != datasource) {
-                    JSONObject daterange = processDateRange(this.bulkInput.getTime_range());
-                    if (null != daterange) {
-                        metadataInfo = dataSourceManager.importMetadataFromDataSource(metadataProfileName, datasource, labelString, (Long) daterange.get(START_TIME),
-                                (Long) daterange.get(END_TIME), (Integer) daterange.get(STEPS), measurementDuration, includeResourcesMap, excludeResourcesMap);
-                    } else {
-                        metadataInfo = dataSourceManager.importMetadataFromDataSource(metadataProfileName, datasource, labelString, 0, 0,
-                                0, measurementDuration, includeResourcesMap, excludeResourcesMap);
+                    DataSourceInfo finalDatasource = datasource;
+                    String finalLabelString = labelString;
+                    jobData.getSummary().setTotal_experiments(0);
+                    jobData.getSummary().setProcessed_experiments(0);
+                    if (!KruizeDeploymentInfo.test_use_only_cache_job_in_mem) {                       // Todo Try to avoid this check in multiple places
+                        new ExperimentDAOImpl().bulkJobSave(jobData.getBulkJobForDB("{}"));
                     }
-                    if (null == metadataInfo) {
-                        setFinalJobStatus(COMPLETED, String.valueOf(HttpURLConnection.HTTP_OK), NOTHING_INFO, datasource);
-                    } else {
-                        jobData.setMetadata(metadataInfo);
-                        Map<String, CreateExperimentAPIObject> createExperimentAPIObjectMap = getExperimentMap(labelString, jobData, metadataInfo, datasource); //Todo Store this map in buffer and use it if BulkAPI pods restarts and support experiment_type
-                        //  TODO: Remove getExperimentMap and instead collect all metadata, process it, and create experiments dynamically during metadata iteration.
-                        jobData.getSummary().setTotal_experiments(createExperimentAPIObjectMap.size());
-                        jobData.getSummary().setProcessed_experiments(0);
-                        if (jobData.getSummary().getTotal_experiments() > KruizeDeploymentInfo.bulk_api_limit) {
-                            setFinalJobStatus(FAILED, String.valueOf(HttpURLConnection.HTTP_BAD_REQUEST), LIMIT_INFO, datasource);
+                    try {
+                        layerDetectionIndex = new LayerDetectionIndex(datasource.getName(), true);
+                        // the experiments of each shard of namespaces are emitted as soon as its metadata is discovered
+                        DataSourceMetadataOperator.ShardListener shardListener = (shardMetadata, namespaces) ->
+                                processExperiments(finalDatasource, finalLabelString, shardMetadata, namespaces);
+                        JSONObject daterange = processDateRange(this.bulkInput.getTime_range());
+                        if (null != daterange) {
+                            metadataInfo = dataSourceManager.importMetadataFromDataSource(metadataProfileName, datasource, labelString, (Long) daterange.get(START_TIME),
+                                    (Long) daterange.get(END_TIME), (Integer) daterange.get(STEPS), measurementDuration, includeResourcesMap, excludeResourcesMap, shardListener);
                         } else {
-                            if (!KruizeDeploymentInfo.test_use_only_cache_job_in_mem) {                       // Todo Try to avoid this check in multiple places
-                                new ExperimentDAOImpl().bulkJobSave(jobData.getBulkJobForDB("{}"));
+                            metadataInfo = dataSourceManager.importMetadataFromDataSource(metadataProfileName, datasource, labelString, 0, 0,
+                                    0, measurementDuration, includeResourcesMap, excludeResourcesMap, shardListener);
+                        }
+                        if (null == metadataInfo) {
+                            setFinalJobStatus(COMPLETED, String.valueOf(HttpURLConnection.HTTP_OK), NOTHING_INFO, datasource);
+                        } else {
+                            jobData.setMetadata(metadataInfo);
+                            if (!limitExceeded) {
+                                allExperimentsEmitted(datasource);
+                            }
+                        }
+                    } finally {
+                        // Shutdown createExecutor and wait for it to finish
+                        createExecutor.shutdown();
+                        while (!createExecutor.isTerminated()) {
+                            try {
+                                createExecutor.awaitTermination(1, TimeUnit.MINUTES);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                break;
                             }
+                        }
+                        // Shutdown generateExecutor and wait for it to finish
+                        generateExecutor.shutdown();
+                        while (!generateExecutor.isTerminated()) {
                             try {
-                                processExperiments(datasource, createExperimentAPIObjectMap);
-                            } finally {
-                                // Shutdown createExecutor and wait for it to finish
-                                createExecutor.shutdown();
-                                while (!createExecutor.isTerminated()) {
-                                    try {
-                                        createExecutor.awaitTermination(1, TimeUnit.MINUTES);
-                                    } catch (InterruptedException e) {
-                                        Thread.currentThread().interrupt();
-                                        break;
-                                    }
-                                }
-                                // Shutdown generateExecutor and wait for it to finish
-                                generateExecutor.shutdown();
-                                while (!generateExecutor.isTerminated()) {
-                                    try {
-                                        generateExecutor.awaitTermination(1, TimeUnit.MINUTES);
-                                    } catch (InterruptedException e) {
-                                        Thread.currentThread().interrupt();
-                                        break;
-                                    }
-                                }
-                                // Shutdown kafkaExecutor
-                                if (kruizeKafkaManager != null) {
-                                    kruizeKafkaManager.shutdownKafkaManager();
-                                }
-
-                                if (jobData.getSummary().getTotal_experiments() == jobData.getSummary().getProcessed_experiments().get()) {
-                                    statusValue = "success";
-                                }
+                                generateExecutor.awaitTermination(1, TimeUnit.MINUTES);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                break;
                             }
                         }
+                        // Shutdown kafkaExecutor
+                        if (kruizeKafkaManager != null) {
+                            kruizeKafkaManager.shutdownKafkaManager();
+                        }
+
+                        if (limitExceeded) {
+                            // the experiments emitted before the limit was reached have been processed
+                            setFinalJobStatus(FAILED, String.valueOf(HttpURLConnection.HTTP_BAD_REQUEST), LIMIT_INFO, datasource);
+                        } else if (allExperimentsEmitted
+                                && jobData.getSummary().getTotal_experiments() == jobData.getSummary().getProcessed_experiments().get()) {
+                            statusValue = "success";
+                        }
                     }
                 }
             } catch (IOException e) {
@@ -293,6 +342,8 @@ public class BulkJobManager implements Runnable {
             }
         }
         if (!KruizeDeploymentInfo.test_use_only_cache_job_in_mem) {               //toDO avoid this check
+            // the final save writes all the experiments, including the ones not written yet
+            BulkJobStatusWriter.getInstance().discard(jobID);
             try {
                 if (null == jobData.getExperimentMap() || jobData.getExperimentMap().isEmpty()) {
                     new ExperimentDAOImpl().bulkJobSave(jobData.getBulkJobForDB("{}"));
@@ -308,14 +359,65 @@ public class BulkJobManager implements Runnable {
     }
 
 
-    private void processExperiments(DataSourceInfo datasource, Map<String, CreateExperimentAPIObject> createExperimentAPIObjectMap) {
-        for (CreateExperimentAPIObject apiObject : createExperimentAPIObjectMap.values()) {
-            DataSourceInfo finalDatasource = datasource;
-            createExecutor.submit(() -> handleExperimentCreation(apiObject, finalDatasource));
+    /**
+     * Emits the experiments of the containers of a shard of namespaces to the create stage as they are iterated, the
+     * CreateExperimentAPIObject of an experiment only exists from the time it is emitted until it is created.
+     * <p>
+     * An experiment is emitted once even if several containers map to its name, the first container wins. The
+     * total of the job is raised by the experiments of the shard before they are emitted. A shard which would take
+     * the job over the bulk API limit is not emitted, nor are the shards after it.
+     */
+    private void processExperiments(DataSourceInfo datasource, String labelString, DataSourceMetadataInfo metadataInfo,
+                                     Collection<String> namespaces) {
+        if (limitExceeded) {
+            return;
+        }
+        try {
+            Set<String> experimentNames = getExperimentNames(labelString, metadataInfo, namespaces);
+            int totalExperiments = jobData.getSummary().getTotal_experiments() + experimentNames.size();
+            if (totalExperiments > KruizeDeploymentInfo.bulk_api_limit) {
+                LOGGER.error("Bulk job {} has more than {} experiments, the remaining namespaces are skipped", jobID,
+                        KruizeDeploymentInfo.bulk_api_limit);
+                limitExceeded = true;
+                return;
+            }
+            emittedExperimentNames.addAll(experimentNames);
+            jobData.getSummary().setTotal_experiments(totalExperiments);
+            forEachContainer(metadataInfo, namespaces, (dsc, namespace, dsw, dc) -> {
+                String experimentName = frameExperimentName(labelString, dsc, namespace, dsw, dc);
+                if (!experimentNames.remove(experimentName)) {
+                    return;
+                }
+                CreateExperimentAPIObject apiObject = prepareCreateExperimentJSONInput(dc, dsc, dsw, namespace,
+                        experimentName, new ArrayList<>());
+                submitToStage(createExecutor, MetricsConfig.bulkCreateStagePending, () -> handleExperimentCreation(apiObject, datasource));
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Completes the job if all its experiments were processed while the metadata was still being discovered, the
+     * workers complete it otherwise
+     */
+    private void allExperimentsEmitted(DataSourceInfo datasource) {
+        synchronized (jobData) {
+            allExperimentsEmitted = true;
+            if (0 == jobData.getSummary().getTotal_experiments()) {
+                jobFinalized = true;
+                setFinalJobStatus(COMPLETED, String.valueOf(HttpURLConnection.HTTP_OK), NOTHING_INFO, datasource);
+            } else {
+                finalizeJobIfComplete(datasource);
+            }
         }
     }
 
     private void handleExperimentCreation(CreateExperimentAPIObject apiObject, DataSourceInfo datasource) {
+        String statusValue = "failure";
+        Timer.Sample timerCreateBulkExp = Timer.start(MetricsConfig.meterRegistry());
         String experimentName = apiObject.getExperimentName();
         BulkJobStatus.Experiment experiment = jobData.addExperiment(experimentName);
 
@@ -328,8 +430,10 @@ public class BulkJobManager implements Runnable {
             }
 
             if (experimentExists) {
+                statusValue = "success";
                 try {
-                    generateExecutor.submit(() -> handleRecommendationGeneration(experimentName, datasource, experiment));
+                    submitToStage(generateExecutor, MetricsConfig.bulkGenerateStagePending,
+                            () -> handleRecommendationGeneration(experimentName, datasource, experiment));
                 } catch (Exception e) {
                     LOGGER.error(e.getMessage());
                     handleException(e, experiment);
@@ -338,33 +442,16 @@ public class BulkJobManager implements Runnable {
         } catch (Exception e) {
             handleException(e, experiment);
         } finally {
+            MetricsConfig.timerCreateBulkExp = MetricsConfig.timerBCreateBulkExp.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+            timerCreateBulkExp.stop(MetricsConfig.timerCreateBulkExp);
             checkAndFinalizeJob(datasource, experiment);
         }
     }
 
-    private List<?> parseRecommendationResponse(GenericRestApiClient.HttpResponseWrapper response) {
-        ExclusionStrategy strategy = new ExclusionStrategy() {
-            @Override
-            public boolean shouldSkipField(FieldAttributes field) {
-                return field.getDeclaringClass() == ContainerData.class && (field.getName().equals("results"))
-                        || (field.getDeclaringClass() == ContainerAPIObject.class && (field.getName().equals("metrics")));
-            }
-
-            @Override
-            public boolean shouldSkipClass(Class<?> clazz) {
-                return false;
-            }
-        };
-        Gson gson = new GsonBuilder()
-                .disableHtmlEscaping()
-                .setPrettyPrinting()
-                .enableComplexMapKeySerialization()
-                .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                .setExclusionStrategies(strategy)
-                .create();
-        return gson.fromJson(response.getResponseBody().toString(), List.class);
+    private List<?> toRecommendationResponse(List<ListRecommendationsAPIObject> recommendations) {
+        // keep the generic JSON shape of the generateRecommendations API response, without encoding it into a string
+        Gson gson = KruizeAPIService.getRecommendationsGson();
+        return gson.fromJson(gson.toJsonTree(recommendations), List.class);
     }
 
     private void markExperimentAsFailed(BulkJobStatus.Experiment experiment, Exception e) {
@@ -396,43 +483,56 @@ public class BulkJobManager implements Runnable {
     }
 
     private void checkAndFinalizeJob(DataSourceInfo datasource, BulkJobStatus.Experiment experiment) {
+        if (!KruizeDeploymentInfo.test_use_only_cache_job_in_mem) {
+            BulkJobStatusWriter.getInstance().experimentUpdated(jobData, experiment.getName());
+        }
         synchronized (jobData) {
-            if (jobData.getSummary().getTotal_experiments() == jobData.getSummary().getProcessed_experiments().get()) {
-                setFinalJobStatus(COMPLETED, null, null, datasource);
-                // if kafka is enabled, push the final summary in the summary topic
-                if (kruizeKafkaManager != null) {
-                    kruizeKafkaManager.publishKafkaMessage(KruizeConstants.KAFKA_CONSTANTS.SUMMARY_TOPIC, jobData,
-                            experiment.getName(), experiment, kafkaIncludeFilter, kafkaExcludeFilter);
-                }
-            }
+            lastProcessedExperiment = experiment;
+            finalizeJobIfComplete(datasource);
+        }
+    }
+
+    // called with the lock of jobData held
+    private void finalizeJobIfComplete(DataSourceInfo datasource) {
+        if (jobFinalized || !allExperimentsEmitted
+                || jobData.getSummary().getTotal_experiments() != jobData.getSummary().getProcessed_experiments().get()) {
+            return;
+        }
+        jobFinalized = true;
+        setFinalJobStatus(COMPLETED, null, null, datasource);
+        // if kafka is enabled, push the final summary in the summary topic
+        if (kruizeKafkaManager != null && null != lastProcessedExperiment) {
+            kruizeKafkaManager.publishKafkaMessage(KruizeConstants.KAFKA_CONSTANTS.SUMMARY_TOPIC, jobData,
+                    lastProcessedExperiment.getName(), lastProcessedExperiment, kafkaIncludeFilter, kafkaExcludeFilter);
         }
     }
 
     private void handleRecommendationGeneration(String experimentName, DataSourceInfo datasource, BulkJobStatus.Experiment experiment) {
         String topic = "";
+        String statusValue = "failure";
+        Timer.Sample timerGenerateBulkRec = Timer.start(MetricsConfig.meterRegistry());
         try {
-            String recommendationURL = String.format(KruizeDeploymentInfo.recommendations_url + "&" + JOB_ID + "=%s",
-                    URLEncoder.encode(experimentName, StandardCharsets.UTF_8), jobID);
+            KruizeAPIService.GenerateRecommendationsResult recommendationResult = KruizeAPIService.generateRecommendations(experimentName,
+                    null, null, jobID);
 
-            GenericRestApiClient recommendationApiClient = new GenericRestApiClient(datasource);
-            recommendationApiClient.setBaseURL(recommendationURL);
-
-            GenericRestApiClient.HttpResponseWrapper recommendationResponse = recommendationApiClient.callKruizeAPI(null);
-
-
-            if (recommendationResponse.getStatusCode() == HttpURLConnection.HTTP_CREATED) {
-                experiment.getApis().getRecommendations().setResponse(parseRecommendationResponse(recommendationResponse));
+            if (recommendationResult.isSuccess()) {
+                experiment.getApis().getRecommendations().setResponse(toRecommendationResponse(recommendationResult.getRecommendations()));
+                experiment.recommendationsReused(recommendationResult.getReusedIntervalEndTime());
                 experiment.setStatus(NotificationConstants.Status.PROCESSED);
                 jobData.getSummary().incrementProcessed_experiments();
                 topic = KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC;
+                statusValue = "success";
             } else {
-                markExperimentAsFailed(experiment, new Exception(recommendationResponse.getResponseBody().toString()));
-                LOGGER.error(recommendationResponse.getResponseBody().toString());
+                String errorResponse = new Gson().toJson(recommendationResult.toKruizeResponse());
+                markExperimentAsFailed(experiment, new Exception(errorResponse));
+                LOGGER.error(errorResponse);
                 topic = KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC;
             }
         } catch (Exception e) {
             handleException(e, experiment);
         } finally {
+            MetricsConfig.timerGenerateBulkRec = MetricsConfig.timerBGenerateBulkRec.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+            timerGenerateBulkRec.stop(MetricsConfig.timerGenerateBulkRec);
             // if kafka is enabled, push the response in the respective topic
             if (kruizeKafkaManager != null) {
                 kruizeKafkaManager.publishKafkaMessage(topic, jobData, experimentName, experiment, kafkaIncludeFilter, kafkaExcludeFilter);
@@ -489,53 +589,33 @@ public class BulkJobManager implements Runnable {
 
     private boolean createExperiment(CreateExperimentAPIObject apiObject, BulkJobStatus.Experiment experiment, DataSourceInfo datasource) {
         try {
-            GenericRestApiClient apiClient = new GenericRestApiClient(datasource);
-            apiClient.setBaseURL(KruizeDeploymentInfo.experiments_url);
-
-            LOGGER.debug("[{}]", new Gson().toJson(apiObject));
-            GenericRestApiClient.HttpResponseWrapper response = apiClient.callKruizeAPI("[" + new Gson().toJson(apiObject) + "]");
-            experiment.getApis().getCreate().setResponse(new Gson().fromJson(response.getResponseBody().toString(), KruizeResponse.class));
+            KruizeResponse response = KruizeAPIService.createExperiments(List.of(apiObject), layerDetectionIndex);
+            experiment.getApis().getCreate().setResponse(response);
 
-            LOGGER.debug("API Response code: {}", response);
-            return response.getStatusCode() == HttpURLConnection.HTTP_CREATED || response.getStatusCode() == HttpURLConnection.HTTP_CONFLICT;
+            LOGGER.debug("API Response code: {}", response.getHttpcode());
+            return response.getHttpcode() == HttpURLConnection.HTTP_CREATED || response.getHttpcode() == HttpURLConnection.HTTP_CONFLICT;
         } catch (Exception e) {
             handleException(e, experiment);
             return false;
         }
     }
 
-    Map<String, CreateExperimentAPIObject> getExperimentMap(String labelString, BulkJobStatus jobData, DataSourceMetadataInfo metadataInfo, DataSourceInfo datasource) throws Exception {
+    /**
+     * Names of the experiments of the containers of the namespaces, without the ones already emitted by the job
+     */
+    Set<String> getExperimentNames(String labelString, DataSourceMetadataInfo metadataInfo, Collection<String> namespaces) throws Exception {
         String statusValue = "failure";
         Timer.Sample timerGetExpMap = Timer.start(MetricsConfig.meterRegistry());
         try {
-            Map<String, CreateExperimentAPIObject> createExperimentAPIObjectMap = new HashMap<>();
-            Collection<DataSource> dataSourceCollection = metadataInfo.getDatasources().values();
-            for (DataSource ds : dataSourceCollection) {
-                HashMap<String, DataSourceCluster> clusterHashMap = ds.getClusters();
-                for (DataSourceCluster dsc : clusterHashMap.values()) {
-                    HashMap<String, DataSourceNamespace> namespaceHashMap = dsc.getNamespaces();
-                    for (DataSourceNamespace namespace : namespaceHashMap.values()) {
-                        HashMap<String, DataSourceWorkload> dataSourceWorkloadHashMap = namespace.getWorkloads();
-                        if (dataSourceWorkloadHashMap != null) {
-                            for (DataSourceWorkload dsw : dataSourceWorkloadHashMap.values()) {
-                                HashMap<String, DataSourceContainer> dataSourceContainerHashMap = dsw.getContainers();
-                                if (dataSourceContainerHashMap != null) {
-                                    for (DataSourceContainer dc : dataSourceContainerHashMap.values()) {
-                                        // Experiment name - dynamically constructed
-                                        String experiment_name = frameExperimentName(labelString, dsc, namespace, dsw, dc);
-                                        // create JSON to be passed in the createExperimentAPI
-                                        List<CreateExperimentAPIObject> createExperimentAPIObjectList = new ArrayList<>();
-                                        CreateExperimentAPIObject apiObject = prepareCreateExperimentJSONInput(dc, dsc, dsw, namespace,
-                                                experiment_name, createExperimentAPIObjectList);
-                                        createExperimentAPIObjectMap.put(experiment_name, apiObject);
-                                    }
-                                }
-                            }
-                        }
-                    }
+            Set<String> experimentNames = new HashSet<>();
+            forEachContainer(metadataInfo, namespaces, (dsc, namespace, dsw, dc) -> {
+                String experimentName = frameExperimentName(labelString, dsc, namespace, dsw, dc);
+                if (!emittedExperimentNames.contains(experimentName)) {
+                    experimentNames.add(experimentName);
                 }
-            }
-            return createExperimentAPIObjectMap;
+            });
+            statusValue = "success";
+            return experimentNames;
         } finally {
             if (null != timerGetExpMap) {
                 MetricsConfig.timerGetExpMap = MetricsConfig.timerBGetExpMap.tag("status", statusValue).register(MetricsConfig.meterRegistry());
@@ -544,6 +624,32 @@ public class BulkJobManager implements Runnable {
         }
     }
 
+    private void forEachContainer(DataSourceMetadataInfo metadataInfo, Collection<String> namespaces, ContainerVisitor visitor) throws Exception {
+        for (DataSource ds : metadataInfo.getDatasources().values()) {
+            for (DataSourceCluster dsc : ds.getClusters().values()) {
+                for (String namespaceName : namespaces) {
+                    DataSourceNamespace namespace = dsc.getNamespaces().get(namespaceName);
+                    if (null == namespace || null == namespace.getWorkloads()) {
+                        continue;
+                    }
+                    for (DataSourceWorkload dsw : namespace.getWorkloads().values()) {
+                        if (null == dsw.getContainers()) {
+                            continue;
+                        }
+                        for (DataSourceContainer dc : dsw.getContainers().values()) {
+                            visitor.visit(dsc, namespace, dsw, dc);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ContainerVisitor {
+        void visit(DataSourceCluster dsc, DataSourceNamespace namespace, DataSourceWorkload dsw, DataSourceContainer dc) throws Exception;
+    }
+
     private String getLabels(BulkInput.FilterWrapper filter) {
         String uniqueKey = null;
         try {
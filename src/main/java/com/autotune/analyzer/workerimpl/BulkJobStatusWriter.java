@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.workerimpl;
+
+import com.autotune.analyzer.serviceObjects.BulkJobStatus;
+import com.autotune.analyzer.services.BulkService;
+import com.autotune.database.dao.ExperimentDAOImpl;
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.autotune.operator.KruizeDeploymentInfo.job_filter_to_db;
+import static com.autotune.utils.KruizeConstants.KRUIZE_BULK_API.BULK_JOB_UPDATE_ERROR;
+
+/**
+ * Writes the status of the experiments of the running bulk jobs to the kruize_bulkjobs table.
+ * <p>
+ * The experiments completed since the last write are buffered per job and written every
+ * bulk_job_status_flush_interval_ms with one update per job, instead of one update of the whole job row per
+ * experiment. The final status of a job is still saved by the {@link BulkJobManager} once all its experiments
+ * are processed, the pending experiments of the job are discarded at that point.
+ */
+public final class BulkJobStatusWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkJobStatusWriter.class);
+    private static final BulkJobStatusWriter INSTANCE = new BulkJobStatusWriter(BulkJobStatusWriter::writeToDB, true);
+
+    private final ConcurrentHashMap<String, PendingJob> pendingJobs = new ConcurrentHashMap<>();
+    // held while writing so that a job being finalized does not get a stale write after its final save
+    private final Object flushLock = new Object();
+    private final JobStatusSink sink;
+    // the tests flush explicitly
+    private final boolean scheduled;
+    private volatile ScheduledExecutorService flushExecutor;
+
+    BulkJobStatusWriter(JobStatusSink sink, boolean scheduled) {
+        this.sink = sink;
+        this.scheduled = scheduled;
+    }
+
+    public static BulkJobStatusWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Marks the experiment of the job as updated, its status is written with the next flush
+     */
+    public void experimentUpdated(BulkJobStatus jobData, String experimentName) {
+        if (null == jobData || null == experimentName) {
+            return;
+        }
+        startIfNeeded();
+        // the experiment is added under the lock of the map entry so that it is not lost by a concurrent flush
+        pendingJobs.compute(jobData.getSummary().getJobID(), (jobId, pendingJob) -> {
+            PendingJob job = null == pendingJob ? new PendingJob(jobData) : pendingJob;
+            job.experimentNames.add(experimentName);
+            return job;
+        });
+    }
+
+    /**
+     * Drops the pending experiments of the job, called before the final save of the job which writes all of them.
+     * A write of the job in progress is waited for.
+     */
+    public void discard(String jobId) {
+        synchronized (flushLock) {
+            pendingJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * Writes the pending experiments of all the jobs
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            for (String jobId : pendingJobs.keySet()) {
+                PendingJob pendingJob = pendingJobs.remove(jobId);
+                if (null != pendingJob) {
+                    write(jobId, pendingJob);
+                }
+            }
+        }
+    }
+
+    private void write(String jobId, PendingJob pendingJob) {
+        try {
+            sink.write(jobId, pendingJob.jobData, pendingJob.experimentNames);
+        } catch (Exception e) {
+            // the experiments are written with the final status of the job anyway
+            LOGGER.error(BULK_JOB_UPDATE_ERROR, jobId, e.getMessage());
+        }
+    }
+
+    private static void writeToDB(String jobId, BulkJobStatus jobData, Set<String> experimentNames) throws Exception {
+        String experimentsJson = BulkService.filterExperimentsJson(jobData,
+                Collections.singleton(job_filter_to_db), Collections.emptySet(), experimentNames);
+        new ExperimentDAOImpl().updateBulkJobExperiments(jobId, experimentsJson,
+                jobData.getSummary().getProcessed_experiments().get(), jobData.getSummary().getTotal_experiments());
+    }
+
+    private void startIfNeeded() {
+        if (!scheduled || null != flushExecutor) {
+            return;
+        }
+        synchronized (this) {
+            if (null == flushExecutor) {
+                long intervalMs = Math.max(100, null == KruizeDeploymentInfo.bulk_job_status_flush_interval_ms ?
+                        5000 : KruizeDeploymentInfo.bulk_job_status_flush_interval_ms);
+                ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-job-status-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleWithFixedDelay(this::flush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+                flushExecutor = executor;
+            }
+        }
+    }
+
+    /**
+     * Writes the status of the given experiments of a job
+     */
+    @FunctionalInterface
+    interface JobStatusSink {
+        void write(String jobId, BulkJobStatus jobData, Set<String> experimentNames) throws Exception;
+    }
+
+    private static final class PendingJob {
+        private final BulkJobStatus jobData;
+        private final Set<String> experimentNames = new LinkedHashSet<>();
+
+        private PendingJob(BulkJobStatus jobData) {
+            this.jobData = jobData;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.autotune.common.kafka.KruizeKafka;
 import com.autotune.common.kafka.KruizeKafkaProducer;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.producer.Callback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,7 +67,11 @@ public class KruizeKafkaManager {
     }
 
     /**
-     * Publishes a Kafka message after filtering and validation.
+     * Publishes the message of an experiment after filtering and validation.
+     * <p>
+     * Only the given experiment is serialized along with the job summary. The message is sent asynchronously,
+     * the experiment status and the delivered/failed counts of the job summary are updated once Kafka
+     * acknowledges or rejects it.
      *
      * @param topic              the Kafka topic
      * @param jobData            the bulkJobStatus object containing the response data
@@ -80,16 +85,22 @@ public class KruizeKafkaManager {
             if (!validTopics.contains(topic)) {
                 throw new Exception(String.format(KruizeConstants.KAFKA_CONSTANTS.MISSING_KAFKA_TOPIC, topic));
             }
-            String kafkaMessage = BulkService.filterJson(jobData, kafkaIncludeFilter, kafkaExcludeFilter, experimentName);
+            String kafkaMessage = BulkService.filterExperimentJson(jobData, kafkaIncludeFilter, kafkaExcludeFilter, experimentName);
             LOGGER.debug("Publishing Kafka Message for experiment {} in topic : {}", experimentName, topic);
-            // synchronize the publish call to avoid inter-leaving of messages
-            synchronized (this) {
-                publish(new KruizeKafka(topic, kafkaMessage));
-            }
-            experiment.setStatus(KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PUBLISHED);
+            publish(new KruizeKafka(topic, kafkaMessage), experimentName, (metadata, exception) -> {
+                if (null == exception) {
+                    experiment.setStatus(KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PUBLISHED);
+                    jobData.getSummary().incrementKafka_messages_delivered();
+                } else {
+                    LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_EXPERIMENT_MESSAGE_FAILED, experimentName, topic, exception.getMessage());
+                    experiment.setStatus(KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PUBLISH_FAILED);
+                    jobData.getSummary().incrementKafka_messages_failed();
+                }
+            });
         } catch (Exception e) {
             LOGGER.error(e.getMessage());
             experiment.setStatus(KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PUBLISH_FAILED);
+            jobData.getSummary().incrementKafka_messages_failed();
         }
     }
 
@@ -99,23 +110,37 @@ public class KruizeKafkaManager {
      * @param kruizeKafka the Kafka message containing the topic and message content
      */
     public void publish(KruizeKafka kruizeKafka) {
+        publish(kruizeKafka, null, null);
+    }
+
+    /**
+     * Publishes a Kafka message asynchronously using the executor service.
+     *
+     * @param kruizeKafka the Kafka message containing the topic and message content
+     * @param key         the message key, can be null
+     * @param callback    invoked once the message is acknowledged or failed, can be null
+     */
+    public void publish(KruizeKafka kruizeKafka, String key, Callback callback) {
         try {
             // Call Kafka producer based on topic
             switch (kruizeKafka.getTopic()) {
                 case KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC:
-                    kafkaExecutorService.submit(new KruizeKafkaProducer.ValidRecommendationMessageProducer(kruizeKafka.getMessage()));
+                    kafkaExecutorService.submit(new KruizeKafkaProducer.ValidRecommendationMessageProducer(key, kruizeKafka.getMessage(), callback));
                     break;
                 case KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC:
-                    kafkaExecutorService.submit(new KruizeKafkaProducer.ErrorMessageProducer(kruizeKafka.getMessage()));
+                    kafkaExecutorService.submit(new KruizeKafkaProducer.ErrorMessageProducer(key, kruizeKafka.getMessage(), callback));
                     break;
                 case KruizeConstants.KAFKA_CONSTANTS.SUMMARY_TOPIC:
-                    kafkaExecutorService.submit(new KruizeKafkaProducer.SummaryResponseMessageProducer(kruizeKafka.getMessage()));
+                    kafkaExecutorService.submit(new KruizeKafkaProducer.SummaryResponseMessageProducer(key, kruizeKafka.getMessage(), callback));
                     break;
                 default:
                     throw new IllegalArgumentException(String.format(KruizeConstants.KAFKA_CONSTANTS.UNKNOWN_TOPIC, kruizeKafka.getTopic()));
             }
         } catch (Exception e) {
             LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_PUBLISH_FAILED, e.getMessage());
+            if (null != callback) {
+                callback.onCompletion(null, e);
+            }
         }
     }
 
@@ -2,4 +2,15 @@ package com.autotune.common.auth;
 
 public interface AuthenticationStrategy {
     String applyAuthentication();
+
+    /**
+     * Called when the datasource rejected the authorization header with a 401.
+     *
+     * @param rejectedAuthHeader the header returned by {@link #applyAuthentication()} which was rejected
+     * @return true if the next call to {@link #applyAuthentication()} may return different credentials
+     * and the request is worth retrying
+     */
+    default boolean invalidate(String rejectedAuthHeader) {
+        return false;
+    }
 }
@@ -5,15 +5,18 @@ import java.util.Base64;
 public class BasicAuthenticationStrategy implements AuthenticationStrategy {
     private final String username;
     private final String password;
+    // the credentials do not change, the header is encoded once
+    private final String authHeader;
 
     public BasicAuthenticationStrategy(String username, String password) {
         this.username = username;
         this.password = password;
+        String auth = username + ":" + password;
+        this.authHeader = "Basic " + Base64.getEncoder().encodeToString(auth.getBytes());
     }
 
     @Override
     public String applyAuthentication() {
-        String auth = username + ":" + password;
-        return "Basic " + Base64.getEncoder().encodeToString(auth.getBytes());
+        return authHeader;
     }
 }
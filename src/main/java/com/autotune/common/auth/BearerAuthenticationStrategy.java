@@ -1,12 +1,17 @@
 package com.autotune.common.auth;
 
+import com.autotune.utils.KruizeConstants;
+
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class BearerAuthenticationStrategy implements AuthenticationStrategy {
     private final String tokenFilePath;
     private final String tokenString;
+    // the token file is read again periodically and when the token is rejected
+    private final TokenCache tokenCache = new TokenCache(this::readTokenFile);
 
     public BearerAuthenticationStrategy(String tokenFilePath,  String tokenString) {
         this.tokenFilePath = tokenFilePath;
@@ -16,13 +21,9 @@ public class BearerAuthenticationStrategy implements AuthenticationStrategy {
     @Override
     public String applyAuthentication() {
         if(null == tokenString) {
-            // Read token from file
             try {
-                BufferedReader reader = new BufferedReader(new FileReader(tokenFilePath));
-                String token = reader.readLine();
-                reader.close();
-                return "Bearer " + token;
-            } catch (IOException e) {
+                return tokenCache.get();
+            } catch (Exception e) {
                 throw new RuntimeException("Failed to read Bearer token: " + e.getMessage());
             }
         }else{
@@ -30,4 +31,22 @@ public class BearerAuthenticationStrategy implements AuthenticationStrategy {
         }
 
     }
+
+    @Override
+    public boolean invalidate(String rejectedAuthHeader) {
+        if (null != tokenString) {
+            return false;
+        }
+        tokenCache.invalidate(rejectedAuthHeader);
+        return true;
+    }
+
+    private TokenCache.Token readTokenFile() throws IOException {
+        // Read token from file
+        try (BufferedReader reader = new BufferedReader(new FileReader(tokenFilePath))) {
+            String token = reader.readLine();
+            return TokenCache.Token.withLifetime("Bearer " + token,
+                    TimeUnit.SECONDS.toMillis(KruizeConstants.AuthenticationConstants.BEARER_TOKEN_FILE_REFRESH_SECONDS));
+        }
+    }
 }
@@ -1,14 +1,28 @@
 package com.autotune.common.auth;
 
+import com.autotune.utils.KruizeConstants;
+import org.json.JSONObject;
+
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 public class OAuth2AuthenticationStrategy implements AuthenticationStrategy {
+    // shared by the token requests of all the datasources
+    private static final HttpClient TOKEN_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
     private final String tokenEndpoint;
     private final String clientId;
     private final String clientSecret;
+    // the strategy is shared by all the requests to the datasource, so is the token
+    private final TokenCache tokenCache = new TokenCache(this::fetchToken);
 
     public OAuth2AuthenticationStrategy(String tokenEndpoint, String clientId, String clientSecret) {
         this.tokenEndpoint = tokenEndpoint;
@@ -19,46 +33,79 @@ public class OAuth2AuthenticationStrategy implements AuthenticationStrategy {
     @Override
     public String applyAuthentication() {
         try {
-            // Fetch the OAuth2 token using client credentials
-            HttpClient client = HttpClient.newHttpClient();
+            return tokenCache.get();
+        } catch (Exception e) {
+            throw new RuntimeException("Error fetching OAuth2 token", e);
+        }
+    }
+
+    @Override
+    public boolean invalidate(String rejectedAuthHeader) {
+        tokenCache.invalidate(rejectedAuthHeader);
+        return true;
+    }
 
-            // Create the request body for the OAuth2 token request
-            String form = "grant_type=client_credentials"
-                    + "&client_id=" + clientId
-                    + "&client_secret=" + clientSecret;
+    private TokenCache.Token fetchToken() throws Exception {
+        // Create the request body for the OAuth2 token request
+        String form = "grant_type=client_credentials"
+                + "&client_id=" + URLEncoder.encode(clientId, StandardCharsets.UTF_8)
+                + "&client_secret=" + URLEncoder.encode(clientSecret, StandardCharsets.UTF_8);
 
-            // Send the POST request to fetch the token
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(tokenEndpoint))
-                    .header("Content-Type", "application/x-www-form-urlencoded")
-                    .POST(HttpRequest.BodyPublishers.ofString(form))
-                    .build();
+        // Send the POST request to fetch the token
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(tokenEndpoint))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
 
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = TOKEN_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
 
-            if (response.statusCode() == 200) {
-                // Parse the token from the response JSON (assuming GitHub returns a JSON)
-                String token = parseToken(response.body());
-                return "Bearer " + token; // Return the token in Bearer format
-            } else {
-                throw new RuntimeException("Failed to fetch OAuth2 token: " + response.body());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Error fetching OAuth2 token", e);
+        if (response.statusCode() == 200) {
+            return parseToken(response.body());
+        } else {
+            throw new RuntimeException("Failed to fetch OAuth2 token: " + response.body());
         }
     }
 
-    // You will need a method to parse the token from the response body
-    private String parseToken(String responseBody) {
-        // Parse the response and extract the access token.
-        // GitHub returns a form-encoded response, so you need to parse the "access_token"
-        String[] pairs = responseBody.split("&");
-        for (String pair : pairs) {
-            String[] keyValue = pair.split("=");
-            if (keyValue[0].equals("access_token")) {
-                return keyValue[1];
+    /**
+     * Parses the access token and its lifetime from a JSON or a form-encoded (e.g. GitHub) response
+     */
+    private TokenCache.Token parseToken(String responseBody) {
+        String accessToken = null;
+        String expiresIn = null;
+        String body = responseBody.trim();
+        if (body.startsWith("{")) {
+            JSONObject json = new JSONObject(body);
+            accessToken = json.optString(KruizeConstants.AuthenticationConstants.ACCESS_TOKEN, null);
+            expiresIn = json.has(KruizeConstants.AuthenticationConstants.EXPIRES_IN) ?
+                    String.valueOf(json.get(KruizeConstants.AuthenticationConstants.EXPIRES_IN)) : null;
+        } else {
+            for (String pair : body.split("&")) {
+                String[] keyValue = pair.split("=", 2);
+                if (keyValue.length < 2) {
+                    continue;
+                }
+                if (keyValue[0].equals(KruizeConstants.AuthenticationConstants.ACCESS_TOKEN)) {
+                    accessToken = keyValue[1];
+                } else if (keyValue[0].equals(KruizeConstants.AuthenticationConstants.EXPIRES_IN)) {
+                    expiresIn = keyValue[1];
+                }
+            }
+        }
+        if (null == accessToken || accessToken.isEmpty()) {
+            throw new RuntimeException("No access token found in response");
+        }
+
+        long lifetimeInSeconds = KruizeConstants.AuthenticationConstants.DEFAULT_OAUTH2_TOKEN_LIFETIME_SECONDS;
+        if (null != expiresIn) {
+            try {
+                lifetimeInSeconds = Long.parseLong(expiresIn.trim());
+            } catch (NumberFormatException e) {
+                // keep the default lifetime
             }
         }
-        throw new RuntimeException("No access token found in response");
+        return TokenCache.Token.withLifetime("Bearer " + accessToken, TimeUnit.SECONDS.toMillis(lifetimeInSeconds));
     }
 }
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caches the authorization header of an authentication strategy until it expires.
+ * <p>
+ * Concurrent callers share a single fetch, the ones arriving while it is in flight wait for its result
+ * instead of fetching again. Once a token reaches its refresh time it is still handed out while a new one
+ * is fetched in the background, so requests only wait for the token endpoint when the token has expired.
+ */
+public class TokenCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenCache.class);
+    // refresh of the tokens of all the datasources, the threads are only alive while a refresh runs
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "auth-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Callable<Token> fetcher;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile Token token;
+
+    /**
+     * @param fetcher fetches a new token, called by a single thread at a time
+     */
+    public TokenCache(Callable<Token> fetcher) {
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * Returns the cached authorization header, fetching a new one if there is none or it has expired
+     */
+    public String get() throws Exception {
+        Token current = token;
+        long now = System.currentTimeMillis();
+        if (null != current && now < current.expiresAtMillis()) {
+            if (now >= current.refreshAtMillis()) {
+                refreshInBackground(current);
+            }
+            return current.value();
+        }
+        return refresh(current).value();
+    }
+
+    /**
+     * Drops the cached header if it is the one the server rejected, the next call to {@link #get()} fetches a new one
+     *
+     * @param rejectedValue the authorization header which was rejected
+     */
+    public void invalidate(String rejectedValue) {
+        lock.lock();
+        try {
+            Token current = token;
+            // an other request may already have replaced the rejected token
+            if (null != current && current.value().equals(rejectedValue)) {
+                token = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Token refresh(Token stale) throws Exception {
+        lock.lock();
+        try {
+            Token current = token;
+            // the token was replaced while waiting for the lock
+            if (null != current && current != stale && System.currentTimeMillis() < current.expiresAtMillis()) {
+                return current;
+            }
+            Token fresh = fetcher.call();
+            token = fresh;
+            return fresh;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refreshInBackground(Token stale) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            REFRESH_EXECUTOR.submit(() -> {
+                try {
+                    refresh(stale);
+                } catch (Exception e) {
+                    // the current token is used until it expires
+                    LOGGER.warn("Failed to refresh the authentication token: {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (Exception e) {
+            refreshing.set(false);
+            LOGGER.warn("Failed to schedule the refresh of the authentication token: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Authorization header along with the time it should be refreshed at and the time it expires at
+     */
+    public record Token(String value, long refreshAtMillis, long expiresAtMillis) {
+
+        /**
+         * Token valid for the given lifetime, it is refreshed after 80% of it and considered expired a little
+         * before the end to allow for the clock skew and the time the request takes
+         */
+        public static Token withLifetime(String value, long lifetimeMillis) {
+            long now = System.currentTimeMillis();
+            long expiryMargin = Math.min(lifetimeMillis / 10, 30_000L);
+            return new Token(value, now + (lifetimeMillis * 8) / 10, now + lifetimeMillis - expiryMargin);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.metrics;
+
+import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.utils.KruizeConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Aggregation functions supported in the aggregation_functions of a metric profile, along with the
+ * getter and setter of the matching field of {@link MetricAggregationInfoResults}.
+ * <p>
+ * New aggregation functions are added here, the function is resolved once from its name and the
+ * accessors are then applied to every sample.
+ */
+public enum MetricAggregationFunction {
+    AVG(KruizeConstants.JSONKeys.AVG, MetricAggregationInfoResults::getAvg, MetricAggregationInfoResults::setAvg),
+    COUNT(KruizeConstants.JSONKeys.COUNT, MetricAggregationInfoResults::getCount, (results, value) -> results.setCount(toCount(value))),
+    MAX(KruizeConstants.JSONKeys.MAX, MetricAggregationInfoResults::getMax, MetricAggregationInfoResults::setMax),
+    MEDIAN(KruizeConstants.JSONKeys.MEDIAN, MetricAggregationInfoResults::getMedian, MetricAggregationInfoResults::setMedian),
+    MIN(KruizeConstants.JSONKeys.MIN, MetricAggregationInfoResults::getMin, MetricAggregationInfoResults::setMin),
+    MODE(KruizeConstants.JSONKeys.MODE, MetricAggregationInfoResults::getMode, MetricAggregationInfoResults::setMode),
+    RANGE(KruizeConstants.JSONKeys.RANGE, MetricAggregationInfoResults::getRange, MetricAggregationInfoResults::setRange),
+    SUM(KruizeConstants.JSONKeys.SUM, MetricAggregationInfoResults::getSum, MetricAggregationInfoResults::setSum);
+
+    private static final Map<String, MetricAggregationFunction> FUNCTIONS_BY_NAME = new HashMap<>();
+
+    static {
+        for (MetricAggregationFunction function : values()) {
+            FUNCTIONS_BY_NAME.put(function.functionName, function);
+        }
+    }
+
+    private final String functionName;
+    private final Function<MetricAggregationInfoResults, ? extends Number> getter;
+    private final ObjDoubleConsumer<MetricAggregationInfoResults> setter;
+
+    MetricAggregationFunction(String functionName, Function<MetricAggregationInfoResults, ? extends Number> getter,
+                              ObjDoubleConsumer<MetricAggregationInfoResults> setter) {
+        this.functionName = functionName;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Returns the aggregation function with the given name, null if the function is not supported
+     *
+     * @param functionName name of the function as used in the metric profile, e.g. "avg"
+     */
+    public static MetricAggregationFunction fromName(String functionName) {
+        if (null == functionName) {
+            return null;
+        }
+        return FUNCTIONS_BY_NAME.get(functionName);
+    }
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * Returns the value of this aggregation function in the results, null if it is not set
+     */
+    public Number getValue(MetricAggregationInfoResults results) {
+        return getter.apply(results);
+    }
+
+    /**
+     * Sets the value of this aggregation function in the results
+     *
+     * @throws IllegalArgumentException if the value does not fit the field, e.g. a count out of the int range
+     */
+    public void setValue(MetricAggregationInfoResults results, double value) {
+        setter.accept(results, value);
+    }
+
+    /**
+     * Converts the count returned by the datasource to the Integer count field. Prometheus returns counts as
+     * floats, they are rounded to the nearest integer. A value out of the int range is rejected instead of
+     * being truncated or saturated.
+     */
+    static int toCount(double value) {
+        double rounded = Math.rint(value);
+        if (Double.isNaN(rounded) || rounded < Integer.MIN_VALUE || rounded > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.INVALID_COUNT_VALUE, value));
+        }
+        return (int) rounded;
+    }
+}
@@ -0,0 +1,397 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.result;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.AcceleratorMetricResult;
+import com.autotune.common.data.metrics.MetricAggregationFunction;
+import com.autotune.common.data.metrics.MetricAggregationInfoResults;
+import com.autotune.common.data.metrics.MetricMetadata;
+import com.autotune.common.data.metrics.MetricMetadataResults;
+import com.autotune.common.data.metrics.MetricResults;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar implementation of {@link IntervalResultsSeries}.
+ * <p>
+ * The interval end times are kept in an {@link IntervalTimeIndex}, every metric x aggregation function present
+ * in the results gets its own double[] column along with a bitmap of the intervals where the value is available.
+ * The interval results objects are not kept, only the sparse data which has no column, the metric metadata and
+ * the accelerator results, is referenced per interval. Sub series are views over the same columns.
+ */
+public class ColumnarIntervalResultsSeries implements IntervalResultsSeries {
+    private static final AnalyzerConstants.MetricName[] METRIC_NAMES = AnalyzerConstants.MetricName.values();
+    private static final MetricAggregationFunction[] FUNCTIONS = MetricAggregationFunction.values();
+
+    private final Columns columns;
+    private final int offset;
+    private final int length;
+
+    private ColumnarIntervalResultsSeries(Columns columns, int offset, int length) {
+        this.columns = columns;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Builds the series from a results map keyed by interval end time
+     *
+     * @param resultsMap results of a container or namespace, can be null
+     */
+    public static ColumnarIntervalResultsSeries from(Map<Timestamp, IntervalResults> resultsMap) {
+        List<Map.Entry<Timestamp, IntervalResults>> entries = new ArrayList<>();
+        if (null != resultsMap) {
+            for (Map.Entry<Timestamp, IntervalResults> entry : resultsMap.entrySet()) {
+                if (null != entry.getKey() && null != entry.getValue()) {
+                    entries.add(entry);
+                }
+            }
+        }
+        entries.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+
+        Timestamp[] intervalEndTimes = new Timestamp[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            intervalEndTimes[i] = entries.get(i).getKey();
+        }
+        Columns columns = new Columns(IntervalTimeIndex.ofSorted(intervalEndTimes));
+        for (int i = 0; i < entries.size(); i++) {
+            columns.add(i, entries.get(i).getValue());
+        }
+        return new ColumnarIntervalResultsSeries(columns, 0, entries.size());
+    }
+
+    /**
+     * Builds the series from the interval results collected from the datasource, the collector is not
+     * referenced by the series and can be discarded
+     *
+     * @param collector interval results of a container or namespace keyed by interval end time
+     */
+    public static ColumnarIntervalResultsSeries from(IntervalResultsCollector collector) {
+        IntervalResults[] intervalResults = collector.toSortedArray();
+        Timestamp[] intervalEndTimes = new Timestamp[intervalResults.length];
+        for (int i = 0; i < intervalResults.length; i++) {
+            intervalEndTimes[i] = intervalResults[i].getIntervalEndTime();
+        }
+        Columns columns = new Columns(IntervalTimeIndex.ofSorted(intervalEndTimes));
+        for (int i = 0; i < intervalResults.length; i++) {
+            columns.add(i, intervalResults[i]);
+        }
+        return new ColumnarIntervalResultsSeries(columns, 0, intervalResults.length);
+    }
+
+    @Override
+    public int size() {
+        return length;
+    }
+
+    @Override
+    public long getIntervalEndTimeMillis(int index) {
+        return columns.timeIndex.getIntervalEndTimeMillis(position(index));
+    }
+
+    @Override
+    public Timestamp getIntervalEndTime(int index) {
+        return columns.timeIndex.getIntervalEndTime(position(index));
+    }
+
+    @Override
+    public boolean hasValue(int index, AnalyzerConstants.MetricName metricName, MetricAggregationFunction function) {
+        BitSet present = columns.present[column(metricName, function)];
+        return null != present && present.get(position(index));
+    }
+
+    @Override
+    public double getValue(int index, AnalyzerConstants.MetricName metricName, MetricAggregationFunction function, double defaultValue) {
+        int column = column(metricName, function);
+        int position = position(index);
+        BitSet present = columns.present[column];
+        if (null == present || !present.get(position)) {
+            return defaultValue;
+        }
+        return columns.values[column][position];
+    }
+
+    @Override
+    public boolean hasMetric(int index, AnalyzerConstants.MetricName metricName) {
+        BitSet present = columns.metricPresent[metricName.ordinal()];
+        return null != present && present.get(position(index));
+    }
+
+    @Override
+    public String getFormat(int index, AnalyzerConstants.MetricName metricName) {
+        String[] formats = columns.formats[metricName.ordinal()];
+        return null == formats ? null : formats[position(index)];
+    }
+
+    @Override
+    public double getDurationInMinutes(int index, double defaultValue) {
+        int position = position(index);
+        return columns.durationPresent.get(position) ? columns.durationsInMinutes[position] : defaultValue;
+    }
+
+    @Override
+    public MetricMetadata getMetadata(int index, AnalyzerConstants.MetricName metricName) {
+        MetricMetadata[] metadata = columns.metadata[metricName.ordinal()];
+        return null == metadata ? null : metadata[position(index)];
+    }
+
+    @Override
+    public MetricMetadataResults getMetricMetadataResults(int index, AnalyzerConstants.MetricName metricName) {
+        MetricMetadataResults[] metadataResults = columns.metadataResults[metricName.ordinal()];
+        return null == metadataResults ? null : metadataResults[position(index)];
+    }
+
+    @Override
+    public boolean hasAcceleratorMetrics(int index) {
+        return columns.acceleratorPresent.get(position(index));
+    }
+
+    @Override
+    public AcceleratorMetricResult getAcceleratorMetricResult(int index, AnalyzerConstants.MetricName metricName) {
+        AcceleratorMetricResult[] acceleratorResults = columns.acceleratorResults[metricName.ordinal()];
+        return null == acceleratorResults ? null : acceleratorResults[position(index)];
+    }
+
+    @Override
+    public int indexOf(long intervalEndTimeMillis) {
+        int index = lowerBound(intervalEndTimeMillis);
+        if (index < length && getIntervalEndTimeMillis(index) == intervalEndTimeMillis) {
+            return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int nearestIndex(long intervalEndTimeMillis, long toleranceMillis) {
+        int position = columns.timeIndex.nearestIndex(intervalEndTimeMillis, toleranceMillis, offset, offset + length);
+        return -1 == position ? -1 : position - offset;
+    }
+
+    @Override
+    public IntervalResultsSeries subSeries(long fromMillis, long toMillis) {
+        int from = lowerBound(fromMillis);
+        int to = lowerBound(toMillis);
+        // include the intervals ending exactly at toMillis
+        while (to < length && getIntervalEndTimeMillis(to) == toMillis) {
+            to++;
+        }
+        if (to < from) {
+            to = from;
+        }
+        return new ColumnarIntervalResultsSeries(columns, offset + from, to - from);
+    }
+
+    @Override
+    public HashMap<Timestamp, IntervalResults> toResultsMap() {
+        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>(Math.max(16, (int) (length / 0.75f) + 1));
+        for (int i = 0; i < length; i++) {
+            IntervalResults intervalResults = columns.toIntervalResults(position(i));
+            resultsMap.put(intervalResults.getIntervalEndTime(), intervalResults);
+        }
+        return resultsMap;
+    }
+
+    /**
+     * Index of the first interval ending at or after the given time, size() if there is none
+     */
+    private int lowerBound(long intervalEndTimeMillis) {
+        return columns.timeIndex.lowerBound(intervalEndTimeMillis, offset, offset + length) - offset;
+    }
+
+    private int position(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return offset + index;
+    }
+
+    private static int column(AnalyzerConstants.MetricName metricName, MetricAggregationFunction function) {
+        return metricName.ordinal() * FUNCTIONS.length + function.ordinal();
+    }
+
+    /**
+     * Data shared by a series and its sub series, the columns are allocated only for the metrics and
+     * aggregation functions present in the results
+     */
+    private static final class Columns {
+        private final int size;
+        private final IntervalTimeIndex timeIndex;
+        private final long[] intervalStartTimes;
+        private final BitSet startTimePresent;
+        private final double[] durationsInMinutes;
+        private final BitSet durationPresent;
+        private final double[][] values = new double[METRIC_NAMES.length * FUNCTIONS.length][];
+        private final BitSet[] present = new BitSet[METRIC_NAMES.length * FUNCTIONS.length];
+        private final BitSet[] metricPresent = new BitSet[METRIC_NAMES.length];
+        private final BitSet[] aggregationPresent = new BitSet[METRIC_NAMES.length];
+        private final String[][] formats = new String[METRIC_NAMES.length][];
+        private final MetricMetadata[][] metadata = new MetricMetadata[METRIC_NAMES.length][];
+        private final MetricMetadataResults[][] metadataResults = new MetricMetadataResults[METRIC_NAMES.length][];
+        private final AcceleratorMetricResult[][] acceleratorResults = new AcceleratorMetricResult[METRIC_NAMES.length][];
+        private final BitSet acceleratorPresent;
+
+        private Columns(IntervalTimeIndex timeIndex) {
+            this.size = timeIndex.size();
+            this.timeIndex = timeIndex;
+            this.intervalStartTimes = new long[size];
+            this.startTimePresent = new BitSet(size);
+            this.durationsInMinutes = new double[size];
+            this.durationPresent = new BitSet(size);
+            this.acceleratorPresent = new BitSet(size);
+        }
+
+        private void add(int position, IntervalResults results) {
+            if (null != results.getIntervalStartTime()) {
+                intervalStartTimes[position] = results.getIntervalStartTime().getTime();
+                startTimePresent.set(position);
+            }
+            if (null != results.getDurationInMinutes()) {
+                durationsInMinutes[position] = results.getDurationInMinutes();
+                durationPresent.set(position);
+            }
+            addAcceleratorResults(position, results.getAcceleratorMetricResultHashMap());
+            if (null == results.getMetricResultsMap()) {
+                return;
+            }
+            for (Map.Entry<AnalyzerConstants.MetricName, MetricResults> metricEntry : results.getMetricResultsMap().entrySet()) {
+                if (null == metricEntry.getKey() || null == metricEntry.getValue()) {
+                    continue;
+                }
+                int metric = metricEntry.getKey().ordinal();
+                MetricResults metricResults = metricEntry.getValue();
+                if (null == metricPresent[metric]) {
+                    metricPresent[metric] = new BitSet(size);
+                }
+                metricPresent[metric].set(position);
+                if (null != metricResults.getMetadata()) {
+                    if (null == metadata[metric]) {
+                        metadata[metric] = new MetricMetadata[size];
+                    }
+                    metadata[metric][position] = metricResults.getMetadata();
+                }
+                if (null != metricResults.getMetricMetadataResults()) {
+                    if (null == metadataResults[metric]) {
+                        metadataResults[metric] = new MetricMetadataResults[size];
+                    }
+                    metadataResults[metric][position] = metricResults.getMetricMetadataResults();
+                }
+                MetricAggregationInfoResults aggregationInfoResults = metricResults.getAggregationInfoResult();
+                if (null == aggregationInfoResults) {
+                    continue;
+                }
+                if (null == formats[metric]) {
+                    formats[metric] = new String[size];
+                    aggregationPresent[metric] = new BitSet(size);
+                }
+                formats[metric][position] = aggregationInfoResults.getFormat();
+                aggregationPresent[metric].set(position);
+                for (MetricAggregationFunction function : FUNCTIONS) {
+                    Number value = function.getValue(aggregationInfoResults);
+                    if (null == value) {
+                        continue;
+                    }
+                    int column = metric * FUNCTIONS.length + function.ordinal();
+                    if (null == values[column]) {
+                        values[column] = new double[size];
+                        present[column] = new BitSet(size);
+                    }
+                    values[column][position] = value.doubleValue();
+                    present[column].set(position);
+                }
+            }
+        }
+
+        private void addAcceleratorResults(int position, Map<AnalyzerConstants.MetricName, AcceleratorMetricResult> acceleratorMetricResults) {
+            if (null == acceleratorMetricResults || acceleratorMetricResults.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<AnalyzerConstants.MetricName, AcceleratorMetricResult> acceleratorEntry : acceleratorMetricResults.entrySet()) {
+                if (null == acceleratorEntry.getKey() || null == acceleratorEntry.getValue()) {
+                    continue;
+                }
+                int metric = acceleratorEntry.getKey().ordinal();
+                if (null == acceleratorResults[metric]) {
+                    acceleratorResults[metric] = new AcceleratorMetricResult[size];
+                }
+                acceleratorResults[metric][position] = acceleratorEntry.getValue();
+                acceleratorPresent.set(position);
+            }
+        }
+
+        /**
+         * Builds back the interval results object of the interval at position
+         */
+        private IntervalResults toIntervalResults(int position) {
+            IntervalResults intervalResults = new IntervalResults();
+            intervalResults.setIntervalEndTime(timeIndex.getIntervalEndTime(position));
+            if (startTimePresent.get(position)) {
+                intervalResults.setIntervalStartTime(new Timestamp(intervalStartTimes[position]));
+            }
+            if (durationPresent.get(position)) {
+                intervalResults.setDurationInMinutes(durationsInMinutes[position]);
+            }
+            HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = new HashMap<>();
+            for (AnalyzerConstants.MetricName metricName : METRIC_NAMES) {
+                int metric = metricName.ordinal();
+                if (null == metricPresent[metric] || !metricPresent[metric].get(position)) {
+                    continue;
+                }
+                MetricResults metricResults = new MetricResults();
+                metricResults.setName(metricName.name());
+                if (null != metadata[metric]) {
+                    metricResults.setMetadata(metadata[metric][position]);
+                }
+                if (null != metadataResults[metric]) {
+                    metricResults.setMetricMetadataResults(metadataResults[metric][position]);
+                }
+                if (null != aggregationPresent[metric] && aggregationPresent[metric].get(position)) {
+                    MetricAggregationInfoResults aggregationInfoResults = new MetricAggregationInfoResults();
+                    for (MetricAggregationFunction function : FUNCTIONS) {
+                        int column = metric * FUNCTIONS.length + function.ordinal();
+                        if (null != present[column] && present[column].get(position)) {
+                            function.setValue(aggregationInfoResults, values[column][position]);
+                        }
+                    }
+                    aggregationInfoResults.setFormat(formats[metric][position]);
+                    metricResults.setAggregationInfoResult(aggregationInfoResults);
+                    metricResults.setFormat(formats[metric][position]);
+                } else {
+                    metricResults.setAggregationInfoResult(null);
+                }
+                metricResultsMap.put(metricName, metricResults);
+            }
+            intervalResults.setMetricResultsMap(metricResultsMap);
+            if (acceleratorPresent.get(position)) {
+                HashMap<AnalyzerConstants.MetricName, AcceleratorMetricResult> acceleratorMetricResults = new HashMap<>();
+                for (AnalyzerConstants.MetricName metricName : METRIC_NAMES) {
+                    AcceleratorMetricResult[] acceleratorResultsOfMetric = acceleratorResults[metricName.ordinal()];
+                    if (null != acceleratorResultsOfMetric && null != acceleratorResultsOfMetric[position]) {
+                        acceleratorMetricResults.put(metricName, acceleratorResultsOfMetric[position]);
+                    }
+                }
+                intervalResults.setAcceleratorMetricResultHashMap(acceleratorMetricResults);
+            }
+            return intervalResults;
+        }
+    }
+}
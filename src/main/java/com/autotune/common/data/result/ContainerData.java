@@ -32,6 +32,8 @@ public class ContainerData {
     private String container_name;
     //key is intervalEndTime
     private HashMap<Timestamp, IntervalResults> results;
+    // results collected from the datasource, the map is only built from it for the API and the database
+    private transient IntervalResultsSeries resultsSeries;
     private ContainerDeviceList containerDeviceList;
     @SerializedName(KruizeConstants.JSONKeys.RECOMMENDATIONS)
     private ContainerRecommendations containerRecommendations;
@@ -82,11 +84,33 @@ public class ContainerData {
     }
 
     public HashMap<Timestamp, IntervalResults> getResults() {
+        if (null == results && null != resultsSeries) {
+            results = resultsSeries.toResultsMap();
+            resultsSeries = null;
+        }
         return results;
     }
 
     public void setResults(HashMap<Timestamp, IntervalResults> results) {
         this.results = results;
+        this.resultsSeries = null;
+    }
+
+    /**
+     * Results as a series ordered by interval end time, built from the results map when the results were
+     * not collected from the datasource
+     */
+    public IntervalResultsSeries getResultsSeries() {
+        return null != resultsSeries ? resultsSeries : ColumnarIntervalResultsSeries.from(results);
+    }
+
+    public void setResultsSeries(IntervalResultsSeries resultsSeries) {
+        this.resultsSeries = resultsSeries;
+        this.results = null;
+    }
+
+    public boolean hasResults() {
+        return null != resultsSeries ? !resultsSeries.isEmpty() : null != results && !results.isEmpty();
     }
 
     public ContainerRecommendations getContainerRecommendations() {
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.result;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+
+/**
+ * Interval results of a container or namespace keyed by the interval end time in epoch millis, used while the
+ * samples returned by the datasource are merged.
+ * <p>
+ * Every metric and aggregation function of an interval carries the same end time, keying on the primitive epoch
+ * millis avoids a Timestamp and a boxed key per sample. The Timestamp of an interval is created once, with the
+ * interval. Once all the samples are merged the collector is turned into a {@link ColumnarIntervalResultsSeries}
+ * and discarded, no results map keyed by Timestamp is built.
+ */
+public final class IntervalResultsCollector {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // open addressing with linear probing, a slot is used when its value is not null
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private IntervalResults[] values = new IntervalResults[INITIAL_CAPACITY];
+    private int size;
+    private IntervalResults lastIntervalResults;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    /**
+     * Interval results ending at the given time, null if there is none
+     */
+    public IntervalResults get(long intervalEndTimeMillis) {
+        int slot = slot(keys, values, intervalEndTimeMillis);
+        return values[slot];
+    }
+
+    /**
+     * Interval results ending at the given time, created with an empty metric results map if there is none
+     */
+    public IntervalResults getOrCreate(long intervalEndTimeMillis) {
+        int slot = slot(keys, values, intervalEndTimeMillis);
+        IntervalResults intervalResults = values[slot];
+        if (null != intervalResults) {
+            return intervalResults;
+        }
+        intervalResults = new IntervalResults();
+        intervalResults.setIntervalEndTime(new Timestamp(intervalEndTimeMillis));
+        intervalResults.setMetricResultsMap(new HashMap<>());
+        keys[slot] = intervalEndTimeMillis;
+        values[slot] = intervalResults;
+        size++;
+        if (null == lastIntervalResults || intervalEndTimeMillis > lastIntervalResults.getIntervalEndTime().getTime()) {
+            lastIntervalResults = intervalResults;
+        }
+        if (2 * size > keys.length) {
+            grow();
+        }
+        return intervalResults;
+    }
+
+    /**
+     * End time of the latest interval, null if there are no intervals
+     */
+    public Timestamp getLastIntervalEndTime() {
+        return null == lastIntervalResults ? null : lastIntervalResults.getIntervalEndTime();
+    }
+
+    /**
+     * Index of the interval end times collected so far
+     */
+    public IntervalTimeIndex getTimeIndex() {
+        IntervalResults[] intervalResults = toSortedArray();
+        Timestamp[] intervalEndTimes = new Timestamp[intervalResults.length];
+        for (int i = 0; i < intervalResults.length; i++) {
+            intervalEndTimes[i] = intervalResults[i].getIntervalEndTime();
+        }
+        return IntervalTimeIndex.ofSorted(intervalEndTimes);
+    }
+
+    /**
+     * Interval results collected so far ordered by interval end time
+     */
+    IntervalResults[] toSortedArray() {
+        IntervalResults[] intervalResults = new IntervalResults[size];
+        int index = 0;
+        for (IntervalResults value : values) {
+            if (null != value) {
+                intervalResults[index++] = value;
+            }
+        }
+        Arrays.sort(intervalResults, Comparator.comparingLong(value -> value.getIntervalEndTime().getTime()));
+        return intervalResults;
+    }
+
+    private void grow() {
+        long[] newKeys = new long[keys.length * 2];
+        IntervalResults[] newValues = new IntervalResults[values.length * 2];
+        for (int i = 0; i < values.length; i++) {
+            if (null != values[i]) {
+                int slot = slot(newKeys, newValues, keys[i]);
+                newKeys[slot] = keys[i];
+                newValues[slot] = values[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    /**
+     * Slot holding the key, or the free slot where it would be inserted
+     */
+    private static int slot(long[] keys, IntervalResults[] values, long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (null != values[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key) {
+        // the end times are multiples of the measurement duration, mix the bits so that they spread over the table
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.result;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.AcceleratorMetricResult;
+import com.autotune.common.data.metrics.MetricAggregationFunction;
+import com.autotune.common.data.metrics.MetricMetadata;
+import com.autotune.common.data.metrics.MetricMetadataResults;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+
+/**
+ * Read only view of the interval results of a container or namespace, ordered by interval end time.
+ * <p>
+ * Intervals are addressed by index, the aggregation values of a metric are read as primitives so that
+ * the recommendation code can iterate a term without going through the per interval maps and boxed values.
+ */
+public interface IntervalResultsSeries {
+
+    /**
+     * Number of intervals in the series
+     */
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Interval end time of the interval at index, in epoch millis
+     */
+    long getIntervalEndTimeMillis(int index);
+
+    /**
+     * Interval end time of the interval at index, the same Timestamp used as key in the results map
+     */
+    Timestamp getIntervalEndTime(int index);
+
+    /**
+     * Returns true if the aggregation value of the metric is available for the interval at index
+     */
+    boolean hasValue(int index, AnalyzerConstants.MetricName metricName, MetricAggregationFunction function);
+
+    /**
+     * Returns the aggregation value of the metric for the interval at index, or defaultValue if it is not available
+     */
+    double getValue(int index, AnalyzerConstants.MetricName metricName, MetricAggregationFunction function, double defaultValue);
+
+    /**
+     * Returns true if the metric is present in the interval at index
+     */
+    boolean hasMetric(int index, AnalyzerConstants.MetricName metricName);
+
+    /**
+     * Format of the metric for the interval at index, null if the metric is not present
+     */
+    String getFormat(int index, AnalyzerConstants.MetricName metricName);
+
+    /**
+     * Duration in minutes of the interval at index, or defaultValue if it is not available
+     */
+    double getDurationInMinutes(int index, double defaultValue);
+
+    /**
+     * Metadata of the metric for the interval at index, e.g. the accelerator model, null if there is none
+     */
+    MetricMetadata getMetadata(int index, AnalyzerConstants.MetricName metricName);
+
+    /**
+     * Metadata results of a metadata only metric for the interval at index, e.g. the JVM info, null if there is none
+     */
+    MetricMetadataResults getMetricMetadataResults(int index, AnalyzerConstants.MetricName metricName);
+
+    /**
+     * Returns true if accelerator results are present in the interval at index
+     */
+    boolean hasAcceleratorMetrics(int index);
+
+    /**
+     * Accelerator result of the metric for the interval at index, null if there is none
+     */
+    AcceleratorMetricResult getAcceleratorMetricResult(int index, AnalyzerConstants.MetricName metricName);
+
+    /**
+     * Index of the interval ending at the given time, -1 if there is no such interval
+     */
+    int indexOf(long intervalEndTimeMillis);
+
+    /**
+     * Index of the interval ending the closest to the given time, -1 if none of them is within toleranceMillis
+     */
+    int nearestIndex(long intervalEndTimeMillis, long toleranceMillis);
+
+    /**
+     * Intervals whose end time is between fromMillis and toMillis, both inclusive. The returned series
+     * shares the data of this series.
+     */
+    IntervalResultsSeries subSeries(long fromMillis, long toMillis);
+
+    /**
+     * Builds the results map keyed by interval end time, for the API and the database which still work on
+     * the interval results objects
+     */
+    HashMap<Timestamp, IntervalResults> toResultsMap();
+}
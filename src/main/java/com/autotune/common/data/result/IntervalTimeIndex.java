@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.result;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Sorted index of interval end times.
+ * <p>
+ * The end times are kept in a long[] of epoch millis so that the lookups by time, exact or within a
+ * tolerance, are binary searches instead of scans of the results map key set.
+ */
+public final class IntervalTimeIndex {
+    private final long[] intervalEndTimes;
+    private final Timestamp[] timestamps;
+
+    private IntervalTimeIndex(Timestamp[] sortedTimestamps) {
+        this.timestamps = sortedTimestamps;
+        this.intervalEndTimes = new long[sortedTimestamps.length];
+        for (int i = 0; i < sortedTimestamps.length; i++) {
+            intervalEndTimes[i] = sortedTimestamps[i].getTime();
+        }
+    }
+
+    /**
+     * Builds the index of the given interval end times, null values are skipped
+     *
+     * @param timestamps interval end times in any order, typically the key set of a results map
+     */
+    public static IntervalTimeIndex of(Collection<Timestamp> timestamps) {
+        if (null == timestamps) {
+            return new IntervalTimeIndex(new Timestamp[0]);
+        }
+        Timestamp[] sorted = timestamps.stream().filter(Objects::nonNull).toArray(Timestamp[]::new);
+        Arrays.sort(sorted);
+        return new IntervalTimeIndex(sorted);
+    }
+
+    /**
+     * Builds the index of interval end times which are already sorted, the array is used as is
+     */
+    static IntervalTimeIndex ofSorted(Timestamp[] sortedTimestamps) {
+        return new IntervalTimeIndex(sortedTimestamps);
+    }
+
+    public int size() {
+        return intervalEndTimes.length;
+    }
+
+    public boolean isEmpty() {
+        return 0 == intervalEndTimes.length;
+    }
+
+    /**
+     * Interval end time at index, in epoch millis
+     */
+    public long getIntervalEndTimeMillis(int index) {
+        return intervalEndTimes[index];
+    }
+
+    /**
+     * Interval end time at index, the same Timestamp the index was built from
+     */
+    public Timestamp getIntervalEndTime(int index) {
+        return timestamps[index];
+    }
+
+    /**
+     * Index of the first interval ending at or after the given time, size() if there is none
+     */
+    public int lowerBound(long intervalEndTimeMillis) {
+        return lowerBound(intervalEndTimeMillis, 0, intervalEndTimes.length);
+    }
+
+    /**
+     * Index of the interval ending the closest to the given time, -1 if none of them is within the tolerance.
+     * When two intervals are at the same distance the earlier one is returned.
+     */
+    public int nearestIndex(long intervalEndTimeMillis, long toleranceMillis) {
+        return nearestIndex(intervalEndTimeMillis, toleranceMillis, 0, intervalEndTimes.length);
+    }
+
+    /**
+     * Interval end time the closest to the target time, null if none of them is within the tolerance
+     */
+    public Timestamp getNearest(Timestamp targetTime, long toleranceMillis) {
+        int index = nearestIndex(targetTime.getTime(), toleranceMillis);
+        return -1 == index ? null : timestamps[index];
+    }
+
+    /**
+     * Same as {@link #lowerBound(long)} restricted to the indexes from (inclusive) to to (exclusive)
+     */
+    int lowerBound(long intervalEndTimeMillis, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (intervalEndTimes[mid] < intervalEndTimeMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Same as {@link #nearestIndex(long, long)} restricted to the indexes from (inclusive) to to (exclusive)
+     */
+    int nearestIndex(long intervalEndTimeMillis, long toleranceMillis, int from, int to) {
+        int ceiling = lowerBound(intervalEndTimeMillis, from, to);
+        int floor = ceiling - 1;
+        long ceilingDistance = ceiling < to ? intervalEndTimes[ceiling] - intervalEndTimeMillis : Long.MAX_VALUE;
+        long floorDistance = floor >= from ? intervalEndTimeMillis - intervalEndTimes[floor] : Long.MAX_VALUE;
+        if (floorDistance <= ceilingDistance) {
+            return floorDistance <= toleranceMillis ? floor : -1;
+        }
+        return ceilingDistance <= toleranceMillis ? ceiling : -1;
+    }
+}
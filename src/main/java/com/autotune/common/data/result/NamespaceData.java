@@ -19,6 +19,7 @@ import com.autotune.analyzer.recommendations.NamespaceRecommendations;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.metrics.Metric;
 import com.autotune.utils.KruizeConstants;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.gson.annotations.SerializedName;
 
@@ -35,6 +36,8 @@ public class NamespaceData {
     private String namespaceName;
     // key for the hashmap is intervalEndTime
     private HashMap<Timestamp, IntervalResults> results;
+    // results collected from the datasource, the map is only built from it for the API and the database
+    private transient IntervalResultsSeries resultsSeries;
     @SerializedName(KruizeConstants.JSONKeys.RECOMMENDATIONS)
     private NamespaceRecommendations namespaceRecommendations;
     private HashMap<AnalyzerConstants.MetricName, Metric> metrics;
@@ -73,6 +76,10 @@ public class NamespaceData {
      * @return hashmap containing the data collected from data source and intervalEndTime as a key
      */
     public HashMap<Timestamp, IntervalResults> getResults() {
+        if (null == results && null != resultsSeries) {
+            results = resultsSeries.toResultsMap();
+            resultsSeries = null;
+        }
         return results;
     }
 
@@ -82,6 +89,26 @@ public class NamespaceData {
      */
     public void setResults(HashMap<Timestamp, IntervalResults> results) {
         this.results = results;
+        this.resultsSeries = null;
+    }
+
+    /**
+     * Returns the data collected from datasource as a series ordered by intervalEndTime, built from the
+     * hashmap when the data was not collected from the datasource
+     * @return series of the data collected from data source
+     */
+    @JsonIgnore
+    public IntervalResultsSeries getResultsSeries() {
+        return null != resultsSeries ? resultsSeries : ColumnarIntervalResultsSeries.from(results);
+    }
+
+    /**
+     * Stores the data collected from datasource, the hashmap is built from it only when it is requested
+     * @param resultsSeries series of the data collected from data source
+     */
+    public void setResultsSeries(IntervalResultsSeries resultsSeries) {
+        this.resultsSeries = resultsSeries;
+        this.results = null;
     }
 
     /**
@@ -305,6 +305,7 @@ public class DataSourceCollection {
         }
         if (dataSourceCollection.containsKey(name)) {
             dataSourceCollection.remove(name);
+            DataSourceHttpClientPool.getInstance().evict(name);
         } else {
             throw new DataSourceDoesNotExist(KruizeConstants.DataSourceConstants.DataSourceErrorMsgs.DATASOURCE_NOT_EXIST);
         }
@@ -322,6 +323,7 @@ public class DataSourceCollection {
 
         if (dataSourceCollection.containsKey(name)) {
             dataSourceCollection.remove(name);
+            DataSourceHttpClientPool.getInstance().evict(name);
             addDataSource(newDataSource);
         } else {
             throw new DataSourceDoesNotExist(name + ": " + KruizeConstants.DataSourceConstants.DataSourceErrorMsgs.DATASOURCE_NOT_EXIST);
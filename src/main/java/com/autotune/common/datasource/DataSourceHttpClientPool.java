@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource;
+
+import com.autotune.common.auth.AuthenticationConfig;
+import com.autotune.common.auth.AuthenticationStrategy;
+import com.autotune.common.auth.AuthenticationStrategyFactory;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.MetricsConfig;
+import io.micrometer.core.instrument.Meter;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContexts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds one shared, connection-pooled HTTP client per datasource so that repeated queries against the
+ * same datasource reuse keep-alive connections instead of paying a TCP + TLS handshake per request.
+ * <p>
+ * Entries are keyed by datasource name, the client of the calls which are not made against a datasource
+ * is held separately so that it can not be mixed up with a datasource. The authentication strategy is
+ * created once per entry and is rebuilt when the authentication config of the datasource changes. Pool
+ * sizes and idle eviction are configurable through the kruize config (see {@link KruizeDeploymentInfo}).
+ * <p>
+ * Clients are leased for the duration of a request. A client which is replaced or evicted is retired: it
+ * is no longer handed out and it is closed once the requests in flight on it have released it.
+ */
+public class DataSourceHttpClientPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceHttpClientPool.class);
+    private static final String DEFAULT_POOL_NAME = "kruize";
+    private static final DataSourceHttpClientPool INSTANCE = new DataSourceHttpClientPool();
+
+    private final ConcurrentHashMap<String, PooledClient> pooledClients = new ConcurrentHashMap<>();
+    // client of the calls which are not made against a datasource
+    private volatile PooledClient defaultClient;
+
+    private DataSourceHttpClientPool() {
+    }
+
+    public static DataSourceHttpClientPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Leases the shared client for the given datasource, creating it on first use. The client must be
+     * handed back with {@link PooledClient#release()} once the response is consumed.
+     *
+     * @param dataSourceInfo datasource details, or null for calls that are not made against a datasource
+     * @return PooledClient holding the http client and the authentication strategy for the datasource
+     */
+    public PooledClient lease(DataSourceInfo dataSourceInfo) throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        while (true) {
+            PooledClient pooledClient = getClient(dataSourceInfo);
+            if (pooledClient.acquire()) {
+                return pooledClient;
+            }
+            // the client was retired after the lookup, the next lookup returns its replacement
+        }
+    }
+
+    private PooledClient getClient(DataSourceInfo dataSourceInfo) throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        String dataSourceName = (null == dataSourceInfo) ? null : dataSourceInfo.getName();
+        AuthenticationConfig authConfig = (null == dataSourceInfo) ? null : dataSourceInfo.getAuthenticationConfig();
+
+        PooledClient pooledClient = (null == dataSourceName) ? defaultClient : pooledClients.get(dataSourceName);
+        if (null != pooledClient && pooledClient.matches(authConfig)) {
+            return pooledClient;
+        }
+        synchronized (pooledClients) {
+            pooledClient = (null == dataSourceName) ? defaultClient : pooledClients.get(dataSourceName);
+            if (null != pooledClient && pooledClient.matches(authConfig)) {
+                return pooledClient;
+            }
+            if (null != pooledClient) {
+                // auth details have changed, connections opened with the old credentials are dropped
+                LOGGER.debug("Authentication details changed for datasource {}, recreating http client", dataSourceName);
+                pooledClient.retire();
+            }
+            if (null == dataSourceName) {
+                pooledClient = new PooledClient(DEFAULT_POOL_NAME, false, authConfig);
+                defaultClient = pooledClient;
+            } else {
+                pooledClient = new PooledClient(dataSourceName, true, authConfig);
+                pooledClients.put(dataSourceName, pooledClient);
+            }
+            LOGGER.debug("Created pooled http client for datasource {}", pooledClient.name);
+            return pooledClient;
+        }
+    }
+
+    /**
+     * Removes the shared client of the datasource, used when a datasource is deleted or updated. The client
+     * is closed once the requests in flight on it are done.
+     *
+     * @param dataSourceName name of the datasource
+     */
+    public void evict(String dataSourceName) {
+        if (null == dataSourceName) {
+            return;
+        }
+        PooledClient pooledClient;
+        synchronized (pooledClients) {
+            pooledClient = pooledClients.remove(dataSourceName);
+        }
+        if (null != pooledClient) {
+            pooledClient.retire();
+        }
+    }
+
+    /**
+     * Retires all the shared clients
+     */
+    public void shutdown() {
+        synchronized (pooledClients) {
+            pooledClients.values().forEach(PooledClient::retire);
+            pooledClients.clear();
+            if (null != defaultClient) {
+                defaultClient.retire();
+                defaultClient = null;
+            }
+        }
+    }
+
+    private static SSLConnectionSocketFactory createSSLSocketFactory() throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        SSLContext sslContext = SSLContexts.custom().loadTrustMaterial((chain, authType) -> true).build();  // Trust all certificates
+        return new SSLConnectionSocketFactory(sslContext, new String[]{"TLSv1.2"}, null, NoopHostnameVerifier.INSTANCE);
+    }
+
+    /**
+     * Shared http client, connection manager and authentication strategy of a single datasource
+     */
+    public static class PooledClient {
+        private final String name;
+        private final AuthenticationConfig authenticationConfig;
+        private final AuthenticationStrategy authenticationStrategy;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final CloseableHttpClient httpClient;
+        private final List<Meter> meters;
+        // requests in flight on the client
+        private final AtomicInteger leases = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        private PooledClient(String name, boolean dataSourceClient, AuthenticationConfig authenticationConfig) throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+            this.name = name;
+            this.authenticationConfig = authenticationConfig;
+            this.authenticationStrategy = (null == authenticationConfig) ? null :
+                    AuthenticationStrategyFactory.createAuthenticationStrategy(authenticationConfig);
+
+            Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("https", createSSLSocketFactory())
+                    .build();
+            this.connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+            this.connectionManager.setMaxTotal(KruizeDeploymentInfo.datasource_http_max_connections);
+            this.connectionManager.setDefaultMaxPerRoute(KruizeDeploymentInfo.datasource_http_max_connections_per_route);
+            // re-validate connections which were idle for a while before leasing them again
+            this.connectionManager.setValidateAfterInactivity(KruizeDeploymentInfo.datasource_http_validate_after_inactivity_ms);
+
+            this.httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                    .evictExpiredConnections()
+                    .evictIdleConnections(KruizeDeploymentInfo.datasource_http_idle_timeout_seconds, TimeUnit.SECONDS)
+                    .build();
+            this.meters = MetricsConfig.registerHttpPoolMetrics(name, dataSourceClient, connectionManager);
+        }
+
+        private boolean matches(AuthenticationConfig otherConfig) {
+            return Objects.equals(authenticationConfig, otherConfig);
+        }
+
+        public CloseableHttpClient getHttpClient() {
+            return httpClient;
+        }
+
+        public AuthenticationStrategy getAuthenticationStrategy() {
+            return authenticationStrategy;
+        }
+
+        /**
+         * Hands the leased client back, closing it if it was retired and this was the last request on it
+         */
+        public void release() {
+            if (0 == leases.decrementAndGet() && retired) {
+                close();
+            }
+        }
+
+        private boolean acquire() {
+            leases.incrementAndGet();
+            if (retired) {
+                release();
+                return false;
+            }
+            return true;
+        }
+
+        private void retire() {
+            // the meters are removed right away as the replacing client registers the same ones
+            MetricsConfig.removeMeters(meters);
+            retired = true;
+            if (0 == leases.get()) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close http client for datasource {} due to {}", name, e.getMessage());
+            }
+        }
+    }
+}
@@ -70,6 +70,17 @@ public class DataSourceManager {
      */
     public DataSourceMetadataInfo importMetadataFromDataSource(String metadataProfileName, DataSourceInfo dataSourceInfo, String uniqueKey, long startTime, long endTime, int steps, int measurementDuration, Map<String, String> includeResources,
                                                                Map<String, String> excludeResources) throws DataSourceDoesNotExist, IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        return importMetadataFromDataSource(metadataProfileName, dataSourceInfo, uniqueKey, startTime, endTime, steps,
+                measurementDuration, includeResources, excludeResources, null);
+    }
+
+    /**
+     * Imports Metadata for a specific data source, the listener is notified as each shard of namespaces is discovered
+     *
+     * @param shardListener called with the metadata of each shard once it is merged, may be null
+     */
+    public DataSourceMetadataInfo importMetadataFromDataSource(String metadataProfileName, DataSourceInfo dataSourceInfo, String uniqueKey, long startTime, long endTime, int steps, int measurementDuration, Map<String, String> includeResources,
+                                                               Map<String, String> excludeResources, DataSourceMetadataOperator.ShardListener shardListener) throws DataSourceDoesNotExist, IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
         String statusValue = "failure";
         io.micrometer.core.instrument.Timer.Sample timerImportMetadata = Timer.start(MetricsConfig.meterRegistry());
         try {
@@ -77,7 +88,7 @@ public class DataSourceManager {
                 throw new DataSourceDoesNotExist(KruizeConstants.DataSourceConstants.DataSourceErrorMsgs.MISSING_DATASOURCE_INFO);
             }
             DataSourceMetadataInfo dataSourceMetadataInfo = dataSourceMetadataOperator.createDataSourceMetadata(metadataProfileName,
-                    dataSourceInfo, uniqueKey, startTime, endTime, steps, measurementDuration, includeResources, excludeResources);
+                    dataSourceInfo, uniqueKey, startTime, endTime, steps, measurementDuration, includeResources, excludeResources, shardListener);
             if (null == dataSourceMetadataInfo) {
                 LOGGER.error(KruizeConstants.DataSourceConstants.DataSourceMetadataErrorMsgs.DATASOURCE_METADATA_INFO_NOT_AVAILABLE, "for datasource {}" + dataSourceInfo.getName());
                 return null;
@@ -187,6 +198,26 @@ public class DataSourceManager {
 
     }
 
+    /**
+     * Replaces the Metadata of the datasources of the object in DB, only the rows which changed are written
+     *
+     * @param dataSourceMetadataInfo DataSourceMetadataInfo object
+     *                               Note - It's assumed that metadata will be added to database after validating dataSourceMetadataInfo object
+     */
+    public void updateMetadataInDB(DataSourceMetadataInfo dataSourceMetadataInfo) {
+        ValidationOutputData updatedInDB = null;
+        try {
+            updatedInDB = new ExperimentDBService().updateMetadataInDB(dataSourceMetadataInfo);
+            if (updatedInDB.isSuccess()) {
+                LOGGER.debug(METADATA_ADDED);
+            } else {
+                LOGGER.error(LOAD_DATASOURCE_METADATA_TO_DB_ERROR, updatedInDB.getMessage());
+            }
+        } catch (Exception e) {
+            LOGGER.error("Exception occurred while updating metadata : {} ", e.getMessage());
+        }
+    }
+
     private boolean checkIfDataSourceMetadataExists(String dataSourceName) {
         boolean isPresent = false;
         try {
@@ -19,12 +19,11 @@ import com.autotune.analyzer.metadataProfiles.MetadataProfile;
 import com.autotune.analyzer.metadataProfiles.MetadataProfileCollection;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.dataSourceMetadata.*;
+import com.autotune.common.datasource.prometheus.PrometheusResponseParser;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.GenericRestApiClient;
 import com.autotune.utils.KruizeConstants;
-import com.google.gson.Gson;
 import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,10 +32,16 @@ import java.net.URLEncoder;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.Future;
 
 import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.CHARACTER_ENCODING;
 
@@ -51,6 +56,11 @@ import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.CHA
 public class DataSourceMetadataOperator {
     private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceMetadataOperator.class);
     private static final DataSourceMetadataOperator dataSourceMetadataOperatorInstance = new DataSourceMetadataOperator();
+    // PromQL keywords followed by a list of label names
+    private static final Set<String> PROMQL_LABEL_LIST_KEYWORDS = Set.of("by", "without", "on", "ignoring", "group_left", "group_right");
+    // PromQL keywords and literals which are not followed by parentheses, the other identifiers are metric names
+    private static final Set<String> PROMQL_KEYWORDS = Set.of("and", "or", "unless", "bool", "offset", "atan2",
+            "by", "without", "on", "ignoring", "group_left", "group_right", "inf", "nan");
     private DataSourceMetadataInfo dataSourceMetadataInfo;
 
     private DataSourceMetadataOperator() {
@@ -78,8 +88,21 @@ public class DataSourceMetadataOperator {
     public DataSourceMetadataInfo createDataSourceMetadata(String metadataProfileName, DataSourceInfo dataSourceInfo, String uniqueKey, long startTime,
                                                            long endTime, int steps,  int measurementDuration, Map<String, String> includeResources,
                                                            Map<String, String> excludeResources) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        return createDataSourceMetadata(metadataProfileName, dataSourceInfo, uniqueKey, startTime, endTime, steps,
+                measurementDuration, includeResources, excludeResources, null);
+    }
+
+    /**
+     * Same as {@link #createDataSourceMetadata(String, DataSourceInfo, String, long, long, int, int, Map, Map)}, the
+     * listener is called each time the workloads and containers of a shard of namespaces are merged into the metadata
+     *
+     * @param shardListener called for each merged shard, may be null
+     */
+    public DataSourceMetadataInfo createDataSourceMetadata(String metadataProfileName, DataSourceInfo dataSourceInfo, String uniqueKey, long startTime,
+                                                           long endTime, int steps, int measurementDuration, Map<String, String> includeResources,
+                                                           Map<String, String> excludeResources, ShardListener shardListener) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
         return processQueriesAndPopulateDataSourceMetadataInfo(metadataProfileName, dataSourceInfo, uniqueKey, startTime,
-                endTime, steps, measurementDuration, includeResources, excludeResources);
+                endTime, steps, measurementDuration, includeResources, excludeResources, shardListener);
     }
 
     /**
@@ -171,6 +194,15 @@ public class DataSourceMetadataOperator {
                                                                                   long startTime, long endTime, int steps, int measurementDuration,
                                                                                   Map<String, String> includeResources,
                                                                                   Map<String, String> excludeResources) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        return processQueriesAndPopulateDataSourceMetadataInfo(metadataProfileName, dataSourceInfo, uniqueKey, startTime, endTime,
+                steps, measurementDuration, includeResources, excludeResources, null);
+    }
+
+    private DataSourceMetadataInfo processQueriesAndPopulateDataSourceMetadataInfo(String metadataProfileName, DataSourceInfo dataSourceInfo, String uniqueKey,
+                                                                                   long startTime, long endTime, int steps, int measurementDuration,
+                                                                                   Map<String, String> includeResources,
+                                                                                   Map<String, String> excludeResources,
+                                                                                   ShardListener shardListener) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
         DataSourceMetadataHelper dataSourceDetailsHelper = new DataSourceMetadataHelper();
         /**
          * Get DataSourceOperatorImpl instance on runtime based on dataSource provider
@@ -259,6 +291,13 @@ public class DataSourceMetadataOperator {
             LOGGER.debug("datasourceNamespaces: {}", datasourceNamespaces.keySet());
             dataSourceMetadataInfo = dataSourceDetailsHelper.createDataSourceMetadataInfoObject(dataSourceName, datasourceNamespaces);
 
+            List<List<String>> namespaceShards = shardNamespaces(datasourceNamespaces.keySet());
+            if (namespaceShards.size() > 1) {
+                populateWorkloadsAndContainersByShard(dataSourceInfo, op, dataSourceMetadataInfo, workloadQuery,
+                        containerQuery, namespaceShards, startTime, endTime, steps, shardListener);
+                return getDataSourceMetadataInfo(dataSourceInfo);
+            }
+
             /**
              * Outer map:
              * Key: Name of namespace
@@ -297,6 +336,9 @@ public class DataSourceMetadataOperator {
             }
             dataSourceDetailsHelper.updateContainerDataSourceMetadataInfoObject(dataSourceName, dataSourceMetadataInfo,
                     datasourceWorkloads, datasourceContainers);
+            if (null != shardListener) {
+                shardListener.shardMerged(dataSourceMetadataInfo, namespaceShards.get(0));
+            }
             return getDataSourceMetadataInfo(dataSourceInfo);
         }
 
@@ -304,6 +346,247 @@ public class DataSourceMetadataOperator {
 
     }
 
+    /**
+     * Runs the workload and container queries once per shard of namespaces instead of once for the whole cluster,
+     * so that each response stays small on large clusters. The queries of the shards run concurrently, limited by
+     * the datasourceQueryConcurrency config of the datasource, and the metadata of each shard is merged into the
+     * DataSourceMetadataInfo object as soon as its queries complete.
+     *
+     * @param namespaceShards the namespaces of each shard, a namespace belongs to a single shard
+     * @param shardListener   called once a shard is merged, in the order of the shards, may be null
+     */
+    private void populateWorkloadsAndContainersByShard(DataSourceInfo dataSourceInfo, DataSourceOperatorImpl op,
+                                                       DataSourceMetadataInfo metadataInfo, String workloadQuery,
+                                                       String containerQuery, List<List<String>> namespaceShards,
+                                                       long startTime, long endTime, int steps,
+                                                       ShardListener shardListener) throws IOException {
+        DataSourceMetadataHelper dataSourceDetailsHelper = new DataSourceMetadataHelper();
+        DataSourceQueryExecutor queryExecutor = DataSourceQueryExecutor.getInstance();
+        String dataSourceName = dataSourceInfo.getName();
+        LOGGER.info("Running the workload and container queries of {} in {} namespace shards", dataSourceName, namespaceShards.size());
+
+        List<Future<HashMap<String, HashMap<String, DataSourceWorkload>>>> workloadFutures = new ArrayList<>();
+        List<Future<HashMap<String, HashMap<String, DataSourceContainer>>>> containerFutures = new ArrayList<>();
+        List<Future<?>> pendingQueries = new ArrayList<>();
+        for (List<String> namespaces : namespaceShards) {
+            String namespaceMatcher = namespaceMatcher(namespaces);
+            String shardWorkloadQuery = addLabelMatcher(workloadQuery, namespaceMatcher);
+            String shardContainerQuery = addLabelMatcher(containerQuery, namespaceMatcher);
+            Future<HashMap<String, HashMap<String, DataSourceWorkload>>> workloadFuture = queryExecutor.submit(dataSourceInfo, () -> {
+                JsonArray resultArray = fetchQueryResults(dataSourceInfo, shardWorkloadQuery, startTime, endTime, steps);
+                return op.validateResultArray(resultArray) ? dataSourceDetailsHelper.getWorkloadInfo(resultArray) : new HashMap<>();
+            });
+            Future<HashMap<String, HashMap<String, DataSourceContainer>>> containerFuture = queryExecutor.submit(dataSourceInfo, () -> {
+                JsonArray resultArray = fetchQueryResults(dataSourceInfo, shardContainerQuery, startTime, endTime, steps);
+                return op.validateResultArray(resultArray) ? dataSourceDetailsHelper.getContainerInfo(resultArray) : new HashMap<>();
+            });
+            workloadFutures.add(workloadFuture);
+            containerFutures.add(containerFuture);
+            pendingQueries.add(workloadFuture);
+            pendingQueries.add(containerFuture);
+        }
+
+        for (int i = 0; i < namespaceShards.size(); i++) {
+            HashMap<String, HashMap<String, DataSourceWorkload>> datasourceWorkloads;
+            HashMap<String, HashMap<String, DataSourceContainer>> datasourceContainers;
+            try {
+                datasourceWorkloads = DataSourceQueryExecutor.await(workloadFutures.get(i), pendingQueries);
+                datasourceContainers = DataSourceQueryExecutor.await(containerFutures.get(i), pendingQueries);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            // the shards hold distinct namespaces, merging one does not change the metadata of the others
+            dataSourceDetailsHelper.updateWorkloadDataSourceMetadataInfoObject(dataSourceName, metadataInfo, datasourceWorkloads);
+            dataSourceDetailsHelper.updateContainerDataSourceMetadataInfoObject(dataSourceName, metadataInfo,
+                    datasourceWorkloads, datasourceContainers);
+            if (null != shardListener) {
+                shardListener.shardMerged(metadataInfo, namespaceShards.get(i));
+            }
+        }
+    }
+
+    /**
+     * Notified when the workloads and containers of a shard of namespaces have been merged into the metadata, so that
+     * they can be used before the metadata of the other shards is discovered
+     */
+    @FunctionalInterface
+    public interface ShardListener {
+        /**
+         * Called on the thread discovering the metadata, the next shard is merged once it returns
+         *
+         * @param metadataInfo the metadata of the datasource, holding the shards merged so far
+         * @param namespaces   the namespaces of the merged shard
+         */
+        void shardMerged(DataSourceMetadataInfo metadataInfo, List<String> namespaces);
+    }
+
+    /**
+     * Splits the namespaces into shards of metadataDiscoveryShardSize namespaces, a single shard holds all of them
+     * when the shard size is not positive
+     */
+    static List<List<String>> shardNamespaces(Collection<String> namespaces) {
+        int shardSize = null == KruizeDeploymentInfo.metadata_discovery_shard_size ? 0 : KruizeDeploymentInfo.metadata_discovery_shard_size;
+        List<String> sortedNamespaces = new ArrayList<>(namespaces);
+        Collections.sort(sortedNamespaces);
+        if (shardSize <= 0 || sortedNamespaces.size() <= shardSize) {
+            return Collections.singletonList(sortedNamespaces);
+        }
+        List<List<String>> shards = new ArrayList<>();
+        for (int i = 0; i < sortedNamespaces.size(); i += shardSize) {
+            shards.add(sortedNamespaces.subList(i, Math.min(i + shardSize, sortedNamespaces.size())));
+        }
+        return shards;
+    }
+
+    /**
+     * Label matcher selecting the given namespaces, e.g. namespace=~"ns1|ns2"
+     */
+    static String namespaceMatcher(List<String> namespaces) {
+        StringJoiner regex = new StringJoiner("|");
+        for (String namespace : namespaces) {
+            StringBuilder escaped = new StringBuilder();
+            for (char c : namespace.toCharArray()) {
+                // regex meta characters are escaped, the backslash itself has to be escaped in the PromQL string
+                if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                    escaped.append("\\\\");
+                }
+                escaped.append(c);
+            }
+            regex.add(escaped);
+        }
+        return String.format("%s=~\"%s\"", KruizeConstants.DataSourceConstants.DataSourceQueryMetricKeys.NAMESPACE, regex);
+    }
+
+    /**
+     * Adds the label matcher to every series selector of the query. A selector without braces, e.g. the up of
+     * sum(up) by (namespace), gets the matcher within new braces. The braces within the quoted label values are
+     * left as they are.
+     */
+    static String addLabelMatcher(String query, String labelMatcher) {
+        StringBuilder result = new StringBuilder(query.length() + labelMatcher.length() * 2);
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if ('"' == c || '\'' == c || '`' == c) {
+                i = appendQuoted(query, i, result);
+            } else if ('{' == c) {
+                result.append(c).append(labelMatcher);
+                int next = skipWhitespace(query, i + 1);
+                if (next < query.length() && '}' != query.charAt(next)) {
+                    result.append(',');
+                }
+                // the label names of the matchers are not metric names
+                i = appendUntil(query, i + 1, '}', result);
+            } else if ('[' == c) {
+                // range or subquery duration
+                i = appendUntil(query, i, ']', result);
+            } else if (Character.isDigit(c) || ('.' == c && i + 1 < query.length() && Character.isDigit(query.charAt(i + 1)))) {
+                // number or duration, e.g. 1e3, 0x1f or the 5m of an offset
+                int end = i;
+                while (end < query.length() && (Character.isLetterOrDigit(query.charAt(end)) || '.' == query.charAt(end))) {
+                    end++;
+                }
+                result.append(query, i, end);
+                i = end;
+            } else if (isIdentifierStart(c)) {
+                int end = i;
+                while (end < query.length() && isIdentifierPart(query.charAt(end))) {
+                    end++;
+                }
+                String identifier = query.substring(i, end);
+                result.append(identifier);
+                int next = skipWhitespace(query, end);
+                char following = next < query.length() ? query.charAt(next) : 0;
+                if ('(' == following && PROMQL_LABEL_LIST_KEYWORDS.contains(identifier.toLowerCase())) {
+                    // the label names of by (...), on (...) and the like are not metric names
+                    result.append(query, end, next);
+                    i = appendUntil(query, next, ')', result);
+                    continue;
+                }
+                if ('(' != following && '{' != following && !PROMQL_KEYWORDS.contains(identifier.toLowerCase())
+                        && !isAggregationModifier(query, next)) {
+                    result.append('{').append(labelMatcher).append('}');
+                }
+                i = end;
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Appends the quoted string starting at start, returns the index following the closing quote
+     */
+    private static int appendQuoted(String query, int start, StringBuilder result) {
+        char quote = query.charAt(start);
+        result.append(quote);
+        int i = start + 1;
+        while (i < query.length()) {
+            char c = query.charAt(i++);
+            result.append(c);
+            if ('\\' == c && quote != '`' && i < query.length()) {
+                result.append(query.charAt(i++));
+            } else if (c == quote) {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Appends the query from start up to and including the closing character, skipping the quoted strings,
+     * returns the index following the closing character
+     */
+    private static int appendUntil(String query, int start, char closing, StringBuilder result) {
+        int i = start;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if ('"' == c || '\'' == c || '`' == c) {
+                i = appendQuoted(query, i, result);
+                continue;
+            }
+            result.append(c);
+            i++;
+            if (c == closing) {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Returns true if by or without starts at the index, the preceding identifier is then an aggregation
+     * operator as in sum by (namespace) (up)
+     */
+    private static boolean isAggregationModifier(String query, int start) {
+        int end = start;
+        while (end < query.length() && isIdentifierPart(query.charAt(end))) {
+            end++;
+        }
+        String word = query.substring(start, end).toLowerCase();
+        return "by".equals(word) || "without".equals(word);
+    }
+
+    private static int skipWhitespace(String query, int start) {
+        int i = start;
+        while (i < query.length() && Character.isWhitespace(query.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return ('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z') || '_' == c || ':' == c;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || ('0' <= c && c <= '9');
+    }
+
     // Helper function to map fields to query templates
     private String getQueryTemplate(String field, MetadataProfile metadataProfile) {
         DataSourceMetadataHelper dataSourceDetailsHelper = new DataSourceMetadataHelper();
@@ -353,8 +636,9 @@ public class DataSourceMetadataOperator {
 
         LOGGER.debug("MetricsUrl: {}", metricsUrl);
         client.setBaseURL(metricsUrl);
-        JSONObject genericJsonObject = client.fetchMetricsJson(KruizeConstants.APIMessages.GET, "");
-        JsonObject jsonObject = new Gson().fromJson(genericJsonObject.toString(), JsonObject.class);
-        return jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
+        // only the labels of the series are used to build the metadata, the values are skipped while streaming
+        PrometheusResponseParser.LabelsCollector labelsCollector = new PrometheusResponseParser.LabelsCollector();
+        client.streamMetrics(KruizeConstants.APIMessages.GET, "", labelsCollector);
+        return labelsCollector.getResultArray();
     }
 }
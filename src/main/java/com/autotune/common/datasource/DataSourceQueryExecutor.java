@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs datasource queries concurrently on virtual threads while limiting the number of in-flight
+ * queries per datasource, so that fanning out the queries of many experiments cannot overload a
+ * single Prometheus instance.
+ * <p>
+ * The limit per datasource is set by the datasourceQueryConcurrency config.
+ */
+public class DataSourceQueryExecutor {
+    private static final String DEFAULT_DATASOURCE = "kruize";
+    private static final DataSourceQueryExecutor INSTANCE = new DataSourceQueryExecutor();
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentHashMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    DataSourceQueryExecutor() {
+    }
+
+    public static DataSourceQueryExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Submits a query against the datasource, the query starts once a permit of the datasource is available
+     *
+     * @param dataSourceInfo datasource the query runs against
+     * @param query          the query to run
+     * @return Future holding the result of the query
+     */
+    public <T> Future<T> submit(DataSourceInfo dataSourceInfo, Callable<T> query) {
+        String name = (null == dataSourceInfo || null == dataSourceInfo.getName()) ? DEFAULT_DATASOURCE : dataSourceInfo.getName();
+        Semaphore semaphore = permits.computeIfAbsent(name, k -> new Semaphore(Math.max(1, KruizeDeploymentInfo.datasource_query_concurrency)));
+        return executorService.submit(() -> {
+            semaphore.acquire();
+            try {
+                return query.call();
+            } finally {
+                semaphore.release();
+            }
+        });
+    }
+
+    /**
+     * Waits for the result of a submitted query. On failure the remaining queries are cancelled and
+     * the cause of the failure is rethrown.
+     *
+     * @param future  the query to wait for
+     * @param pending all the queries submitted together with this one
+     */
+    public static <T> T await(Future<T> future, List<? extends Future<?>> pending) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            pending.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            pending.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+}
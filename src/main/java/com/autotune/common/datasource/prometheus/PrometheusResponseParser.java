@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource.prometheus;
+
+import com.autotune.utils.KruizeConstants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single pass streaming decoder for Prometheus query and query_range responses.
+ * <p>
+ * The response body is walked once with a Jackson {@link JsonParser}; labels of every series and the
+ * (epoch, value) pairs of "values" / "value" are handed to a {@link PrometheusResultSink} as primitives,
+ * without building an intermediate JSON tree.
+ */
+public final class PrometheusResponseParser {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrometheusResponseParser.class);
+    // JsonFactory is thread safe and meant to be reused
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String WARNINGS = "warnings";
+    private static final String POSITIVE_INF = "+Inf";
+    private static final String NEGATIVE_INF = "-Inf";
+
+    private PrometheusResponseParser() {
+    }
+
+    /**
+     * Parses the response and delivers every series to the sink
+     *
+     * @param inputStream response body
+     * @param sink        receiver of the series labels and samples
+     * @return number of series found in data.result
+     * @throws IOException if the response is not valid JSON or if the result is empty and Prometheus
+     *                     returned a warning that the query should be retried
+     */
+    public static int parse(InputStream inputStream, PrometheusResultSink sink) throws IOException {
+        int seriesCount = 0;
+        List<String> warnings = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Invalid Prometheus response, expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.DATA.equals(fieldName) && token == JsonToken.START_OBJECT) {
+                    seriesCount = parseData(parser, sink);
+                } else if (WARNINGS.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    warnings = new ArrayList<>();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        warnings.add(parser.getValueAsString());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        // Check if the result is empty and if there are specific warnings
+        if (seriesCount == 0 && null != warnings) {
+            for (String warningMessage : warnings) {
+                if (null != warningMessage && (warningMessage.contains("error reading from server") || warningMessage.contains("Please reduce your request rate"))) {
+                    LOGGER.warn("Warning detected: {}", warningMessage);
+                    throw new IOException(warningMessage);
+                }
+            }
+        }
+        return seriesCount;
+    }
+
+    /**
+     * Convenience sink which collects only the labels of every series into a Gson array of
+     * {"metric": {...}} objects, the values of the series are skipped.
+     */
+    public static class LabelsCollector implements PrometheusResultSink {
+        private final JsonArray resultArray = new JsonArray();
+
+        @Override
+        public void startSeries(int seriesIndex, Map<String, String> labels) {
+            JsonObject metricObject = new JsonObject();
+            labels.forEach(metricObject::addProperty);
+            JsonObject resultObject = new JsonObject();
+            resultObject.add(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.METRIC, metricObject);
+            resultArray.add(resultObject);
+        }
+
+        @Override
+        public void sample(long epochSeconds, double value) {
+        }
+
+        @Override
+        public boolean includeSamples() {
+            return false;
+        }
+
+        public JsonArray getResultArray() {
+            return resultArray;
+        }
+    }
+
+    private static int parseData(JsonParser parser, PrometheusResultSink sink) throws IOException {
+        int seriesCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                JsonToken elementToken;
+                while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (elementToken == JsonToken.START_OBJECT) {
+                        parseSeries(parser, sink, seriesCount++);
+                    } else {
+                        // scalar and string result types are not series
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return seriesCount;
+    }
+
+    private static void parseSeries(JsonParser parser, PrometheusResultSink sink, int seriesIndex) throws IOException {
+        boolean started = false;
+        SampleBuffer buffer = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.METRIC.equals(fieldName) && token == JsonToken.START_OBJECT) {
+                sink.startSeries(seriesIndex, readLabels(parser));
+                started = true;
+                if (null != buffer) {
+                    buffer.flush(sink);
+                    buffer = null;
+                }
+            } else if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUES.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                if (!sink.includeSamples()) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_ARRAY) {
+                    buffer = readSample(parser, sink, started, buffer);
+                }
+            } else if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUE.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                if (!sink.includeSamples()) {
+                    parser.skipChildren();
+                    continue;
+                }
+                buffer = readSample(parser, sink, started, buffer);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!started) {
+            // series without a "metric" object, or "metric" came after the values
+            sink.startSeries(seriesIndex, Collections.emptyMap());
+            if (null != buffer) {
+                buffer.flush(sink);
+            }
+        }
+        sink.endSeries();
+    }
+
+    private static Map<String, String> readLabels(JsonParser parser) throws IOException {
+        Map<String, String> labels = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String labelName = parser.currentName();
+            parser.nextToken();
+            labels.put(labelName, parser.getValueAsString());
+        }
+        return labels;
+    }
+
+    /**
+     * Reads one [epoch, "value"] pair, the parser is positioned on the START_ARRAY of the pair
+     */
+    private static SampleBuffer readSample(JsonParser parser, PrometheusResultSink sink, boolean started, SampleBuffer buffer) throws IOException {
+        parser.nextToken();
+        long epochSeconds = (long) parser.getValueAsDouble();
+        parser.nextToken();
+        double value = parseSampleValue(parser);
+        // consume the END_ARRAY of the pair
+        parser.nextToken();
+        if (started) {
+            sink.sample(epochSeconds, value);
+            return buffer;
+        }
+        if (null == buffer) {
+            buffer = new SampleBuffer();
+        }
+        buffer.add(epochSeconds, value);
+        return buffer;
+    }
+
+    private static double parseSampleValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT || parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        String text = parser.getText();
+        if (POSITIVE_INF.equals(text)) {
+            return Double.POSITIVE_INFINITY;
+        } else if (NEGATIVE_INF.equals(text)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return Double.parseDouble(text);
+    }
+
+    /**
+     * Holds samples which arrive before the labels of their series
+     */
+    private static final class SampleBuffer {
+        private long[] epochs = new long[64];
+        private double[] values = new double[64];
+        private int size;
+
+        private void add(long epochSeconds, double value) {
+            if (size == epochs.length) {
+                epochs = Arrays.copyOf(epochs, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            epochs[size] = epochSeconds;
+            values[size] = value;
+            size++;
+        }
+
+        private void flush(PrometheusResultSink sink) throws IOException {
+            for (int i = 0; i < size; i++) {
+                sink.sample(epochs[i], values[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource.prometheus;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Receives the series of a Prometheus query / query_range response while it is being parsed by
+ * {@link PrometheusResponseParser}.
+ * <p>
+ * For every entry of data.result[] the parser calls startSeries with the labels of the "metric" object,
+ * then sample for every pair of "values" (or the single "value" of an instant query) and finally endSeries.
+ */
+public interface PrometheusResultSink {
+
+    /**
+     * Called once per series before its samples
+     *
+     * @param seriesIndex index of the series in data.result
+     * @param labels      labels of the series, empty if the series has no "metric" object
+     */
+    void startSeries(int seriesIndex, Map<String, String> labels) throws IOException;
+
+    /**
+     * Called for every sample of the current series
+     *
+     * @param epochSeconds sample timestamp in epoch seconds
+     * @param value        sample value
+     */
+    void sample(long epochSeconds, double value) throws IOException;
+
+    /**
+     * Called once all the samples of the current series are delivered
+     */
+    default void endSeries() throws IOException {
+    }
+
+    /**
+     * Sinks which only need the series labels return false, the parser then skips the values without decoding them
+     */
+    default boolean includeSamples() {
+        return true;
+    }
+}
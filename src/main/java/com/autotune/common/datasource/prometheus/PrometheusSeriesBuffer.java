@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource.prometheus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sink which records the series of a response into primitive arrays so that the response can be
+ * fetched on one thread and replayed later, in a deterministic order, into another sink.
+ */
+public class PrometheusSeriesBuffer implements PrometheusResultSink {
+    private final List<Series> seriesList = new ArrayList<>();
+    private Series currentSeries;
+
+    @Override
+    public void startSeries(int seriesIndex, Map<String, String> labels) {
+        currentSeries = new Series(labels);
+        seriesList.add(currentSeries);
+    }
+
+    @Override
+    public void sample(long epochSeconds, double value) {
+        currentSeries.add(epochSeconds, value);
+    }
+
+    /**
+     * Delivers the recorded series to the given sink, in the order they were received
+     *
+     * @param sink receiver of the series
+     * @return number of series replayed
+     */
+    public int replay(PrometheusResultSink sink) throws IOException {
+        for (int i = 0; i < seriesList.size(); i++) {
+            Series series = seriesList.get(i);
+            sink.startSeries(i, series.labels);
+            if (sink.includeSamples()) {
+                for (int j = 0; j < series.size; j++) {
+                    sink.sample(series.epochs[j], series.values[j]);
+                }
+            }
+            sink.endSeries();
+        }
+        return seriesList.size();
+    }
+
+    public int getSeriesCount() {
+        return seriesList.size();
+    }
+
+    private static final class Series {
+        private final Map<String, String> labels;
+        private long[] epochs = new long[128];
+        private double[] values = new double[128];
+        private int size;
+
+        private Series(Map<String, String> labels) {
+            this.labels = labels;
+        }
+
+        private void add(long epochSeconds, double value) {
+            if (size == epochs.length) {
+                epochs = Arrays.copyOf(epochs, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            epochs[size] = epochSeconds;
+            values[size] = value;
+            size++;
+        }
+    }
+}
@@ -17,17 +17,15 @@ package com.autotune.common.kafka;
 
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Properties;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 /**
  * KruizeKafkaProducer class is responsible for producing messages to Kafka topics.
@@ -49,26 +47,41 @@ public class KruizeKafkaProducer {
         producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
         producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
         producerProps.put(ProducerConfig.ACKS_CONFIG, KruizeConstants.KAFKA_CONSTANTS.ALL);
+        // messages are sent per experiment, let the producer batch and compress them
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, KruizeDeploymentInfo.kafka_linger_ms);
+        producerProps.put(ProducerConfig.BATCH_SIZE_CONFIG, KruizeDeploymentInfo.kafka_batch_size);
+        if (null != KruizeDeploymentInfo.kafka_compression_type && !KruizeDeploymentInfo.kafka_compression_type.isBlank()) {
+            producerProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, KruizeDeploymentInfo.kafka_compression_type);
+        }
         return producerProps;
     }
 
     /**
-     * Sends a message to the specified Kafka topic.
+     * Sends a message to the specified Kafka topic without waiting for the acknowledgement.
      *
-     * @param topic   The Kafka topic to send the message to.
-     * @param payload The message payload.
+     * @param topic    The Kafka topic to send the message to.
+     * @param key      The message key, messages with the same key go to the same partition. Can be null.
+     * @param payload  The message payload.
+     * @param callback Invoked once the message is acknowledged or failed. Can be null.
      */
-    private static void sendMessage(String topic, String payload) {
+    private static void sendMessage(String topic, String key, String payload, Callback callback) {
         try {
             LOGGER.debug("Sending message to client...");
-            RecordMetadata metadata = producer.send(new ProducerRecord<>(topic, payload))
-                    .get(5, TimeUnit.SECONDS); //todo : set the timeout value via ENV
-            // todo: get the status of message whether its delivered or failed
-            LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.MESSAGE_SENT_SUCCESSFULLY, metadata.topic(), metadata.partition(), metadata.offset());
-        } catch (TimeoutException te) {
-            LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_MESSAGE_TIMEOUT_ERROR, topic, te.getMessage());
+            producer.send(new ProducerRecord<>(topic, key, payload), (metadata, exception) -> {
+                if (null == exception) {
+                    LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.MESSAGE_SENT_SUCCESSFULLY, metadata.topic(), metadata.partition(), metadata.offset());
+                } else {
+                    LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_MESSAGE_FAILED, topic, exception.getMessage());
+                }
+                if (null != callback) {
+                    callback.onCompletion(metadata, exception);
+                }
+            });
         } catch (Exception e) {
             LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_MESSAGE_FAILED, topic, e.getMessage(), e);
+            if (null != callback) {
+                callback.onCompletion(null, e);
+            }
         }
     }
 
@@ -77,6 +90,8 @@ public class KruizeKafkaProducer {
      */
     public static class ValidRecommendationMessageProducer implements Runnable {
         private final String payload;
+        private final String key;
+        private final Callback callback;
 
         /**
          * Constructs a new producer for valid recommendation messages.
@@ -84,7 +99,20 @@ public class KruizeKafkaProducer {
          * @param payload The recommendation message payload.
          */
         public ValidRecommendationMessageProducer(String payload) {
+            this(null, payload, null);
+        }
+
+        /**
+         * Constructs a new producer for valid recommendation messages.
+         *
+         * @param key      The message key.
+         * @param payload  The recommendation message payload.
+         * @param callback Invoked once the message is acknowledged or failed.
+         */
+        public ValidRecommendationMessageProducer(String key, String payload, Callback callback) {
+            this.key = key;
             this.payload = payload;
+            this.callback = callback;
         }
 
         /**
@@ -92,7 +120,7 @@ public class KruizeKafkaProducer {
          */
         @Override
         public void run() {
-            sendMessage(KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC, payload);
+            sendMessage(KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC, key, payload, callback);
         }
     }
 
@@ -101,6 +129,8 @@ public class KruizeKafkaProducer {
      */
     public static class ErrorMessageProducer implements Runnable {
         private final String errorDetails;
+        private final String key;
+        private final Callback callback;
 
         /**
          * Constructs a new producer for error messages.
@@ -108,7 +138,20 @@ public class KruizeKafkaProducer {
          * @param errorDetails The error message payload.
          */
         public ErrorMessageProducer(String errorDetails) {
+            this(null, errorDetails, null);
+        }
+
+        /**
+         * Constructs a new producer for error messages.
+         *
+         * @param key          The message key.
+         * @param errorDetails The error message payload.
+         * @param callback     Invoked once the message is acknowledged or failed.
+         */
+        public ErrorMessageProducer(String key, String errorDetails, Callback callback) {
+            this.key = key;
             this.errorDetails = errorDetails;
+            this.callback = callback;
         }
 
         /**
@@ -116,7 +159,7 @@ public class KruizeKafkaProducer {
          */
         @Override
         public void run() {
-            sendMessage(KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC, errorDetails);
+            sendMessage(KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC, key, errorDetails, callback);
         }
     }
 
@@ -125,6 +168,8 @@ public class KruizeKafkaProducer {
      */
     public static class SummaryResponseMessageProducer implements Runnable {
         private final String payload;
+        private final String key;
+        private final Callback callback;
 
         /**
          * Constructs a new producer for summary response messages.
@@ -132,7 +177,20 @@ public class KruizeKafkaProducer {
          * @param payload The summary message payload.
          */
         public SummaryResponseMessageProducer(String payload) {
+            this(null, payload, null);
+        }
+
+        /**
+         * Constructs a new producer for summary response messages.
+         *
+         * @param key      The message key.
+         * @param payload  The summary message payload.
+         * @param callback Invoked once the message is acknowledged or failed.
+         */
+        public SummaryResponseMessageProducer(String key, String payload, Callback callback) {
+            this.key = key;
             this.payload = payload;
+            this.callback = callback;
         }
 
         /**
@@ -140,7 +198,7 @@ public class KruizeKafkaProducer {
          */
         @Override
         public void run() {
-            sendMessage(KruizeConstants.KAFKA_CONSTANTS.SUMMARY_TOPIC, payload);
+            sendMessage(KruizeConstants.KAFKA_CONSTANTS.SUMMARY_TOPIC, key, payload, callback);
         }
     }
 
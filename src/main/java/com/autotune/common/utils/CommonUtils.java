@@ -290,8 +290,62 @@ public class CommonUtils {
     }
 
     public static Double percentile(double percentile, List<Double> items) {
-        Collections.sort(items);
-        return items.get((int) Math.round(percentile / 100.0 * (items.size() - 1)));
+        double[] values = new double[items.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = items.get(i);
+        }
+        return percentile(percentile, values);
+    }
+
+    /**
+     * Returns the value at the given percentile using quickselect, in linear time on average instead of sorting
+     * all the values. The value returned is the same as the one at index round(percentile / 100 * (n - 1)) of
+     * the sorted values.
+     *
+     * @param percentile percentile between 0 and 100
+     * @param values     values to select from, the array is reordered in place
+     */
+    public static double percentile(double percentile, double[] values) {
+        int rank = (int) Math.round(percentile / 100.0 * (values.length - 1));
+        if (rank < 0 || rank >= values.length) {
+            throw new IndexOutOfBoundsException("Index " + rank + " out of bounds for length " + values.length);
+        }
+        int low = 0;
+        int high = values.length - 1;
+        while (low < high) {
+            // median of three as pivot to avoid the quadratic case on sorted input
+            int mid = (low + high) >>> 1;
+            if (Double.compare(values[mid], values[low]) < 0) swap(values, low, mid);
+            if (Double.compare(values[high], values[low]) < 0) swap(values, low, high);
+            if (Double.compare(values[high], values[mid]) < 0) swap(values, mid, high);
+            double pivot = values[mid];
+
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (Double.compare(values[i], pivot) < 0) i++;
+                while (Double.compare(values[j], pivot) > 0) j--;
+                if (i <= j) {
+                    swap(values, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (rank <= j) {
+                high = j;
+            } else if (rank >= i) {
+                low = i;
+            } else {
+                break;
+            }
+        }
+        return values[rank];
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        double temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
     }
 
     public static double getPercentage(double newer, double older) {
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mergeable quantile sketch based on KLL (Karnin, Lang, Liberty).
+ * <p>
+ * Values are kept in a hierarchy of compactors, an item at level h stands for 2^h values. When the sketch is
+ * full the lowest level over its capacity is sorted and every other item is promoted to the next level, so
+ * memory stays O(k log(n/k)) whatever the number of values. Up to k values the sketch keeps all of them and
+ * the quantiles are exact, the same as {@link CommonUtils#percentile(double, double[])}.
+ * <p>
+ * The compaction offset alternates per level instead of being random so that the same input always gives
+ * the same recommendation. The class is not thread safe.
+ */
+public class KllQuantileSketch {
+    public static final int DEFAULT_K = 200;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+    private static final double LEVEL_CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final List<double[]> levels = new ArrayList<>();
+    private final List<Integer> levelSizes = new ArrayList<>();
+    private final List<Boolean> levelOffsets = new ArrayList<>();
+    private long count;
+    private int retained;
+
+    public KllQuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k size of the top compactor, the rank error is roughly 1.7 / k
+     */
+    public KllQuantileSketch(int k) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_LEVEL_CAPACITY);
+        }
+        this.k = k;
+        addLevel();
+    }
+
+    /**
+     * Builds a sketch holding all the given values
+     */
+    public static KllQuantileSketch of(double[] values) {
+        KllQuantileSketch sketch = new KllQuantileSketch();
+        for (double value : values) {
+            sketch.update(value);
+        }
+        return sketch;
+    }
+
+    public void update(double value) {
+        append(0, value);
+        count++;
+        compress();
+    }
+
+    /**
+     * Adds all the values seen by the other sketch to this one, the other sketch is not modified
+     */
+    public void merge(KllQuantileSketch other) {
+        if (null == other || other == this) {
+            return;
+        }
+        for (int level = 0; level < other.levels.size(); level++) {
+            double[] items = other.levels.get(level);
+            int size = other.levelSizes.get(level);
+            for (int i = 0; i < size; i++) {
+                append(level, items[i]);
+            }
+        }
+        count += other.count;
+        compress();
+    }
+
+    /**
+     * Returns the approximate value at the given percentile
+     *
+     * @param percentile percentile between 0 and 100
+     */
+    public double getPercentile(double percentile) {
+        if (0 == count) {
+            throw new IllegalStateException("The sketch is empty");
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        Integer[] order = new Integer[retained];
+        int position = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            double[] items = levels.get(level);
+            int size = levelSizes.get(level);
+            for (int i = 0; i < size; i++) {
+                values[position] = items[i];
+                weights[position] = 1L << level;
+                order[position] = position;
+                position++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        long rank = Math.round(percentile / 100.0 * (count - 1));
+        long cumulativeWeight = 0;
+        for (int index : order) {
+            cumulativeWeight += weights[index];
+            if (cumulativeWeight > rank) {
+                return values[index];
+            }
+        }
+        return values[order[order.length - 1]];
+    }
+
+    /**
+     * Number of values added to the sketch
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return 0 == count;
+    }
+
+    /**
+     * Number of items kept by the sketch
+     */
+    public int getRetainedItems() {
+        return retained;
+    }
+
+    private void addLevel() {
+        levels.add(new double[MIN_LEVEL_CAPACITY]);
+        levelSizes.add(0);
+        levelOffsets.add(false);
+    }
+
+    private void append(int level, double value) {
+        while (levels.size() <= level) {
+            addLevel();
+        }
+        double[] items = levels.get(level);
+        int size = levelSizes.get(level);
+        if (size == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            levels.set(level, items);
+        }
+        items[size] = value;
+        levelSizes.set(level, size + 1);
+        retained++;
+    }
+
+    private int capacity(int level) {
+        int depth = levels.size() - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(LEVEL_CAPACITY_DECAY, depth)));
+    }
+
+    private int totalCapacity() {
+        int total = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            total += capacity(level);
+        }
+        return total;
+    }
+
+    private void compress() {
+        while (retained > totalCapacity()) {
+            for (int level = 0; level < levels.size(); level++) {
+                if (levelSizes.get(level) >= capacity(level)) {
+                    compact(level);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the level and promotes every other item to the next level, an odd item out stays in the level
+     */
+    private void compact(int level) {
+        if (levels.size() == level + 1) {
+            addLevel();
+        }
+        double[] items = levels.get(level);
+        int size = levelSizes.get(level);
+        Arrays.sort(items, 0, size);
+
+        int kept = size % 2;
+        double leftOver = items[size - 1];
+        int pairs = size - kept;
+        boolean offset = levelOffsets.get(level);
+        levelOffsets.set(level, !offset);
+
+        levelSizes.set(level, 0);
+        retained -= size;
+        for (int i = offset ? 1 : 0; i < pairs; i += 2) {
+            append(level + 1, items[i]);
+        }
+        if (1 == kept) {
+            append(level, leftOver);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.autotune.database.table.lm.KruizeLMMetadataProfileEntry;
 import com.autotune.database.table.lm.KruizeLMRecommendationEntry;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -73,6 +74,9 @@ public interface ExperimentDAO {
 
     public List<KruizeLMExperimentEntry> loadAllLMExperiments() throws Exception;
 
+    // Load the experiments running in one of the modes, the modes are matched ignoring case
+    List<KruizeLMExperimentEntry> loadLMExperimentsByModes(List<String> modes) throws Exception;
+
     // If Kruize object restarts load all results from the experiments which are in inprogress
     List<KruizeResultsEntry> loadAllResults() throws Exception;
 
@@ -110,6 +114,21 @@ public interface ExperimentDAO {
     // Load all recommendations of a particular experiment
     List<KruizeLMRecommendationEntry> loadLMRecommendationsByExperimentName(String experimentName, String bulkJobId) throws Exception;
 
+    // Load a page of experiments sorted by name, starting after the given experiment name
+    List<KruizeExperimentEntry> loadExperimentsPage(String afterExperimentName, int limit, String clusterName, String namespace) throws Exception;
+
+    // Load a page of experiments sorted by name, starting after the given experiment name
+    List<KruizeLMExperimentEntry> loadLMExperimentsPage(String afterExperimentName, int limit, String clusterName, String namespace) throws Exception;
+
+    // Load all recommendations of the given experiments
+    List<KruizeRecommendationEntry> loadRecommendationsByExperimentNames(Collection<String> experimentNames) throws Exception;
+
+    // Load all recommendations of the given experiments
+    List<KruizeLMRecommendationEntry> loadLMRecommendationsByExperimentNames(Collection<String> experimentNames, String bulkJobId) throws Exception;
+
+    // Load all results of the given experiments
+    List<KruizeResultsEntry> loadResultsByExperimentNames(Collection<String> experimentNames) throws Exception;
+
     // Load a single Performance Profile based on name
     List<KruizePerformanceProfileEntry> loadPerformanceProfileByName(String performanceProfileName) throws Exception;
 
@@ -130,6 +149,9 @@ public interface ExperimentDAO {
 
     KruizeLMRecommendationEntry loadLMRecommendationsByExperimentNameAndDate(String experimentName, String cluster_name, Timestamp interval_end_time) throws Exception;
 
+    // Load the recommendation of a particular experiment with the latest interval end Time
+    KruizeLMRecommendationEntry loadLatestLMRecommendationByExperimentName(String experimentName) throws Exception;
+
     // Get KruizeResult Record
     List<KruizeResultsEntry> getKruizeResultsEntry(String experiment_name, String cluster_name, Timestamp interval_start_time, Timestamp interval_end_time) throws Exception;
 
@@ -156,6 +178,9 @@ public interface ExperimentDAO {
     // add metadata
     ValidationOutputData addMetadataToDB(KruizeDSMetadataEntry kruizeDSMetadataEntry);
 
+    // delete the removed metadata rows and insert the added ones in batches, in a single transaction
+    ValidationOutputData updateMetadataInDB(List<Long> removedIds, List<KruizeDSMetadataEntry> addedEntries);
+
     // Delete metadata
     public ValidationOutputData deleteKruizeDSMetadataEntryByName(String dataSourceName);
 
@@ -168,6 +193,10 @@ public interface ExperimentDAO {
 
     ValidationOutputData updateBulkJobByExperiment(String jobId, String experimentName, String notification, String recommendationJson) throws Exception;
 
+    KruizeBulkJobEntry findBulkJobById(String jobId, String experimentName, int experimentsOffset, int experimentsLimit) throws Exception;
+
+    ValidationOutputData updateBulkJobExperiments(String jobId, String experimentsJson, int processedExperiments, int totalExperiments) throws Exception;
+
     void deleteBulkJobByID(String jobId);
 
     boolean updateExperimentDates(Set<String> experimentNames, Timestamp currentTimestamp) throws Exception;
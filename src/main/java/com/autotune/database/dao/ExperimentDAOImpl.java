@@ -23,12 +23,14 @@ import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.database.helper.DBConstants;
 import com.autotune.database.init.KruizeHibernateUtil;
+import com.autotune.database.service.ExperimentCache;
 import com.autotune.database.table.*;
 import com.autotune.database.table.lm.KruizeBulkJobEntry;
 import com.autotune.database.table.lm.KruizeLMExperimentEntry;
 import com.autotune.database.table.lm.KruizeLMLayerEntry;
 import com.autotune.database.table.lm.KruizeLMMetadataProfileEntry;
 import com.autotune.database.table.lm.KruizeLMRecommendationEntry;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
 import io.micrometer.core.instrument.Timer;
@@ -43,12 +45,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpServletResponse;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 import static com.autotune.database.helper.DBConstants.DB_MESSAGES.DUPLICATE_KEY;
@@ -60,6 +66,9 @@ import static com.autotune.utils.KruizeConstants.KRUIZE_BULK_API.*;
 public class ExperimentDAOImpl implements ExperimentDAO {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(ExperimentDAOImpl.class);
+    private static final Object PARTITION_LOCK = new Object();
+    // results partitions known to exist, kruize_results_yyyymmdd
+    private static final Set<String> RESULTS_PARTITIONS = ConcurrentHashMap.newKeySet();
 
     @Override
     public synchronized ValidationOutputData addExperimentToDB(KruizeExperimentEntry kruizeExperimentEntry) {
@@ -73,6 +82,7 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     tx = session.beginTransaction();
                     session.persist(kruizeExperimentEntry);
                     tx.commit();
+                    ExperimentCache.getInstance().invalidate(kruizeExperimentEntry.getExperiment_name());
                     // TODO: remove native sql query and transient
                     //updateExperimentTypeInKruizeExperimentEntry(kruizeExperimentEntry);  #Todo this function no more required and see if it can applied without using update sql
                     validationOutputData.setSuccess(true);
@@ -272,53 +282,20 @@ public class ExperimentDAOImpl implements ExperimentDAO {
     @Override
     public List<KruizeResultsEntry> addToDBAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries) {
         List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
-        Transaction tx = null;
         String statusValue = "failure";
         Timer.Sample timerAddBulkResultsDB = Timer.start(MetricsConfig.meterRegistry());
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
-            for (KruizeResultsEntry entry : kruizeResultsEntries) {
-                tx = session.beginTransaction();
+            // create the missing partitions upfront so that the inserts do not fail on them
+            createMissingResultsPartitions(session, kruizeResultsEntries);
+            for (int from = 0; from < kruizeResultsEntries.size(); from += DBConstants.BATCH_LIMITS.RESULTS_INSERT_BATCH_SIZE) {
+                List<KruizeResultsEntry> batch = kruizeResultsEntries.subList(from,
+                        Math.min(kruizeResultsEntries.size(), from + DBConstants.BATCH_LIMITS.RESULTS_INSERT_BATCH_SIZE));
                 try {
-                    session.persist(entry);
-                    session.flush();
-                } catch (PersistenceException e) {
-                    ConstraintViolationException constraintViolationException = null;
-                    String message = "";
-                    if (null != e.getCause()) {
-                        constraintViolationException = (ConstraintViolationException) e.getCause();
-                        message = constraintViolationException.getCause().getMessage();
-                    } else {
-                        message = e.getMessage();
-                    }
-                    LOGGER.debug(message);
-                    if (message.contains(DUPLICATE_KEY) || message.contains(DUPLICATE_KEY_ALT)) {
-                        entry.setErrorReasons(List.of(AnalyzerErrorConstants.APIErrors.updateResultsAPI.RESULTS_ALREADY_EXISTS));
-                        failedResultsEntries.add(entry);
-                    } else if (message.contains(DBConstants.DB_MESSAGES.NO_PARTITION_RELATION)) {
-                        try {
-                            LOGGER.debug(DBConstants.DB_MESSAGES.CREATE_PARTITION_RETRY);
-                            tx.commit();
-                            tx = session.beginTransaction();
-                            // create partitions based on entry object
-                            synchronized (new Object()) {
-                                createPartitions(entry);
-                            }
-                            session.persist(entry);
-                            session.flush();
-                        } catch (Exception partitionException) {
-                            LOGGER.error(partitionException.getMessage());
-                            entry.setErrorReasons(List.of(partitionException.getMessage()));
-                            failedResultsEntries.add(entry);
-                        }
-                    } else {
-                        entry.setErrorReasons(List.of(e.getMessage()));
-                        failedResultsEntries.add(entry);
-                    }
+                    failedResultsEntries.addAll(addResultsBatchToDB(session, batch));
                 } catch (Exception e) {
-                    entry.setErrorReasons(List.of(e.getMessage()));
-                    failedResultsEntries.add(entry);
-                } finally {
-                    tx.commit();
+                    // fall back to the row by row insert which reports the error of every entry
+                    LOGGER.debug(DBConstants.DB_MESSAGES.BATCH_INSERT_FALLBACK, e.getMessage());
+                    failedResultsEntries.addAll(addResultsToDBOneByOne(session, batch));
                 }
             }
             statusValue = "success";
@@ -337,6 +314,174 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return failedResultsEntries;
     }
 
+    /**
+     * Inserts the results with a single multi row statement, the rows which already exist are skipped by the DB
+     * and returned as failed entries with RESULTS_ALREADY_EXISTS
+     */
+    private List<KruizeResultsEntry> addResultsBatchToDB(Session session, List<KruizeResultsEntry> batch) {
+        Calendar jdbcCalendar = getJdbcCalendar();
+        Transaction tx = session.beginTransaction();
+        Set<String> insertedKeys;
+        try {
+            insertedKeys = session.doReturningWork(connection -> {
+                StringBuilder sql = new StringBuilder(INSERT_RESULTS_IGNORE_DUPLICATES);
+                for (int i = 0; i < batch.size(); i++) {
+                    if (i > 0) {
+                        sql.append(", ");
+                    }
+                    sql.append(INSERT_RESULTS_VALUES_ROW);
+                }
+                sql.append(INSERT_RESULTS_ON_CONFLICT_RETURNING);
+
+                Set<String> keys = new HashSet<>();
+                try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                    int index = 1;
+                    for (KruizeResultsEntry entry : batch) {
+                        statement.setString(index++, entry.getVersion());
+                        statement.setString(index++, entry.getExperiment_name());
+                        statement.setString(index++, entry.getCluster_name());
+                        statement.setTimestamp(index++, entry.getInterval_start_time(), jdbcCalendar);
+                        statement.setTimestamp(index++, entry.getInterval_end_time(), jdbcCalendar);
+                        statement.setDouble(index++, entry.getDuration_minutes());
+                        statement.setString(index++, null == entry.getExtended_data() ? null : entry.getExtended_data().toString());
+                        statement.setString(index++, null == entry.getMeta_data() ? null : entry.getMeta_data().toString());
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            keys.add(getResultsKey(resultSet.getString(1), resultSet.getTimestamp(2, jdbcCalendar),
+                                    resultSet.getTimestamp(3, jdbcCalendar)));
+                        }
+                    }
+                }
+                return keys;
+            });
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (tx.isActive()) tx.rollback();
+            throw e;
+        }
+
+        List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
+        for (KruizeResultsEntry entry : batch) {
+            // a key is removed once matched so that a duplicate within the batch is reported as well
+            if (!insertedKeys.remove(getResultsKey(entry.getExperiment_name(), entry.getInterval_start_time(), entry.getInterval_end_time()))) {
+                entry.setErrorReasons(List.of(AnalyzerErrorConstants.APIErrors.updateResultsAPI.RESULTS_ALREADY_EXISTS));
+                failedResultsEntries.add(entry);
+            }
+        }
+        return failedResultsEntries;
+    }
+
+    private List<KruizeResultsEntry> addResultsToDBOneByOne(Session session, List<KruizeResultsEntry> kruizeResultsEntries) {
+        List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
+        Transaction tx = null;
+        for (KruizeResultsEntry entry : kruizeResultsEntries) {
+            tx = session.beginTransaction();
+            try {
+                session.persist(entry);
+                session.flush();
+            } catch (PersistenceException e) {
+                ConstraintViolationException constraintViolationException = null;
+                String message = "";
+                if (null != e.getCause()) {
+                    constraintViolationException = (ConstraintViolationException) e.getCause();
+                    message = constraintViolationException.getCause().getMessage();
+                } else {
+                    message = e.getMessage();
+                }
+                LOGGER.debug(message);
+                if (message.contains(DUPLICATE_KEY) || message.contains(DUPLICATE_KEY_ALT)) {
+                    entry.setErrorReasons(List.of(AnalyzerErrorConstants.APIErrors.updateResultsAPI.RESULTS_ALREADY_EXISTS));
+                    failedResultsEntries.add(entry);
+                } else if (message.contains(DBConstants.DB_MESSAGES.NO_PARTITION_RELATION)) {
+                    try {
+                        LOGGER.debug(DBConstants.DB_MESSAGES.CREATE_PARTITION_RETRY);
+                        tx.commit();
+                        tx = session.beginTransaction();
+                        // create partitions based on entry object
+                        synchronized (PARTITION_LOCK) {
+                            createPartitions(entry);
+                        }
+                        session.persist(entry);
+                        session.flush();
+                    } catch (Exception partitionException) {
+                        LOGGER.error(partitionException.getMessage());
+                        entry.setErrorReasons(List.of(partitionException.getMessage()));
+                        failedResultsEntries.add(entry);
+                    }
+                } else {
+                    entry.setErrorReasons(List.of(e.getMessage()));
+                    failedResultsEntries.add(entry);
+                }
+            } catch (Exception e) {
+                entry.setErrorReasons(List.of(e.getMessage()));
+                failedResultsEntries.add(entry);
+            } finally {
+                tx.commit();
+            }
+        }
+        return failedResultsEntries;
+    }
+
+    /**
+     * Creates the partitions of the results and recommendations tables for the days of the entries which are
+     * not present yet. The partitions known to exist are cached so the check is done once per day.
+     */
+    private void createMissingResultsPartitions(Session session, List<KruizeResultsEntry> kruizeResultsEntries) {
+        Map<String, KruizeResultsEntry> entriesByPartition = new LinkedHashMap<>();
+        for (KruizeResultsEntry entry : kruizeResultsEntries) {
+            if (null == entry.getInterval_end_time()) {
+                continue;
+            }
+            LocalDateTime localDateTime = entry.getInterval_end_time().toLocalDateTime();
+            String partitionName = String.format(DB_PARTITION_NAME, DBConstants.TABLE_NAMES.KRUIZE_RESULTS, localDateTime.getYear(),
+                    String.format("%02d", localDateTime.getMonthValue()), String.format("%02d", localDateTime.getDayOfMonth()));
+            if (!RESULTS_PARTITIONS.contains(partitionName)) {
+                entriesByPartition.putIfAbsent(partitionName, entry);
+            }
+        }
+        for (Map.Entry<String, KruizeResultsEntry> partitionEntry : entriesByPartition.entrySet()) {
+            String partitionName = partitionEntry.getKey();
+            synchronized (PARTITION_LOCK) {
+                if (RESULTS_PARTITIONS.contains(partitionName)) {
+                    continue;
+                }
+                try {
+                    if (!partitionExists(session, partitionName)) {
+                        createPartitions(partitionEntry.getValue());
+                    }
+                    if (partitionExists(session, partitionName)) {
+                        RESULTS_PARTITIONS.add(partitionName);
+                    }
+                } catch (Exception e) {
+                    LOGGER.error("Exception occurred while checking the partition {}: {}", partitionName, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static boolean partitionExists(Session session, String partitionName) {
+        return Boolean.TRUE.equals(session.createNativeQuery(SELECT_PARTITION_EXISTS, Boolean.class)
+                .setParameter("partitionName", partitionName)
+                .getSingleResult());
+    }
+
+    private static String getResultsKey(String experimentName, Timestamp intervalStartTime, Timestamp intervalEndTime) {
+        return experimentName + "|" + (null == intervalStartTime ? null : intervalStartTime.getTime())
+                + "|" + (null == intervalEndTime ? null : intervalEndTime.getTime());
+    }
+
+    /**
+     * Calendar used to bind timestamps, the same timezone Hibernate uses for the entities
+     */
+    private static Calendar getJdbcCalendar() {
+        String timeZone = KruizeDeploymentInfo.settings_hibernate_time_zone;
+        if (null == timeZone || timeZone.isBlank()) {
+            return Calendar.getInstance();
+        }
+        return Calendar.getInstance(TimeZone.getTimeZone(timeZone));
+    }
+
     private void createPartitions(KruizeResultsEntry entry) {
         try {
             LocalDateTime localDateTime = entry.getInterval_end_time().toLocalDateTime();
@@ -749,6 +894,99 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return validationOutputData;
     }
 
+    /**
+     * Deletes the removed metadata rows by id and inserts the added ones with multi row statements of
+     * METADATA_INSERT_BATCH_SIZE rows, in a single transaction so that a failure leaves the stored metadata as is
+     *
+     * @param removedIds   ids of the rows to delete
+     * @param addedEntries rows to insert
+     */
+    @Override
+    public ValidationOutputData updateMetadataInDB(List<Long> removedIds, List<KruizeDSMetadataEntry> addedEntries) {
+        ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
+        String statusValue = "failure";
+        Timer.Sample timerUpdateMetadataDB = Timer.start(MetricsConfig.meterRegistry());
+        Transaction tx = null;
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            try {
+                tx = session.beginTransaction();
+                for (List<Long> batch : batches(removedIds, DBConstants.BATCH_LIMITS.METADATA_DELETE_BATCH_SIZE)) {
+                    session.createMutationQuery(DELETE_FROM_METADATA_BY_IDS)
+                            .setParameter("ids", batch)
+                            .executeUpdate();
+                }
+                for (List<KruizeDSMetadataEntry> batch : batches(addedEntries, DBConstants.BATCH_LIMITS.METADATA_INSERT_BATCH_SIZE)) {
+                    addMetadataBatchToDB(session, batch);
+                }
+                tx.commit();
+                validationOutputData.setSuccess(true);
+                statusValue = "success";
+            } catch (HibernateException e) {
+                LOGGER.error("Not able to save metadata due to {}", e.getMessage());
+                if (tx != null && tx.isActive()) tx.rollback();
+                validationOutputData.setSuccess(false);
+                validationOutputData.setMessage(e.getMessage());
+            }
+        } catch (Exception e) {
+            LOGGER.error("Not able to save metadata due to {}", e.getMessage());
+            validationOutputData.setMessage(e.getMessage());
+        } finally {
+            if (null != timerUpdateMetadataDB) {
+                MetricsConfig.timerUpdateMetadataDB = MetricsConfig.timerBUpdateMetadataDB.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerUpdateMetadataDB.stop(MetricsConfig.timerUpdateMetadataDB);
+            }
+        }
+        return validationOutputData;
+    }
+
+    private void addMetadataBatchToDB(Session session, List<KruizeDSMetadataEntry> batch) {
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(getInsertMetadataSQL(batch.size()))) {
+                setMetadataRows(statement, batch);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Splits the list into consecutive views of at most batchSize elements
+     */
+    static <T> List<List<T>> batches(List<T> list, int batchSize) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += batchSize) {
+            batches.add(list.subList(from, Math.min(list.size(), from + batchSize)));
+        }
+        return batches;
+    }
+
+    /**
+     * Statement inserting the given number of metadata rows, their values are set by {@link #setMetadataRows}
+     */
+    static String getInsertMetadataSQL(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_METADATA);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_METADATA_VALUES_ROW);
+        }
+        return sql.toString();
+    }
+
+    static void setMetadataRows(PreparedStatement statement, List<KruizeDSMetadataEntry> batch) throws SQLException {
+        int index = 1;
+        for (KruizeDSMetadataEntry entry : batch) {
+            statement.setString(index++, entry.getVersion());
+            statement.setString(index++, entry.getDataSourceName());
+            statement.setString(index++, entry.getClusterName());
+            statement.setString(index++, entry.getNamespace());
+            statement.setString(index++, entry.getWorkloadType());
+            statement.setString(index++, entry.getWorkloadName());
+            statement.setString(index++, entry.getContainerName());
+            statement.setString(index++, entry.getContainerImageName());
+        }
+    }
+
     /**
      * @param kruizeAuthenticationEntry
      * @return
@@ -920,6 +1158,95 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return validationOutputData;
     }
 
+    /**
+     * Retrieves a bulk job along with a page of its experiments.
+     *
+     * <p>Only the experiments whose name contains experimentName are considered, they are sorted by name and the
+     * page is selected by the database so that the whole experiments document of a large job is neither
+     * transferred nor parsed.</p>
+     *
+     * @param jobId             id of the job
+     * @param experimentName    part of the experiment names to include, null or empty for all of them
+     * @param experimentsOffset number of matching experiments to skip
+     * @param experimentsLimit  maximum number of experiments to return, 0 to return the job without experiments
+     * @return the job, null if it is not found
+     * @throws Exception
+     */
+    @Override
+    public KruizeBulkJobEntry findBulkJobById(String jobId, String experimentName, int experimentsOffset, int experimentsLimit) throws Exception {
+        KruizeBulkJobEntry kruizeBulkJobEntry = null;
+        String statusValue = "failure";
+        Timer.Sample timerGetBulkJobDB = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            kruizeBulkJobEntry = session.createNativeQuery(SELECT_FROM_BULKJOBS_BY_JOB_ID_PAGED, KruizeBulkJobEntry.class)
+                    .setParameter("experimentName", null == experimentName ? "" : experimentName)
+                    .setParameter("offset", experimentsOffset)
+                    .setParameter("limit", experimentsLimit)
+                    .setParameter("jobId", jobId)
+                    .getSingleResult();
+            statusValue = "success";
+        } catch (NoResultException e) {
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error(BULK_JOB_LOAD_ERROR, jobId, e.getMessage());
+            throw new Exception(e.getMessage());
+        } finally {
+            if (null != timerGetBulkJobDB) {
+                MetricsConfig.timerLoadBulkJobId = MetricsConfig.timerBLoadBulkJobId.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerGetBulkJobDB.stop(MetricsConfig.timerLoadBulkJobId);
+            }
+        }
+        return kruizeBulkJobEntry;
+    }
+
+    /**
+     * Merges the status of several experiments into a bulk job with a single update.
+     *
+     * <p>The experiments of the patch replace the ones with the same name, the other experiments of the job are
+     * kept. The processed and total counts only move forward so that an older patch does not undo a newer one.</p>
+     *
+     * @param jobId                id of the job
+     * @param experimentsJson      document holding the experiments to merge under the experiments key, as stored by bulkJobSave
+     * @param processedExperiments number of processed experiments of the job
+     * @param totalExperiments     number of experiments of the job discovered so far
+     * @return
+     * @throws Exception
+     */
+    @Override
+    public ValidationOutputData updateBulkJobExperiments(String jobId, String experimentsJson, int processedExperiments, int totalExperiments) throws Exception {
+        ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
+        Transaction tx = null;
+        String statusValue = "failure";
+        Timer.Sample timerUpdateBulkJobDB = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            try {
+                tx = session.beginTransaction();
+                session.createNativeMutationQuery(UPDATE_BULKJOB_EXPERIMENTS_BY_ID)
+                        .setParameter("experiments", experimentsJson)
+                        .setParameter("processedCount", processedExperiments)
+                        .setParameter("totalCount", totalExperiments)
+                        .setParameter("jobId", jobId)
+                        .executeUpdate();
+                tx.commit();
+                validationOutputData.setSuccess(true);
+                statusValue = "success";
+            } catch (HibernateException e) {
+                if (tx != null) tx.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            LOGGER.error(BULK_JOB_UPDATE_ERROR, jobId, e.getMessage());
+            validationOutputData.setMessage(e.getMessage());
+            throw new Exception(e.getMessage());
+        } finally {
+            if (null != timerUpdateBulkJobDB) {
+                MetricsConfig.timerUpdateBulkJobId = MetricsConfig.timerBUpdateBulkJobId.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerUpdateBulkJobDB.stop(MetricsConfig.timerUpdateBulkJobId);
+            }
+        }
+        return validationOutputData;
+    }
+
     @Override
     public void deleteBulkJobByID(String jobId) {
         //todo
@@ -1036,6 +1363,7 @@ public class ExperimentDAOImpl implements ExperimentDAO {
     @Override
     public boolean updateExperimentStatus(KruizeObject kruizeObject, AnalyzerConstants.ExperimentStatus status) {
         kruizeObject.setStatus(status);
+        ExperimentCache.getInstance().invalidate(kruizeObject.getExperimentName());
         // TODO   update into database
         return true;
     }
@@ -1075,6 +1403,7 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     validationOutputData.setSuccess(true);
                 }
                 tx.commit();
+                ExperimentCache.getInstance().invalidate(experimentName);
             } catch (HibernateException e) {
                 LOGGER.error("Not able to delete experiment {} due to {}", experimentName, e.getMessage());
                 if (tx != null) tx.rollback();
@@ -1295,6 +1624,28 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return entries;
     }
 
+    @Override
+    public List<KruizeLMExperimentEntry> loadLMExperimentsByModes(List<String> modes) throws Exception {
+        List<KruizeLMExperimentEntry> entries;
+        String statusValue = "failure";
+        Timer.Sample timerLoadLMExpModes = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            entries = session.createQuery(DBConstants.SQLQUERY.SELECT_FROM_LM_EXPERIMENTS_BY_MODES, KruizeLMExperimentEntry.class)
+                    .setParameter("modes", modes.stream().map(String::toLowerCase).toList())
+                    .list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load experiments by modes due to {}", e.getMessage());
+            throw new Exception("Error while loading existing experiments from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadLMExpModes) {
+                MetricsConfig.timerLoadLMExpModes = MetricsConfig.timerBLoadLMExpModes.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadLMExpModes.stop(MetricsConfig.timerLoadLMExpModes);
+            }
+        }
+        return entries;
+    }
+
 
     @Override
     public List<KruizeResultsEntry> loadAllResults() throws Exception {
@@ -1698,6 +2049,129 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return recommendationEntries;
     }
 
+    @Override
+    public List<KruizeExperimentEntry> loadExperimentsPage(String afterExperimentName, int limit, String clusterName, String namespace) throws Exception {
+        return loadExperimentsPage(SELECT_FROM_EXPERIMENTS_PAGE, KruizeExperimentEntry.class, afterExperimentName, limit, clusterName, namespace);
+    }
+
+    @Override
+    public List<KruizeLMExperimentEntry> loadLMExperimentsPage(String afterExperimentName, int limit, String clusterName, String namespace) throws Exception {
+        return loadExperimentsPage(SELECT_FROM_LM_EXPERIMENTS_PAGE, KruizeLMExperimentEntry.class, afterExperimentName, limit, clusterName, namespace);
+    }
+
+    /**
+     * Loads the experiments whose name sorts after afterExperimentName, at most limit of them. The name of the
+     * last experiment of a page is the cursor of the next page so that every page is an index range scan,
+     * whatever its position.
+     *
+     * @param afterExperimentName cursor, null or empty to start from the first experiment
+     * @param clusterName         cluster name the experiments belong to, null or empty for all clusters
+     * @param namespace           namespace of the kubernetes objects of the experiments, null or empty for all namespaces
+     */
+    private <T> List<T> loadExperimentsPage(String sql, Class<T> entryClass, String afterExperimentName, int limit,
+                                            String clusterName, String namespace) throws Exception {
+        List<T> entries;
+        String statusValue = "failure";
+        Timer.Sample timerLoadExpPage = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            entries = session.createNativeQuery(sql, entryClass)
+                    .setParameter("after", null == afterExperimentName ? "" : afterExperimentName)
+                    .setParameter(CLUSTER_NAME, null == clusterName ? "" : clusterName)
+                    .setParameter(KruizeConstants.JSONKeys.NAMESPACE, null == namespace ? "" : namespace)
+                    .setParameter("limit", limit)
+                    .getResultList();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load experiments page due to {}", e.getMessage());
+            throw new Exception("Error while loading existing experiments from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadExpPage) {
+                MetricsConfig.timerLoadExpPage = MetricsConfig.timerBLoadExpPage.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadExpPage.stop(MetricsConfig.timerLoadExpPage);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public List<KruizeRecommendationEntry> loadRecommendationsByExperimentNames(Collection<String> experimentNames) throws Exception {
+        if (null == experimentNames || experimentNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<KruizeRecommendationEntry> recommendationEntries;
+        String statusValue = "failure";
+        Timer.Sample timerLoadRecExpNames = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            recommendationEntries = session.createQuery(SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAMES, KruizeRecommendationEntry.class)
+                    .setParameterList("experimentNames", experimentNames).list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load recommendations due to {}", e.getMessage());
+            throw new Exception("Error while loading existing recommendations from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadRecExpNames) {
+                MetricsConfig.timerLoadRecExpNames = MetricsConfig.timerBLoadRecExpNames.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadRecExpNames.stop(MetricsConfig.timerLoadRecExpNames);
+            }
+        }
+        return recommendationEntries;
+    }
+
+    @Override
+    public List<KruizeLMRecommendationEntry> loadLMRecommendationsByExperimentNames(Collection<String> experimentNames, String bulkJobId) throws Exception {
+        if (null == experimentNames || experimentNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<KruizeLMRecommendationEntry> recommendationEntries;
+        String statusValue = "failure";
+        Timer.Sample timerLoadRecExpNames = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            if (null != bulkJobId) {
+                recommendationEntries = session.createQuery(SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAMES_BY_JOB_ID, KruizeLMRecommendationEntry.class)
+                        .setParameterList("experimentNames", experimentNames)
+                        .setParameter(JOB_ID, bulkJobId)
+                        .list();
+            } else {
+                recommendationEntries = session.createQuery(SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAMES, KruizeLMRecommendationEntry.class)
+                        .setParameterList("experimentNames", experimentNames).list();
+            }
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load recommendations due to {}", e.getMessage());
+            throw new Exception("Error while loading existing recommendations from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadRecExpNames) {
+                MetricsConfig.timerLoadRecExpNames = MetricsConfig.timerBLoadRecExpNames.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadRecExpNames.stop(MetricsConfig.timerLoadRecExpNames);
+            }
+        }
+        return recommendationEntries;
+    }
+
+    @Override
+    public List<KruizeResultsEntry> loadResultsByExperimentNames(Collection<String> experimentNames) throws Exception {
+        if (null == experimentNames || experimentNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<KruizeResultsEntry> kruizeResultsEntries;
+        String statusValue = "failure";
+        Timer.Sample timerLoadResultsExpNames = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            kruizeResultsEntries = session.createQuery(SELECT_FROM_RESULTS_BY_EXP_NAMES, KruizeResultsEntry.class)
+                    .setParameterList("experimentNames", experimentNames).list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results due to: {}", e.getMessage());
+            throw new Exception("Error while loading results from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsExpNames) {
+                MetricsConfig.timerLoadResultsExpNames = MetricsConfig.timerBLoadResultsExpNames.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsExpNames.stop(MetricsConfig.timerLoadResultsExpNames);
+            }
+        }
+        return kruizeResultsEntries;
+    }
+
     @Override
     public KruizeRecommendationEntry loadRecommendationsByExperimentNameAndDate(String experimentName, String cluster_name, Timestamp interval_end_time) throws Exception {
         KruizeRecommendationEntry recommendationEntries = null;
@@ -1766,6 +2240,32 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return recommendationEntries;
     }
 
+    @Override
+    public KruizeLMRecommendationEntry loadLatestLMRecommendationByExperimentName(String experimentName) throws Exception {
+        KruizeLMRecommendationEntry recommendationEntry = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadRecExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            List<KruizeLMRecommendationEntry> recommendationEntries = session.createQuery(SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAME_AND_MAX_END_TIME, KruizeLMRecommendationEntry.class)
+                    .setParameter(KruizeConstants.JSONKeys.EXPERIMENT_NAME, experimentName)
+                    .setMaxResults(1)
+                    .list();
+            if (!recommendationEntries.isEmpty()) {
+                recommendationEntry = recommendationEntries.get(0);
+            }
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load recommendations due to {}", e.getMessage());
+            throw new Exception("Error while loading existing recommendations from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadRecExpName) {
+                MetricsConfig.timerLoadRecExpName = MetricsConfig.timerBLoadRecExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadRecExpName.stop(MetricsConfig.timerLoadRecExpName);
+            }
+        }
+        return recommendationEntry;
+    }
+
 
     public List<KruizePerformanceProfileEntry> loadPerformanceProfileByName(String performanceProfileName) throws Exception {
         String statusValue = "failure";
@@ -9,6 +9,7 @@ public class DBConstants {
         public static final String SELECT_FROM_LM_EXPERIMENTS = "from KruizeLMExperimentEntry";
         public static final String SELECT_FROM_EXPERIMENTS_BY_EXP_NAME = "from KruizeExperimentEntry k WHERE k.experiment_name = :experimentName";
         public static final String SELECT_COUNT_FROM_EXPERIMENTS_BY_PROFILE_NAME = "SELECT count(k) FROM KruizeExperimentEntry k WHERE k.performance_profile = :performanceProfile";
+        public static final String SELECT_FROM_LM_EXPERIMENTS_BY_MODES = "from KruizeLMExperimentEntry k WHERE lower(k.mode) IN (:modes)";
         public static final String SELECT_FROM_LM_EXPERIMENTS_BY_EXP_NAME = "from KruizeLMExperimentEntry k WHERE k.experiment_name = :experimentName";
         public static final String SELECT_FROM_BULKJOBS_BY_JOB_ID = "from KruizeBulkJobEntry k WHERE k.jobId = :jobId";
         public static final String UPDATE_BULKJOB_BY_ID = "UPDATE kruize_bulkjobs " +
@@ -17,6 +18,20 @@ public class DBConstants {
                 "    :recommendationPath, :newRecommendation::jsonb, true" +
                 ") " +
                 "WHERE job_id = :jobId";
+        // merges the experiments of the patch into the experiments of the job, the experiments not in the patch are kept
+        public static final String UPDATE_BULKJOB_EXPERIMENTS_BY_ID = "UPDATE kruize_bulkjobs " +
+                "SET experiments = jsonb_set(COALESCE(experiments, '{}'::jsonb), '{experiments}', " +
+                "    COALESCE(experiments -> 'experiments', '{}'::jsonb) || COALESCE(CAST(:experiments AS jsonb) -> 'experiments', '{}'::jsonb), true), " +
+                "    processed_count = GREATEST(processed_count, :processedCount), " +
+                "    total_count = GREATEST(total_count, :totalCount) " +
+                "WHERE job_id = :jobId";
+        // the experiments matching the name are sorted by name and only the requested page of them is returned
+        public static final String SELECT_FROM_BULKJOBS_BY_JOB_ID_PAGED = "SELECT b.job_id, b.status, b.total_count, b.processed_count, b.kafka_messages_delivered, b.kafka_messages_failed, " +
+                "b.start_time, b.end_time, b.webhook, b.notifications, b.metadata, b.payload, " +
+                "jsonb_build_object('experiments', COALESCE((SELECT jsonb_object_agg(e.key, e.value) FROM " +
+                "    (SELECT key, value FROM jsonb_each(b.experiments -> 'experiments') WHERE strpos(key, :experimentName) > 0 " +
+                "     ORDER BY key OFFSET :offset LIMIT :limit) e), '{}'::jsonb)) AS experiments " +
+                "FROM kruize_bulkjobs b WHERE b.job_id = :jobId";
         public static final String UPDATE_EXPERIMENTS_DATE = "UPDATE kruize_experiments " +
                 "SET update_date = :updateDate WHERE experiment_name IN (:experimentNames) ";
         public static final String SELECT_FROM_RESULTS = "from KruizeResultsEntry";
@@ -76,6 +91,11 @@ public class DBConstants {
                         "k.experiment_name = :%s and " +
                         "k.interval_end_time= :%s ",
                 KruizeConstants.JSONKeys.EXPERIMENT_NAME, KruizeConstants.JSONKeys.INTERVAL_END_TIME);
+        public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAME_AND_MAX_END_TIME = String.format(
+                "from KruizeLMRecommendationEntry k WHERE " +
+                        "k.experiment_name = :%s and " +
+                        "k.interval_end_time = (SELECT MAX(e.interval_end_time) FROM KruizeLMRecommendationEntry e where e.experiment_name = :%s ) ",
+                KruizeConstants.JSONKeys.EXPERIMENT_NAME, KruizeConstants.JSONKeys.EXPERIMENT_NAME);
         public static final String SELECT_FROM_RECOMMENDATIONS = "from KruizeRecommendationEntry";
         public static final String SELECT_FROM_LM_RECOMMENDATIONS = "from KruizeLMRecommendationEntry";
         public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_JOB_ID = "from KruizeLMRecommendationEntry where function('jsonb_extract_path_text', extended_data, 'job_id') = :job_id";
@@ -93,9 +113,20 @@ public class DBConstants {
         public static final String DELETE_FROM_RECOMMENDATIONS_BY_EXP_NAME = "DELETE FROM KruizeRecommendationEntry k WHERE k.experiment_name = :experimentName";
         public static final String DELETE_FROM_LM_RECOMMENDATIONS_BY_EXP_NAME = "DELETE FROM KruizeLMRecommendationEntry k WHERE k.experiment_name = :experimentName";
         public static final String DELETE_FROM_METADATA_BY_DATASOURCE_NAME = "DELETE FROM KruizeDSMetadataEntry km WHERE km.datasource_name = :dataSourceName";
+        public static final String DELETE_FROM_METADATA_BY_IDS = "DELETE FROM KruizeDSMetadataEntry km WHERE km.id IN (:ids)";
         public static final String DELETE_FROM_METRIC_PROFILE_BY_PROFILE_NAME = "DELETE FROM KruizeMetricProfileEntry km WHERE km.name = :metricProfileName";
         public static final String DELETE_FROM_METADATA_PROFILE_BY_PROFILE_NAME = "DELETE FROM KruizeLMMetadataProfileEntry km WHERE km.name = :metadataProfileName";
         public static final String DB_PARTITION_DATERANGE = "CREATE TABLE IF NOT EXISTS %s_%s%s%s PARTITION OF %s FOR VALUES FROM ('%s-%s-%s 00:00:00.000') TO ('%s-%s-%s 23:59:59');";
+        public static final String DB_PARTITION_NAME = "%s_%s%s%s";
+        public static final String SELECT_PARTITION_EXISTS = "SELECT to_regclass(:partitionName) IS NOT NULL";
+        // multi row insert of the results, the rows already present are skipped and the inserted keys are returned
+        public static final String INSERT_RESULTS_IGNORE_DUPLICATES = "INSERT INTO kruize_results (version, experiment_name, cluster_name, " +
+                "interval_start_time, interval_end_time, duration_minutes, extended_data, meta_data) VALUES ";
+        public static final String INSERT_RESULTS_VALUES_ROW = "(?, ?, ?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb))";
+        public static final String INSERT_METADATA = "INSERT INTO kruize_dsmetadata (version, datasource_name, cluster_name, " +
+                "namespace, workload_type, workload_name, container_name, container_image_name) VALUES ";
+        public static final String INSERT_METADATA_VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+        public static final String INSERT_RESULTS_ON_CONFLICT_RETURNING = " ON CONFLICT DO NOTHING RETURNING experiment_name, interval_start_time, interval_end_time";
         public static final String SELECT_ALL_KRUIZE_TABLES = "SELECT table_name FROM information_schema.tables WHERE table_schema = 'public' " +
                 "and (table_name like 'kruize_results_%' or table_name like 'kruize_recommendations_%') ";
         public static final String SELECT_FROM_EXPERIMENTS_BY_INPUT_JSON = "SELECT * FROM kruize_experiments WHERE cluster_name = :cluster_name " +
@@ -107,6 +138,22 @@ public class DBConstants {
                 " WHERE container->>'container_name' = :container_name" +
                 " AND container->>'container_image_name' = :container_image_name" +
                 " ))";
+        // keyset pagination of the experiments by name, the cluster name and namespace filters are skipped when empty
+        public static final String SELECT_FROM_EXPERIMENTS_PAGE = "SELECT * FROM kruize_experiments WHERE experiment_name > :after " +
+                "AND (:cluster_name = '' OR cluster_name = :cluster_name) " +
+                "AND (:namespace = '' OR EXISTS (SELECT 1 FROM jsonb_array_elements(extended_data->'kubernetes_objects') AS kubernetes_object" +
+                " WHERE kubernetes_object->>'namespace' = :namespace)) " +
+                "ORDER BY experiment_name LIMIT :limit";
+        public static final String SELECT_FROM_LM_EXPERIMENTS_PAGE = "SELECT * FROM kruize_lm_experiments WHERE experiment_name > :after " +
+                "AND (:cluster_name = '' OR cluster_name = :cluster_name) " +
+                "AND (:namespace = '' OR EXISTS (SELECT 1 FROM jsonb_array_elements(extended_data->'kubernetes_objects') AS kubernetes_object" +
+                " WHERE kubernetes_object->>'namespace' = :namespace)) " +
+                "ORDER BY experiment_name LIMIT :limit";
+        public static final String SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAMES = "from KruizeRecommendationEntry k WHERE k.experiment_name IN (:experimentNames)";
+        public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAMES = "from KruizeLMRecommendationEntry k WHERE k.experiment_name IN (:experimentNames)";
+        public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAMES_BY_JOB_ID = "from KruizeLMRecommendationEntry k WHERE k.experiment_name IN (:experimentNames) " +
+                "AND function('jsonb_extract_path_text', extended_data, 'job_id') = :job_id";
+        public static final String SELECT_FROM_RESULTS_BY_EXP_NAMES = "from KruizeResultsEntry k WHERE k.experiment_name IN (:experimentNames)";
         public static final String SELECT_FROM_LM_EXPERIMENTS_BY_INPUT_JSON = "SELECT * FROM kruize_lm_experiments WHERE cluster_name = :cluster_name " +
                 "AND EXISTS (SELECT 1 FROM jsonb_array_elements(extended_data->'kubernetes_objects') AS kubernetes_object" +
                 " WHERE kubernetes_object->>'name' = :name " +
@@ -140,12 +187,21 @@ public class DBConstants {
         public static final int LAST_N_DAYS = 15;
     }
 
+    public static final class BATCH_LIMITS {
+        // 8 bind parameters per row, well below the 65535 parameters allowed in a postgres statement
+        public static final int RESULTS_INSERT_BATCH_SIZE = 500;
+        // 8 bind parameters per row as well
+        public static final int METADATA_INSERT_BATCH_SIZE = 1000;
+        public static final int METADATA_DELETE_BATCH_SIZE = 1000;
+    }
+
     public static final class DB_MESSAGES {
         public static final String RECORD_ALREADY_EXISTS = "A record with the name %s already exists within the timestamp range starting from %s and ending on %s.";
         public static final String DUPLICATE_KEY = "duplicate key value";
         public static final String DUPLICATE_KEY_ALT = "A different object with the same identifier value was already associated with the session";
         public static final String NO_PARTITION_RELATION = "no partition of relation";
         public static final String CREATE_PARTITION_RETRY = "Create partition and retry !";
+        public static final String BATCH_INSERT_FALLBACK = "Batch insert of results failed, saving them one by one : {}";
         public static final String INVALID_PARTITION_TYPE = "Invalid Partition Type";
         public static final String DATA_NOT_FOUND_KRUIZE_RESULTS = "Data not found in kruizeResultsEntry for exp_name : {} interval_end_time : {} ";
         public static final String ADD_CONSTRAINT = "add constraint";
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.service;
+
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.MetricsConfig;
+import io.micrometer.core.instrument.Counter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of the experiments of the kruize_experiments table, keyed by experiment name.
+ * <p>
+ * The least recently used experiment is evicted once the cache holds experiment_cache_max_size of them and
+ * an experiment is reloaded from the database experiment_cache_ttl_seconds after it was loaded. The DAO
+ * invalidates an experiment whenever it is created, deleted or its status is updated, the TTL bounds how
+ * stale an experiment changed by an other Kruize replica can be.
+ * <p>
+ * The cached KruizeObjects are shared, they are only meant for read only uses like the validation of the
+ * updateResults requests. Callers which load results or recommendations into the experiment must load it
+ * from the database.
+ */
+public final class ExperimentCache {
+    private static final String CACHE_NAME = "experiment";
+    private static final ExperimentCache INSTANCE = new ExperimentCache();
+
+    private final Map<String, Entry> entries;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    private ExperimentCache() {
+        this(null == KruizeDeploymentInfo.experiment_cache_max_size ? 0 : KruizeDeploymentInfo.experiment_cache_max_size,
+                null == KruizeDeploymentInfo.experiment_cache_ttl_seconds ? 0 : KruizeDeploymentInfo.experiment_cache_ttl_seconds * 1000L,
+                System::currentTimeMillis);
+    }
+
+    // the clock is only replaced by the tests
+    ExperimentCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        // access ordered so that the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions().increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static ExperimentCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The cache is disabled when either the max size or the TTL is not positive
+     */
+    public boolean isEnabled() {
+        return maxSize > 0 && ttlMillis > 0;
+    }
+
+    /**
+     * Returns the cached experiment, null if it is not cached or has expired
+     */
+    public synchronized KruizeObject get(String experimentName) {
+        Entry entry = entries.get(experimentName);
+        if (null != entry && clock.getAsLong() - entry.loadedAtMillis() >= ttlMillis) {
+            entries.remove(experimentName);
+            evictions().increment();
+            entry = null;
+        }
+        if (null == entry) {
+            misses().increment();
+            return null;
+        }
+        hits().increment();
+        return entry.kruizeObject();
+    }
+
+    public synchronized void put(String experimentName, KruizeObject kruizeObject) {
+        if (!isEnabled() || null == experimentName || null == kruizeObject) {
+            return;
+        }
+        entries.put(experimentName, new Entry(kruizeObject, clock.getAsLong()));
+    }
+
+    public synchronized void invalidate(String experimentName) {
+        if (null != experimentName) {
+            entries.remove(experimentName);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // the counters are registered on first use as the metrics registry is not set up when the class is loaded
+    private Counter hits() {
+        if (null == hits) {
+            hits = MetricsConfig.registerCacheCounter(CACHE_NAME, "hit");
+        }
+        return hits;
+    }
+
+    private Counter misses() {
+        if (null == misses) {
+            misses = MetricsConfig.registerCacheCounter(CACHE_NAME, "miss");
+        }
+        return misses;
+    }
+
+    private Counter evictions() {
+        if (null == evictions) {
+            evictions = MetricsConfig.registerCacheCounter(CACHE_NAME, "eviction");
+        }
+        return evictions;
+    }
+
+    private record Entry(KruizeObject kruizeObject, long loadedAtMillis) {
+    }
+}
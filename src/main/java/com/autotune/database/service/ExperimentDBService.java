@@ -20,6 +20,7 @@ import com.autotune.analyzer.exceptions.LayerConversionException;
 import com.autotune.analyzer.experiment.ExperimentInterface;
 import com.autotune.analyzer.experiment.ExperimentInterfaceImpl;
 import com.autotune.analyzer.kruizeLayer.KruizeLayer;
+import com.autotune.analyzer.kruizeLayer.utils.LayerRegistry;
 import com.autotune.analyzer.kruizeObject.KruizeObject;
 import com.autotune.analyzer.metadataProfiles.MetadataProfile;
 import com.autotune.analyzer.metadataProfiles.utils.MetadataProfileUtil;
@@ -62,6 +63,10 @@ public class ExperimentDBService {
         this.experimentDAO = new ExperimentDAOImpl();
     }
 
+    ExperimentDBService(ExperimentDAO experimentDAO) {
+        this.experimentDAO = experimentDAO;
+    }
+
     public void loadAllExperiments(Map<String, KruizeObject> mainKruizeExperimentMap) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         List<KruizeExperimentEntry> entries = experimentDAO.loadAllExperiments();
@@ -89,8 +94,18 @@ public class ExperimentDBService {
     }
 
     public void loadAllLMExperiments(Map<String, KruizeObject> mainKruizeExperimentMap) throws Exception {
+        addLMExperimentsToLocalStorage(mainKruizeExperimentMap, experimentDAO.loadAllLMExperiments());
+    }
+
+    /**
+     * Loads the experiments running in one of the modes, the modes are filtered in the database
+     */
+    public void loadLMExperimentsByModes(Map<String, KruizeObject> mainKruizeExperimentMap, List<String> modes) throws Exception {
+        addLMExperimentsToLocalStorage(mainKruizeExperimentMap, experimentDAO.loadLMExperimentsByModes(modes));
+    }
+
+    private void addLMExperimentsToLocalStorage(Map<String, KruizeObject> mainKruizeExperimentMap, List<KruizeLMExperimentEntry> entries) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
-        List<KruizeLMExperimentEntry> entries = experimentDAO.loadAllLMExperiments();
         if (null != entries && !entries.isEmpty()) {
             List<CreateExperimentAPIObject> createExperimentAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertLMExperimentEntryToCreateExperimentAPIObject(entries);
             if (null != createExperimentAPIObjects && !createExperimentAPIObjects.isEmpty()) {
@@ -182,6 +197,114 @@ public class ExperimentDBService {
         }
     }
 
+    /**
+     * Loads a page of experiments, sorted by name, into the map. Used by the list APIs to build their response
+     * page by page instead of loading all the experiments at once.
+     *
+     * @param mainKruizeExperimentMap map the experiments are added to, in the order of their names
+     * @param afterExperimentName     name of the last experiment of the previous page, null for the first page
+     * @param limit                   maximum number of experiments to load
+     * @param clusterName             cluster name filter, null for all clusters
+     * @param namespace               namespace filter, null for all namespaces
+     * @param rmTable                 true to load from kruize_experiments, false from kruize_lm_experiments
+     * @return names of the experiments read from the database in order, the last one is the cursor of the next page.
+     * The experiments which can not be converted are skipped from the map but are part of the names.
+     */
+    public List<String> loadExperimentsPage(Map<String, KruizeObject> mainKruizeExperimentMap, String afterExperimentName, int limit,
+                                            String clusterName, String namespace, boolean rmTable) throws Exception {
+        List<String> experimentNames = new ArrayList<>();
+        List<CreateExperimentAPIObject> createExperimentAPIObjects;
+        if (rmTable) {
+            List<KruizeExperimentEntry> entries = experimentDAO.loadExperimentsPage(afterExperimentName, limit, clusterName, namespace);
+            if (null == entries || entries.isEmpty()) {
+                return experimentNames;
+            }
+            entries.forEach(entry -> experimentNames.add(entry.getExperiment_name()));
+            createExperimentAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertExperimentEntryToCreateExperimentAPIObject(entries);
+        } else {
+            List<KruizeLMExperimentEntry> entries = experimentDAO.loadLMExperimentsPage(afterExperimentName, limit, clusterName, namespace);
+            if (null == entries || entries.isEmpty()) {
+                return experimentNames;
+            }
+            entries.forEach(entry -> experimentNames.add(entry.getExperiment_name()));
+            createExperimentAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertLMExperimentEntryToCreateExperimentAPIObject(entries);
+        }
+        if (null != createExperimentAPIObjects && !createExperimentAPIObjects.isEmpty()) {
+            List<KruizeObject> kruizeExpList = new ArrayList<>();
+            for (CreateExperimentAPIObject createExperimentAPIObject : createExperimentAPIObjects) {
+                KruizeObject kruizeObject = Converters.KruizeObjectConverters.convertCreateExperimentAPIObjToKruizeObject(createExperimentAPIObject);
+                if (null != kruizeObject) {
+                    kruizeExpList.add(kruizeObject);
+                } else {
+                    LOGGER.error("Experiment {} unable to load from DB.", createExperimentAPIObject.getExperimentName());
+                }
+            }
+            new ExperimentInterfaceImpl().addExperimentToLocalStorage(mainKruizeExperimentMap, kruizeExpList);
+        }
+        return experimentNames;
+    }
+
+    /**
+     * Loads the recommendations of the experiments of the map, with one query for all of them
+     *
+     * @param bulkJobId only used for the kruize_lm_recommendations table, null for all the jobs
+     */
+    public void loadRecommendationsForExperiments(Map<String, KruizeObject> mainKruizeExperimentMap, boolean rmTable, String bulkJobId) throws Exception {
+        if (mainKruizeExperimentMap.isEmpty()) {
+            return;
+        }
+        List<ListRecommendationsAPIObject> recommendationsAPIObjects = null;
+        try {
+            if (rmTable) {
+                List<KruizeRecommendationEntry> recommendationEntries = experimentDAO.loadRecommendationsByExperimentNames(mainKruizeExperimentMap.keySet());
+                if (null != recommendationEntries && !recommendationEntries.isEmpty()) {
+                    recommendationsAPIObjects = DBHelpers.Converters.KruizeObjectConverters
+                            .convertRecommendationEntryToRecommendationAPIObject(recommendationEntries);
+                }
+            } else {
+                List<KruizeLMRecommendationEntry> recommendationEntries = experimentDAO.loadLMRecommendationsByExperimentNames(mainKruizeExperimentMap.keySet(), bulkJobId);
+                if (null != recommendationEntries && !recommendationEntries.isEmpty()) {
+                    recommendationsAPIObjects = DBHelpers.Converters.KruizeObjectConverters
+                            .convertLMRecommendationEntryToRecommendationAPIObject(recommendationEntries);
+                }
+            }
+        } catch (InvalidConversionOfRecommendationEntryException e) {
+            e.printStackTrace();
+        }
+        if (null != recommendationsAPIObjects && !recommendationsAPIObjects.isEmpty()) {
+            new ExperimentInterfaceImpl().addRecommendationsToLocalStorage(mainKruizeExperimentMap,
+                    recommendationsAPIObjects,
+                    true);
+        }
+    }
+
+    /**
+     * Loads the results of the experiments of the map, with one query for all of them
+     */
+    public void loadResultsForExperiments(Map<String, KruizeObject> mainKruizeExperimentMap) throws Exception {
+        if (mainKruizeExperimentMap.isEmpty()) {
+            return;
+        }
+        List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentNames(mainKruizeExperimentMap.keySet());
+        if (null != kruizeResultsEntries && !kruizeResultsEntries.isEmpty()) {
+            List<UpdateResultsAPIObject> updateResultsAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertResultEntryToUpdateResultsAPIObject(kruizeResultsEntries);
+            if (!updateResultsAPIObjects.isEmpty()) {
+                List<ExperimentResultData> resultDataList = new ArrayList<>();
+                for (UpdateResultsAPIObject updateResultsAPIObject : updateResultsAPIObjects) {
+                    try {
+                        updateResultsAPIObject.setKruizeObject(mainKruizeExperimentMap.get(updateResultsAPIObject.getExperimentName()));
+                        resultDataList.add(Converters.KruizeObjectConverters.convertUpdateResultsAPIObjToExperimentResultData(updateResultsAPIObject));
+                    } catch (IllegalArgumentException e) {
+                        LOGGER.error("Failed to convert DB data to local: {}", e.getMessage());
+                    } catch (Exception e) {
+                        LOGGER.error("Unexpected error: {}", e.getMessage());
+                    }
+                }
+                new ExperimentInterfaceImpl().addResultsToLocalStorage(mainKruizeExperimentMap, resultDataList);
+            }
+        }
+    }
+
     public void loadAllPerformanceProfiles(Map<String, PerformanceProfile> performanceProfileMap) throws Exception {
         List<KruizePerformanceProfileEntry> entries = experimentDAO.loadAllPerformanceProfiles();
         if (null != entries && !entries.isEmpty()) {
@@ -275,9 +398,17 @@ public class ExperimentDBService {
     }
 
     public void loadLMRecommendationsFromDBByName(Map<String, KruizeObject> mainKruizeExperimentMap, String experimentName, String bulkJobId) throws Exception {
-        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         // Load Recommendations from DB and save to local
         List<KruizeLMRecommendationEntry> recommendationEntries = experimentDAO.loadLMRecommendationsByExperimentName(experimentName, bulkJobId);
+        addLMRecommendationsToLocalStorage(mainKruizeExperimentMap, recommendationEntries);
+    }
+
+    /**
+     * Adds the recommendations already loaded from the DB to the experiments of the map
+     */
+    public void addLMRecommendationsToLocalStorage(Map<String, KruizeObject> mainKruizeExperimentMap,
+                                                   List<KruizeLMRecommendationEntry> recommendationEntries) throws Exception {
+        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         if (null != recommendationEntries && !recommendationEntries.isEmpty()) {
             List<ListRecommendationsAPIObject> recommendationsAPIObjects
                     = null;
@@ -475,6 +606,9 @@ public class ExperimentDBService {
         try {
             KruizeLMLayerEntry kruizeLayerEntry = DBHelpers.Converters.KruizeObjectConverters.convertLayerObjectToLayerDBObj(kruizeLayer);
             validationOutputData = this.experimentDAO.addLayerToDB(kruizeLayerEntry);
+            if (validationOutputData.isSuccess()) {
+                LayerRegistry.getInstance().invalidate();
+            }
         } catch (Exception e) {
             LOGGER.error("Failed to add layer to database: {}", e.getMessage(), e);
             validationOutputData.setSuccess(false);
@@ -570,6 +704,34 @@ public class ExperimentDBService {
         }
     }
 
+    /**
+     * Same as {@link #loadExperimentFromDBByName(Map, String)} but the experiment is served from the
+     * {@link ExperimentCache} when it is cached. The experiment is shared with the other callers and must not
+     * be modified, it is only meant for validations.
+     *
+     * @param mainKruizeExperimentMap map the experiment is added to
+     * @param experimentName          name of the experiment
+     */
+    public void loadExperimentFromCacheOrDBByName(Map<String, KruizeObject> mainKruizeExperimentMap, String experimentName) throws Exception {
+        ExperimentCache experimentCache = ExperimentCache.getInstance();
+        if (!experimentCache.isEnabled()) {
+            loadExperimentFromDBByName(mainKruizeExperimentMap, experimentName);
+            return;
+        }
+        KruizeObject kruizeObject = experimentCache.get(experimentName);
+        if (null != kruizeObject) {
+            mainKruizeExperimentMap.put(experimentName, kruizeObject);
+            return;
+        }
+        Map<String, KruizeObject> loadedExperimentMap = new HashMap<>();
+        loadExperimentFromDBByName(loadedExperimentMap, experimentName);
+        kruizeObject = loadedExperimentMap.get(experimentName);
+        if (null != kruizeObject) {
+            experimentCache.put(experimentName, kruizeObject);
+            mainKruizeExperimentMap.put(experimentName, kruizeObject);
+        }
+    }
+
     public void loadExperimentFromDBByInputJSON(Map<String, KruizeObject> mKruizeExperimentMap, StringBuilder clusterName, List<KubernetesAPIObject> kubernetesAPIObjectList) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         // assuming there will be only one Kubernetes object
@@ -706,6 +868,7 @@ public class ExperimentDBService {
 
     public boolean updateExperimentStatus(KruizeObject kruizeObject, AnalyzerConstants.ExperimentStatus status) {
         kruizeObject.setStatus(status);
+        ExperimentCache.getInstance().invalidate(kruizeObject.getExperimentName());
         // TODO   update into database
         return true;
     }
@@ -798,15 +961,85 @@ public class ExperimentDBService {
         ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
         try {
             List<KruizeDSMetadataEntry> kruizeMetadataList = DBHelpers.Converters.KruizeObjectConverters.convertDataSourceMetadataToMetadataObj(dataSourceMetadataInfo);
-            for (KruizeDSMetadataEntry kruizeMetadata : kruizeMetadataList) {
-                validationOutputData = this.experimentDAO.addMetadataToDB(kruizeMetadata);
+            // all the rows are inserted in batches within one transaction
+            validationOutputData = this.experimentDAO.updateMetadataInDB(Collections.emptyList(), kruizeMetadataList);
+        } catch (Exception e) {
+            LOGGER.error("Not able to save metadata due to {}", e.getMessage());
+        }
+        return validationOutputData;
+    }
+
+    /**
+     * Replaces the stored metadata of the datasources of dataSourceMetadataInfo with it, writing only the
+     * differences: the namespaces, workloads and containers which are no longer present are deleted and the
+     * new ones are inserted, the unchanged rows are left as they are.
+     *
+     * @param dataSourceMetadataInfo DataSourceMetadataInfo object holding the newly imported metadata
+     * @return ValidationOutputData with the outcome of the write
+     */
+    public ValidationOutputData updateMetadataInDB(DataSourceMetadataInfo dataSourceMetadataInfo) {
+        ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
+        try {
+            List<KruizeDSMetadataEntry> importedEntries = DBHelpers.Converters.KruizeObjectConverters.convertDataSourceMetadataToMetadataObj(dataSourceMetadataInfo);
+            List<KruizeDSMetadataEntry> storedEntries = new ArrayList<>();
+            for (String dataSourceName : dataSourceMetadataInfo.getDatasources().keySet()) {
+                List<KruizeDSMetadataEntry> entries = experimentDAO.loadMetadataByName(dataSourceName);
+                if (null != entries) {
+                    storedEntries.addAll(entries);
+                }
+            }
+
+            List<KruizeDSMetadataEntry> addedEntries = new ArrayList<>();
+            List<Long> removedIds = new ArrayList<>();
+            diffMetadata(storedEntries, importedEntries, addedEntries, removedIds);
+
+            LOGGER.debug("Metadata changes: {} rows added, {} rows removed, {} rows unchanged", addedEntries.size(),
+                    removedIds.size(), importedEntries.size() - addedEntries.size());
+            if (addedEntries.isEmpty() && removedIds.isEmpty()) {
+                validationOutputData.setSuccess(true);
+                return validationOutputData;
             }
+            validationOutputData = this.experimentDAO.updateMetadataInDB(removedIds, addedEntries);
         } catch (Exception e) {
             LOGGER.error("Not able to save metadata due to {}", e.getMessage());
+            validationOutputData.setMessage(e.getMessage());
         }
         return validationOutputData;
     }
 
+    /**
+     * Compares the imported metadata rows with the stored ones by their columns other than the id
+     *
+     * @param storedEntries   rows stored in the database
+     * @param importedEntries rows of the imported metadata
+     * @param addedEntries    filled with the imported rows which are not stored
+     * @param removedIds      filled with the ids of the stored rows which are not imported
+     */
+    static void diffMetadata(List<KruizeDSMetadataEntry> storedEntries, List<KruizeDSMetadataEntry> importedEntries,
+                             List<KruizeDSMetadataEntry> addedEntries, List<Long> removedIds) {
+        // stored rows by key, a key may be stored more than once
+        Map<String, List<KruizeDSMetadataEntry>> storedByKey = new HashMap<>();
+        for (KruizeDSMetadataEntry entry : storedEntries) {
+            storedByKey.computeIfAbsent(getMetadataKey(entry), key -> new ArrayList<>()).add(entry);
+        }
+        for (KruizeDSMetadataEntry entry : importedEntries) {
+            List<KruizeDSMetadataEntry> stored = storedByKey.get(getMetadataKey(entry));
+            if (null == stored || stored.isEmpty()) {
+                addedEntries.add(entry);
+            } else {
+                stored.remove(stored.size() - 1);
+            }
+        }
+        storedByKey.values().forEach(entries -> entries.forEach(entry -> removedIds.add(entry.getId())));
+    }
+
+    private static String getMetadataKey(KruizeDSMetadataEntry entry) {
+        return String.join("|", String.valueOf(entry.getVersion()), String.valueOf(entry.getDataSourceName()),
+                String.valueOf(entry.getClusterName()), String.valueOf(entry.getNamespace()),
+                String.valueOf(entry.getWorkloadType()), String.valueOf(entry.getWorkloadName()),
+                String.valueOf(entry.getContainerName()), String.valueOf(entry.getContainerImageName()));
+    }
+
     /**
      * fetches metadata of specified datasource name from database
      *
@@ -70,6 +70,10 @@ public class KruizeDSMetadataEntry {
         return id;
     }
 
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public String getVersion() {
         return version;
     }
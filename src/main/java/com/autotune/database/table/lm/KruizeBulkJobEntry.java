@@ -50,6 +50,10 @@ public class KruizeBulkJobEntry {
     private int totalExperiments;
     @Column(name = "processed_count")
     private int processedExperiments;
+    @Column(name = "kafka_messages_delivered")
+    private Integer kafkaMessagesDelivered;
+    @Column(name = "kafka_messages_failed")
+    private Integer kafkaMessagesFailed;
     @Column(name = "start_time")
     private Timestamp jobStartTime;
     @Column(name = "end_time")
@@ -65,11 +69,15 @@ public class KruizeBulkJobEntry {
     @JdbcTypeCode(SqlTypes.JSON)
     private JsonNode payload; // JSONB field for experiments data
 
-    public KruizeBulkJobEntry(String jobId, String status, int totalExperiments, int processedExperiments, Timestamp jobStartTime, Timestamp jobEndTime, String webhook, String notifications, String experiments, String metadata, String payload) {
+    public KruizeBulkJobEntry(String jobId, String status, int totalExperiments, int processedExperiments, Integer kafkaMessagesDelivered,
+                              Integer kafkaMessagesFailed, Timestamp jobStartTime, Timestamp jobEndTime, String webhook, String notifications,
+                              String experiments, String metadata, String payload) {
         this.jobId = jobId;
         this.status = status;
         this.totalExperiments = totalExperiments;
         this.processedExperiments = processedExperiments;
+        this.kafkaMessagesDelivered = kafkaMessagesDelivered;
+        this.kafkaMessagesFailed = kafkaMessagesFailed;
         this.jobStartTime = jobStartTime;
         this.jobEndTime = jobEndTime;
         try {
@@ -122,6 +130,22 @@ public class KruizeBulkJobEntry {
         this.processedExperiments = processedExperiments;
     }
 
+    public Integer getKafkaMessagesDelivered() {
+        return kafkaMessagesDelivered;
+    }
+
+    public void setKafkaMessagesDelivered(Integer kafkaMessagesDelivered) {
+        this.kafkaMessagesDelivered = kafkaMessagesDelivered;
+    }
+
+    public Integer getKafkaMessagesFailed() {
+        return kafkaMessagesFailed;
+    }
+
+    public void setKafkaMessagesFailed(Integer kafkaMessagesFailed) {
+        this.kafkaMessagesFailed = kafkaMessagesFailed;
+    }
+
     public Timestamp getJobStartTime() {
         return jobStartTime;
     }
@@ -185,6 +209,8 @@ public class KruizeBulkJobEntry {
                 ", status='" + status + '\'' +
                 ", totalExperiments=" + totalExperiments +
                 ", processedExperiments=" + processedExperiments +
+                ", kafkaMessagesDelivered=" + kafkaMessagesDelivered +
+                ", kafkaMessagesFailed=" + kafkaMessagesFailed +
                 ", jobStartTime=" + jobStartTime +
                 ", jobEndTime=" + jobEndTime +
                 ", webhook='" + webhook + '\'' +
@@ -202,6 +228,8 @@ public class KruizeBulkJobEntry {
                         status,
                         totalExperiments,
                         processedExperiments,
+                        kafkaMessagesDelivered,
+                        kafkaMessagesFailed,
                         jobStartTime,
                         jobEndTime,
                         convertJsonNodeToMap(notifications),
@@ -62,7 +62,17 @@ public class EMExecutorService {
         return null;
     }
 
-    public Future initiateExperimentStageProcessor(Callable stageProcessor) {
+    /**
+     * Runs the task on the scheduled executor after the delay, returns null if the executor is not created
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit timeUnit) {
+        if (null != emScheduledExecutor) {
+            return emScheduledExecutor.schedule(task, delay, timeUnit);
+        }
+        return null;
+    }
+
+    public Future<Void> initiateExperimentStageProcessor(Callable<Void> stageProcessor) {
         if (null != emExecutor) {
             LOGGER.info(EMConstants.Logs.EMExecutorService.START_STAGE_PROCESSORS);
             return emExecutor.submit(stageProcessor);
@@ -2,11 +2,17 @@ package com.autotune.experimentManager.core;
 
 import com.autotune.experimentManager.data.*;
 import com.autotune.experimentManager.exceptions.EMInvalidTransitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
-public class EMScheduledStageProcessor implements Callable {
+/**
+ * Schedules the transitions of the scheduled queue after their delay, blocking on the queue while it is empty
+ */
+public class EMScheduledStageProcessor implements Callable<Void> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EMScheduledStageProcessor.class);
     public EMExecutorService emExecutorService;
 
     public EMScheduledStageProcessor() {
@@ -14,26 +20,27 @@ public class EMScheduledStageProcessor implements Callable {
     }
 
     @Override
-    public Object call() throws Exception {
-        while(true) {
-            if(EMStageProcessQueue.getStageProcessQueueInstance().getScheduledQueue().size() == 0) {
-                synchronized (this) {
-                    wait();
-                }
-            } else {
-                EMStageScheduledTransition transitionToBeLaunched = (EMStageScheduledTransition) EMStageProcessQueue.getStageProcessQueueInstance().getScheduledQueue().poll();
-                if (transitionToBeLaunched.getEmStageTransition().getTargetStage() != ((ExperimentTrialData) EMMapper.getInstance().getMap().get(transitionToBeLaunched.getEmStageTransition().getRunId())).getTargetStage()) {
+    public Void call() throws Exception {
+        while (!Thread.currentThread().isInterrupted()) {
+            EMStageScheduledTransition transitionToBeLaunched;
+            try {
+                transitionToBeLaunched = EMStageProcessQueue.getStageProcessQueueInstance().getScheduledQueue().take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            EMStageTransition transition = transitionToBeLaunched.getEmStageTransition();
+            try {
+                if (transition.getTargetStage() != ((ExperimentTrialData) EMMapper.getInstance().getMap().get(transition.getRunId())).getTargetStage()) {
                     throw new EMInvalidTransitionException();
                 }
-                RunExperiment experiment = new RunExperiment(transitionToBeLaunched.getEmStageTransition().getRunId());
+                RunExperiment experiment = new RunExperiment(transition.getRunId());
                 emExecutorService.scheduledExecute(experiment, transitionToBeLaunched.getDelayInSecs(), TimeUnit.SECONDS);
+            } catch (EMInvalidTransitionException e) {
+                // an invalid transition is dropped, the processor keeps serving the other ones
+                LOGGER.error("Invalid transition to {} for run {}", transition.getTargetStage(), transition.getRunId());
             }
         }
-    }
-
-    public void notifyProcessor() {
-        synchronized (this) {
-            notify();
-        }
+        return null;
     }
 }
@@ -5,10 +5,16 @@ import com.autotune.experimentManager.data.EMStageProcessQueue;
 import com.autotune.experimentManager.data.EMStageTransition;
 import com.autotune.experimentManager.data.ExperimentTrialData;
 import com.autotune.experimentManager.exceptions.EMInvalidTransitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.Callable;
 
-public class EMStageProcessor implements Callable {
+/**
+ * Launches the transitions of the regular queue, blocking on the queue while it is empty
+ */
+public class EMStageProcessor implements Callable<Void> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EMStageProcessor.class);
     public EMExecutorService emExecutorService;
 
     public EMStageProcessor() {
@@ -16,28 +22,27 @@ public class EMStageProcessor implements Callable {
     }
 
     @Override
-    public Object call() throws Exception {
-        while(true) {
-            if(EMStageProcessQueue.getStageProcessQueueInstance().getQueue().size() == 0) {
-                synchronized (this) {
-                    System.out.println("Waiting for experiments ... ");
-                    wait();
-                }
-            } else {
-                System.out.println("Proceeding to run experiments ... ");
-                EMStageTransition transitionToBeLaunched = (EMStageTransition) EMStageProcessQueue.getStageProcessQueueInstance().getQueue().poll();
+    public Void call() throws Exception {
+        while (!Thread.currentThread().isInterrupted()) {
+            EMStageTransition transitionToBeLaunched;
+            try {
+                transitionToBeLaunched = EMStageProcessQueue.getStageProcessQueueInstance().getQueue().take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            LOGGER.debug("Proceeding to run experiments ... ");
+            try {
                 if (transitionToBeLaunched.getTargetStage() != ((ExperimentTrialData) EMMapper.getInstance().getMap().get(transitionToBeLaunched.getRunId())).getTargetStage()) {
                     throw new EMInvalidTransitionException();
                 }
                 RunExperiment experiment = new RunExperiment(transitionToBeLaunched.getRunId());
                 emExecutorService.execute(experiment);
+            } catch (EMInvalidTransitionException e) {
+                // an invalid transition is dropped, the processor keeps serving the other ones
+                LOGGER.error("Invalid transition to {} for run {}", transitionToBeLaunched.getTargetStage(), transitionToBeLaunched.getRunId());
             }
         }
-    }
-
-    public void notifyProcessor() {
-        synchronized (this) {
-            notify();
-        }
+        return null;
     }
 }
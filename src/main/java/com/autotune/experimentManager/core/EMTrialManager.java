@@ -24,7 +24,6 @@ public class EMTrialManager {
                 }
                 EMStageTransition transition = new EMStageTransition(nextRunId, EMUtil.EMExpStages.CREATE_CONFIG);
                 EMStageProcessQueue.getStageProcessQueueInstance().getQueue().add(transition);
-                ExperimentManager.notifyQueueProcessor();
             } else {
                 // TODO: Need to handle this scary problem
             }
@@ -59,14 +59,6 @@ public class ExperimentManager {
         return true;
     }
 
-    public static void notifyQueueProcessor() {
-        emStageProcessor.notifyProcessor();
-    }
-
-    public static void notifyScheduledQueueProcessor() {
-        emScheduledStageProcessor.notifyProcessor();
-    }
-
     private static void addEMServlets(ServletContextHandler context) {
         LOGGER.info(EMConstants.Logs.ExperimentManager.ADD_EM_SERVLETS);
         context.addServlet(CreateExperimentTrial.class, ServerContext.EXPERIMENT_MANAGER_CREATE_TRIAL);
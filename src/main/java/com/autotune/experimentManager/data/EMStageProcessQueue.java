@@ -16,26 +16,29 @@
 
 package com.autotune.experimentManager.data;
 
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 /**
-* EMStageProcessQueue instance is a holder for the instances of two ConcurrentLinkedQueue's
+* EMStageProcessQueue instance is a holder for the instances of two LinkedBlockingQueue's
 *
 * 1. Regular Queue - To hold EMStageTransition objects
 * 2. Scheduled Queue - To hold EMStageScheduledTransition objects
+*
+* The stage processors block on take() until a transition is added, so no wakeup can be missed
 */
 public class EMStageProcessQueue {
     private static volatile EMStageProcessQueue emStageProcessQueue = null;
-    private volatile ConcurrentLinkedQueue<EMStageTransition> emStageQueue;
-    private volatile ConcurrentLinkedQueue<EMStageScheduledTransition> emStageScheduledQueue;
+    private volatile BlockingQueue<EMStageTransition> emStageQueue;
+    private volatile BlockingQueue<EMStageScheduledTransition> emStageScheduledQueue;
 
     /**
      * Making it a singleton class by having a private constructor and initialising its own instance
      * when we make a first call to the class methods
      */
     private EMStageProcessQueue() {
-        emStageQueue = new ConcurrentLinkedQueue<EMStageTransition>();
-        emStageScheduledQueue = new ConcurrentLinkedQueue<EMStageScheduledTransition>();
+        emStageQueue = new LinkedBlockingQueue<EMStageTransition>();
+        emStageScheduledQueue = new LinkedBlockingQueue<EMStageScheduledTransition>();
     }
 
     public static EMStageProcessQueue getStageProcessQueueInstance() {
@@ -73,7 +76,7 @@ public class EMStageProcessQueue {
      * Returns the regular queue
      * @return emStageQueue
      */
-    public ConcurrentLinkedQueue<EMStageTransition> getQueue() {
+    public BlockingQueue<EMStageTransition> getQueue() {
         return emStageQueue;
     }
 
@@ -81,7 +84,7 @@ public class EMStageProcessQueue {
      * Returns the scheduled queue
      * @return emStageScheduledQueue
      */
-    public ConcurrentLinkedQueue<EMStageScheduledTransition> getScheduledQueue() {
+    public BlockingQueue<EMStageScheduledTransition> getScheduledQueue() {
         return emStageScheduledQueue;
     }
 }
@@ -19,6 +19,7 @@ import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.metrics.Metric;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.datasource.DataSourceOperatorImpl;
+import com.autotune.common.exceptions.datasource.UnsupportedDataSourceProvider;
 import com.autotune.common.k8sObjects.KubernetesContexts;
 import com.autotune.common.parallelengine.executor.KruizeExecutor;
 import com.autotune.common.parallelengine.worker.CallableFactory;
@@ -28,6 +29,7 @@ import com.autotune.common.target.kubernetes.service.impl.KubernetesServicesImpl
 import com.autotune.common.trials.ExperimentTrial;
 import com.autotune.common.trials.TrialDetails;
 import com.autotune.common.utils.CommonUtils;
+import com.autotune.experimentManager.core.EMExecutorService;
 import com.autotune.experimentManager.data.result.CycleMetaData;
 import com.autotune.experimentManager.data.result.StepsMetaData;
 import com.autotune.experimentManager.data.result.TrialIterationMetaData;
@@ -48,20 +50,29 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.sql.Timestamp;
 import java.text.DecimalFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
  * Metric collection helper class.
+ * <p>
+ * The warmup and measurement cycles are not waited for on the worker thread. Each cycle is scheduled on the
+ * scheduled executor of the EMExecutorService and collected on the KruizeExecutor once its duration has
+ * elapsed, the next cycle is then scheduled in turn. A trial waiting for its cycles does not hold a thread.
  */
 public class MetricCollectionHandler implements EMHandlerInterface {
     private static final Logger LOGGER = LoggerFactory.getLogger(MetricCollectionHandler.class);
 
     @Override
     public void execute(ExperimentTrial experimentTrial, TrialDetails trialDetails, TrialIterationMetaData iterationMetaData, StepsMetaData stepsMeatData, KruizeExecutor kruizeExecutor, ServletContext context) {
+        MetricCollection collection = new MetricCollection(experimentTrial, trialDetails, iterationMetaData, stepsMeatData, kruizeExecutor, context);
         try {
             LOGGER.debug("ExperimentName: \"{}\" - TrialNo: {} - Iteration: {} - StepName: {}",
                     experimentTrial.getExperimentName(),
@@ -71,20 +82,15 @@ public class MetricCollectionHandler implements EMHandlerInterface {
             );
             stepsMeatData.setStatus(EMUtil.EMExpStatus.IN_PROGRESS);
             stepsMeatData.setBeginTimestamp(new Timestamp(System.currentTimeMillis()));
-            /**
-             * Implement MetricCollectionHandler Logic
-             */
             // Get the autotune query variable CRD
             CustomResourceDefinitionContext autotuneQueryVariableCRD = KubernetesContexts.getAutotuneVariableContext();
-            KubernetesServices kubernetesServices = null;
             try {
-                // Initiate Kubernetes service
-                kubernetesServices = new KubernetesServicesImpl();
+                // Initiate Kubernetes service, it is shut down once all the cycles are collected
+                collection.kubernetesServices = new KubernetesServicesImpl();
                 // Get the env variables map from kubernetes
                 // TODO: Move the constants to common constants or Autotune Constants
-                Map<String, Object> envVariblesMap = kubernetesServices.getCRDEnvMap(autotuneQueryVariableCRD, "monitoring", KruizeDeploymentInfo.k8s_type);
-                ArrayList<Map<String, String>> queryVarList = (ArrayList<Map<String, String>>) envVariblesMap.get(AnalyzerConstants.AutotuneConfigConstants.QUERY_VARIABLES);
-                LinkedHashMap<String, LinkedHashMap<Integer, CycleMetaData>> cycleMetaDataMap = new LinkedHashMap<>();
+                Map<String, Object> envVariblesMap = collection.kubernetesServices.getCRDEnvMap(autotuneQueryVariableCRD, "monitoring", KruizeDeploymentInfo.k8s_type);
+                collection.queryVarList = (ArrayList<Map<String, String>>) envVariblesMap.get(AnalyzerConstants.AutotuneConfigConstants.QUERY_VARIABLES);
                 LinkedHashMap<String, Integer> cycles = new LinkedHashMap<>();
                 String warmupCycles = experimentTrial.getExperimentSettings().getTrialSettings().getTrialWarmupCycles();
                 String measurementCycles = experimentTrial.getExperimentSettings().getTrialSettings().getTrialMeasurementCycles();
@@ -94,7 +100,6 @@ public class MetricCollectionHandler implements EMHandlerInterface {
                 if (measurementCyclesCount > 0)
                     cycles.put(KruizeConstants.CycleTypes.MEASUREMENT, measurementCyclesCount);
                 cycles.forEach((cycleName, count) -> {
-                    LinkedHashMap<Integer, CycleMetaData> iterationCycle = new LinkedHashMap<>();
                     IntStream.rangeClosed(1, count).forEach((iteration) -> {
                         String durationTime = null;
                         if (cycleName == KruizeConstants.CycleTypes.WARMUP) {
@@ -103,227 +108,351 @@ public class MetricCollectionHandler implements EMHandlerInterface {
                             durationTime = experimentTrial.getExperimentSettings().getTrialSettings().getTrialMeasurementDuration();
                         }
                         int timeToSleep = CommonUtils.getTimeToSleepMillis(CommonUtils.getTimeValue(durationTime), CommonUtils.getTimeUnit(durationTime));
-                        try {
-                            LOGGER.info("Waiting for {} milli seconds to collect metrics", timeToSleep);
-                            Thread.sleep(timeToSleep);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                        CycleMetaData cycleMetaData = new CycleMetaData();
-                        cycleMetaData.setCycleName(cycleName);
-                        cycleMetaData.setStatus(EMUtil.EMExpStatus.IN_PROGRESS);
-                        // Get pod name of the current trial
-                        String podName = EMUtil.getCurrentPodNameOfTrial(experimentTrial);
-                        // Listing all pod metrics
-                        HashMap<String, Metric> podMetricsMap = experimentTrial.getPodMetricsHashMap();
-                        for (Map.Entry<String, Metric> podMetricEntry : podMetricsMap.entrySet()) {
-                            Metric podMetric = podMetricEntry.getValue();
-                            String updatedPodQuery = EMUtil.replaceQueryVars(podMetric.getQuery(), queryVarList);
-                            updatedPodQuery = EMUtil.formatQueryByPodName(updatedPodQuery, podName);
-                            // Need to run the updated query by calling the datasource
-                            DataSourceOperatorImpl ado = DataSourceOperatorImpl.getInstance().getOperator(podMetric.getDatasource());
-                            if (null == ado) {
-                                // TODO: Return an error saying unsupported datasource
-                            }
-                            String queryResult = null;
-                            try {
-                                queryResult = (String) ado.getValueForQuery(experimentTrial.getDatasourceInfoHashMap()
-                                        .get(podMetric.getDatasource()), updatedPodQuery);
-                            } catch (IOException e) {
-                                throw new RuntimeException(e);
-                            } catch (NoSuchAlgorithmException e) {
-                                throw new RuntimeException(e);
-                            } catch (KeyStoreException e) {
-                                throw new RuntimeException(e);
-                            } catch (KeyManagementException e) {
-                                throw new RuntimeException(e);
-                            }
-                            if (null != queryResult && !queryResult.isEmpty() && !queryResult.isBlank()) {
-                                try {
-                                    queryResult = queryResult.trim();
-                                    LinkedHashMap<String, LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>> trialDataMap = podMetric.getCycleDataMap();
-                                    if (!trialDataMap.containsKey(String.valueOf(trialDetails.getTrialNumber()))) {
-                                        trialDataMap.put(String.valueOf(trialDetails.getTrialNumber()), new LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>());
-                                    }
-                                    LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>> metricCycleDataMap = trialDataMap.get(String.valueOf(trialDetails.getTrialNumber()));
-                                    if (!metricCycleDataMap.containsKey(cycleName)) {
-                                        metricCycleDataMap.put(cycleName, new LinkedHashMap<Integer, MetricResults>());
-                                    }
-                                    MetricResults metricResults = new MetricResults();
-                                    metricResults.getAggregationInfoResult().setAvg(Double.parseDouble(queryResult));
-                                    metricCycleDataMap.get(cycleName).put(iteration, metricResults);
-                                    LOGGER.debug("Query Result - {}", queryResult);
-                                } catch (Exception e) {
-                                    LOGGER.error("The Query result - {} cannot be parsed as float", queryResult);
-                                }
-                            }
-                        }
-                        HashMap<String, HashMap<String, Metric>> containersMap = experimentTrial.getContainerMetricsHashMap();
-                        for (Map.Entry<String, HashMap<String, Metric>> containerMapEntry : containersMap.entrySet()) {
-                            String containerName = containerMapEntry.getKey();
-                            LOGGER.debug("Container name - " + containerName);
-                            for (Map.Entry<String, Metric> containerMetricEntry : containerMapEntry.getValue().entrySet()) {
-                                Metric containerMetric = containerMetricEntry.getValue();
-                                String updatedContainerQuery = EMUtil.replaceQueryVars(containerMetric.getQuery(), queryVarList);
-                                updatedContainerQuery = EMUtil.formatQueryByPodName(updatedContainerQuery, podName);
-                                updatedContainerQuery = EMUtil.formatQueryByContainerName(updatedContainerQuery, containerName);
-                                // Need to run the updated query by calling the datasource
-                                DataSourceOperatorImpl ado = DataSourceOperatorImpl.getInstance().getOperator(containerMetric.getDatasource());
-                                if (null == ado) {
-                                    // TODO: Return an error saying unsupported datasource
-                                }
-                                if (null != updatedContainerQuery) {
-                                    LOGGER.debug("Updated Query - " + updatedContainerQuery);
-                                    String queryResult = null;
-                                    try {
-                                        queryResult = (String) ado.getValueForQuery(experimentTrial.getDatasourceInfoHashMap()
-                                                .get(containerMetric.getDatasource()), updatedContainerQuery);
-                                    } catch (IOException e) {
-                                        throw new RuntimeException(e);
-                                    } catch (NoSuchAlgorithmException e) {
-                                        throw new RuntimeException(e);
-                                    } catch (KeyStoreException e) {
-                                        throw new RuntimeException(e);
-                                    } catch (KeyManagementException e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                    if (null != queryResult && !queryResult.isEmpty() && !queryResult.isBlank()) {
-                                        try {
-                                            queryResult = queryResult.trim();
-                                            LinkedHashMap<String, LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>> trialDataMap = containerMetric.getCycleDataMap();
-                                            if (!trialDataMap.containsKey(String.valueOf(trialDetails.getTrialNumber()))) {
-                                                trialDataMap.put(String.valueOf(trialDetails.getTrialNumber()), new LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>());
-                                            }
-                                            LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>> metricCycleDataMap = trialDataMap.get(String.valueOf(trialDetails.getTrialNumber()));
-                                            if (!metricCycleDataMap.containsKey(cycleName)) {
-                                                metricCycleDataMap.put(cycleName, new LinkedHashMap<Integer, MetricResults>());
-                                            }
-                                            DecimalFormat df = new DecimalFormat("0.00");
-                                            df.setMaximumFractionDigits(2);
-                                            MetricResults metricResults = new MetricResults();
-                                            Double resultFloat = Double.parseDouble(queryResult);
-                                            if (containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.CPU_REQUEST)) {
-                                                metricResults.getAggregationInfoResult().setFormat("cores");
-
-                                            } else if (containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.MEMORY_REQUEST)
-                                                    || containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.GC)) {
-                                                resultFloat = (Double) EMUtil.convertToMiB(resultFloat, EMUtil.MemoryUnits.BYTES);
-                                                LOGGER.debug("Result float from util - " + resultFloat);
-                                                metricResults.getAggregationInfoResult().setFormat("MiB");
-                                            }
-                                            LOGGER.debug("Result float before- " + resultFloat);
-                                            resultFloat = Double.parseDouble(df.format(resultFloat));
-                                            LOGGER.debug("Result float after - " + resultFloat);
-                                            metricResults.getAggregationInfoResult().setAvg(resultFloat);
-                                            metricCycleDataMap.get(cycleName).put(iteration, metricResults);
-                                            LOGGER.debug("Query Result - " + queryResult);
-                                        } catch (Exception e) {
-                                            LOGGER.error("The Query result - {} cannot be parsed as float", queryResult);
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                        iterationCycle.put(iteration, cycleMetaData);
+                        collection.pendingCycles.add(new PendingCycle(cycleName, iteration, timeToSleep));
                     });
-                    cycleMetaDataMap.put(cycleName, iterationCycle);
                 });
-                // Summarization of metrics collected
-                HashMap<String, Metric> podMetricsMap = experimentTrial.getPodMetricsHashMap();
-                for (Map.Entry<String, Metric> podMetricEntry : podMetricsMap.entrySet()) {
-                    Metric podMetric = podMetricEntry.getValue();
+            } catch (Exception e) {
+                LOGGER.error("Failed to prepare the metric collection of ExperimentName: \"{}\" - TrialNo: {}, skipping the cycles",
+                        experimentTrial.getExperimentName(), trialDetails.getTrialNumber(), e);
+                completeStep(collection);
+                return;
+            }
+            scheduleNextCycle(collection);
+        } catch (Exception e) {
+            failStep(collection, e);
+        }
+    }
+
+    /**
+     * Schedules the collection of the next pending cycle once its duration has elapsed, or summarizes the
+     * collected metrics and completes the step when all the cycles are collected
+     */
+    private void scheduleNextCycle(MetricCollection collection) {
+        PendingCycle cycle = collection.pendingCycles.poll();
+        if (null == cycle) {
+            try {
+                summarizeMetrics(collection);
+            } catch (Exception e) {
+                LOGGER.error("Failed to summarize the metrics of ExperimentName: \"{}\" - TrialNo: {}",
+                        collection.experimentTrial.getExperimentName(), collection.trialDetails.getTrialNumber(), e);
+            }
+            completeStep(collection);
+            return;
+        }
+        LOGGER.info("Waiting for {} milli seconds to collect metrics", cycle.timeToSleep);
+        // the scheduled executor only hands the cycle over, the queries are run on the KruizeExecutor
+        ScheduledFuture<?> scheduledCycle = EMExecutorService.getService().schedule(
+                () -> collection.kruizeExecutor.submit(() -> collectCycle(collection, cycle)),
+                cycle.timeToSleep, TimeUnit.MILLISECONDS);
+        if (null == scheduledCycle) {
+            throw new IllegalStateException("Scheduled executor of the experiment manager is not created");
+        }
+    }
+
+    private void collectCycle(MetricCollection collection, PendingCycle cycle) {
+        try {
+            try {
+                collectCycleMetrics(collection, cycle);
+            } catch (UnsupportedDataSourceProvider e) {
+                // none of the cycles can be collected from the datasource
+                failStep(collection, e);
+                return;
+            } catch (Exception e) {
+                // as when the collection fails, the remaining cycles are skipped and the step is completed
+                LOGGER.error("Failed to collect the metrics of the {} cycle {} of ExperimentName: \"{}\" - TrialNo: {}, skipping the remaining cycles",
+                        cycle.cycleName, cycle.iteration, collection.experimentTrial.getExperimentName(),
+                        collection.trialDetails.getTrialNumber(), e);
+                completeStep(collection);
+                return;
+            }
+            scheduleNextCycle(collection);
+        } catch (Exception e) {
+            failStep(collection, e);
+        }
+    }
+
+    private void collectCycleMetrics(MetricCollection collection, PendingCycle cycle) throws UnsupportedDataSourceProvider {
+        ExperimentTrial experimentTrial = collection.experimentTrial;
+        TrialDetails trialDetails = collection.trialDetails;
+        ArrayList<Map<String, String>> queryVarList = collection.queryVarList;
+        String cycleName = cycle.cycleName;
+        int iteration = cycle.iteration;
+        CycleMetaData cycleMetaData = new CycleMetaData();
+        cycleMetaData.setCycleName(cycleName);
+        cycleMetaData.setStatus(EMUtil.EMExpStatus.IN_PROGRESS);
+        // Get pod name of the current trial
+        String podName = EMUtil.getCurrentPodNameOfTrial(experimentTrial);
+        // Listing all pod metrics
+        HashMap<String, Metric> podMetricsMap = experimentTrial.getPodMetricsHashMap();
+        for (Map.Entry<String, Metric> podMetricEntry : podMetricsMap.entrySet()) {
+            Metric podMetric = podMetricEntry.getValue();
+            String updatedPodQuery = EMUtil.replaceQueryVars(podMetric.getQuery(), queryVarList);
+            updatedPodQuery = EMUtil.formatQueryByPodName(updatedPodQuery, podName);
+            // Need to run the updated query by calling the datasource
+            DataSourceOperatorImpl ado = DataSourceOperatorImpl.getInstance().getOperator(podMetric.getDatasource());
+            if (null == ado) {
+                throw new UnsupportedDataSourceProvider(unsupportedDatasource(podMetric));
+            }
+            String queryResult = null;
+            try {
+                queryResult = (String) ado.getValueForQuery(experimentTrial.getDatasourceInfoHashMap()
+                        .get(podMetric.getDatasource()), updatedPodQuery);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            } catch (KeyStoreException e) {
+                throw new RuntimeException(e);
+            } catch (KeyManagementException e) {
+                throw new RuntimeException(e);
+            }
+            if (null != queryResult && !queryResult.isEmpty() && !queryResult.isBlank()) {
+                try {
+                    queryResult = queryResult.trim();
                     LinkedHashMap<String, LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>> trialDataMap = podMetric.getCycleDataMap();
                     if (!trialDataMap.containsKey(String.valueOf(trialDetails.getTrialNumber()))) {
                         trialDataMap.put(String.valueOf(trialDetails.getTrialNumber()), new LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>());
                     }
                     LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>> metricCycleDataMap = trialDataMap.get(String.valueOf(trialDetails.getTrialNumber()));
-                    if (metricCycleDataMap.containsKey(KruizeConstants.CycleTypes.MEASUREMENT)) {
-                        LinkedHashMap<Integer, MetricResults> measurementMap = metricCycleDataMap.get(KruizeConstants.CycleTypes.MEASUREMENT);
-                        double sumVal = 0;
-                        int removableEntries = 0;
-                        for (Map.Entry<Integer, MetricResults> measurementMapEntry : measurementMap.entrySet()) {
-                            MetricResults metricResults = measurementMapEntry.getValue();
-                            if (Float.MIN_VALUE == metricResults.getAggregationInfoResult().getAvg())
-                                removableEntries = removableEntries + 1;
-                            else
-                                sumVal = sumVal + metricResults.getAggregationInfoResult().getAvg();
-                        }
-                        double avgVal = sumVal / (measurementMap.size() - removableEntries);
-                        MetricResults metricResults = new MetricResults();
-                        metricResults.getAggregationInfoResult().setAvg(avgVal);
-                        podMetric.getTrialSummaryResult().put(String.valueOf(trialDetails.getTrialNumber()), metricResults);
-                        podMetric.setMetricResult(metricResults);
+                    if (!metricCycleDataMap.containsKey(cycleName)) {
+                        metricCycleDataMap.put(cycleName, new LinkedHashMap<Integer, MetricResults>());
                     }
+                    MetricResults metricResults = new MetricResults();
+                    metricResults.getAggregationInfoResult().setAvg(Double.parseDouble(queryResult));
+                    metricCycleDataMap.get(cycleName).put(iteration, metricResults);
+                    LOGGER.debug("Query Result - {}", queryResult);
+                } catch (Exception e) {
+                    LOGGER.error("The Query result - {} cannot be parsed as float", queryResult);
                 }
-                HashMap<String, HashMap<String, Metric>> containersMap = experimentTrial.getContainerMetricsHashMap();
-                for (Map.Entry<String, HashMap<String, Metric>> containerMapEntry : containersMap.entrySet()) {
-                    String containerName = containerMapEntry.getKey();
-                    LOGGER.debug("Container name - " + containerName);
-                    for (Map.Entry<String, Metric> containerMetricEntry : containerMapEntry.getValue().entrySet()) {
-                        Metric containerMetric = containerMetricEntry.getValue();
-                        LinkedHashMap<String, LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>> trialDataMap = containerMetric.getCycleDataMap();
-                        if (!trialDataMap.containsKey(String.valueOf(trialDetails.getTrialNumber()))) {
-                            trialDataMap.put(String.valueOf(trialDetails.getTrialNumber()), new LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>());
-                        }
-                        LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>> metricCycleDataMap = trialDataMap.get(String.valueOf(trialDetails.getTrialNumber()));
-                        if (metricCycleDataMap.containsKey(KruizeConstants.CycleTypes.MEASUREMENT)) {
-                            LinkedHashMap<Integer, MetricResults> measurementMap = metricCycleDataMap.get(KruizeConstants.CycleTypes.MEASUREMENT);
-                            double sumVal = 0;
-                            int removableEntries = 0;
-                            for (Map.Entry<Integer, MetricResults> measurementMapEntry : measurementMap.entrySet()) {
-                                MetricResults metricResults = measurementMapEntry.getValue();
-                                if (Float.MIN_VALUE == metricResults.getAggregationInfoResult().getAvg())
-                                    removableEntries = removableEntries + 1;
-                                else
-                                    sumVal = sumVal + metricResults.getAggregationInfoResult().getAvg();
+            }
+        }
+        HashMap<String, HashMap<String, Metric>> containersMap = experimentTrial.getContainerMetricsHashMap();
+        for (Map.Entry<String, HashMap<String, Metric>> containerMapEntry : containersMap.entrySet()) {
+            String containerName = containerMapEntry.getKey();
+            LOGGER.debug("Container name - " + containerName);
+            for (Map.Entry<String, Metric> containerMetricEntry : containerMapEntry.getValue().entrySet()) {
+                Metric containerMetric = containerMetricEntry.getValue();
+                String updatedContainerQuery = EMUtil.replaceQueryVars(containerMetric.getQuery(), queryVarList);
+                updatedContainerQuery = EMUtil.formatQueryByPodName(updatedContainerQuery, podName);
+                updatedContainerQuery = EMUtil.formatQueryByContainerName(updatedContainerQuery, containerName);
+                // Need to run the updated query by calling the datasource
+                DataSourceOperatorImpl ado = DataSourceOperatorImpl.getInstance().getOperator(containerMetric.getDatasource());
+                if (null == ado) {
+                    throw new UnsupportedDataSourceProvider(unsupportedDatasource(containerMetric));
+                }
+                if (null != updatedContainerQuery) {
+                    LOGGER.debug("Updated Query - " + updatedContainerQuery);
+                    String queryResult = null;
+                    try {
+                        queryResult = (String) ado.getValueForQuery(experimentTrial.getDatasourceInfoHashMap()
+                                .get(containerMetric.getDatasource()), updatedContainerQuery);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    } catch (NoSuchAlgorithmException e) {
+                        throw new RuntimeException(e);
+                    } catch (KeyStoreException e) {
+                        throw new RuntimeException(e);
+                    } catch (KeyManagementException e) {
+                        throw new RuntimeException(e);
+                    }
+                    if (null != queryResult && !queryResult.isEmpty() && !queryResult.isBlank()) {
+                        try {
+                            queryResult = queryResult.trim();
+                            LinkedHashMap<String, LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>> trialDataMap = containerMetric.getCycleDataMap();
+                            if (!trialDataMap.containsKey(String.valueOf(trialDetails.getTrialNumber()))) {
+                                trialDataMap.put(String.valueOf(trialDetails.getTrialNumber()), new LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>());
+                            }
+                            LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>> metricCycleDataMap = trialDataMap.get(String.valueOf(trialDetails.getTrialNumber()));
+                            if (!metricCycleDataMap.containsKey(cycleName)) {
+                                metricCycleDataMap.put(cycleName, new LinkedHashMap<Integer, MetricResults>());
                             }
-                            double avgVal = sumVal / (measurementMap.size() - removableEntries);
+                            DecimalFormat df = new DecimalFormat("0.00");
+                            df.setMaximumFractionDigits(2);
                             MetricResults metricResults = new MetricResults();
+                            Double resultFloat = Double.parseDouble(queryResult);
                             if (containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.CPU_REQUEST)) {
                                 metricResults.getAggregationInfoResult().setFormat("cores");
 
                             } else if (containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.MEMORY_REQUEST)
                                     || containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.GC)) {
+                                resultFloat = (Double) EMUtil.convertToMiB(resultFloat, EMUtil.MemoryUnits.BYTES);
+                                LOGGER.debug("Result float from util - " + resultFloat);
                                 metricResults.getAggregationInfoResult().setFormat("MiB");
                             }
-                            metricResults.getAggregationInfoResult().setAvg(avgVal);
-                            containerMetric.getTrialSummaryResult().put(String.valueOf(trialDetails.getTrialNumber()), metricResults);
-                            containerMetric.setMetricResult(metricResults);
+                            LOGGER.debug("Result float before- " + resultFloat);
+                            resultFloat = Double.parseDouble(df.format(resultFloat));
+                            LOGGER.debug("Result float after - " + resultFloat);
+                            metricResults.getAggregationInfoResult().setAvg(resultFloat);
+                            metricCycleDataMap.get(cycleName).put(iteration, metricResults);
+                            LOGGER.debug("Query Result - " + queryResult);
+                        } catch (Exception e) {
+                            LOGGER.error("The Query result - {} cannot be parsed as float", queryResult);
                         }
                     }
                 }
-            } catch (Exception e) {
-                e.printStackTrace();
-            } finally {
-                if (kubernetesServices != null) {
-                    kubernetesServices.shutdownClient();
+            }
+        }
+        collection.cycleMetaDataMap.computeIfAbsent(cycleName, name -> new LinkedHashMap<>()).put(iteration, cycleMetaData);
+    }
+
+    /**
+     * Summarization of metrics collected
+     */
+    private void summarizeMetrics(MetricCollection collection) {
+        ExperimentTrial experimentTrial = collection.experimentTrial;
+        TrialDetails trialDetails = collection.trialDetails;
+        HashMap<String, Metric> podMetricsMap = experimentTrial.getPodMetricsHashMap();
+        for (Map.Entry<String, Metric> podMetricEntry : podMetricsMap.entrySet()) {
+            Metric podMetric = podMetricEntry.getValue();
+            LinkedHashMap<String, LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>> trialDataMap = podMetric.getCycleDataMap();
+            if (!trialDataMap.containsKey(String.valueOf(trialDetails.getTrialNumber()))) {
+                trialDataMap.put(String.valueOf(trialDetails.getTrialNumber()), new LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>());
+            }
+            LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>> metricCycleDataMap = trialDataMap.get(String.valueOf(trialDetails.getTrialNumber()));
+            if (metricCycleDataMap.containsKey(KruizeConstants.CycleTypes.MEASUREMENT)) {
+                LinkedHashMap<Integer, MetricResults> measurementMap = metricCycleDataMap.get(KruizeConstants.CycleTypes.MEASUREMENT);
+                double sumVal = 0;
+                int removableEntries = 0;
+                for (Map.Entry<Integer, MetricResults> measurementMapEntry : measurementMap.entrySet()) {
+                    MetricResults metricResults = measurementMapEntry.getValue();
+                    if (Float.MIN_VALUE == metricResults.getAggregationInfoResult().getAvg())
+                        removableEntries = removableEntries + 1;
+                    else
+                        sumVal = sumVal + metricResults.getAggregationInfoResult().getAvg();
                 }
+                double avgVal = sumVal / (measurementMap.size() - removableEntries);
+                MetricResults metricResults = new MetricResults();
+                metricResults.getAggregationInfoResult().setAvg(avgVal);
+                podMetric.getTrialSummaryResult().put(String.valueOf(trialDetails.getTrialNumber()), metricResults);
+                podMetric.setMetricResult(metricResults);
             }
+        }
+        HashMap<String, HashMap<String, Metric>> containersMap = experimentTrial.getContainerMetricsHashMap();
+        for (Map.Entry<String, HashMap<String, Metric>> containerMapEntry : containersMap.entrySet()) {
+            String containerName = containerMapEntry.getKey();
+            LOGGER.debug("Container name - " + containerName);
+            for (Map.Entry<String, Metric> containerMetricEntry : containerMapEntry.getValue().entrySet()) {
+                Metric containerMetric = containerMetricEntry.getValue();
+                LinkedHashMap<String, LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>> trialDataMap = containerMetric.getCycleDataMap();
+                if (!trialDataMap.containsKey(String.valueOf(trialDetails.getTrialNumber()))) {
+                    trialDataMap.put(String.valueOf(trialDetails.getTrialNumber()), new LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>>());
+                }
+                LinkedHashMap<String, LinkedHashMap<Integer, MetricResults>> metricCycleDataMap = trialDataMap.get(String.valueOf(trialDetails.getTrialNumber()));
+                if (metricCycleDataMap.containsKey(KruizeConstants.CycleTypes.MEASUREMENT)) {
+                    LinkedHashMap<Integer, MetricResults> measurementMap = metricCycleDataMap.get(KruizeConstants.CycleTypes.MEASUREMENT);
+                    double sumVal = 0;
+                    int removableEntries = 0;
+                    for (Map.Entry<Integer, MetricResults> measurementMapEntry : measurementMap.entrySet()) {
+                        MetricResults metricResults = measurementMapEntry.getValue();
+                        if (Float.MIN_VALUE == metricResults.getAggregationInfoResult().getAvg())
+                            removableEntries = removableEntries + 1;
+                        else
+                            sumVal = sumVal + metricResults.getAggregationInfoResult().getAvg();
+                    }
+                    double avgVal = sumVal / (measurementMap.size() - removableEntries);
+                    MetricResults metricResults = new MetricResults();
+                    if (containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.CPU_REQUEST)) {
+                        metricResults.getAggregationInfoResult().setFormat("cores");
 
-            stepsMeatData.setEndTimestamp(new Timestamp(System.currentTimeMillis()));
-            stepsMeatData.setStatus(EMUtil.EMExpStatus.COMPLETED);
-            EMStatusUpdateHandler.updateTrialIterationDataStatus(experimentTrial, trialDetails, iterationMetaData);
-            EMStatusUpdateHandler.updateTrialMetaDataStatus(experimentTrial, trialDetails);
-            EMStatusUpdateHandler.updateExperimentTrialMetaDataStatus(experimentTrial);
+                    } else if (containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.MEMORY_REQUEST)
+                            || containerMetric.getName().equalsIgnoreCase(EMConstants.QueryNames.Container.GC)) {
+                        metricResults.getAggregationInfoResult().setFormat("MiB");
+                    }
+                    metricResults.getAggregationInfoResult().setAvg(avgVal);
+                    containerMetric.getTrialSummaryResult().put(String.valueOf(trialDetails.getTrialNumber()), metricResults);
+                    containerMetric.setMetricResult(metricResults);
+                }
+            }
+        }
+    }
+
+    private void completeStep(MetricCollection collection) {
+        try {
+            shutdownClient(collection);
+            collection.stepsMeatData.setEndTimestamp(new Timestamp(System.currentTimeMillis()));
+            collection.stepsMeatData.setStatus(EMUtil.EMExpStatus.COMPLETED);
+            EMStatusUpdateHandler.updateTrialIterationDataStatus(collection.experimentTrial, collection.trialDetails, collection.iterationMetaData);
+            EMStatusUpdateHandler.updateTrialMetaDataStatus(collection.experimentTrial, collection.trialDetails);
+            EMStatusUpdateHandler.updateExperimentTrialMetaDataStatus(collection.experimentTrial);
+            KruizeExecutor kruizeExecutor = collection.kruizeExecutor;
             kruizeExecutor.submit(
                     new Runnable() {
                         @Override
                         public void run() {
                             KruizeWorker theWorker = new CallableFactory().create(kruizeExecutor.getWorker());
-                            theWorker.execute(null, experimentTrial, kruizeExecutor, context);
+                            theWorker.execute(null, collection.experimentTrial, kruizeExecutor, collection.context);
                         }
                     }
             );
         } catch (Exception e) {
-            trialDetails.getTrialMetaData().setStatus(EMUtil.EMExpStatus.FAILED);
-            e.printStackTrace();
-            LOGGER.error("Failed to execute MetricCollectionHandler ExperimentName: \"{}\" - TrialNo: {} - Iteration: {} - StepName: {} -- {}",
-                    experimentTrial.getExperimentName(),
-                    trialDetails.getTrialNumber(),
-                    iterationMetaData.getIterationNumber(),
-                    stepsMeatData.getStepName(),
-                    e.getMessage()
-            );
+            failStep(collection, e);
+        }
+    }
+
+    private void failStep(MetricCollection collection, Exception e) {
+        shutdownClient(collection);
+        collection.trialDetails.getTrialMetaData().setStatus(EMUtil.EMExpStatus.FAILED);
+        LOGGER.error("Failed to execute MetricCollectionHandler ExperimentName: \"{}\" - TrialNo: {} - Iteration: {} - StepName: {} -- {}",
+                collection.experimentTrial.getExperimentName(),
+                collection.trialDetails.getTrialNumber(),
+                collection.iterationMetaData.getIterationNumber(),
+                collection.stepsMeatData.getStepName(),
+                e.getMessage(),
+                e
+        );
+    }
+
+    private static String unsupportedDatasource(Metric metric) {
+        return KruizeConstants.DataSourceConstants.DataSourceErrorMsgs.UNSUPPORTED_DATASOURCE_PROVIDER
+                + " Metric: " + metric.getName() + " - Datasource: " + metric.getDatasource();
+    }
+
+    private void shutdownClient(MetricCollection collection) {
+        if (collection.kubernetesServices != null) {
+            collection.kubernetesServices.shutdownClient();
+            collection.kubernetesServices = null;
+        }
+    }
+
+    /**
+     * Warmup or measurement cycle waiting to be collected
+     */
+    private static final class PendingCycle {
+        private final String cycleName;
+        private final int iteration;
+        private final int timeToSleep;
+
+        private PendingCycle(String cycleName, int iteration, int timeToSleep) {
+            this.cycleName = cycleName;
+            this.iteration = iteration;
+            this.timeToSleep = timeToSleep;
+        }
+    }
+
+    /**
+     * State of the metric collection of a trial step, carried from one scheduled cycle to the next.
+     * The cycles are collected one after the other, never concurrently.
+     */
+    private static final class MetricCollection {
+        private final ExperimentTrial experimentTrial;
+        private final TrialDetails trialDetails;
+        private final TrialIterationMetaData iterationMetaData;
+        private final StepsMetaData stepsMeatData;
+        private final KruizeExecutor kruizeExecutor;
+        private final ServletContext context;
+        private final Queue<PendingCycle> pendingCycles = new ArrayDeque<>();
+        private final LinkedHashMap<String, LinkedHashMap<Integer, CycleMetaData>> cycleMetaDataMap = new LinkedHashMap<>();
+        private KubernetesServices kubernetesServices;
+        private ArrayList<Map<String, String>> queryVarList;
+
+        private MetricCollection(ExperimentTrial experimentTrial, TrialDetails trialDetails, TrialIterationMetaData iterationMetaData,
+                                 StepsMetaData stepsMeatData, KruizeExecutor kruizeExecutor, ServletContext context) {
+            this.experimentTrial = experimentTrial;
+            this.trialDetails = trialDetails;
+            this.iterationMetaData = iterationMetaData;
+            this.stepsMeatData = stepsMeatData;
+            this.kruizeExecutor = kruizeExecutor;
+            this.context = context;
         }
     }
 }
@@ -2,7 +2,6 @@ package com.autotune.experimentManager.services.util;
 
 import com.autotune.common.annotations.json.KruizeJSONExclusionStrategy;
 import com.autotune.common.trials.ExperimentTrial;
-import com.autotune.experimentManager.core.ExperimentManager;
 import com.autotune.experimentManager.data.*;
 import com.autotune.experimentManager.exceptions.EMInvalidInstanceCreation;
 import com.autotune.experimentManager.exceptions.IncompatibleInputJSONException;
@@ -84,7 +83,6 @@ public class EMAPIHandler {
     private static void pushTransitionToQueue(String runId) {
         EMStageTransition transition = new EMStageTransition(runId, EMUtil.EMExpStages.CREATE_CONFIG);
         EMStageProcessQueue.getStageProcessQueueInstance().getQueue().add(transition);
-        ExperimentManager.notifyQueueProcessor();
     }
 
     public static JSONObject getStatusJson(String experimentName, String trialNum, boolean verbose) {
@@ -1,7 +1,6 @@
 package com.autotune.experimentManager.transitions;
 
 import com.autotune.experimentManager.core.EMTransitionRegistry;
-import com.autotune.experimentManager.core.ExperimentManager;
 import com.autotune.experimentManager.data.EMMapper;
 import com.autotune.experimentManager.data.EMStageProcessQueue;
 import com.autotune.experimentManager.data.EMStageTransition;
@@ -26,7 +25,6 @@ public abstract class AbstractBaseTransition implements BaseTransition {
         System.out.println("Next Stage : " + nextStage.toString());
         EMStageTransition transition = new EMStageTransition(runId, nextStage);
         EMStageProcessQueue.getStageProcessQueueInstance().getQueue().add(transition);
-        ExperimentManager.notifyQueueProcessor();
         // }
     }
 }
@@ -65,7 +65,7 @@ public class KruizeDeploymentInfo {
     public static String database_admin_password;
     public static String database_ssl_mode;
     public static Boolean test_use_only_cache_job_in_mem = false;
-    public static String job_filter_to_db = "experiments|status|apis|create|response|status_history|notifications";      //Use this constant to store necessary information into DB also can be set via env variable
+    public static String job_filter_to_db = "experiments|status|apis|create|response|status_history|notifications|reused_interval_end_time";      //Use this constant to store necessary information into DB also can be set via env variable
     public static String cloudwatch_logs_access_key_id;
     public static String cloudwatch_logs_secret_access_key;
     public static String cloudwatch_logs_log_group;
@@ -101,6 +101,23 @@ public class KruizeDeploymentInfo {
     public static String kafka_response_filter_include = System.getenv("KAFKA_RESPONSE_FILTER_INCLUDE");
     public static String kafka_response_filter_exclude = System.getenv("KAFKA_RESPONSE_FILTER_EXCLUDE");
     public static Integer kafka_thread_pool_size = 3;
+    public static Integer kafka_linger_ms = 20;
+    public static Integer kafka_batch_size = 65536;
+    public static String kafka_compression_type = "lz4";
+    public static Integer datasource_http_max_connections = 100;
+    public static Integer datasource_http_max_connections_per_route = 20;
+    public static Integer datasource_http_idle_timeout_seconds = 30;
+    public static Integer datasource_http_validate_after_inactivity_ms = 2000;
+    public static Integer datasource_query_concurrency = 8;
+    public static Integer experiment_cache_max_size = 10000;
+    public static Integer experiment_cache_ttl_seconds = 300;
+    public static Integer bulk_job_status_flush_interval_ms = 5000;
+    public static Integer list_api_page_size = 500;
+    public static Integer metadata_discovery_shard_size = 100;
+    public static Integer bulk_pipeline_queue_size = 1000;
+    public static Integer autoscaler_informer_resync_seconds = 300;
+    public static Integer autoscaler_worker_pool_size = 8;
+    public static Boolean skip_unchanged_recommendations = true;
 
 
     private KruizeDeploymentInfo() {
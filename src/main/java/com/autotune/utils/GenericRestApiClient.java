@@ -16,8 +16,10 @@
 package com.autotune.utils;
 
 import com.autotune.common.auth.AuthenticationStrategy;
-import com.autotune.common.auth.AuthenticationStrategyFactory;
+import com.autotune.common.datasource.DataSourceHttpClientPool;
 import com.autotune.common.datasource.DataSourceInfo;
+import com.autotune.common.datasource.prometheus.PrometheusResponseParser;
+import com.autotune.common.datasource.prometheus.PrometheusResultSink;
 import com.autotune.utils.authModels.APIKeysAuthentication;
 import com.autotune.utils.authModels.BasicAuthentication;
 import com.autotune.utils.authModels.BearerAccessToken;
@@ -25,26 +27,23 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.EntityUtils;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.net.ssl.SSLContext;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
@@ -64,6 +63,7 @@ public class GenericRestApiClient {
     private BearerAccessToken bearerAccessToken;
     private APIKeysAuthentication apiKeysAuthentication;
     private AuthenticationStrategy authenticationStrategy;
+    private DataSourceInfo dataSourceInfo;
 
     /**
      * constructor to set the authentication based on the datasourceInfo object
@@ -72,8 +72,7 @@ public class GenericRestApiClient {
      */
     public GenericRestApiClient(DataSourceInfo dataSourceInfo) {
         // TODO: add partial URL as well as part of this constructor
-        this.authenticationStrategy = AuthenticationStrategyFactory.createAuthenticationStrategy(
-                dataSourceInfo.getAuthenticationConfig());
+        this.dataSourceInfo = dataSourceInfo;
     }
 
     public GenericRestApiClient() {
@@ -89,44 +88,42 @@ public class GenericRestApiClient {
      */
     public JSONObject fetchMetricsJson(String methodType, String queryString) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
         String jsonResponse;
-        try (CloseableHttpClient httpclient = setupHttpClient()) {
 
-            HttpRequestBase httpRequestBase;
-            if (methodType.equalsIgnoreCase("GET")) {
-                httpRequestBase = new HttpGet(baseURL + URLEncoder.encode(queryString, StandardCharsets.UTF_8));
-            } else {
-                throw new UnsupportedOperationException("Unsupported method type: " + methodType);
-            }
-
-            // Apply authentication
-            applyAuthentication(httpRequestBase);
-
-            LOGGER.debug("Executing Prometheus metrics request: {}", httpRequestBase.getRequestLine());
+        HttpRequestBase httpRequestBase;
+        if (methodType.equalsIgnoreCase("GET")) {
+            httpRequestBase = new HttpGet(baseURL + URLEncoder.encode(queryString, StandardCharsets.UTF_8));
+        } else {
+            throw new UnsupportedOperationException("Unsupported method type: " + methodType);
+        }
 
-            // Execute the request and get the HttpResponse
-            HttpResponse response = httpclient.execute(httpRequestBase);
+        LOGGER.debug("Executing Prometheus metrics request: {}", httpRequestBase.getRequestLine());
 
+        // Execute the request, closing the response hands the connection back to the pool
+        DataSourceHttpClientPool.PooledClient pooledClient = leaseHttpClient();
+        try (CloseableHttpResponse response = executeWithAuthentication(pooledClient.getHttpClient(), httpRequestBase)) {
             // Get and print the response code
             int responseCode = response.getStatusLine().getStatusCode();
             LOGGER.debug("Response code: {}", responseCode);
 
             // Get the response body if needed
             jsonResponse = new StringResponseHandler().handleResponse(response);
+        } finally {
+            pooledClient.release();
+        }
+
+        // Parse the JSON response
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode rootNode = objectMapper.readTree(jsonResponse);
+        JsonNode resultNode = rootNode.path("data").path("result");
+        JsonNode warningsNode = rootNode.path("warnings");
 
-            // Parse the JSON response
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-            JsonNode resultNode = rootNode.path("data").path("result");
-            JsonNode warningsNode = rootNode.path("warnings");
-
-            // Check if the result is empty and if there are specific warnings
-            if (resultNode.isArray() && resultNode.size() == 0) {
-                for (JsonNode warning : warningsNode) {
-                    String warningMessage = warning.asText();
-                    if (warningMessage.contains("error reading from server") || warningMessage.contains("Please reduce your request rate")) {
-                        LOGGER.warn("Warning detected: {}", warningMessage);
-                        throw new IOException(warningMessage);
-                    }
+        // Check if the result is empty and if there are specific warnings
+        if (resultNode.isArray() && resultNode.size() == 0) {
+            for (JsonNode warning : warningsNode) {
+                String warningMessage = warning.asText();
+                if (warningMessage.contains("error reading from server") || warningMessage.contains("Please reduce your request rate")) {
+                    LOGGER.warn("Warning detected: {}", warningMessage);
+                    throw new IOException(warningMessage);
                 }
             }
         }
@@ -135,27 +132,95 @@ public class GenericRestApiClient {
 
 
     /**
-     * Common method to setup SSL context for trust-all certificates.
+     * This method appends queryString with baseURL and streams the Prometheus response to the given sink
+     * while it is read from the connection, without materializing the response as a string or JSON tree.
      *
-     * @return CloseableHttpClient
+     * @param methodType  Http methods like GET,POST,PATCH etc
+     * @param queryString
+     * @param sink        receiver of the series labels and samples of the response
+     * @return number of series in the response
      */
-    private CloseableHttpClient setupHttpClient() throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
-        SSLContext sslContext = SSLContexts.custom().loadTrustMaterial((chain, authType) -> true).build();  // Trust all certificates
-        SSLConnectionSocketFactory sslConnectionSocketFactory =
-                new SSLConnectionSocketFactory(sslContext, new String[]{"TLSv1.2"}, null, NoopHostnameVerifier.INSTANCE);
-        return HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory).build();
+    public int streamMetrics(String methodType, String queryString, PrometheusResultSink sink) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        HttpRequestBase httpRequestBase;
+        if (methodType.equalsIgnoreCase("GET")) {
+            httpRequestBase = new HttpGet(baseURL + URLEncoder.encode(queryString, StandardCharsets.UTF_8));
+        } else {
+            throw new UnsupportedOperationException("Unsupported method type: " + methodType);
+        }
+
+        LOGGER.debug("Executing Prometheus metrics request: {}", httpRequestBase.getRequestLine());
+
+        DataSourceHttpClientPool.PooledClient pooledClient = leaseHttpClient();
+        try (CloseableHttpResponse response = executeWithAuthentication(pooledClient.getHttpClient(), httpRequestBase)) {
+            int responseCode = response.getStatusLine().getStatusCode();
+            LOGGER.debug("Response code: {}", responseCode);
+            if (responseCode < 200 || responseCode >= 300) {
+                EntityUtils.consumeQuietly(response.getEntity());
+                throw new ClientProtocolException("Unexpected response status: " + responseCode);
+            }
+            HttpEntity entity = response.getEntity();
+            if (null == entity) {
+                return 0;
+            }
+            try (InputStream inputStream = entity.getContent()) {
+                return PrometheusResponseParser.parse(inputStream, sink);
+            }
+        } finally {
+            pooledClient.release();
+        }
+    }
+
+    /**
+     * Leases the shared, connection-pooled client of the datasource (trust-all certificates).
+     * The client is owned by {@link DataSourceHttpClientPool}, it must be released by the caller once the
+     * response is consumed and must not be closed.
+     *
+     * @return the leased PooledClient
+     */
+    private DataSourceHttpClientPool.PooledClient leaseHttpClient() throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        DataSourceHttpClientPool.PooledClient pooledClient = DataSourceHttpClientPool.getInstance().lease(dataSourceInfo);
+        this.authenticationStrategy = pooledClient.getAuthenticationStrategy();
+        return pooledClient;
     }
 
     /**
      * Common method to apply authentication to the HTTP request.
      *
      * @param httpRequestBase the HTTP request (GET, POST, etc.)
+     * @return the authorization header set on the request, null if there is none
      */
-    private void applyAuthentication(HttpRequestBase httpRequestBase) {
+    private String applyAuthentication(HttpRequestBase httpRequestBase) {
         if (authenticationStrategy != null) {
             String authHeader = authenticationStrategy.applyAuthentication();
-            httpRequestBase.setHeader(KruizeConstants.AuthenticationConstants.AUTHORIZATION, authHeader);
+            if (null != authHeader) {
+                httpRequestBase.setHeader(KruizeConstants.AuthenticationConstants.AUTHORIZATION, authHeader);
+            }
+            return authHeader;
+        }
+        return null;
+    }
+
+    /**
+     * Executes the request with the authentication of the datasource. If the datasource rejects the credentials
+     * with a 401 and the strategy can provide new ones, e.g. the cached token was revoked or expired early,
+     * the request is sent once more with the new credentials.
+     *
+     * @param httpclient      the pooled client of the datasource
+     * @param httpRequestBase the HTTP request (GET, POST, etc.)
+     * @return the response, to be closed by the caller
+     */
+    private CloseableHttpResponse executeWithAuthentication(CloseableHttpClient httpclient, HttpRequestBase httpRequestBase) throws IOException {
+        String authHeader = applyAuthentication(httpRequestBase);
+        CloseableHttpResponse response = httpclient.execute(httpRequestBase);
+        if (HttpStatus.SC_UNAUTHORIZED == response.getStatusLine().getStatusCode()
+                && null != authHeader && authenticationStrategy.invalidate(authHeader)) {
+            LOGGER.debug("Credentials rejected by the datasource, retrying with new ones: {}", httpRequestBase.getRequestLine());
+            EntityUtils.consumeQuietly(response.getEntity());
+            response.close();
+            applyAuthentication(httpRequestBase);
+            response = httpclient.execute(httpRequestBase);
         }
+        return response;
     }
 
     /**
@@ -167,36 +232,38 @@ public class GenericRestApiClient {
      */
     public HttpResponseWrapper callKruizeAPI(String payload) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
         HttpResponseWrapper httpResponseWrapper = null;
-        // Create an HTTP client
-        try (CloseableHttpClient httpclient = setupHttpClient()) {
-            // Prepare the HTTP POST request
-            HttpPost httpPost = new HttpPost(baseURL);
-            httpPost.setHeader("Content-Type", "application/json");
-            httpPost.setHeader("Accept", "application/json");
-            // If payload is present, set it in the request body
-            if (payload != null) {
-                StringEntity entity = new StringEntity(payload, StandardCharsets.UTF_8);
-                httpPost.setEntity(entity);
-            }
-            // Execute the request and return the response code
-            try (CloseableHttpResponse response = httpclient.execute(httpPost)) {
-                // Get the status code from the response
-                int responseCode = response.getStatusLine().getStatusCode();
-                LOGGER.debug("Response code: {}", responseCode);
-                if (response.getEntity() != null) {
-                    // Convert response entity to string
-                    String responseBody = EntityUtils.toString(response.getEntity(), "UTF-8");
-                    try {
-                        // Attempt to parse as JSON
-                        JSONObject json = new JSONObject(responseBody);
-                        httpResponseWrapper = new HttpResponseWrapper(responseCode, json);
-                    } catch (JSONException e) {
-                        // If JSON parsing fails, return as plain string
-                        httpResponseWrapper = new HttpResponseWrapper(responseCode, responseBody);
-                    }
+        // Lease the shared HTTP client
+        DataSourceHttpClientPool.PooledClient pooledClient = leaseHttpClient();
+        // Prepare the HTTP POST request
+        HttpPost httpPost = new HttpPost(baseURL);
+        httpPost.setHeader("Content-Type", "application/json");
+        httpPost.setHeader("Accept", "application/json");
+        // If payload is present, set it in the request body
+        if (payload != null) {
+            StringEntity entity = new StringEntity(payload, StandardCharsets.UTF_8);
+            httpPost.setEntity(entity);
+        }
+        // Execute the request and return the response code
+        try (CloseableHttpResponse response = pooledClient.getHttpClient().execute(httpPost)) {
+            // Get the status code from the response
+            int responseCode = response.getStatusLine().getStatusCode();
+            LOGGER.debug("Response code: {}", responseCode);
+            if (response.getEntity() != null) {
+                // Convert response entity to string
+                String responseBody = EntityUtils.toString(response.getEntity(), "UTF-8");
+                try {
+                    // Attempt to parse as JSON
+                    JSONObject json = new JSONObject(responseBody);
+                    httpResponseWrapper = new HttpResponseWrapper(responseCode, json);
+                } catch (JSONException e) {
+                    // If JSON parsing fails, return as plain string
+                    httpResponseWrapper = new HttpResponseWrapper(responseCode, responseBody);
                 }
             }
+        } finally {
+            pooledClient.release();
         }
+
         return httpResponseWrapper;
     }
 
@@ -218,32 +285,34 @@ public class GenericRestApiClient {
      */
     public HttpResponseWrapper getKruizeAPI(String payload) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
         HttpResponseWrapper httpResponseWrapper = null;
-        // Create an HTTP client
-        try (CloseableHttpClient httpclient = setupHttpClient()) {
-            // Prepare the HTTP POST request
-            HttpGet httpget = new HttpGet(baseURL);
-            httpget.setHeader("Content-Type", "application/json");
-            httpget.setHeader("Accept", "application/json");
-      
-            // Execute the request and return the response code
-            try (CloseableHttpResponse response = httpclient.execute(httpget)) {
-                // Get the status code from the response
-                int responseCode = response.getStatusLine().getStatusCode();
-                LOGGER.debug("Response code: {}", responseCode);
-                if (response.getEntity() != null) {
-                    // Convert response entity to string
-                    String responseBody = EntityUtils.toString(response.getEntity(), "UTF-8");
-                    try {
-                        // Attempt to parse as JSON
-                        JSONObject json = new JSONObject(responseBody);
-                        httpResponseWrapper = new HttpResponseWrapper(responseCode, json);
-                    } catch (JSONException e) {
-                        // If JSON parsing fails, return as plain string
-                        httpResponseWrapper = new HttpResponseWrapper(responseCode, responseBody);
-                    }
+        // Lease the shared HTTP client
+        DataSourceHttpClientPool.PooledClient pooledClient = leaseHttpClient();
+        // Prepare the HTTP POST request
+        HttpGet httpget = new HttpGet(baseURL);
+        httpget.setHeader("Content-Type", "application/json");
+        httpget.setHeader("Accept", "application/json");
+  
+        // Execute the request and return the response code
+        try (CloseableHttpResponse response = pooledClient.getHttpClient().execute(httpget)) {
+            // Get the status code from the response
+            int responseCode = response.getStatusLine().getStatusCode();
+            LOGGER.debug("Response code: {}", responseCode);
+            if (response.getEntity() != null) {
+                // Convert response entity to string
+                String responseBody = EntityUtils.toString(response.getEntity(), "UTF-8");
+                try {
+                    // Attempt to parse as JSON
+                    JSONObject json = new JSONObject(responseBody);
+                    httpResponseWrapper = new HttpResponseWrapper(responseCode, json);
+                } catch (JSONException e) {
+                    // If JSON parsing fails, return as plain string
+                    httpResponseWrapper = new HttpResponseWrapper(responseCode, responseBody);
                 }
             }
+        } finally {
+            pooledClient.release();
         }
+
         return httpResponseWrapper;
     }
 
@@ -272,6 +272,7 @@ public class KruizeConstants {
         public static final String CONTAINER_IMAGE_NAME = "container_image_name";
         public static final String RECOMMENDATION_SETTINGS = "recommendation_settings";
         public static final String INTERVAL_START_TIME = "interval_start_time";
+        public static final String FORCE = "force";
 
         public static final String CALCULATED_START_TIME = "calculated_start_time";
         public static final String INTERVAL_END_TIME = "interval_end_time";
@@ -315,6 +316,7 @@ public class KruizeConstants {
         public static final String MEMORY_PERCENTILE = "memory_percentile";
         public static final String CPU_PERCENTILE = "cpu_percentile";
         public static final String ACCELERATOR_PERCENTILE = "accelerator_percentile";
+        public static final String PERCENTILE_MODE = "percentile_mode";
         public static final String MODEL_TUNABLE = "model_tunables";
         public static final String ACCELERATOR_MODEL_NAME = "accelerator_model_name";
         public static final String ACCELERATOR_PROFILE_NAME = "accelerator_profile_name";
@@ -788,6 +790,23 @@ public class KruizeConstants {
         public static final String METADATA_PROFILE_FILE_PATH = "metadataProfileFilePath";
         public static final String METRIC_PROFILE_FILE_PATH = "metricProfileFilePath";
         public static final String IS_KAFKA_ENABLED = "isKafkaEnabled";
+        public static final String KAFKA_LINGER_MS = "kafkaLingerMs";
+        public static final String KAFKA_BATCH_SIZE = "kafkaBatchSize";
+        public static final String KAFKA_COMPRESSION_TYPE = "kafkaCompressionType";
+        public static final String DATASOURCE_HTTP_MAX_CONNECTIONS = "datasourceHttpMaxConnections";
+        public static final String DATASOURCE_HTTP_MAX_CONNECTIONS_PER_ROUTE = "datasourceHttpMaxConnectionsPerRoute";
+        public static final String DATASOURCE_HTTP_IDLE_TIMEOUT_SECONDS = "datasourceHttpIdleTimeoutSeconds";
+        public static final String DATASOURCE_HTTP_VALIDATE_AFTER_INACTIVITY_MS = "datasourceHttpValidateAfterInactivityMs";
+        public static final String DATASOURCE_QUERY_CONCURRENCY = "datasourceQueryConcurrency";
+        public static final String EXPERIMENT_CACHE_MAX_SIZE = "experimentCacheMaxSize";
+        public static final String EXPERIMENT_CACHE_TTL_SECONDS = "experimentCacheTtlSeconds";
+        public static final String BULK_JOB_STATUS_FLUSH_INTERVAL_MS = "bulkJobStatusFlushIntervalMs";
+        public static final String LIST_API_PAGE_SIZE = "listApiPageSize";
+        public static final String METADATA_DISCOVERY_SHARD_SIZE = "metadataDiscoveryShardSize";
+        public static final String BULK_PIPELINE_QUEUE_SIZE = "bulkPipelineQueueSize";
+        public static final String AUTOSCALER_INFORMER_RESYNC_SECONDS = "autoscalerInformerResyncSeconds";
+        public static final String AUTOSCALER_WORKER_POOL_SIZE = "autoscalerWorkerPoolSize";
+        public static final String SKIP_UNCHANGED_RECOMMENDATIONS = "skipUnchangedRecommendations";
     }
 
     public static final class RecommendationEngineConstants {
@@ -922,6 +941,12 @@ public class KruizeConstants {
         public static final String OAUTH2 = "oauth2";
         public static final String UNKNOWN_AUTHENTICATION = "Unknown authentication type: ";
         public static final String AUTHORIZATION = "Authorization";
+        public static final String ACCESS_TOKEN = "access_token";
+        public static final String EXPIRES_IN = "expires_in";
+        // used when the token endpoint does not return expires_in
+        public static final long DEFAULT_OAUTH2_TOKEN_LIFETIME_SECONDS = 300;
+        // token files are re-read periodically as they can be rotated, e.g. projected service account tokens
+        public static final long BEARER_TOKEN_FILE_REFRESH_SECONDS = 60;
 
     }
 
@@ -945,6 +970,10 @@ public class KruizeConstants {
         public static final String JOB_FILTER = "jobFilter";
         public static final String BULK_JOB_SAVE_ERROR = "Not able to save experiment due to {}";
         public static final String BULK_JOB_LOAD_ERROR = "Not able to load bulk JOB {} due to {}";
+        public static final String BULK_JOB_UPDATE_ERROR = "Not able to update the experiments of bulk JOB {} due to {}";
+        public static final String OFFSET = "offset";
+        public static final String LIMIT = "limit";
+        public static final String INVALID_PAGINATION = "offset and limit must be non-negative integers";
 
         // Validation error messages
         public static final String DUPLICATE_REQ_ID_WITH_SAME_PAYLOAD = "Duplicate requestId found with different payload: %s";
@@ -1154,6 +1183,7 @@ public class KruizeConstants {
         public static final String KAFKA_PRODUCER_CLOSED = "Kafka producer closed.";
         public static final String MISSING_KAFKA_TOPIC = "Kafka topic '%s' does not exist! Skipping message publishing.";
         public static final String KAFKA_PUBLISH_FAILED = "Failed to publish to Kafka: {}";
+        public static final String KAFKA_EXPERIMENT_MESSAGE_FAILED = "Error publishing the message of experiment {} to Kafka topic {}: {}";
 
         public static final String MESSAGE_RECEIVED_SUCCESSFULLY = "Received Input: Request_Id={}, Value={}, Partition={}, Offset={}";
 
@@ -64,7 +64,7 @@ public class KruizeSupportedTypes {
     public static final Set<String> SUPPORTED_FORMATS =
             new HashSet<>(Arrays.asList("percentage", "cores", "m", "Bytes", "bytes", "KiB", "MiB", "GiB", "TiB", "PiB", "EiB", "Ki", "Mi", "Gi", "Ti", "Pi", "Ei", "kB", "KB", "MB", "GB", "TB", "PB", "EB", "K", "k", "M", "G", "T", "P", "E"));
     public static final Set<String> QUERY_PARAMS_SUPPORTED = new HashSet<>(Arrays.asList(
-            "experiment_name", "results", "recommendations", "latest", "rm"
+            "experiment_name", "results", "recommendations", "latest", "rm", "limit", "after", "cluster_name", "namespace"
     ));
     public static final Set<String> LIST_METRIC_PROFILES_QUERY_PARAMS_SUPPORTED = new HashSet<>(Arrays.asList(
             "name", "verbose"
@@ -2,6 +2,7 @@ package com.autotune.utils;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
@@ -11,8 +12,12 @@ import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
 import io.micrometer.core.instrument.config.NamingConvention;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.apache.http.pool.ConnPoolControl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class MetricsConfig {
     
@@ -23,6 +28,9 @@ public class MetricsConfig {
     public static Timer timerAddPerfProfileDB, timerLoadPerfProfileName, timerLoadAllPerfProfiles;
     public static Timer timerAddMetadataProfileDB, timerLoadMetadataProfileName, timerLoadAllMetadataProfiles, timerUpdateMetadataProfileDB;
     public static Timer timerAddLayerDB, timerLoadAllLayers, timerLoadLayerByName;
+    public static Timer timerLoadExpPage, timerLoadRecExpNames, timerLoadResultsExpNames;
+    public static Timer timerLoadLMExpModes, timerAutoscalerTick, timerAutoscalerExp;
+    public static Timer timerUpdateMetadataDB;
     public static Timer timerImportMetadata, timerGetMetadata;
     public static Timer timerJobStatus, timerCreateBulkJob, timerGetExpMap, timerCreateBulkExp, timerGenerateBulkRec, timerRunJob;
     public static Counter timerKruizeNotifications , timerBulkJobs;
@@ -43,12 +51,24 @@ public class MetricsConfig {
     public static Timer timerUpdatePerfProfile;
     public static Timer.Builder timerBUpdatePerfProfile;
     public static Timer.Builder timerBAddLayerDB, timerBLoadAllLayers, timerBLoadLayerByName;
+    public static Timer.Builder timerBLoadExpPage, timerBLoadRecExpNames, timerBLoadResultsExpNames;
+    public static Timer.Builder timerBLoadLMExpModes, timerBAutoscalerTick, timerBAutoscalerExp;
+    public static Timer.Builder timerBUpdateMetadataDB;
 
     private static MetricsConfig INSTANCE;
     public String API_METRIC_DESC = "Time taken for Kruize APIs";
     public String DB_METRIC_DESC = "Time taken for KruizeDB methods";
     public String METHOD_METRIC_DESC = "Time taken for Kruize methods";
+    public static final String HTTP_POOL_METRIC_DESC = "Connections of the Kruize http connection pools";
+    public static final String CACHE_METRIC_DESC = "Lookups and evictions of the Kruize caches";
+    public static final String INFORMER_METRIC_DESC = "Events and resyncs of the Kruize informer caches";
     public static final AtomicInteger activeJobs = new AtomicInteger(0);
+    // auto mode experiments due for the autoscaler and how late the most overdue of them was at the last tick
+    public static final AtomicInteger autoscalerPending = new AtomicInteger(0);
+    public static final AtomicLong autoscalerLagMillis = new AtomicLong(0);
+    // experiments waiting for a worker of the create and generate stages of the bulk jobs
+    public static final AtomicInteger bulkCreateStagePending = new AtomicInteger(0);
+    public static final AtomicInteger bulkGenerateStagePending = new AtomicInteger(0);
     public static Gauge.Builder timerBBulkRunJobs;
 
     private MetricsConfig() {
@@ -97,6 +117,12 @@ public class MetricsConfig {
         timerBRunJob = Timer.builder("kruizeAPI").description(API_METRIC_DESC).tag("api", "bulk").tag("method", "runBulkJob");
         timerBBulkRunJobs = Gauge.builder("kruizeAPI_active_jobs_count", activeJobs, AtomicInteger::get).description("No.of bulk jobs running").tags("api", "bulk", "method", "runBulkJob" , "status", "running");
         timerBBulkRunJobs.register(meterRegistry);
+        timerBCreateBulkExp = Timer.builder("kruizeAPI").description(API_METRIC_DESC).tag("api", "bulk").tag("method", "createExperimentStage");
+        timerBGenerateBulkRec = Timer.builder("kruizeAPI").description(API_METRIC_DESC).tag("api", "bulk").tag("method", "generateRecommendationsStage");
+        Gauge.builder("kruizeAPI_bulk_stage_pending_count", bulkCreateStagePending, AtomicInteger::get).description("No.of experiments waiting for a bulk stage worker")
+                .tags("api", "bulk", "stage", "createExperiment").register(meterRegistry);
+        Gauge.builder("kruizeAPI_bulk_stage_pending_count", bulkGenerateStagePending, AtomicInteger::get).description("No.of experiments waiting for a bulk stage worker")
+                .tags("api", "bulk", "stage", "generateRecommendations").register(meterRegistry);
 
         timerBAddMetadataProfileDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "addMetadataProfileToDB");
         timerBLoadMetadataProfileName = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "loadMetadataProfileByName");
@@ -109,6 +135,17 @@ public class MetricsConfig {
         timerBAddLayerDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "addLayerToDB");
         timerBLoadAllLayers = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "loadAllLayers");
         timerBLoadLayerByName = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "loadLayerByName");
+        timerBLoadExpPage = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "loadExperimentsPage");
+        timerBLoadRecExpNames = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "loadRecommendationsByExperimentNames");
+        timerBLoadResultsExpNames = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "loadResultsByExperimentNames");
+        timerBUpdateMetadataDB = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "updateMetadataInDB");
+        timerBLoadLMExpModes = Timer.builder("kruizeDB").description(DB_METRIC_DESC).tag("method", "loadLMExperimentsByModes");
+        timerBAutoscalerTick = Timer.builder("kruizeAutoscaler").description(METHOD_METRIC_DESC).tag("method", "tick");
+        timerBAutoscalerExp = Timer.builder("kruizeAutoscaler").description(METHOD_METRIC_DESC).tag("method", "applyRecommendations");
+        Gauge.builder("kruizeAutoscaler_pending_count", autoscalerPending, AtomicInteger::get).description("No.of auto mode experiments waiting for an autoscaler worker")
+                .register(meterRegistry);
+        Gauge.builder("kruizeAutoscaler_lag_seconds", autoscalerLagMillis, lag -> lag.get() / 1000.0).description("Delay of the most overdue auto mode experiment at the last autoscaler tick")
+                .register(meterRegistry);
 
         new ClassLoaderMetrics().bindTo(meterRegistry);
         new ProcessorMetrics().bindTo(meterRegistry);
@@ -117,6 +154,54 @@ public class MetricsConfig {
         meterRegistry.config().namingConvention(NamingConvention.dot);
     }
 
+    /**
+     * Registers gauges exposing the leased, available, pending and max connections of a http connection pool
+     *
+     * @param poolName       name of the pool, usually the datasource name
+     * @param dataSourcePool true for the pool of a datasource, false for the default pool
+     * @param connPoolControl the connection pool
+     * @return List of registered meters, to be passed to removeMeters once the pool is retired
+     */
+    public static List<Meter> registerHttpPoolMetrics(String poolName, boolean dataSourcePool, ConnPoolControl<?> connPoolControl) {
+        // the pool of the calls which are not made against a datasource is told apart by the type tag
+        String poolType = dataSourcePool ? "datasource" : "default";
+        List<Meter> meters = new ArrayList<>();
+        meters.add(Gauge.builder("kruizeHttpPool", connPoolControl, c -> c.getTotalStats().getLeased()).description(HTTP_POOL_METRIC_DESC)
+                .tags("pool", poolName, "type", poolType, "state", "leased").register(meterRegistry()));
+        meters.add(Gauge.builder("kruizeHttpPool", connPoolControl, c -> c.getTotalStats().getAvailable()).description(HTTP_POOL_METRIC_DESC)
+                .tags("pool", poolName, "type", poolType, "state", "available").register(meterRegistry()));
+        meters.add(Gauge.builder("kruizeHttpPool", connPoolControl, c -> c.getTotalStats().getPending()).description(HTTP_POOL_METRIC_DESC)
+                .tags("pool", poolName, "type", poolType, "state", "pending").register(meterRegistry()));
+        meters.add(Gauge.builder("kruizeHttpPool", connPoolControl, c -> c.getTotalStats().getMax()).description(HTTP_POOL_METRIC_DESC)
+                .tags("pool", poolName, "type", poolType, "state", "max").register(meterRegistry()));
+        return meters;
+    }
+
+    /**
+     * Registers the counter of an event of a cache, like a hit, miss or eviction
+     *
+     * @param cacheName name of the cache
+     * @param event     event counted
+     * @return the registered counter
+     */
+    public static Counter registerCacheCounter(String cacheName, String event) {
+        return Counter.builder("kruizeCache").description(CACHE_METRIC_DESC)
+                .tags("cache", cacheName, "event", event).register(meterRegistry());
+    }
+
+    public static Counter registerInformerCounter(String informerName, String event) {
+        return Counter.builder("kruizeInformer").description(INFORMER_METRIC_DESC)
+                .tags("informer", informerName, "event", event).register(meterRegistry());
+    }
+
+    public static void removeMeters(List<Meter> meters) {
+        if (null == meters)
+            return;
+        for (Meter meter : meters) {
+            meterRegistry().remove(meter);
+        }
+    }
+
     public static PrometheusMeterRegistry meterRegistry() {
         if (INSTANCE == null) {
             synchronized (MetricsConfig.class) {
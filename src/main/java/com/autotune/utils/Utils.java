@@ -252,5 +252,15 @@ public class Utils {
                 return null;
             }
         }
+
+        /**
+         * Converts the epoch seconds of a datasource sample into a Timestamp.
+         * <p>
+         * Equivalent to formatting the instant with a UTC STANDARD_JSON_DATE_FORMAT and parsing it back, without
+         * the intermediate Date and String. The Timestamp holds the same instant in every JVM timezone.
+         */
+        public static Timestamp getTimeStampFromEpochSeconds(long epochSeconds) {
+            return new Timestamp(epochSeconds * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
+        }
     }
 }
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.kruizeLayer.presence;
+
+import com.autotune.analyzer.kruizeLayer.LayerPresenceQuery;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestQueryBasedPresence {
+
+    private static LayerPresenceQuery query(String promQL) {
+        LayerPresenceQuery query = new LayerPresenceQuery();
+        query.setDataSource("prometheus");
+        query.setLayerPresenceQuery(promQL);
+        query.setLayerPresenceKey("container");
+        return query;
+    }
+
+    private static JsonArray series(String... namespaceContainers) {
+        JsonArray resultArray = new JsonArray();
+        for (int i = 0; i < namespaceContainers.length; i += 2) {
+            JsonObject metric = new JsonObject();
+            metric.addProperty("namespace", namespaceContainers[i]);
+            metric.addProperty("container", namespaceContainers[i + 1]);
+            JsonObject result = new JsonObject();
+            result.add("metric", metric);
+            resultArray.add(result);
+        }
+        return resultArray;
+    }
+
+    @Test
+    public void testNamespaceQueryIsGroupedByNamespaceAndContainer() {
+        QueryBasedPresence presence = new QueryBasedPresence(List.of(query("jvm_memory_used_bytes{area=\"heap\"}")));
+        List<String> executed = new ArrayList<>();
+
+        Map<String, Set<String>> containers = presence.detectContainers("ns-1", query -> {
+            executed.add(query);
+            return series("ns-1", "app", "ns-1", "sidecar");
+        });
+
+        assertEquals(List.of("count by (namespace,container) (jvm_memory_used_bytes{area=\"heap\",namespace=\"ns-1\"})"), executed);
+        assertEquals(Map.of("ns-1", Set.of("app", "sidecar")), containers);
+    }
+
+    @Test
+    public void testClusterQueryIsNotFilteredByNamespace() {
+        QueryBasedPresence presence = new QueryBasedPresence(List.of(query("jvm_memory_used_bytes")));
+        List<String> executed = new ArrayList<>();
+
+        Map<String, Set<String>> containers = presence.detectContainers("", query -> {
+            executed.add(query);
+            return series("ns-1", "app", "ns-2", "app", "ns-2", "worker");
+        });
+
+        assertEquals(List.of("count by (namespace,container) (jvm_memory_used_bytes)"), executed);
+        assertEquals(Map.of("ns-1", Set.of("app"), "ns-2", Set.of("app", "worker")), containers);
+    }
+
+    @Test
+    public void testContainersOfAllTheQueriesAreMerged() {
+        QueryBasedPresence presence = new QueryBasedPresence(List.of(query("metric_a"), query("metric_b"), query("metric_c")));
+
+        Map<String, Set<String>> containers = presence.detectContainers("", query -> {
+            if (query.contains("metric_a")) {
+                return series("ns-1", "app");
+            }
+            if (query.contains("metric_b")) {
+                // a series without the labels can not be mapped to a container
+                JsonArray resultArray = series("ns-2", "worker", "ns-1", "app");
+                JsonObject unlabelled = new JsonObject();
+                unlabelled.add("metric", new JsonObject());
+                resultArray.add(unlabelled);
+                return resultArray;
+            }
+            return null;
+        });
+
+        assertEquals(Map.of("ns-1", Set.of("app"), "ns-2", Set.of("worker")), containers);
+    }
+
+    @Test
+    public void testNoContainersWhenNothingMatches() {
+        QueryBasedPresence presence = new QueryBasedPresence(List.of(query("metric_a")));
+
+        Map<String, Set<String>> containers = presence.detectContainers("ns-1", query -> new JsonArray());
+
+        assertTrue(containers.isEmpty());
+    }
+
+    @Test
+    public void testFailedQueryFailsTheBatch() {
+        QueryBasedPresence presence = new QueryBasedPresence(List.of(query("metric_a"), query("metric_b")));
+
+        // the containers found by the first query alone could miss containers matched only by the failed one
+        Map<String, Set<String>> containers = presence.detectContainers("", query -> {
+            if (query.contains("metric_b")) {
+                throw new IOException("datasource unavailable");
+            }
+            return series("ns-1", "app");
+        });
+
+        assertNull(containers);
+    }
+}
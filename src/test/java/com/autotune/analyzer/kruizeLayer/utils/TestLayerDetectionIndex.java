@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.kruizeLayer.utils;
+
+import com.autotune.analyzer.kruizeLayer.KruizeLayer;
+import com.autotune.analyzer.kruizeLayer.LayerPresence;
+import com.autotune.analyzer.kruizeLayer.LayerPresenceQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestLayerDetectionIndex {
+
+    private static final String DATASOURCE = "prometheus-test";
+
+    private final AtomicInteger layerLoads = new AtomicInteger();
+
+    private static KruizeLayer queryLayer(String name, String promQL) {
+        LayerPresenceQuery query = new LayerPresenceQuery();
+        query.setDataSource("prometheus");
+        query.setLayerPresenceQuery(promQL);
+        LayerPresence presence = new LayerPresence();
+        presence.setQueries(List.of(query));
+        KruizeLayer layer = new KruizeLayer();
+        layer.setLayerName(name);
+        layer.setLayerPresence(presence);
+        return layer;
+    }
+
+    private static KruizeLayer alwaysLayer(String name) {
+        LayerPresence presence = new LayerPresence();
+        presence.setPresence("always");
+        KruizeLayer layer = new KruizeLayer();
+        layer.setLayerName(name);
+        layer.setLayerPresence(presence);
+        return layer;
+    }
+
+    private Map<String, KruizeLayer> layers() {
+        layerLoads.incrementAndGet();
+        return Map.of(
+                "container", alwaysLayer("container"),
+                "hotspot", queryLayer("hotspot", "jvm_memory_used_bytes"),
+                "quarkus", queryLayer("quarkus", "quarkus_http_requests_total"));
+    }
+
+    @Test
+    public void testClusterWideIndexRunsTheQueriesOnce() throws Exception {
+        List<String> batches = new ArrayList<>();
+        LayerDetectionIndex index = new LayerDetectionIndex(DATASOURCE, true, this::layers, (detector, namespace) -> {
+            String query = detector.getQueries().get(0).getLayerPresenceQuery();
+            batches.add(namespace + ":" + query);
+            if (query.startsWith("jvm")) {
+                return Map.of("ns-1", Set.of("app", "worker"), "ns-2", Set.of("app"));
+            }
+            return Map.of("ns-2", Set.of("app"));
+        });
+
+        assertEquals(Set.of("container", "hotspot"), index.detectLayers("app", "ns-1").keySet());
+        assertEquals(Set.of("container", "hotspot"), index.detectLayers("worker", "ns-1").keySet());
+        assertEquals(Set.of("container", "hotspot", "quarkus"), index.detectLayers("app", "ns-2").keySet());
+        assertEquals(Set.of("container"), index.detectLayers("db", "ns-3").keySet());
+
+        // one batched query per query based layer for the whole cluster
+        assertEquals(Set.of(":jvm_memory_used_bytes", ":quarkus_http_requests_total"), Set.copyOf(batches));
+        assertEquals(2, batches.size());
+        assertEquals(1, layerLoads.get());
+    }
+
+    @Test
+    public void testNamespaceIndexRunsTheQueriesOncePerNamespace() throws Exception {
+        List<String> namespaces = new ArrayList<>();
+        LayerDetectionIndex index = new LayerDetectionIndex(DATASOURCE, false, this::layers, (detector, namespace) -> {
+            namespaces.add(namespace);
+            return Map.of(namespace, Set.of("app"));
+        });
+
+        index.detectLayers("app", "ns-1");
+        index.detectLayers("worker", "ns-1");
+        index.detectLayers("app", "ns-2");
+
+        assertEquals(List.of("ns-1", "ns-1", "ns-2", "ns-2"), namespaces);
+        assertEquals(2, layerLoads.get());
+        assertEquals(Set.of("container", "hotspot", "quarkus"), index.detectLayers("app", "ns-2").keySet());
+        assertEquals(Set.of("container"), index.detectLayers("worker", "ns-2").keySet());
+    }
+
+    @Test
+    public void testFailedBatchFallsBackToThePerContainerQuery() throws Exception {
+        AtomicInteger batches = new AtomicInteger();
+        LayerDetectionIndex index = new LayerDetectionIndex(DATASOURCE, true, this::layers, (detector, namespace) -> {
+            batches.incrementAndGet();
+            // the batch of the hotspot layer fails
+            return detector.getQueries().get(0).getLayerPresenceQuery().startsWith("jvm") ? null : Map.of("ns-1", Set.of("app"));
+        });
+
+        // the hotspot layer is queried for the container alone, which finds nothing as the datasource is not registered
+        assertEquals(Set.of("container", "quarkus"), index.detectLayers("app", "ns-1").keySet());
+        index.detectLayers("worker", "ns-1");
+        // the failed batch is not retried for every container
+        assertEquals(2, batches.get());
+    }
+
+    @Test
+    public void testInvalidContainerIsRejected() {
+        LayerDetectionIndex index = new LayerDetectionIndex(DATASOURCE, true, this::layers, (detector, namespace) -> Map.of());
+
+        assertThrows(IllegalArgumentException.class, () -> index.detectLayers("", "ns-1"));
+        assertThrows(IllegalArgumentException.class, () -> index.detectLayers("app", null));
+        assertEquals(0, layerLoads.get());
+    }
+}
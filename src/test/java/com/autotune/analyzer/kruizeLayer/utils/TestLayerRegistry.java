@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.kruizeLayer.utils;
+
+import com.autotune.analyzer.kruizeLayer.KruizeLayer;
+import com.autotune.utils.MetricsConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestLayerRegistry {
+
+    private static final long RELOAD_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static KruizeLayer layer(String name) {
+        KruizeLayer layer = new KruizeLayer();
+        layer.setLayerName(name);
+        return layer;
+    }
+
+    private LayerRegistry registry(String... layerNames) {
+        return new LayerRegistry(layers -> {
+            loads.incrementAndGet();
+            for (String layerName : layerNames) {
+                layers.put(layerName, layer(layerName));
+            }
+        }, now::get);
+    }
+
+    @Test
+    public void testLayersAreLoadedOnce() throws Exception {
+        LayerRegistry registry = registry("container", "hotspot");
+
+        Map<String, KruizeLayer> layers = registry.getLayers();
+        assertEquals(2, layers.size());
+        assertEquals("hotspot", layers.get("hotspot").getLayerName());
+
+        now.addAndGet(RELOAD_INTERVAL_MILLIS - 1);
+        assertSame(layers, registry.getLayers());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testLayersAreReloadedAfterTheInterval() throws Exception {
+        LayerRegistry registry = registry("container");
+
+        Map<String, KruizeLayer> layers = registry.getLayers();
+        now.addAndGet(RELOAD_INTERVAL_MILLIS);
+        Map<String, KruizeLayer> reloaded = registry.getLayers();
+
+        assertEquals(2, loads.get());
+        assertEquals(layers.keySet(), reloaded.keySet());
+        // the reload interval restarts from the reload
+        now.addAndGet(RELOAD_INTERVAL_MILLIS - 1);
+        assertSame(reloaded, registry.getLayers());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testInvalidateReloadsTheLayers() throws Exception {
+        LayerRegistry registry = registry("container");
+        double invalidations = MetricsConfig.registerCacheCounter("layer", "invalidation").count();
+
+        registry.getLayers();
+        registry.invalidate();
+        registry.getLayers();
+
+        assertEquals(2, loads.get());
+        assertEquals(invalidations + 1, MetricsConfig.registerCacheCounter("layer", "invalidation").count());
+    }
+
+    @Test
+    public void testFailedLoadIsRetried() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        LayerRegistry registry = new LayerRegistry(layers -> {
+            if (1 == attempts.incrementAndGet()) {
+                throw new IllegalStateException("database unavailable");
+            }
+            layers.put("container", layer("container"));
+        }, now::get);
+
+        Exception e = assertThrows(Exception.class, registry::getLayers);
+        assertTrue(e.getMessage().contains("database unavailable"));
+
+        assertEquals(1, registry.getLayers().size());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testLayersCanNotBeModified() throws Exception {
+        LayerRegistry registry = registry("container");
+
+        Map<String, KruizeLayer> layers = registry.getLayers();
+        assertThrows(UnsupportedOperationException.class, () -> layers.put("hotspot", layer("hotspot")));
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.recommendations.engine;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestRecommendationEngine {
+
+    private static final long MEASUREMENT_DURATION_MILLIS = 15 * 60_000L;
+    private static final Timestamp RECOMMENDATION_END_TIME = new Timestamp(1_700_000_000_000L);
+
+    @Test
+    public void testRecommendationsAreUpToDateWithinAMeasurementDuration() {
+        assertTrue(RecommendationEngine.isUpToDate(RECOMMENDATION_END_TIME, RECOMMENDATION_END_TIME, MEASUREMENT_DURATION_MILLIS));
+        assertTrue(RecommendationEngine.isUpToDate(RECOMMENDATION_END_TIME,
+                new Timestamp(RECOMMENDATION_END_TIME.getTime() + MEASUREMENT_DURATION_MILLIS - 1), MEASUREMENT_DURATION_MILLIS));
+        // samples older than the recommendations, e.g. the datasource retention was shortened
+        assertTrue(RecommendationEngine.isUpToDate(RECOMMENDATION_END_TIME,
+                new Timestamp(RECOMMENDATION_END_TIME.getTime() - MEASUREMENT_DURATION_MILLIS), MEASUREMENT_DURATION_MILLIS));
+    }
+
+    @Test
+    public void testRecommendationsAreGeneratedWithNewData() {
+        assertFalse(RecommendationEngine.isUpToDate(RECOMMENDATION_END_TIME,
+                new Timestamp(RECOMMENDATION_END_TIME.getTime() + MEASUREMENT_DURATION_MILLIS), MEASUREMENT_DURATION_MILLIS));
+        // the latest sample is not known
+        assertFalse(RecommendationEngine.isUpToDate(RECOMMENDATION_END_TIME, null, MEASUREMENT_DURATION_MILLIS));
+        assertFalse(RecommendationEngine.isUpToDate(null, RECOMMENDATION_END_TIME, MEASUREMENT_DURATION_MILLIS));
+    }
+
+    @Test
+    public void testMaxDateQueriesAreSentAsOneQuery() {
+        String query = "max by(namespace,container) (last_over_time((timestamp(up{container=\"%s\"} > 0))[15d:]))";
+        String first = String.format(query, "app");
+        String second = String.format(query, "sidecar");
+
+        assertEquals(first, RecommendationEngine.latestSampleQuery(List.of(first)));
+        assertEquals("max(label_replace(" + first + ", \"kruize_query\", \"0\", \"\", \"\") or "
+                        + "label_replace(" + second + ", \"kruize_query\", \"1\", \"\", \"\"))",
+                RecommendationEngine.latestSampleQuery(List.of(first, second)));
+    }
+
+    @Test
+    public void testLastSampleTimeIsTheLatestValue() {
+        JsonObject response = new Gson().fromJson("{\"status\": \"success\", \"data\": {\"resultType\": \"vector\", \"result\": ["
+                + "{\"metric\": {\"container\": \"app\"}, \"value\": [1700001000, \"1700000100\"]},"
+                + "{\"metric\": {\"container\": \"sidecar\"}, \"value\": [1700001000, \"1700000400.5\"]}]}}", JsonObject.class);
+
+        assertEquals(1_700_000_400_000L, RecommendationEngine.parseLastSampleTime(response).getTime());
+    }
+
+    @Test
+    public void testLastSampleTimeIsUnknownWithoutData() {
+        assertNull(RecommendationEngine.parseLastSampleTime(new Gson().fromJson(
+                "{\"status\": \"success\", \"data\": {\"resultType\": \"vector\", \"result\": []}}", JsonObject.class)));
+        assertNull(RecommendationEngine.parseLastSampleTime(new Gson().fromJson("{\"status\": \"error\"}", JsonObject.class)));
+    }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.recommendations.model;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.utils.KllQuantileSketch;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestGenericRecommendationModel {
+
+    @Test
+    public void testPercentileModeDefaultsToExact() {
+        RecommendationTunables tunables = new RecommendationTunables(98, 98, 98);
+        assertEquals(AnalyzerConstants.PercentileMode.exact, tunables.getPercentileMode());
+        tunables.setPercentileMode(AnalyzerConstants.PercentileMode.sketch);
+        assertEquals(AnalyzerConstants.PercentileMode.sketch, tunables.getPercentileMode());
+    }
+
+    @Test
+    public void testSketchDoesNotDependOnTheModelsRunBefore() {
+        // more values than the sketch keeps, so that its estimate depends on the order of the values
+        double[] values = new double[20 * KllQuantileSketch.DEFAULT_K];
+        Random random = new Random(3);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+        }
+        double[] termValues = values.clone();
+        GenericRecommendationModel exact = new GenericRecommendationModel("performance", new RecommendationTunables(98, 98, 98));
+        RecommendationTunables sketchTunables = new RecommendationTunables(98, 98, 98);
+        sketchTunables.setPercentileMode(AnalyzerConstants.PercentileMode.sketch);
+        GenericRecommendationModel sketch = new GenericRecommendationModel("sketch", sketchTunables);
+
+        double sketchFirst = sketch.getPercentile(98, termValues);
+        double exactValue = exact.getPercentile(98, termValues);
+
+        // the exact selection leaves the shared term values in the order of the intervals
+        assertArrayEquals(values, termValues);
+        assertEquals(sketchFirst, sketch.getPercentile(98, termValues).doubleValue());
+        assertEquals(KllQuantileSketch.of(values).getPercentile(98), sketchFirst);
+        assertEquals(exactValue, exact.getPercentile(98, termValues).doubleValue());
+    }
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.services;
+
+import com.autotune.common.data.ValidationOutputData;
+import com.autotune.database.dao.ExperimentDAO;
+import com.autotune.utils.MetricsConfig;
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestLayerService {
+
+    private static final String LAYER_JSON = "{\"apiVersion\": \"recommender.com/v1\", \"kind\": \"KruizeLayer\","
+            + " \"metadata\": {\"name\": \"container\"}, \"layer_name\": \"container\", \"details\": \"generic container tunables\","
+            + " \"layer_presence\": {\"presence\": \"always\"},"
+            + " \"tunables\": [{\"name\": \"memoryRequest\", \"value_type\": \"double\", \"lower_bound\": \"512\","
+            + " \"upper_bound\": \"2048\", \"step\": 1, \"units\": \"Mi\"}]}";
+
+    private final List<String> daoCalls = new ArrayList<>();
+    private final AtomicInteger status = new AtomicInteger();
+
+    private ExperimentDAO experimentDAO(boolean added) {
+        return (ExperimentDAO) Proxy.newProxyInstance(ExperimentDAO.class.getClassLoader(), new Class<?>[]{ExperimentDAO.class},
+                (proxy, method, args) -> {
+                    daoCalls.add(method.getName());
+                    switch (method.getName()) {
+                        case "loadLayerByName":
+                            return List.of();
+                        case "addLayerToDB":
+                            return new ValidationOutputData(added, added ? null : "database unavailable", null);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static HttpServletRequest request(String body) {
+        return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> {
+                    if ("getReader".equals(method.getName())) {
+                        return new BufferedReader(new StringReader(body));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private HttpServletResponse response() {
+        PrintWriter writer = new PrintWriter(new StringWriter());
+        return (HttpServletResponse) Proxy.newProxyInstance(HttpServletResponse.class.getClassLoader(), new Class<?>[]{HttpServletResponse.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "setStatus":
+                        case "sendError":
+                            status.set((Integer) args[0]);
+                            return null;
+                        case "getWriter":
+                            return writer;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static double invalidations() {
+        return MetricsConfig.registerCacheCounter("layer", "invalidation").count();
+    }
+
+    @Test
+    public void testCreatedLayerInvalidatesTheLayerRegistry() throws Exception {
+        double invalidations = invalidations();
+
+        new LayerService(experimentDAO(true)).doPost(request(LAYER_JSON), response());
+
+        assertEquals(HttpServletResponse.SC_CREATED, status.get());
+        assertEquals(List.of("loadLayerByName", "addLayerToDB"), daoCalls);
+        assertEquals(invalidations + 1, invalidations());
+    }
+
+    @Test
+    public void testLayerNotAddedKeepsTheLayerRegistry() throws Exception {
+        double invalidations = invalidations();
+
+        new LayerService(experimentDAO(false)).doPost(request(LAYER_JSON), response());
+
+        assertEquals(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, status.get());
+        assertEquals(invalidations, invalidations());
+    }
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.analyzer.workerimpl;
+
+import com.autotune.analyzer.serviceObjects.BulkJobStatus;
+import com.autotune.analyzer.services.BulkService;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestBulkJobStatusWriter {
+
+    private final Map<String, List<List<String>>> writes = new HashMap<>();
+    private final BulkJobStatusWriter writer = new BulkJobStatusWriter((jobId, jobData, experimentNames) ->
+            writes.computeIfAbsent(jobId, id -> new ArrayList<>()).add(new ArrayList<>(experimentNames)), false);
+
+    private static BulkJobStatus job(String jobId) {
+        return new BulkJobStatus(jobId, "IN_PROGRESS", Instant.now(), null);
+    }
+
+    @Test
+    public void testUpdatesOfAJobAreMergedIntoOneWrite() {
+        BulkJobStatus job = job("job-1");
+        writer.experimentUpdated(job, "exp-2");
+        writer.experimentUpdated(job, "exp-1");
+        writer.experimentUpdated(job, "exp-2");
+        assertTrue(writes.isEmpty());
+
+        writer.flush();
+
+        assertEquals(List.of(List.of("exp-2", "exp-1")), writes.get("job-1"));
+    }
+
+    @Test
+    public void testEachJobIsWrittenSeparately() {
+        writer.experimentUpdated(job("job-1"), "exp-1");
+        writer.experimentUpdated(job("job-2"), "exp-2");
+
+        writer.flush();
+
+        assertEquals(2, writes.size());
+        assertEquals(List.of(List.of("exp-1")), writes.get("job-1"));
+        assertEquals(List.of(List.of("exp-2")), writes.get("job-2"));
+    }
+
+    @Test
+    public void testOnlyUpdatesSinceTheLastFlushAreWritten() {
+        BulkJobStatus job = job("job-1");
+        writer.experimentUpdated(job, "exp-1");
+        writer.flush();
+        // nothing is pending
+        writer.flush();
+        writer.experimentUpdated(job, "exp-2");
+        writer.flush();
+
+        assertEquals(List.of(List.of("exp-1"), List.of("exp-2")), writes.get("job-1"));
+    }
+
+    @Test
+    public void testDiscardedJobIsNotWritten() {
+        writer.experimentUpdated(job("job-1"), "exp-1");
+        writer.experimentUpdated(job("job-2"), "exp-2");
+
+        writer.discard("job-1");
+        writer.flush();
+
+        assertEquals(1, writes.size());
+        assertEquals(List.of(List.of("exp-2")), writes.get("job-2"));
+    }
+
+    @Test
+    public void testFailedWriteDoesNotStopTheOtherJobs() {
+        List<String> written = new ArrayList<>();
+        BulkJobStatusWriter failingWriter = new BulkJobStatusWriter((jobId, jobData, experimentNames) -> {
+            if ("job-1".equals(jobId)) {
+                throw new IllegalStateException("database unavailable");
+            }
+            written.add(jobId);
+        }, false);
+        failingWriter.experimentUpdated(job("job-1"), "exp-1");
+        failingWriter.experimentUpdated(job("job-2"), "exp-2");
+
+        failingWriter.flush();
+        // the failed updates are not retried, the final save of the job writes them
+        failingWriter.flush();
+
+        assertEquals(List.of("job-2"), written);
+    }
+
+    @Test
+    public void testMissingJobOrExperimentIsIgnored() {
+        writer.experimentUpdated(null, "exp-1");
+        writer.experimentUpdated(job("job-1"), null);
+
+        writer.flush();
+
+        assertTrue(writes.isEmpty());
+    }
+
+    @Test
+    public void testReusedRecommendationsAreWrittenWithTheExperiment() throws Exception {
+        BulkJobStatus job = job("job-2");
+        BulkJobStatus.Experiment reused = new BulkJobStatus.Experiment("exp-1");
+        reused.recommendationsReused(new Timestamp(1_700_000_000_000L));
+        job.getExperimentMap().put("exp-1", reused);
+        BulkJobStatus.Experiment generated = new BulkJobStatus.Experiment("exp-2");
+        generated.recommendationsReused(null);
+        job.getExperimentMap().put("exp-2", generated);
+
+        JsonNode experiments = new ObjectMapper().readTree(BulkService.filterExperimentsJson(job,
+                Collections.singleton(KruizeDeploymentInfo.job_filter_to_db), Collections.emptySet(), List.of("exp-1", "exp-2")))
+                .get("experiments");
+
+        assertEquals("2023-11-14T22:13:20.000Z", experiments.get("exp-1").get("reused_interval_end_time").asText());
+        assertFalse(experiments.get("exp-2").hasNonNull("reused_interval_end_time"));
+        // read back by GET /bulk to look up the reused recommendations
+        assertEquals("2023-11-14T22:13:20.000Z", new ObjectMapper().treeToValue(experiments.get("exp-1"),
+                BulkJobStatus.Experiment.class).getReused_interval_end_time());
+    }
+}
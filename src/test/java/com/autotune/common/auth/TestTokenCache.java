@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestTokenCache {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    public void testConcurrentCallersShareASingleFetch() throws Exception {
+        int callers = 16;
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        TokenCache cache = new TokenCache(() -> {
+            fetchStarted.countDown();
+            releaseFetch.await(10, TimeUnit.SECONDS);
+            return TokenCache.Token.withLifetime("Bearer token-" + fetches.incrementAndGet(), HOUR);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get();
+                }));
+            }
+            start.countDown();
+            assertTrue(fetchStarted.await(10, TimeUnit.SECONDS));
+            // give the other callers time to queue up behind the fetch in flight
+            Thread.sleep(100);
+            releaseFetch.countDown();
+            for (Future<String> result : results) {
+                assertEquals("Bearer token-1", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, fetches.get());
+        assertEquals("Bearer token-1", cache.get());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void testExpiredTokenIsFetchedAgain() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        TokenCache cache = new TokenCache(() -> {
+            int fetch = fetches.incrementAndGet();
+            // the first token has already expired when it is handed out
+            long now = System.currentTimeMillis();
+            return 1 == fetch ? new TokenCache.Token("Bearer expired", now - 2, now - 1)
+                    : TokenCache.Token.withLifetime("Bearer token-" + fetch, HOUR);
+        });
+
+        assertEquals("Bearer expired", cache.get());
+        assertEquals("Bearer token-2", cache.get());
+        assertEquals("Bearer token-2", cache.get());
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testTokenPastRefreshTimeIsRefreshedInBackground() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(2);
+        TokenCache cache = new TokenCache(() -> {
+            int fetch = fetches.incrementAndGet();
+            refreshed.countDown();
+            long now = System.currentTimeMillis();
+            // the first token is due for a refresh but still valid
+            return 1 == fetch ? new TokenCache.Token("Bearer token-1", now - 1, now + HOUR)
+                    : TokenCache.Token.withLifetime("Bearer token-" + fetch, HOUR);
+        });
+
+        assertEquals("Bearer token-1", cache.get());
+        // the caller is not blocked by the refresh, it gets the current token
+        assertEquals("Bearer token-1", cache.get());
+        assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!"Bearer token-2".equals(cache.get()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("Bearer token-2", cache.get());
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testInvalidateOnlyDropsTheRejectedToken() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        TokenCache cache = new TokenCache(() ->
+                TokenCache.Token.withLifetime("Bearer token-" + fetches.incrementAndGet(), HOUR));
+
+        assertEquals("Bearer token-1", cache.get());
+        cache.invalidate("Bearer token-1");
+        assertEquals("Bearer token-2", cache.get());
+
+        // a request that was still using the old token is rejected after the token was replaced
+        cache.invalidate("Bearer token-1");
+        assertEquals("Bearer token-2", cache.get());
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void testRejectedBearerTokenIsReadAgainFromFile() throws Exception {
+        Path tokenFile = Files.createTempFile("token", null);
+        try {
+            Files.writeString(tokenFile, "first\n");
+            BearerAuthenticationStrategy strategy = new BearerAuthenticationStrategy(tokenFile.toString(), null);
+
+            String rejected = strategy.applyAuthentication();
+            assertEquals("Bearer first", rejected);
+
+            // the token was rotated, the cached one is used until the datasource rejects it with a 401
+            Files.writeString(tokenFile, "second\n");
+            assertEquals("Bearer first", strategy.applyAuthentication());
+            assertTrue(strategy.invalidate(rejected));
+            assertEquals("Bearer second", strategy.applyAuthentication());
+        } finally {
+            Files.deleteIfExists(tokenFile);
+        }
+    }
+
+    @Test
+    public void testStaticBearerTokenIsNotRetried() {
+        BearerAuthenticationStrategy strategy = new BearerAuthenticationStrategy(null, "static");
+
+        assertEquals("Bearer static", strategy.applyAuthentication());
+        assertFalse(strategy.invalidate("Bearer static"));
+    }
+}
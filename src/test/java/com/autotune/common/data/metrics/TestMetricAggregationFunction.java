@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.data.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestMetricAggregationFunction {
+
+    @Test
+    public void testEveryFunctionSetsItsField() {
+        for (MetricAggregationFunction function : MetricAggregationFunction.values()) {
+            MetricAggregationInfoResults results = new MetricAggregationInfoResults();
+            assertNull(function.getValue(results), function.getFunctionName());
+            function.setValue(results, 42.0);
+            assertEquals(42.0, function.getValue(results).doubleValue(), function.getFunctionName());
+            assertEquals(function, MetricAggregationFunction.fromName(function.getFunctionName()));
+        }
+        assertNull(MetricAggregationFunction.fromName("p99"));
+        assertNull(MetricAggregationFunction.fromName(null));
+    }
+
+    @Test
+    public void testCountIsRoundedToTheNearestInteger() {
+        MetricAggregationInfoResults results = new MetricAggregationInfoResults();
+        // counts computed by Prometheus over a range can carry floating point noise
+        MetricAggregationFunction.COUNT.setValue(results, 59.99999999);
+        assertEquals(Integer.valueOf(60), results.getCount());
+        MetricAggregationFunction.COUNT.setValue(results, 3.2);
+        assertEquals(Integer.valueOf(3), results.getCount());
+        MetricAggregationFunction.COUNT.setValue(results, Integer.MAX_VALUE);
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), results.getCount());
+    }
+
+    @Test
+    public void testCountOutOfRangeIsRejected() {
+        MetricAggregationInfoResults results = new MetricAggregationInfoResults();
+        double[] invalidCounts = {Integer.MAX_VALUE + 1.0, 1e12, Integer.MIN_VALUE - 1.0, Double.NaN,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (double count : invalidCounts) {
+            assertThrows(IllegalArgumentException.class, () -> MetricAggregationFunction.COUNT.setValue(results, count),
+                    String.valueOf(count));
+        }
+        // the previous value is left as it was
+        assertNull(results.getCount());
+    }
+}
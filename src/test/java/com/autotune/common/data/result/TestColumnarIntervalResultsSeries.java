@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.data.result;
+
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.AcceleratorMetricResult;
+import com.autotune.common.data.metrics.MetricAggregationFunction;
+import com.autotune.common.data.metrics.MetricMetadataResults;
+import com.autotune.common.data.metrics.MetricResults;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+
+import static com.autotune.analyzer.utils.AnalyzerConstants.MetricName.cpuUsage;
+import static com.autotune.analyzer.utils.AnalyzerConstants.MetricName.memoryUsage;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestColumnarIntervalResultsSeries {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    public void testSeriesIsOrderedByIntervalEndTime() {
+        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>();
+        IntervalResults last = intervalResults(45, 3.0);
+        resultsMap.put(new Timestamp(45 * MINUTE), last);
+        resultsMap.put(new Timestamp(15 * MINUTE), intervalResults(15, 1.0));
+        resultsMap.put(new Timestamp(30 * MINUTE), intervalResults(30, 2.0));
+        resultsMap.put(new Timestamp(60 * MINUTE), null);
+
+        IntervalResultsSeries series = ColumnarIntervalResultsSeries.from(resultsMap);
+
+        assertEquals(3, series.size());
+        for (int i = 0; i < series.size(); i++) {
+            assertEquals((i + 1) * 15 * MINUTE, series.getIntervalEndTimeMillis(i));
+            assertEquals(new Timestamp((i + 1) * 15 * MINUTE), series.getIntervalEndTime(i));
+            assertEquals(i + 1.0, series.getValue(i, cpuUsage, MetricAggregationFunction.MAX, -1.0));
+        }
+        assertEquals(last.getDurationInMinutes().doubleValue(), series.getDurationInMinutes(2, -1.0));
+        assertTrue(ColumnarIntervalResultsSeries.from((HashMap<Timestamp, IntervalResults>) null).isEmpty());
+    }
+
+    @Test
+    public void testMissingValuesReturnTheDefault() {
+        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>();
+        resultsMap.put(new Timestamp(15 * MINUTE), intervalResults(15, 1.0));
+        // no metrics at all for this interval
+        IntervalResults empty = new IntervalResults(new Timestamp(15 * MINUTE), new Timestamp(30 * MINUTE));
+        empty.setMetricResultsMap(new HashMap<>());
+        resultsMap.put(new Timestamp(30 * MINUTE), empty);
+
+        IntervalResultsSeries series = ColumnarIntervalResultsSeries.from(resultsMap);
+
+        assertTrue(series.hasMetric(0, cpuUsage));
+        assertTrue(series.hasValue(0, cpuUsage, MetricAggregationFunction.MAX));
+        assertEquals("cores", series.getFormat(0, cpuUsage));
+        // the function is not set on the aggregation results
+        assertFalse(series.hasValue(0, cpuUsage, MetricAggregationFunction.SUM));
+        assertEquals(-1.0, series.getValue(0, cpuUsage, MetricAggregationFunction.SUM, -1.0));
+        // the metric is not present in the interval
+        assertFalse(series.hasMetric(1, cpuUsage));
+        assertEquals(-1.0, series.getValue(1, cpuUsage, MetricAggregationFunction.MAX, -1.0));
+        assertNull(series.getFormat(1, cpuUsage));
+        // the metric is not present in any interval
+        assertFalse(series.hasMetric(0, memoryUsage));
+        assertEquals(0.0, series.getValue(0, memoryUsage, MetricAggregationFunction.AVG, 0.0));
+        assertNull(series.getFormat(0, memoryUsage));
+    }
+
+    @Test
+    public void testSubSeriesIsInclusiveAndShiftsIndexes() {
+        IntervalResultsSeries series = seriesOf(15, 30, 45, 60, 75);
+
+        IntervalResultsSeries subSeries = series.subSeries(30 * MINUTE, 60 * MINUTE);
+        assertEquals(3, subSeries.size());
+        assertEquals(30 * MINUTE, subSeries.getIntervalEndTimeMillis(0));
+        assertEquals(60 * MINUTE, subSeries.getIntervalEndTimeMillis(2));
+        assertEquals(30.0, subSeries.getValue(0, cpuUsage, MetricAggregationFunction.MAX, -1.0));
+        assertEquals(series.getDurationInMinutes(1, -1.0), subSeries.getDurationInMinutes(0, -1.0));
+
+        // bounds in between intervals
+        IntervalResultsSeries between = series.subSeries(31 * MINUTE, 74 * MINUTE);
+        assertEquals(2, between.size());
+        assertEquals(45 * MINUTE, between.getIntervalEndTimeMillis(0));
+
+        // sub series of a sub series stays within the parent view
+        IntervalResultsSeries nested = subSeries.subSeries(0, 45 * MINUTE);
+        assertEquals(2, nested.size());
+        assertEquals(45 * MINUTE, nested.getIntervalEndTimeMillis(1));
+
+        assertTrue(series.subSeries(76 * MINUTE, 90 * MINUTE).isEmpty());
+        assertTrue(series.subSeries(60 * MINUTE, 30 * MINUTE).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> subSeries.getIntervalEndTimeMillis(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> subSeries.getValue(-1, cpuUsage, MetricAggregationFunction.MAX, 0.0));
+    }
+
+    @Test
+    public void testLookupsAreRelativeToTheView() {
+        IntervalResultsSeries series = seriesOf(15, 30, 45, 60, 75);
+        IntervalResultsSeries subSeries = series.subSeries(30 * MINUTE, 60 * MINUTE);
+
+        assertEquals(3, series.indexOf(60 * MINUTE));
+        assertEquals(2, subSeries.indexOf(60 * MINUTE));
+        assertEquals(-1, subSeries.indexOf(61 * MINUTE));
+        // outside of the view even though the parent has it
+        assertEquals(-1, subSeries.indexOf(75 * MINUTE));
+
+        assertEquals(1, subSeries.nearestIndex(47 * MINUTE, 5 * MINUTE));
+        assertEquals(-1, subSeries.nearestIndex(75 * MINUTE, 5 * MINUTE));
+        assertEquals(4, series.nearestIndex(75 * MINUTE, 5 * MINUTE));
+    }
+
+    @Test
+    public void testSeriesFromCollector() {
+        IntervalResultsCollector collector = new IntervalResultsCollector();
+        for (long minute : new long[]{45, 15, 30}) {
+            IntervalResults intervalResults = collector.getOrCreate(minute * MINUTE);
+            intervalResults.getMetricResultsMap().put(cpuUsage, intervalResults(minute, minute).getMetricResultsMap().get(cpuUsage));
+            intervalResults.setIntervalStartTime(new Timestamp(0));
+            intervalResults.setDurationInMinutes((double) minute);
+        }
+
+        IntervalResultsSeries series = ColumnarIntervalResultsSeries.from(collector);
+
+        assertEquals(3, series.size());
+        for (int i = 0; i < series.size(); i++) {
+            long minute = (i + 1) * 15;
+            // the end times are the Timestamps created by the collector
+            assertSame(collector.get(minute * MINUTE).getIntervalEndTime(), series.getIntervalEndTime(i));
+            assertEquals(minute, series.getValue(i, cpuUsage, MetricAggregationFunction.MAX, -1.0));
+            assertEquals(minute, series.getDurationInMinutes(i, -1.0));
+        }
+        assertTrue(ColumnarIntervalResultsSeries.from(new IntervalResultsCollector()).isEmpty());
+    }
+
+    @Test
+    public void testMetadataAndAcceleratorResults() {
+        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>();
+        IntervalResults first = intervalResults(15, 1.0);
+        MetricResults jvmInfo = new MetricResults();
+        MetricMetadataResults jvmMetadata = new MetricMetadataResults();
+        jvmInfo.setMetricMetadataResults(jvmMetadata);
+        jvmInfo.setAggregationInfoResult(null);
+        first.getMetricResultsMap().put(AnalyzerConstants.MetricName.jvmInfo, jvmInfo);
+        resultsMap.put(first.getIntervalEndTime(), first);
+        IntervalResults second = intervalResults(30, 2.0);
+        AcceleratorMetricResult acceleratorResult = new AcceleratorMetricResult(null, new MetricResults());
+        HashMap<AnalyzerConstants.MetricName, AcceleratorMetricResult> acceleratorResults = new HashMap<>();
+        acceleratorResults.put(AnalyzerConstants.MetricName.acceleratorCoreUsage, acceleratorResult);
+        second.setAcceleratorMetricResultHashMap(acceleratorResults);
+        resultsMap.put(second.getIntervalEndTime(), second);
+
+        IntervalResultsSeries series = ColumnarIntervalResultsSeries.from(resultsMap);
+
+        assertTrue(series.hasMetric(0, AnalyzerConstants.MetricName.jvmInfo));
+        assertSame(jvmMetadata, series.getMetricMetadataResults(0, AnalyzerConstants.MetricName.jvmInfo));
+        assertNull(series.getMetricMetadataResults(1, AnalyzerConstants.MetricName.jvmInfo));
+        assertNull(series.getMetadata(0, cpuUsage));
+        assertFalse(series.hasAcceleratorMetrics(0));
+        assertTrue(series.hasAcceleratorMetrics(1));
+        assertSame(acceleratorResult, series.getAcceleratorMetricResult(1, AnalyzerConstants.MetricName.acceleratorCoreUsage));
+        assertNull(series.getAcceleratorMetricResult(1, AnalyzerConstants.MetricName.acceleratorMemoryUsage));
+    }
+
+    @Test
+    public void testResultsMapIsBuiltBackFromTheColumns() {
+        IntervalResultsSeries series = seriesOf(15, 30, 45);
+
+        HashMap<Timestamp, IntervalResults> resultsMap = series.subSeries(30 * MINUTE, 45 * MINUTE).toResultsMap();
+
+        assertEquals(2, resultsMap.size());
+        IntervalResults intervalResults = resultsMap.get(new Timestamp(45 * MINUTE));
+        assertEquals(new Timestamp(30 * MINUTE), intervalResults.getIntervalStartTime());
+        assertEquals(15.0, intervalResults.getDurationInMinutes().doubleValue());
+        MetricResults metricResults = intervalResults.getMetricResultsMap().get(cpuUsage);
+        assertEquals(cpuUsage.name(), metricResults.getName());
+        assertEquals("cores", metricResults.getFormat());
+        assertEquals(45.0, metricResults.getAggregationInfoResult().getMax().doubleValue());
+        assertNull(metricResults.getAggregationInfoResult().getSum());
+        assertEquals(1, intervalResults.getMetricResultsMap().size());
+        assertNull(intervalResults.getAcceleratorMetricResultHashMap());
+    }
+
+    @Test
+    public void testContainerDataBuildsTheMapOnlyWhenRequested() {
+        ContainerData containerData = new ContainerData();
+        IntervalResultsSeries series = seriesOf(15, 30);
+        containerData.setResultsSeries(series);
+
+        assertTrue(containerData.hasResults());
+        assertSame(series, containerData.getResultsSeries());
+        HashMap<Timestamp, IntervalResults> resultsMap = containerData.getResults();
+        assertEquals(2, resultsMap.size());
+        // the series is dropped once the map is built, the map is the only layout kept
+        assertSame(resultsMap, containerData.getResults());
+        assertEquals(2, containerData.getResultsSeries().size());
+
+        containerData.setResults(null);
+        assertFalse(containerData.hasResults());
+        assertTrue(containerData.getResultsSeries().isEmpty());
+    }
+
+    private static IntervalResultsSeries seriesOf(long... minutes) {
+        HashMap<Timestamp, IntervalResults> resultsMap = new HashMap<>();
+        for (long minute : minutes) {
+            resultsMap.put(new Timestamp(minute * MINUTE), intervalResults(minute, minute));
+        }
+        return ColumnarIntervalResultsSeries.from(resultsMap);
+    }
+
+    private static IntervalResults intervalResults(long endMinute, double cpuMax) {
+        IntervalResults intervalResults = new IntervalResults(new Timestamp((endMinute - 15) * MINUTE), new Timestamp(endMinute * MINUTE));
+        MetricResults metricResults = new MetricResults();
+        metricResults.getAggregationInfoResult().setMax(cpuMax);
+        metricResults.getAggregationInfoResult().setFormat("cores");
+        HashMap<AnalyzerConstants.MetricName, MetricResults> metricResultsMap = new HashMap<>();
+        metricResultsMap.put(cpuUsage, metricResults);
+        intervalResults.setMetricResultsMap(metricResultsMap);
+        return intervalResults;
+    }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.data.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestIntervalResultsCollector {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    public void testIntervalIsCreatedOnce() {
+        IntervalResultsCollector collector = new IntervalResultsCollector();
+        assertTrue(collector.isEmpty());
+        assertNull(collector.get(15 * MINUTE));
+        assertNull(collector.getLastIntervalEndTime());
+
+        IntervalResults intervalResults = collector.getOrCreate(15 * MINUTE);
+        assertNotNull(intervalResults.getMetricResultsMap());
+        assertEquals(new Timestamp(15 * MINUTE), intervalResults.getIntervalEndTime());
+        // the samples of the other metrics of the interval reuse the interval and its end time
+        assertSame(intervalResults, collector.getOrCreate(15 * MINUTE));
+        assertSame(intervalResults, collector.get(15 * MINUTE));
+        assertEquals(1, collector.size());
+    }
+
+    @Test
+    public void testResultsAcrossGrowth() {
+        IntervalResultsCollector collector = new IntervalResultsCollector();
+        // two weeks of 15 minute intervals, added out of order like the samples of several queries
+        int intervals = 14 * 24 * 4;
+        for (int i = intervals; i > 0; i--) {
+            collector.getOrCreate(1_700_000_000_000L + i * 15 * MINUTE);
+        }
+        for (int i = 1; i <= intervals; i++) {
+            collector.getOrCreate(1_700_000_000_000L + i * 15 * MINUTE);
+        }
+        assertEquals(intervals, collector.size());
+        assertEquals(new Timestamp(1_700_000_000_000L + intervals * 15 * MINUTE), collector.getLastIntervalEndTime());
+
+        IntervalResults[] sorted = collector.toSortedArray();
+        assertEquals(intervals, sorted.length);
+        for (int i = 0; i < intervals; i++) {
+            long intervalEndTime = 1_700_000_000_000L + (i + 1) * 15 * MINUTE;
+            assertSame(collector.get(intervalEndTime), sorted[i]);
+        }
+
+        IntervalTimeIndex timeIndex = collector.getTimeIndex();
+        assertEquals(intervals, timeIndex.size());
+        for (int i = 0; i < intervals; i++) {
+            assertEquals(1_700_000_000_000L + (i + 1) * 15 * MINUTE, timeIndex.getIntervalEndTimeMillis(i));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.data.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestIntervalTimeIndex {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    public void testIndexIsSortedAndSkipsNulls() {
+        Timestamp first = new Timestamp(15 * MINUTE);
+        Timestamp second = new Timestamp(30 * MINUTE);
+        Timestamp third = new Timestamp(45 * MINUTE);
+        IntervalTimeIndex timeIndex = IntervalTimeIndex.of(Arrays.asList(third, null, first, second));
+
+        assertEquals(3, timeIndex.size());
+        assertEquals(15 * MINUTE, timeIndex.getIntervalEndTimeMillis(0));
+        assertEquals(30 * MINUTE, timeIndex.getIntervalEndTimeMillis(1));
+        assertEquals(45 * MINUTE, timeIndex.getIntervalEndTimeMillis(2));
+        // the Timestamps the index was built from are returned, not copies
+        assertSame(first, timeIndex.getIntervalEndTime(0));
+        assertSame(third, timeIndex.getIntervalEndTime(2));
+
+        assertTrue(IntervalTimeIndex.of(null).isEmpty());
+        assertTrue(IntervalTimeIndex.of(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void testLowerBound() {
+        IntervalTimeIndex timeIndex = indexOf(15, 30, 45);
+
+        assertEquals(0, timeIndex.lowerBound(0));
+        assertEquals(0, timeIndex.lowerBound(15 * MINUTE));
+        assertEquals(1, timeIndex.lowerBound(15 * MINUTE + 1));
+        assertEquals(1, timeIndex.lowerBound(30 * MINUTE));
+        assertEquals(2, timeIndex.lowerBound(45 * MINUTE));
+        assertEquals(3, timeIndex.lowerBound(45 * MINUTE + 1));
+        assertEquals(0, IntervalTimeIndex.of(null).lowerBound(15 * MINUTE));
+
+        // restricted to a range of indexes
+        assertEquals(1, timeIndex.lowerBound(0, 1, 3));
+        assertEquals(2, timeIndex.lowerBound(50 * MINUTE, 0, 2));
+    }
+
+    @Test
+    public void testNearestIndexWithinTolerance() {
+        IntervalTimeIndex timeIndex = indexOf(15, 30, 45);
+        long tolerance = 5 * MINUTE;
+
+        assertEquals(1, timeIndex.nearestIndex(30 * MINUTE, 0));
+        assertEquals(1, timeIndex.nearestIndex(27 * MINUTE, tolerance));
+        assertEquals(1, timeIndex.nearestIndex(33 * MINUTE, tolerance));
+        assertEquals(0, timeIndex.nearestIndex(10 * MINUTE, tolerance));
+        assertEquals(2, timeIndex.nearestIndex(50 * MINUTE, tolerance));
+        // outside of the tolerance on both sides
+        assertEquals(-1, timeIndex.nearestIndex(22 * MINUTE, tolerance));
+        assertEquals(-1, timeIndex.nearestIndex(51 * MINUTE, tolerance));
+        assertEquals(-1, IntervalTimeIndex.of(null).nearestIndex(15 * MINUTE, tolerance));
+
+        // a tie goes to the earlier interval
+        assertEquals(0, timeIndex.nearestIndex(22 * MINUTE + 30_000L, 10 * MINUTE));
+
+        // restricted to a range of indexes
+        assertEquals(1, timeIndex.nearestIndex(15 * MINUTE, 20 * MINUTE, 1, 3));
+        assertEquals(-1, timeIndex.nearestIndex(45 * MINUTE, tolerance, 0, 2));
+    }
+
+    @Test
+    public void testGetNearest() {
+        IntervalTimeIndex timeIndex = indexOf(15, 30, 45);
+
+        assertEquals(new Timestamp(30 * MINUTE), timeIndex.getNearest(new Timestamp(31 * MINUTE), 5 * MINUTE));
+        assertNull(timeIndex.getNearest(new Timestamp(38 * MINUTE), 5 * MINUTE));
+    }
+
+    private static IntervalTimeIndex indexOf(long... minutes) {
+        Timestamp[] timestamps = new Timestamp[minutes.length];
+        for (int i = 0; i < minutes.length; i++) {
+            timestamps[i] = new Timestamp(minutes[i] * MINUTE);
+        }
+        return IntervalTimeIndex.ofSorted(timestamps);
+    }
+}
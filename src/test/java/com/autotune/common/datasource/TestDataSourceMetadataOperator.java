@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.datasource;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestDataSourceMetadataOperator {
+
+    private static final String MATCHER = "namespace=~\"ns-1|ns-2\"";
+
+    private final Integer shardSize = KruizeDeploymentInfo.metadata_discovery_shard_size;
+
+    @AfterEach
+    public void restoreShardSize() {
+        KruizeDeploymentInfo.metadata_discovery_shard_size = shardSize;
+    }
+
+    @Test
+    public void testMatcherIsAddedBeforeExistingMatchers() {
+        assertEquals("sum by (namespace) (kube_pod_info{namespace=~\"ns-1|ns-2\",namespace!=\"\"})",
+                DataSourceMetadataOperator.addLabelMatcher("sum by (namespace) (kube_pod_info{namespace!=\"\"})", MATCHER));
+    }
+
+    @Test
+    public void testMatcherIsAddedToEmptySelectors() {
+        assertEquals("up{namespace=~\"ns-1|ns-2\"}", DataSourceMetadataOperator.addLabelMatcher("up{}", MATCHER));
+        assertEquals("up{namespace=~\"ns-1|ns-2\" }", DataSourceMetadataOperator.addLabelMatcher("up{ }", MATCHER));
+    }
+
+    @Test
+    public void testMatcherIsAddedToEverySelector() {
+        assertEquals("kube_pod_container_info{namespace=~\"ns-1|ns-2\",container!=\"\"} * on(pod) group_left(owner_kind) "
+                        + "kube_pod_owner{namespace=~\"ns-1|ns-2\"}",
+                DataSourceMetadataOperator.addLabelMatcher("kube_pod_container_info{container!=\"\"} * on(pod) "
+                        + "group_left(owner_kind) kube_pod_owner{}", MATCHER));
+    }
+
+    @Test
+    public void testMatcherIsAddedToBareSelectors() {
+        assertEquals("sum(up{namespace=~\"ns-1|ns-2\"}) by (namespace)",
+                DataSourceMetadataOperator.addLabelMatcher("sum(up) by (namespace)", MATCHER));
+        assertEquals("up{namespace=~\"ns-1|ns-2\"}", DataSourceMetadataOperator.addLabelMatcher("up", MATCHER));
+        // metric names with colons, a range, an offset and a number
+        assertEquals("rate(namespace:container_cpu:sum{namespace=~\"ns-1|ns-2\"}[5m] offset 1h) > 0.5",
+                DataSourceMetadataOperator.addLabelMatcher("rate(namespace:container_cpu:sum[5m] offset 1h) > 0.5", MATCHER));
+    }
+
+    @Test
+    public void testKeywordsAndLabelListsAreNotSelectors() {
+        assertEquals("sum by (namespace, pod) (kube_pod_info{namespace=~\"ns-1|ns-2\"}) "
+                        + "* on (pod) group_left(owner_kind) kube_pod_owner{namespace=~\"ns-1|ns-2\"} "
+                        + "or vector(0) unless without_owner{namespace=~\"ns-1|ns-2\"} > bool Inf",
+                DataSourceMetadataOperator.addLabelMatcher("sum by (namespace, pod) (kube_pod_info) "
+                        + "* on (pod) group_left(owner_kind) kube_pod_owner "
+                        + "or vector(0) unless without_owner > bool Inf", MATCHER));
+        assertEquals("count without (pod) (up{namespace=~\"ns-1|ns-2\"}) * ignoring(job) group_right down{namespace=~\"ns-1|ns-2\"}",
+                DataSourceMetadataOperator.addLabelMatcher("count without (pod) (up) * ignoring(job) group_right down", MATCHER));
+    }
+
+    @Test
+    public void testMetadataProfileQuery() {
+        String query = "sum by (namespace, workload, workload_type) (avg_over_time("
+                + "namespace_workload_pod:kube_pod_owner:relabel{workload!=\"\"}[15m]))";
+        assertEquals("sum by (namespace, workload, workload_type) (avg_over_time("
+                        + "namespace_workload_pod:kube_pod_owner:relabel{namespace=~\"ns-1|ns-2\",workload!=\"\"}[15m]))",
+                DataSourceMetadataOperator.addLabelMatcher(query, MATCHER));
+    }
+
+    @Test
+    public void testSubqueryAndStringArguments() {
+        assertEquals("max_over_time(label_replace(up{namespace=~\"ns-1|ns-2\"}, \"dst\", \"$1\", \"src\", \"(a|b) c\")[1h:5m])",
+                DataSourceMetadataOperator.addLabelMatcher("max_over_time(label_replace(up, \"dst\", \"$1\", \"src\", \"(a|b) c\")[1h:5m])", MATCHER));
+    }
+
+    @Test
+    public void testBracesAndCommasWithinQuotedValuesAreKept() {
+        assertEquals("up{namespace=~\"ns-1|ns-2\",label=\"{a,b}\"}",
+                DataSourceMetadataOperator.addLabelMatcher("up{label=\"{a,b}\"}", MATCHER));
+        assertEquals("up{namespace=~\"ns-1|ns-2\",label='}{'}",
+                DataSourceMetadataOperator.addLabelMatcher("up{label='}{'}", MATCHER));
+    }
+
+    @Test
+    public void testEscapedQuotesWithinQuotedValues() {
+        // the escaped quote does not end the value, the braces after it are still part of it
+        assertEquals("up{namespace=~\"ns-1|ns-2\",label=\"say \\\"{hi}\\\"\"} + down{namespace=~\"ns-1|ns-2\"}",
+                DataSourceMetadataOperator.addLabelMatcher("up{label=\"say \\\"{hi}\\\"\"} + down{}", MATCHER));
+        // a backslash does not escape within a raw string
+        assertEquals("up{namespace=~\"ns-1|ns-2\",label=`a\\`,other=\"{\"}",
+                DataSourceMetadataOperator.addLabelMatcher("up{label=`a\\`,other=\"{\"}", MATCHER));
+    }
+
+    @Test
+    public void testNamespaceMatcherEscapesRegexCharacters() {
+        assertEquals("namespace=~\"default|kube\\\\.system|team-a_1\"",
+                DataSourceMetadataOperator.namespaceMatcher(List.of("default", "kube.system", "team-a_1")));
+        assertEquals("namespace=~\"ns\\\\+1|ns\\\\|2\"",
+                DataSourceMetadataOperator.namespaceMatcher(List.of("ns+1", "ns|2")));
+    }
+
+    @Test
+    public void testNamespacesAreSplitIntoSortedShards() {
+        KruizeDeploymentInfo.metadata_discovery_shard_size = 2;
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")),
+                DataSourceMetadataOperator.shardNamespaces(Set.of("e", "c", "a", "d", "b")));
+        assertEquals(List.of(List.of("a", "b")), DataSourceMetadataOperator.shardNamespaces(Set.of("b", "a")));
+    }
+
+    @Test
+    public void testSingleShardWhenShardingIsDisabled() {
+        KruizeDeploymentInfo.metadata_discovery_shard_size = 0;
+        assertEquals(List.of(List.of("a", "b", "c")), DataSourceMetadataOperator.shardNamespaces(Set.of("c", "a", "b")));
+
+        KruizeDeploymentInfo.metadata_discovery_shard_size = null;
+        assertEquals(List.of(List.of("a", "b", "c")), DataSourceMetadataOperator.shardNamespaces(Set.of("c", "a", "b")));
+        assertEquals(List.of(Collections.emptyList()), DataSourceMetadataOperator.shardNamespaces(Set.of()));
+    }
+}
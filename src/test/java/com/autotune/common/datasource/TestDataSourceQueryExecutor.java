@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.datasource;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestDataSourceQueryExecutor {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private Integer concurrency;
+    private DataSourceQueryExecutor executor;
+
+    private static DataSourceInfo dataSource(String name) throws MalformedURLException {
+        return new DataSourceInfo(name, "prometheus", null, null, new URL("http://prometheus:9090"), null);
+    }
+
+    private static void awaitValue(AtomicInteger counter, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (counter.get() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, counter.get());
+    }
+
+    @BeforeEach
+    public void setUp() {
+        concurrency = KruizeDeploymentInfo.datasource_query_concurrency;
+        KruizeDeploymentInfo.datasource_query_concurrency = 2;
+        executor = new DataSourceQueryExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        KruizeDeploymentInfo.datasource_query_concurrency = concurrency;
+    }
+
+    @Test
+    public void testQueriesOfADatasourceAreLimited() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int query = i;
+            futures.add(executor.submit(dataSource("prometheus-1"), () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    return query;
+                } finally {
+                    running.decrementAndGet();
+                }
+            }));
+        }
+
+        awaitValue(running, 2);
+        // the other queries wait for a permit
+        Thread.sleep(100);
+        assertEquals(2, running.get());
+
+        release.countDown();
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(Integer.valueOf(i), DataSourceQueryExecutor.await(futures.get(i), futures));
+        }
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    public void testDatasourcesHaveTheirOwnPermits() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        List<Future<Boolean>> blocked = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            blocked.add(executor.submit(dataSource("prometheus-1"), () -> {
+                running.incrementAndGet();
+                return release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }));
+        }
+        awaitValue(running, 2);
+
+        // the permits of prometheus-1 are all taken, the queries of an other datasource still run
+        Future<String> other = executor.submit(dataSource("prometheus-2"), () -> "done");
+        assertEquals("done", other.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Future<String> unnamed = executor.submit(null, () -> "default");
+        assertEquals("default", unnamed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        release.countDown();
+        for (Future<Boolean> future : blocked) {
+            assertTrue(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testFailureCancelsTheRemainingQueries() throws Exception {
+        IllegalStateException failure = new IllegalStateException("query failed");
+        CountDownLatch never = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(executor.submit(dataSource("prometheus-1"), () -> {
+            throw failure;
+        }));
+        for (int i = 0; i < 3; i++) {
+            futures.add(executor.submit(dataSource("prometheus-1"), () -> {
+                started.incrementAndGet();
+                never.await();
+                return "unreachable";
+            }));
+        }
+
+        Exception e = assertThrows(Exception.class, () -> DataSourceQueryExecutor.await(futures.get(0), futures));
+
+        // the cause is rethrown as is, not wrapped in an ExecutionException
+        assertSame(failure, e);
+        for (Future<String> future : futures.subList(1, futures.size())) {
+            assertTrue(future.isCancelled());
+        }
+    }
+
+    @Test
+    public void testCheckedFailureIsRethrown() throws Exception {
+        IOException failure = new IOException("datasource unavailable");
+        Future<String> future = executor.submit(dataSource("prometheus-1"), () -> {
+            throw failure;
+        });
+        Future<String> pending = executor.submit(dataSource("prometheus-1"), () -> {
+            new CountDownLatch(1).await();
+            return "unreachable";
+        });
+
+        IOException e = assertThrows(IOException.class, () -> DataSourceQueryExecutor.await(future, List.of(future, pending)));
+        assertSame(failure, e);
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    public void testInterruptedWaitCancelsTheQueries() throws Exception {
+        Future<String> pending = executor.submit(dataSource("prometheus-1"), () -> {
+            new CountDownLatch(1).await();
+            return "unreachable";
+        });
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> DataSourceQueryExecutor.await(pending, List.of(pending)));
+
+        // the interrupt flag is restored for the caller
+        assertTrue(Thread.interrupted());
+        assertTrue(pending.isCancelled());
+    }
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.datasource.prometheus;
+
+import com.google.gson.JsonArray;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestPrometheusResponseParser {
+
+    /**
+     * Records the calls of the parser as "start i {labels}", "sample epoch value" and "end"
+     */
+    private static final class RecordingSink implements PrometheusResultSink {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void startSeries(int seriesIndex, Map<String, String> labels) {
+            events.add("start " + seriesIndex + " " + new TreeMap<>(labels));
+        }
+
+        @Override
+        public void sample(long epochSeconds, double value) {
+            events.add("sample " + epochSeconds + " " + value);
+        }
+
+        @Override
+        public void endSeries() {
+            events.add("end");
+        }
+    }
+
+    private static int parse(String body, PrometheusResultSink sink) throws IOException {
+        return PrometheusResponseParser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), sink);
+    }
+
+    @Test
+    public void testRangeQueryResponse() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        String body = "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+                + "{\"metric\":{\"container\":\"app\",\"namespace\":\"ns-1\"},\"values\":[[1700000000,\"1.5\"],[1700000060.5,\"2\"]]},"
+                + "{\"metric\":{\"container\":\"sidecar\"},\"values\":[[1700000000,\"0\"]]}]}}";
+
+        assertEquals(2, parse(body, sink));
+        assertEquals(List.of(
+                "start 0 {container=app, namespace=ns-1}", "sample 1700000000 1.5", "sample 1700000060 2.0", "end",
+                "start 1 {container=sidecar}", "sample 1700000000 0.0", "end"), sink.events);
+    }
+
+    @Test
+    public void testInstantQueryResponse() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        String body = "{\"status\":\"success\",\"data\":{\"resultType\":\"vector\",\"result\":["
+                + "{\"metric\":{},\"value\":[1700000000,\"42\"]}]}}";
+
+        assertEquals(1, parse(body, sink));
+        assertEquals(List.of("start 0 {}", "sample 1700000000 42.0", "end"), sink.events);
+    }
+
+    @Test
+    public void testMetricAfterValues() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        String body = "{\"data\":{\"result\":["
+                + "{\"values\":[[1700000000,\"1\"],[1700000060,\"2\"]],\"metric\":{\"container\":\"app\"}},"
+                + "{\"value\":[1700000000,\"3\"]}]},\"status\":\"success\"}";
+
+        assertEquals(2, parse(body, sink));
+        // the samples are delivered after the labels they belong to
+        assertEquals(List.of(
+                "start 0 {container=app}", "sample 1700000000 1.0", "sample 1700000060 2.0", "end",
+                "start 1 {}", "sample 1700000000 3.0", "end"), sink.events);
+    }
+
+    @Test
+    public void testSpecialSampleValues() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        String body = "{\"data\":{\"result\":[{\"metric\":{},\"values\":["
+                + "[1,\"+Inf\"],[2,\"-Inf\"],[3,\"NaN\"],[4,\"1e3\"]]}]}}";
+
+        parse(body, sink);
+
+        assertEquals(List.of("start 0 {}", "sample 1 Infinity", "sample 2 -Infinity", "sample 3 NaN", "sample 4 1000.0", "end"),
+                sink.events);
+    }
+
+    @Test
+    public void testEmptyResult() throws Exception {
+        RecordingSink sink = new RecordingSink();
+
+        assertEquals(0, parse("{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":[]}}", sink));
+        assertTrue(sink.events.isEmpty());
+    }
+
+    @Test
+    public void testErrorResponseHasNoSeries() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        String body = "{\"status\":\"error\",\"errorType\":\"bad_data\",\"error\":\"parse error at char 5\"}";
+
+        assertEquals(0, parse(body, sink));
+        assertTrue(sink.events.isEmpty());
+    }
+
+    @Test
+    public void testRetryWarningWithEmptyResultFails() {
+        String body = "{\"status\":\"success\",\"warnings\":[\"error reading from server: EOF\"],"
+                + "\"data\":{\"result\":[]}}";
+
+        IOException e = assertThrows(IOException.class, () -> parse(body, new RecordingSink()));
+        assertEquals("error reading from server: EOF", e.getMessage());
+    }
+
+    @Test
+    public void testWarningWithResultIsIgnored() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        String body = "{\"status\":\"success\",\"data\":{\"result\":[{\"metric\":{},\"value\":[1,\"1\"]}]},"
+                + "\"warnings\":[\"Please reduce your request rate\"]}";
+
+        assertEquals(1, parse(body, sink));
+        // other warnings do not fail an empty result
+        assertEquals(0, parse("{\"warnings\":[\"partial response\"],\"data\":{\"result\":[]}}", new RecordingSink()));
+    }
+
+    @Test
+    public void testInvalidResponse() {
+        assertThrows(IOException.class, () -> parse("[]", new RecordingSink()));
+        assertThrows(IOException.class, () -> parse("{\"data\":{\"result\":[", new RecordingSink()));
+    }
+
+    @Test
+    public void testLabelsCollectorSkipsValues() throws Exception {
+        PrometheusResponseParser.LabelsCollector collector = new PrometheusResponseParser.LabelsCollector();
+        String body = "{\"data\":{\"result\":["
+                + "{\"metric\":{\"namespace\":\"ns-1\"},\"values\":[[1,\"not a number\"]]},"
+                + "{\"value\":[1,\"1\"],\"metric\":{\"namespace\":\"ns-2\"}}]}}";
+
+        assertEquals(2, parse(body, collector));
+        JsonArray resultArray = collector.getResultArray();
+        assertEquals(2, resultArray.size());
+        assertEquals("ns-1", resultArray.get(0).getAsJsonObject().getAsJsonObject("metric").get("namespace").getAsString());
+        assertEquals("ns-2", resultArray.get(1).getAsJsonObject().getAsJsonObject("metric").get("namespace").getAsString());
+    }
+
+    @Test
+    public void testSeriesBufferReplaysInOrder() throws Exception {
+        PrometheusSeriesBuffer buffer = new PrometheusSeriesBuffer();
+        StringBuilder values = new StringBuilder();
+        // more samples than the initial capacity of a buffered series
+        for (int i = 0; i < 300; i++) {
+            values.append(i > 0 ? "," : "").append("[").append(i).append(",\"").append(i).append("\"]");
+        }
+        String body = "{\"data\":{\"result\":[{\"metric\":{\"container\":\"app\"},\"values\":[" + values + "]},"
+                + "{\"metric\":{\"container\":\"sidecar\"},\"values\":[[1,\"1\"]]}]}}";
+        parse(body, buffer);
+        assertEquals(2, buffer.getSeriesCount());
+
+        RecordingSink sink = new RecordingSink();
+        assertEquals(2, buffer.replay(sink));
+        assertEquals(300 + 2 + 2 + 1, sink.events.size());
+        assertEquals("start 0 {container=app}", sink.events.get(0));
+        assertEquals("sample 299 299.0", sink.events.get(300));
+        assertEquals("start 1 {container=sidecar}", sink.events.get(302));
+
+        // a labels only sink gets no samples
+        PrometheusResponseParser.LabelsCollector collector = new PrometheusResponseParser.LabelsCollector();
+        buffer.replay(collector);
+        assertEquals(2, collector.getResultArray().size());
+    }
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestPercentile {
+
+    // percentiles used by the cost, performance and box plot computations
+    private static final double[] PERCENTILES = {0, 25, 50, 60, 75, 95, 98, 99, 100};
+    private static final int[] SIZES = {1, 2, 3, 10, 96, 97, 1000, 4321};
+    // the sketch is expected to stay within 1.5% of the rank with the default k
+    private static final double MAX_RANK_ERROR = 0.015;
+
+    @Test
+    public void testQuickselectMatchesSortedPercentile() {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            List<Double> items = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                // repeated values like idle cpu samples alongside spikes
+                items.add(random.nextInt(4) == 0 ? 0.0 : random.nextDouble() * 1000);
+            }
+            for (double percentile : PERCENTILES) {
+                assertEquals(sortedPercentile(percentile, items), CommonUtils.percentile(percentile, items),
+                        "size " + size + ", percentile " + percentile);
+            }
+        }
+    }
+
+    @Test
+    public void testQuickselectOnSortedAndConstantInput() {
+        double[] ascending = new double[5000];
+        double[] constant = new double[5000];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = i;
+            constant[i] = 7.0;
+        }
+        for (double percentile : PERCENTILES) {
+            double expected = Math.round(percentile / 100.0 * (ascending.length - 1));
+            assertEquals(expected, CommonUtils.percentile(percentile, ascending.clone()));
+            assertEquals(7.0, CommonUtils.percentile(percentile, constant.clone()));
+        }
+    }
+
+    @Test
+    public void testSketchIsExactForSmallInput() {
+        Random random = new Random(7);
+        double[] values = new double[KllQuantileSketch.DEFAULT_K];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian();
+        }
+        KllQuantileSketch sketch = KllQuantileSketch.of(values);
+        for (double percentile : PERCENTILES) {
+            assertEquals(CommonUtils.percentile(percentile, values.clone()), sketch.getPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void testSketchRankErrorAndMerge() {
+        Random random = new Random(11);
+        // two weeks of 15 minute samples for many containers
+        int size = 200_000;
+        double[] values = new double[size];
+        KllQuantileSketch first = new KllQuantileSketch();
+        KllQuantileSketch second = new KllQuantileSketch();
+        for (int i = 0; i < size; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+            if (i % 2 == 0) {
+                first.update(values[i]);
+            } else {
+                second.update(values[i]);
+            }
+        }
+        KllQuantileSketch whole = KllQuantileSketch.of(values);
+        first.merge(second);
+        assertEquals(size, first.getCount());
+        assertTrue(whole.getRetainedItems() < size / 100, "retained " + whole.getRetainedItems());
+
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double percentile : PERCENTILES) {
+            double expectedRank = percentile / 100.0;
+            assertTrue(Math.abs(rank(sorted, whole.getPercentile(percentile)) - expectedRank) <= MAX_RANK_ERROR,
+                    "percentile " + percentile);
+            assertTrue(Math.abs(rank(sorted, first.getPercentile(percentile)) - expectedRank) <= MAX_RANK_ERROR,
+                    "merged, percentile " + percentile);
+        }
+    }
+
+    private static Double sortedPercentile(double percentile, List<Double> items) {
+        List<Double> sorted = new ArrayList<>(items);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.round(percentile / 100.0 * (sorted.size() - 1)));
+    }
+
+    private static double rank(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        return (double) Math.max(index, 0) / (sorted.length - 1);
+    }
+}
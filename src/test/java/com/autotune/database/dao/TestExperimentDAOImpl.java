@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.database.dao;
+
+import com.autotune.database.helper.DBConstants;
+import com.autotune.database.table.KruizeDSMetadataEntry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestExperimentDAOImpl {
+
+    private static List<Integer> numbers(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testBatches() {
+        assertTrue(ExperimentDAOImpl.batches(List.of(), 3).isEmpty());
+        assertEquals(List.of(List.of(0, 1, 2)), ExperimentDAOImpl.batches(numbers(3), 3));
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6)), ExperimentDAOImpl.batches(numbers(7), 3));
+    }
+
+    @Test
+    public void testMetadataBatchSizes() {
+        int rows = 2 * DBConstants.BATCH_LIMITS.METADATA_INSERT_BATCH_SIZE + 1;
+
+        List<List<Integer>> batches = ExperimentDAOImpl.batches(numbers(rows), DBConstants.BATCH_LIMITS.METADATA_INSERT_BATCH_SIZE);
+
+        assertEquals(3, batches.size());
+        assertEquals(DBConstants.BATCH_LIMITS.METADATA_INSERT_BATCH_SIZE, batches.get(0).size());
+        assertEquals(1, batches.get(2).size());
+        // every row is written once, in order
+        assertEquals(numbers(rows), batches.stream().flatMap(List::stream).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testInsertMetadataSQL() {
+        assertEquals(DBConstants.SQLQUERY.INSERT_METADATA + "(?, ?, ?, ?, ?, ?, ?, ?)",
+                ExperimentDAOImpl.getInsertMetadataSQL(1));
+        assertEquals(DBConstants.SQLQUERY.INSERT_METADATA + "(?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?)",
+                ExperimentDAOImpl.getInsertMetadataSQL(3));
+    }
+
+    @Test
+    public void testMetadataRowsAreBoundInOrder() throws Exception {
+        List<String> parameters = new ArrayList<>();
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    if ("setString".equals(method.getName())) {
+                        assertEquals(parameters.size() + 1, args[0]);
+                        parameters.add((String) args[1]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        ExperimentDAOImpl.setMetadataRows(statement, List.of(
+                new KruizeDSMetadataEntry("v1.0", "prometheus-1", "default", "ns-1", "deployment", "app", "app", "app:1"),
+                new KruizeDSMetadataEntry("v1.0", "prometheus-1", "default", "ns-2", null, null, null, null)));
+
+        assertEquals(Arrays.asList("v1.0", "prometheus-1", "default", "ns-1", "deployment", "app", "app", "app:1",
+                "v1.0", "prometheus-1", "default", "ns-2", null, null, null, null), parameters);
+    }
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.database.service;
+
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.database.dao.ExperimentDAOImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestExperimentCache {
+
+    private static final long TTL_MILLIS = 60_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private static KruizeObject experiment(String name) {
+        KruizeObject kruizeObject = new KruizeObject();
+        kruizeObject.setExperimentName(name);
+        return kruizeObject;
+    }
+
+    @Test
+    public void testExperimentExpiresAfterTtl() {
+        ExperimentCache cache = new ExperimentCache(10, TTL_MILLIS, now::get);
+        KruizeObject experiment = experiment("exp-1");
+        cache.put("exp-1", experiment);
+
+        now.addAndGet(TTL_MILLIS - 1);
+        assertSame(experiment, cache.get("exp-1"));
+
+        // reading the experiment does not extend its lifetime
+        now.addAndGet(1);
+        assertNull(cache.get("exp-1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedExperimentIsEvicted() {
+        ExperimentCache cache = new ExperimentCache(2, TTL_MILLIS, now::get);
+        KruizeObject first = experiment("exp-1");
+        KruizeObject second = experiment("exp-2");
+        cache.put("exp-1", first);
+        cache.put("exp-2", second);
+
+        // exp-1 is used again so exp-2 is the least recently used one
+        assertSame(first, cache.get("exp-1"));
+        cache.put("exp-3", experiment("exp-3"));
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("exp-1"));
+        assertNull(cache.get("exp-2"));
+        assertNotNull(cache.get("exp-3"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        ExperimentCache cache = new ExperimentCache(10, TTL_MILLIS, now::get);
+        cache.put("exp-1", experiment("exp-1"));
+        cache.put("exp-2", experiment("exp-2"));
+
+        cache.invalidate("exp-1");
+        assertNull(cache.get("exp-1"));
+        assertNotNull(cache.get("exp-2"));
+
+        cache.invalidate("unknown");
+        cache.invalidate(null);
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabledCacheDoesNotStoreExperiments() {
+        ExperimentCache noSize = new ExperimentCache(0, TTL_MILLIS, now::get);
+        ExperimentCache noTtl = new ExperimentCache(10, 0, now::get);
+        assertFalse(noSize.isEnabled());
+        assertFalse(noTtl.isEnabled());
+
+        noSize.put("exp-1", experiment("exp-1"));
+        noTtl.put("exp-1", experiment("exp-1"));
+        assertNull(noSize.get("exp-1"));
+        assertNull(noTtl.get("exp-1"));
+    }
+
+    @Test
+    public void testStatusUpdateInvalidatesCachedExperiment() {
+        ExperimentCache cache = ExperimentCache.getInstance();
+        assertTrue(cache.isEnabled());
+        KruizeObject experiment = experiment("exp-status");
+
+        cache.put("exp-status", experiment);
+        new ExperimentDAOImpl().updateExperimentStatus(experiment, AnalyzerConstants.ExperimentStatus.IN_PROGRESS);
+        assertNull(cache.get("exp-status"));
+
+        cache.put("exp-status", experiment);
+        new ExperimentDBService().updateExperimentStatus(experiment, AnalyzerConstants.ExperimentStatus.IN_PROGRESS);
+        assertNull(cache.get("exp-status"));
+    }
+}
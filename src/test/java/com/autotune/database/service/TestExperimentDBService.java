@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.database.service;
+
+import com.autotune.analyzer.kruizeLayer.KruizeLayer;
+import com.autotune.common.data.ValidationOutputData;
+import com.autotune.common.data.dataSourceMetadata.DataSource;
+import com.autotune.common.data.dataSourceMetadata.DataSourceCluster;
+import com.autotune.common.data.dataSourceMetadata.DataSourceContainer;
+import com.autotune.common.data.dataSourceMetadata.DataSourceMetadataInfo;
+import com.autotune.common.data.dataSourceMetadata.DataSourceNamespace;
+import com.autotune.common.data.dataSourceMetadata.DataSourceWorkload;
+import com.autotune.database.dao.ExperimentDAO;
+import com.autotune.database.table.KruizeDSMetadataEntry;
+import com.autotune.utils.MetricsConfig;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestExperimentDBService {
+
+    private static final String VERSION = "v1.0";
+
+    private final List<KruizeDSMetadataEntry> storedMetadata = new ArrayList<>();
+    // arguments of the calls to ExperimentDAO.updateMetadataInDB
+    private final List<Object[]> metadataUpdates = new ArrayList<>();
+
+    private ExperimentDAO experimentDAO(boolean success) {
+        return (ExperimentDAO) Proxy.newProxyInstance(ExperimentDAO.class.getClassLoader(), new Class<?>[]{ExperimentDAO.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "addLayerToDB":
+                            return new ValidationOutputData(success, success ? null : "database unavailable", null);
+                        case "loadMetadataByName":
+                            return storedMetadata.stream().filter(entry -> entry.getDataSourceName().equals(args[0]))
+                                    .collect(Collectors.toList());
+                        case "updateMetadataInDB":
+                            metadataUpdates.add(args);
+                            return new ValidationOutputData(success, success ? null : "database unavailable", null);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static KruizeLayer layer() {
+        KruizeLayer layer = new KruizeLayer();
+        layer.setApiVersion("recommender.com/v1");
+        layer.setKind("KruizeLayer");
+        layer.setLayerName("container");
+        return layer;
+    }
+
+    private static double invalidations() {
+        return MetricsConfig.registerCacheCounter("layer", "invalidation").count();
+    }
+
+    private static KruizeDSMetadataEntry metadata(Long id, String namespace, String workload, String container, String image) {
+        KruizeDSMetadataEntry entry = new KruizeDSMetadataEntry(VERSION, "prometheus-1", "default", namespace,
+                null == workload ? null : "deployment", workload, container, image);
+        entry.setId(id);
+        return entry;
+    }
+
+    private static DataSourceMetadataInfo metadataInfo(String namespace, String workload, String container, String image) {
+        HashMap<String, DataSourceContainer> containers = new HashMap<>();
+        containers.put(container, new DataSourceContainer(container, image));
+        HashMap<String, DataSourceWorkload> workloads = new HashMap<>();
+        workloads.put(workload, new DataSourceWorkload(workload, "deployment", containers));
+        HashMap<String, DataSourceNamespace> namespaces = new HashMap<>();
+        namespaces.put(namespace, new DataSourceNamespace(namespace, workloads));
+        HashMap<String, DataSourceCluster> clusters = new HashMap<>();
+        clusters.put("default", new DataSourceCluster("default", namespaces));
+        HashMap<String, DataSource> datasources = new HashMap<>();
+        datasources.put("prometheus-1", new DataSource("prometheus-1", clusters));
+        return new DataSourceMetadataInfo(datasources);
+    }
+
+    @Test
+    public void testAddedLayerInvalidatesTheLayerRegistry() {
+        double invalidations = invalidations();
+
+        ValidationOutputData added = new ExperimentDBService(experimentDAO(true)).addLayerToDB(layer());
+
+        assertTrue(added.isSuccess());
+        assertEquals(invalidations + 1, invalidations());
+    }
+
+    @Test
+    public void testLayerNotAddedKeepsTheLayerRegistry() {
+        double invalidations = invalidations();
+
+        ValidationOutputData added = new ExperimentDBService(experimentDAO(false)).addLayerToDB(layer());
+
+        assertFalse(added.isSuccess());
+        assertEquals(invalidations, invalidations());
+    }
+
+    @Test
+    public void testUnchangedMetadataIsKept() {
+        List<KruizeDSMetadataEntry> stored = List.of(
+                metadata(1L, "ns-1", null, null, null),
+                metadata(2L, "ns-2", "app", "app", "app:1"),
+                metadata(3L, "ns-2", "app", "sidecar", "proxy:1"));
+        // the imported rows have no ids and come in any order
+        List<KruizeDSMetadataEntry> imported = List.of(
+                metadata(null, "ns-2", "app", "sidecar", "proxy:1"),
+                metadata(null, "ns-1", null, null, null),
+                metadata(null, "ns-2", "app", "app", "app:1"));
+        List<KruizeDSMetadataEntry> added = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+
+        ExperimentDBService.diffMetadata(stored, imported, added, removedIds);
+
+        assertTrue(added.isEmpty());
+        assertTrue(removedIds.isEmpty());
+    }
+
+    @Test
+    public void testAddedAndRemovedMetadata() {
+        List<KruizeDSMetadataEntry> stored = List.of(
+                metadata(1L, "ns-1", "app", "app", "app:1"),
+                metadata(2L, "ns-1", "old", "old", "old:1"),
+                metadata(3L, "ns-2", null, null, null));
+        KruizeDSMetadataEntry newContainer = metadata(null, "ns-1", "app", "sidecar", "proxy:1");
+        KruizeDSMetadataEntry newNamespace = metadata(null, "ns-3", null, null, null);
+        List<KruizeDSMetadataEntry> imported = List.of(metadata(null, "ns-1", "app", "app", "app:1"), newContainer, newNamespace);
+        List<KruizeDSMetadataEntry> added = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+
+        ExperimentDBService.diffMetadata(stored, imported, added, removedIds);
+
+        assertEquals(2, added.size());
+        assertSame(newContainer, added.get(0));
+        assertSame(newNamespace, added.get(1));
+        assertEquals(Set.of(2L, 3L), Set.copyOf(removedIds));
+    }
+
+    @Test
+    public void testChangedMetadataIsReplaced() {
+        List<KruizeDSMetadataEntry> stored = List.of(
+                metadata(1L, "ns-1", "app", "app", "app:1"),
+                metadata(2L, "ns-1", "app", "sidecar", "proxy:1"));
+        // a change of any column, here the image, is a different row
+        KruizeDSMetadataEntry changed = metadata(null, "ns-1", "app", "app", "app:2");
+        List<KruizeDSMetadataEntry> imported = List.of(changed, metadata(null, "ns-1", "app", "sidecar", "proxy:1"));
+        List<KruizeDSMetadataEntry> added = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+
+        ExperimentDBService.diffMetadata(stored, imported, added, removedIds);
+
+        assertEquals(List.of(changed), added);
+        assertEquals(List.of(1L), removedIds);
+    }
+
+    @Test
+    public void testDuplicateStoredMetadataIsRemoved() {
+        List<KruizeDSMetadataEntry> stored = List.of(
+                metadata(1L, "ns-1", "app", "app", "app:1"),
+                metadata(2L, "ns-1", "app", "app", "app:1"),
+                metadata(3L, "ns-1", "app", "app", "app:1"));
+        List<KruizeDSMetadataEntry> imported = List.of(metadata(null, "ns-1", "app", "app", "app:1"));
+        List<KruizeDSMetadataEntry> added = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+
+        ExperimentDBService.diffMetadata(stored, imported, added, removedIds);
+
+        // one of the stored copies is kept
+        assertTrue(added.isEmpty());
+        assertEquals(2, removedIds.size());
+        assertEquals(2, Set.copyOf(removedIds).size());
+        assertTrue(Set.of(1L, 2L, 3L).containsAll(removedIds));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateMetadataWritesOnlyTheChanges() {
+        storedMetadata.add(metadata(1L, "ns-1", "app", "app", "app:1"));
+        storedMetadata.add(metadata(2L, "ns-1", "app", "sidecar", "proxy:1"));
+
+        ValidationOutputData updated = new ExperimentDBService(experimentDAO(true))
+                .updateMetadataInDB(metadataInfo("ns-1", "app", "app", "app:2"));
+
+        assertTrue(updated.isSuccess());
+        assertEquals(1, metadataUpdates.size());
+        assertEquals(Set.of(1L, 2L), Set.copyOf((List<Long>) metadataUpdates.get(0)[0]));
+        List<KruizeDSMetadataEntry> added = (List<KruizeDSMetadataEntry>) metadataUpdates.get(0)[1];
+        assertEquals(1, added.size());
+        assertNull(added.get(0).getId());
+        assertEquals("app:2", added.get(0).getContainerImageName());
+    }
+
+    @Test
+    public void testUpdateUnchangedMetadataDoesNotWrite() {
+        storedMetadata.add(metadata(1L, "ns-1", "app", "app", "app:1"));
+
+        ValidationOutputData updated = new ExperimentDBService(experimentDAO(false))
+                .updateMetadataInDB(metadataInfo("ns-1", "app", "app", "app:1"));
+
+        assertTrue(updated.isSuccess());
+        assertTrue(metadataUpdates.isEmpty());
+    }
+
+    @Test
+    public void testFailedMetadataUpdateIsReported() {
+        ValidationOutputData updated = new ExperimentDBService(experimentDAO(false))
+                .updateMetadataInDB(metadataInfo("ns-1", "app", "app", "app:1"));
+
+        assertFalse(updated.isSuccess());
+        assertEquals(1, metadataUpdates.size());
+    }
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *******************************************************************************/
+
+package com.autotune.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestDateUtils {
+
+    private static final String[] TIMEZONES = {"UTC", "America/New_York", "Europe/Berlin", "Asia/Kolkata", "Australia/Lord_Howe"};
+    // epoch seconds around the 2024 DST transitions of New York, Berlin and Lord Howe, plus leap day and epoch start
+    private static final long[] EPOCHS = {0L, 1709164800L, 1710054000L, 1710055800L, 1711846800L, 1711850400L,
+            1712415600L, 1712417400L, 1728142200L, 1730613600L, 1730617200L, 1735689599L};
+
+    private TimeZone defaultTimeZone;
+
+    @BeforeEach
+    public void saveDefaultTimeZone() {
+        defaultTimeZone = TimeZone.getDefault();
+    }
+
+    @AfterEach
+    public void restoreDefaultTimeZone() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    public void testTimeStampFromEpochSecondsMatchesFormatterRoundTrip() throws Exception {
+        for (String timeZone : TIMEZONES) {
+            TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
+            SimpleDateFormat sdf = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, Locale.ROOT);
+            sdf.setTimeZone(TimeZone.getTimeZone(KruizeConstants.TimeUnitsExt.TimeZones.UTC));
+            for (long epoch : EPOCHS) {
+                String message = "timezone " + timeZone + ", epoch " + epoch;
+                Timestamp expected = legacyTimestamp(sdf, epoch);
+                Timestamp actual = Utils.DateUtils.getTimeStampFromEpochSeconds(epoch);
+                assertEquals(expected, actual, message);
+                // the interval epochs sent to the datasource are shifted by the offset of the JVM timezone
+                assertEquals(adjustedEpoch(expected), adjustedEpoch(actual), message);
+            }
+        }
+    }
+
+    private static Timestamp legacyTimestamp(SimpleDateFormat sdf, long epoch) throws Exception {
+        String timestamp = sdf.format(new Date(epoch * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
+        Date date = sdf.parse(timestamp);
+        return new Timestamp(date.getTime());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static long adjustedEpoch(Timestamp timestamp) {
+        return timestamp.getTime() / KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC
+                - ((long) timestamp.getTimezoneOffset() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
+    }
+}